@@ -0,0 +1,44 @@
+package com.implemica.CalculatorProject;
+
+import com.implemica.CalculatorProject.controller.BulkEvaluationSummary;
+import com.implemica.CalculatorProject.controller.BulkKeySequenceEvaluator;
+import com.implemica.CalculatorProject.controller.KeySequenceEvaluator;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * The class launches the {@link BulkKeySequenceEvaluator} for the files given by arguments and prints the count of
+ * evaluated sessions per second.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class BulkEvaluationLauncher {
+
+    /**
+     * The message about the usage of the launcher.
+     */
+    private static final String USAGE = "Usage: BulkEvaluationLauncher <input file> <output file> [threads count]";
+
+    /**
+     * Evaluates the sessions from the input file and writes the results to the output file.
+     *
+     * @param args the paths to the input and output files and an optional count of worker threads
+     * @throws IOException if some error occurred while reading or writing the files
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        int threadsCount = Runtime.getRuntime().availableProcessors();
+        if (args.length > 2) {
+            threadsCount = Integer.parseInt(args[2]);
+        }
+
+        BulkKeySequenceEvaluator evaluator = new BulkKeySequenceEvaluator(new KeySequenceEvaluator(), threadsCount);
+        BulkEvaluationSummary summary = evaluator.evaluate(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(summary);
+    }
+}
@@ -1,6 +1,7 @@
 package com.implemica.CalculatorProject;
 
 
+import com.implemica.CalculatorProject.controller.KeySequenceEvaluator;
 import com.implemica.CalculatorProject.model.Calculator;
 import com.implemica.CalculatorProject.model.calculation.MathOperation;
 import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
@@ -63,5 +64,10 @@ public class ModelDemo {
         BigDecimal recalledMemorizedNumber = calculator.getLastNumber();
         System.out.println("Memorized number: " + recalledMemorizedNumber);
 
+        // the same without pressing each key
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator();
+        System.out.println("5 + 10.2 = " + evaluator.evaluate("5 + 10.2 ="));
+        System.out.println("√25 = " + evaluator.evaluate("25 √ ="));
+
     }
 }
@@ -0,0 +1,76 @@
+package com.implemica.CalculatorProject.controller;
+
+/**
+ * The BulkEvaluationSummary class holds the statistics of the key sequences evaluated by
+ * {@link BulkKeySequenceEvaluator}: the count of sessions, the count of invalid key sequences and the time spent.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class BulkEvaluationSummary {
+
+    /**
+     * The count of nanoseconds in one second.
+     */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * The count of evaluated sessions, including the invalid ones.
+     */
+    private final long sessionsCount;
+
+    /**
+     * The count of sessions with invalid key sequences.
+     */
+    private final long invalidSessionsCount;
+
+    /**
+     * The time spent for evaluation in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new {@code BulkEvaluationSummary} with the given statistics.
+     *
+     * @param sessionsCount        the count of evaluated sessions, including the invalid ones
+     * @param invalidSessionsCount the count of sessions with invalid key sequences
+     * @param elapsedNanos         the time spent for evaluation in nanoseconds
+     */
+    BulkEvaluationSummary(long sessionsCount, long invalidSessionsCount, long elapsedNanos) {
+        this.sessionsCount = sessionsCount;
+        this.invalidSessionsCount = invalidSessionsCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getSessionsCount() {
+        return sessionsCount;
+    }
+
+    public long getInvalidSessionsCount() {
+        return invalidSessionsCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the count of sessions evaluated per second.
+     *
+     * @return the count of sessions evaluated per second
+     */
+    public double getSessionsPerSecond() {
+        double sessionsPerSecond = 0;
+
+        if (elapsedNanos > 0) {
+            sessionsPerSecond = sessionsCount * NANOS_PER_SECOND / elapsedNanos;
+        }
+
+        return sessionsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d sessions (%d invalid) in %.3f s: %.0f sessions/s", sessionsCount,
+                invalidSessionsCount, elapsedNanos / NANOS_PER_SECOND, getSessionsPerSecond());
+    }
+}
@@ -0,0 +1,274 @@
+package com.implemica.CalculatorProject.controller;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The BulkKeySequenceEvaluator class evaluates the files of recorded calculator sessions. Each line of the input file
+ * is a key sequence of one independent session; the text displayed after the last key of each session is written to
+ * the same line of the output file.
+ * <p>
+ * The input file is read through memory mapped windows and the sessions are evaluated in batches by a pool of worker
+ * threads, each of them uses its own {@link com.implemica.CalculatorProject.model.Calculator} of the
+ * {@link KeySequenceEvaluator}. The results are written in the order of input and only a bounded count of batches
+ * is evaluated ahead of the writing, so the memory used does not depend on the size of the files.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class BulkKeySequenceEvaluator {
+
+    /**
+     * The text written for the sessions with invalid key sequences.
+     */
+    public static final String INVALID_KEY_SEQUENCE = "Invalid key sequence";
+
+    /**
+     * The count of sessions evaluated by one task of worker thread.
+     */
+    static final int BATCH_SIZE = 256;
+
+    /**
+     * The count of batches per worker thread that can be read ahead of the writing.
+     */
+    private static final int PENDING_BATCHES_PER_THREAD = 4;
+
+    /**
+     * The default size of the mapped window of the input file in bytes.
+     */
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The error message about null {@link KeySequenceEvaluator} specified.
+     */
+    private static final String NO_EVALUATOR_ERROR = "Key sequence evaluator can not be null";
+
+    /**
+     * The error message about invalid count of worker threads specified.
+     */
+    private static final String INVALID_THREADS_COUNT_ERROR = "Count of threads must be positive: %s";
+
+    /**
+     * The {@link KeySequenceEvaluator} used to evaluate the sessions.
+     */
+    private final KeySequenceEvaluator evaluator;
+
+    /**
+     * The count of worker threads.
+     */
+    private final int threadsCount;
+
+    /**
+     * The size of the mapped window of the input file in bytes.
+     */
+    private final int windowSize;
+
+    /**
+     * Constructs a new {@code BulkKeySequenceEvaluator} evaluates the sessions with the default
+     * {@link KeySequenceEvaluator} by a worker thread per available processor.
+     */
+    public BulkKeySequenceEvaluator() {
+        this(new KeySequenceEvaluator(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@code BulkKeySequenceEvaluator} evaluates the sessions with the given
+     * {@link KeySequenceEvaluator} by the given count of worker threads.
+     *
+     * @param evaluator    a {@link KeySequenceEvaluator} used to evaluate the sessions
+     * @param threadsCount a count of worker threads
+     */
+    public BulkKeySequenceEvaluator(KeySequenceEvaluator evaluator, int threadsCount) {
+        this(evaluator, threadsCount, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code BulkKeySequenceEvaluator} evaluates the sessions with the given
+     * {@link KeySequenceEvaluator} by the given count of worker threads and reads the input file through
+     * the windows of the given size.
+     *
+     * @param evaluator    a {@link KeySequenceEvaluator} used to evaluate the sessions
+     * @param threadsCount a count of worker threads
+     * @param windowSize   a size of the mapped window of the input file in bytes
+     */
+    BulkKeySequenceEvaluator(KeySequenceEvaluator evaluator, int threadsCount, int windowSize) {
+        if (evaluator == null) {
+            throw new IllegalArgumentException(NO_EVALUATOR_ERROR);
+        }
+        if (threadsCount <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_THREADS_COUNT_ERROR, threadsCount));
+        }
+        this.evaluator = evaluator;
+        this.threadsCount = threadsCount;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Evaluates the sessions from the given input file and writes their results to the given output file in the
+     * same order. Returns the statistics of the evaluation.
+     *
+     * @param input  a path to the UTF-8 file with a key sequence per line
+     * @param output a path to the file to write the results to
+     * @return the statistics of the evaluation
+     * @throws IOException if some error occurred while reading or writing the files
+     */
+    public BulkEvaluationSummary evaluate(Path input, Path output) throws IOException {
+        long startTime = System.nanoTime();
+        long sessionsCount = 0;
+        long invalidSessionsCount = 0;
+
+        ExecutorService workers = Executors.newFixedThreadPool(threadsCount);
+        int maxPendingBatches = threadsCount * PENDING_BATCHES_PER_THREAD;
+        Deque<Future<Batch>> pendingBatches = new ArrayDeque<>(maxPendingBatches);
+
+        try (MappedLineReader reader = new MappedLineReader(input, windowSize);
+             BufferedWriter writer = Files.newBufferedWriter(output, UTF_8)) {
+
+            Batch batch = readBatch(reader);
+            while (batch != null || !pendingBatches.isEmpty()) {
+                if (batch != null && pendingBatches.size() < maxPendingBatches) {
+                    pendingBatches.addLast(workers.submit(batch));
+                    batch = readBatch(reader);
+                } else { // wait for the oldest batch to keep the order and bound the memory
+                    Batch evaluated = getEvaluated(pendingBatches.removeFirst());
+                    evaluated.write(writer);
+                    sessionsCount += evaluated.results.length;
+                    invalidSessionsCount += evaluated.invalidCount;
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        return new BulkEvaluationSummary(sessionsCount, invalidSessionsCount, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the next {@link Batch} of the key sequences read by the given {@link MappedLineReader} or null if
+     * the end of file is reached.
+     *
+     * @param reader a {@link MappedLineReader} of the input file
+     * @return the next {@link Batch} of the key sequences or null if the end of file is reached
+     * @throws IOException if the file can not be read
+     */
+    private Batch readBatch(MappedLineReader reader) throws IOException {
+        String[] keySequences = new String[BATCH_SIZE];
+        int count = 0;
+
+        String line;
+        while (count < BATCH_SIZE && (line = reader.readLine()) != null) {
+            keySequences[count] = line;
+            count++;
+        }
+
+        Batch batch = null;
+        if (count > 0) {
+            batch = new Batch(evaluator, keySequences, count);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Waits for the given evaluated {@link Batch} and returns it.
+     *
+     * @param future a {@link Future} of the {@link Batch}
+     * @return the evaluated {@link Batch}
+     * @throws IOException if the waiting thread is interrupted
+     */
+    private static Batch getEvaluated(Future<Batch> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * The Batch class is a task evaluates a few key sequences in a worker thread.
+     */
+    private static class Batch implements Callable<Batch> {
+
+        /**
+         * The {@link KeySequenceEvaluator} used to evaluate the key sequences.
+         */
+        private final KeySequenceEvaluator evaluator;
+
+        /**
+         * The key sequences to evaluate; replaced by their results after evaluation.
+         */
+        private final String[] results;
+
+        /**
+         * The count of invalid key sequences in the batch.
+         */
+        private int invalidCount;
+
+        /**
+         * Constructs a new {@code Batch} of the given count of the first key sequences from the given array.
+         *
+         * @param evaluator    a {@link KeySequenceEvaluator} used to evaluate the key sequences
+         * @param keySequences an array with the key sequences to evaluate
+         * @param count        a count of the key sequences in the array
+         */
+        private Batch(KeySequenceEvaluator evaluator, String[] keySequences, int count) {
+            this.evaluator = evaluator;
+            if (count < keySequences.length) {
+                String[] trimmed = new String[count];
+                System.arraycopy(keySequences, 0, trimmed, 0, count);
+                keySequences = trimmed;
+            }
+            this.results = keySequences;
+        }
+
+        /**
+         * Evaluates the key sequences and returns this batch with the results.
+         *
+         * @return this batch with the results
+         */
+        @Override
+        public Batch call() {
+            for (int i = 0; i < results.length; i++) {
+                try {
+                    results[i] = evaluator.evaluate(results[i]);
+                } catch (IllegalArgumentException e) {
+                    results[i] = INVALID_KEY_SEQUENCE;
+                    invalidCount++;
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Writes the results of the batch to the given {@link BufferedWriter}, one per line.
+         *
+         * @param writer a {@link BufferedWriter} to write the results to
+         * @throws IOException if the results can not be written
+         */
+        private void write(BufferedWriter writer) throws IOException {
+            for (String result : results) {
+                writer.write(result);
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -4,9 +4,15 @@ import com.implemica.CalculatorProject.model.calculation.EditOperation;
 import com.implemica.CalculatorProject.model.calculation.MathOperation;
 import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
 import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor;
-import com.implemica.CalculatorProject.model.exception.CalculationException;
 import com.implemica.CalculatorProject.model.Calculator;
-import com.implemica.CalculatorProject.model.exception.ErrorMessage;
+import com.implemica.CalculatorProject.model.CalculatorState;
+import com.implemica.CalculatorProject.model.CalculatorStateCodec;
+import com.implemica.CalculatorProject.model.UndoHistory;
+import com.implemica.CalculatorProject.model.history.HistoryTape;
+import com.implemica.CalculatorProject.model.journal.InputJournal;
+import com.implemica.CalculatorProject.model.memory.MemoryBank;
+import com.implemica.CalculatorProject.model.memory.MemoryBankFile;
+import com.implemica.CalculatorProject.view.formatting.OutputFormatter;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.PauseTransition;
@@ -30,17 +36,21 @@ import javafx.scene.text.FontWeight;
 import javafx.util.Duration;
 
 import java.awt.*;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.List;
 
+import static com.implemica.CalculatorProject.model.Calculator.POINT;
 import static com.implemica.CalculatorProject.model.calculation.EditOperation.*;
 import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
 import static com.implemica.CalculatorProject.model.calculation.MemoryOperation.*;
-import static com.implemica.CalculatorProject.model.exception.ErrorMessage.*;
 import static com.implemica.CalculatorProject.model.validation.DataValidator.*;
-import static com.implemica.CalculatorProject.view.formatting.OutputFormatter.*;
 import static javafx.scene.input.KeyCombination.SHIFT_DOWN;
+import static javafx.scene.input.KeyCombination.SHORTCUT_DOWN;
 
 /**
  * The CalculatorController class is a chain between calculator's view and calculations. It accepts and handles
@@ -56,8 +66,83 @@ public class CalculatorController {
      */
     private final Calculator calculator = new Calculator();
 
+    /**
+     * The {@link UndoHistory} of the {@link Calculator} states before the button events.
+     */
+    private final UndoHistory history = new UndoHistory();
+
+    /**
+     * The off-heap {@link HistoryTape} of the expressions and results calculated by the {@link Calculator}.
+     */
+    private final HistoryTape historyTape = new HistoryTape();
+
+    /**
+     * The name of the system property with the directory the memory registers and the {@link CalculatorState} are kept
+     * in between sessions. By default it is the {@link #DEFAULT_STORAGE_DIRECTORY} in the home directory of user.
+     */
+    public static final String STORAGE_DIRECTORY_PROPERTY = "calculator.storage.dir";
+
+    /**
+     * The name of the default storage directory in the home directory of user.
+     */
+    private static final String DEFAULT_STORAGE_DIRECTORY = ".calculator";
+
+    /**
+     * The name of the file keeping the memory registers between sessions.
+     */
+    private static final String MEMORY_FILE_NAME = "memory.bin";
+
+    /**
+     * The name of the file keeping the {@link CalculatorState} between sessions.
+     */
+    private static final String STATE_FILE_NAME = "state.bin";
+
+    /**
+     * The name of the directory of the {@link InputJournal} of the session.
+     */
+    private static final String JOURNAL_DIRECTORY_NAME = "journal";
+
+    /**
+     * The path of the file keeping the memory registers between sessions.
+     */
+    private final Path memoryFilePath = getStorageDirectory().resolve(MEMORY_FILE_NAME);
+
+    /**
+     * The path of the file keeping the {@link CalculatorState} between sessions.
+     */
+    private final Path stateFilePath = getStorageDirectory().resolve(STATE_FILE_NAME);
+
+    /**
+     * The path of the directory of the {@link InputJournal} of the session.
+     */
+    private final Path journalPath = getStorageDirectory().resolve(JOURNAL_DIRECTORY_NAME);
+
+    /**
+     * The {@link InputJournal} recording the pressed {@link Button}s, so the session can be restored after a crash,
+     * or null if the session is not recorded.
+     */
+    private InputJournal journal;
+
+    /**
+     * The {@link MemoryBankFile} keeping the memory registers or null if the memory is not kept.
+     */
+    private MemoryBankFile memoryFile;
+
+    /**
+     * The last {@link MemoryBank} written to the {@link #memoryFile}.
+     */
+    private MemoryBank savedMemory;
+
+    /**
+     * The {@link Keypad} the {@link Button}s are pressed on.
+     */
+    private final Keypad keypad;
+
     {
         calculator.setCalculationExecutor(new StandardCalculationExecutor());
+        calculator.setHistoryTape(historyTape, OutputFormatter::formatToMathView);
+        loadMemory();
+        keypad = new Keypad(calculator);
     }
 
     /**
@@ -145,8 +230,8 @@ public class CalculatorController {
      * The storage of all {@link Button}s associated with its functions in application.
      * Digit button is associated with {@link BigDecimal} value, math operation button with {@link MathOperation},
      * memory operation button with {@link MemoryOperation}, edit operation button with {@link EditOperation},
-     * button with decimal separator is associated with {@link #POINT} and button with equal sign associated
-     * with {@link #CALCULATE_RESULT_OPERATION}.
+     * button with decimal separator is associated with {@link Calculator#POINT} and button with equal sign associated
+     * with {@link Keypad#CALCULATE_RESULT_OPERATION}.
      */
     private static final Map<Button, Object> BUTTONS_WITH_FUNCTIONS = new LinkedHashMap<>();
 
@@ -156,81 +241,29 @@ public class CalculatorController {
     private static final Map<KeyCodeCombination, Button> BUTTONS_WITH_KEYS = new LinkedHashMap<>();
 
     /**
-     * The string contains a decimal separator for double numbers.
-     */
-    public static final String POINT = ".";
-
-    /**
-     * The string contains an equal sign to indicate the calculate result operation.
-     */
-    private static final String CALCULATE_RESULT_OPERATION = "=";
-
-    /**
-     * The flag variable shows is error occurred while calculations.
+     * The flag variable shows are the operation {@link Button}s disabled after an error.
      */
     private boolean isErrorOccurred;
 
-    /**
-     * A {@link StringBuilder} instance constructs a mathematical expression string.
-     */
-    private StringBuilder expression;
-
-    /**
-     * The value of separator for mathematical expression parts.
-     */
-    private static final String EXPRESSION_PARTS_SEPARATOR = " ";
-
-    /**
-     * The flag variable shows was a previous part of mathematical expression unary {@link MathOperation}.
-     */
-    private boolean wasUnaryBefore;
-
-    /**
-     * The string contains last formatted {@link BigDecimal} number or unary {@link MathOperation}.
-     */
-    private String lastUnaryArgument;
-
-    /**
-     * The flag variable shows is the decimal separator added at the end of current number.
-     */
-    private boolean isAppendPointNeed;
-
-    /**
-     * The flag variable shows is new number entering now.
-     */
-    private boolean isEnteringNumber;
-
     /**
      * The value of duration in millis for the {@link Button} pressed animation.
      */
     private static final int CLICK_ANIMATION_DURATION = 50;
 
     /**
-     * The error message about invalid input that means an input {@link BigDecimal} number is not allowed for the current
-     * {@link MathOperation}. For example, negative number for {@link MathOperation#SQUARE_ROOT} operation.
-     */
-    private static final String INVALID_INPUT_ERROR = "Invalid input";
-
-    /**
-     * The error message about division by zero occurs.
-     */
-    private static final String DIVISION_BY_ZERO_ERROR = "Cannot divide by zero";
-
-    /**
-     * An error message about situation when result is undefined.
-     * For example, division zero by zero.
+     * An error message about no function provided for current {@link Button} extracted from {@link Event}.
      */
-    private static final String RESULT_UNDEFINED_ERROR = "Result is undefined";
+    private static final String NO_FUNCTION_PROVIDED_FOR_BUTTON = "No function provided for button with id: ";
 
     /**
-     * An error message about {@link BigDecimal} number's value is too large or too small.
+     * The {@link KeyCodeCombination} that undoes the last change of calculator state.
      */
-    private static final String OVERFLOW_ERROR = "Overflow";
+    private static final KeyCodeCombination UNDO_KEYS = new KeyCodeCombination(KeyCode.Z, SHORTCUT_DOWN);
 
     /**
-     * An error message about no function provided for current {@link Button} extracted from {@link Event}.
+     * The {@link KeyCodeCombination} that redoes the last undone change of calculator state.
      */
-    private static final String NO_FUNCTION_PROVIDED_FOR_BUTTON = "No function provided for button with id: ";
+    private static final KeyCodeCombination REDO_KEYS = new KeyCodeCombination(KeyCode.Y, SHORTCUT_DOWN);
 
     /**
      * Handles all {@link KeyEvent}s generated by keyboard key pressing.
@@ -245,6 +278,14 @@ public class CalculatorController {
         if (key.isModifierKey()) {
             return;
         }
+        if (UNDO_KEYS.match(event)) {
+            Platform.runLater(this::undo);
+            return;
+        }
+        if (REDO_KEYS.match(event)) {
+            Platform.runLater(this::redo);
+            return;
+        }
         KeyCodeCombination combination;
 
         if (event.isShiftDown()) {
@@ -300,234 +341,245 @@ public class CalculatorController {
         }
 
         Button button = (Button) event.getSource();
-        String textToSet;
-
-        try {
-            textToSet = handleButtonEventImpl(button);
-        } catch (CalculationException e) {
-            textToSet = handleException(e);
+        Object buttonFunction = BUTTONS_WITH_FUNCTIONS.get(button);
+        if (buttonFunction == null) {
+            throw new UnsupportedOperationException(NO_FUNCTION_PROVIDED_FOR_BUTTON + button.getId());
         }
 
-        setDisplayedValue(textToSet);
+        CalculatorState stateBefore = calculator.getState();
+        setDisplayedValue(keypad.press(buttonFunction));
         updateExpression();
+        updateButtons();
 
-        if (isErrorOccurred) {
-            calculator.cleanAll();
+        if (!stateBefore.equals(calculator.getState())) {
+            history.record(stateBefore);
         }
+        saveMemory();
     }
 
     /**
-     * Executes an action for the specified {@link Button} extracted from occurred {@link Event}. For example, executes
-     * a {@link MathOperation} or adds digit from {@link Button} to the current number or cleans all {@link TextField}s.
-     * Returns the text to set in the {@link TextField} with current number.
+     * Enables the memory {@link Button}s if the memory registers are restored from the previous session.
+     */
+    @FXML
+    private void initialize() {
+        enableMemoryStateButtons(keypad.isMemoryStateEnabled());
+    }
+
+    /**
+     * Returns the directory the memory registers and the {@link CalculatorState} are kept in: the value of the
+     * {@link #STORAGE_DIRECTORY_PROPERTY} or the {@link #DEFAULT_STORAGE_DIRECTORY} in the home directory of user.
      *
-     * @param button a {@link Button} extracted from {@link Event}
-     * @return the text to set in the {@link TextField} with current number
-     * @throws CalculationException if some error occurred while data processing
+     * @return the directory the memory registers and the {@link CalculatorState} are kept in
      */
-    private String handleButtonEventImpl(Button button) throws CalculationException {
-        Object buttonFunction = BUTTONS_WITH_FUNCTIONS.get(button);
-        String textToSet;
-
-        if (buttonFunction instanceof BigDecimal) {
-            textToSet = addDigit((BigDecimal) buttonFunction);
-        } else if (buttonFunction instanceof MathOperation) {
-            textToSet = executeMathOperation((MathOperation) buttonFunction);
-        } else if (buttonFunction instanceof MemoryOperation) {
-            textToSet = executeMemoryOperation((MemoryOperation) buttonFunction);
-        } else if (buttonFunction instanceof EditOperation) {
-            textToSet = executeEditOperation((EditOperation) buttonFunction);
-        } else if (POINT.equals(buttonFunction)) {
-            textToSet = addDecimalSeparator();
-        } else if (CALCULATE_RESULT_OPERATION.equals(buttonFunction)) {
-            textToSet = calculateResult();
+    private static Path getStorageDirectory() {
+        String directory = System.getProperty(STORAGE_DIRECTORY_PROPERTY);
+        Path storageDirectory;
+
+        if (directory == null) {
+            storageDirectory = Paths.get(System.getProperty("user.home"), DEFAULT_STORAGE_DIRECTORY);
         } else {
-            throw new UnsupportedOperationException(NO_FUNCTION_PROVIDED_FOR_BUTTON + button.getId());
+            storageDirectory = Paths.get(directory);
         }
 
-        return textToSet;
+        return storageDirectory;
     }
 
     /**
-     * Returns string contains formatted {@link BigDecimal} number after entering a new digit.
-     *
-     * @param digit a digit represented by {@link BigDecimal} number to enter
-     * @return string contains formatted {@link BigDecimal} number after entering a new digit
+     * Restores the memory registers of the {@link Calculator} from the {@link #memoryFilePath}. The memory is not kept
+     * if the file can not be opened.
      */
-    private String addDigit(BigDecimal digit) {
-        resetAfterError();
-        BigDecimal modifiedNumber = calculator.enterDigit(digit);
+    private void loadMemory() {
+        try {
+            Files.createDirectories(memoryFilePath.getParent());
+            memoryFile = new MemoryBankFile(memoryFilePath);
+            savedMemory = memoryFile.load();
+            calculator.setMemory(savedMemory);
+        } catch (IOException e) {
+            closeMemoryFile();
+        }
+    }
 
-        if (!isNumberLengthValid(modifiedNumber)) {
-            isAppendPointNeed = calculator.deleteLastDigit();
-            modifiedNumber = calculator.getLastNumber();
-        } else {
-            isAppendPointNeed = false;
+    /**
+     * Writes the memory registers of the {@link Calculator} to the {@link #memoryFilePath} if they are changed. The
+     * memory is not kept any more if the file can not be written.
+     */
+    private void saveMemory() {
+        MemoryBank memory = calculator.getMemory();
+
+        if (memoryFile != null && memory != savedMemory) {
+            try {
+                memoryFile.save(memory);
+                savedMemory = memory;
+            } catch (IOException e) {
+                closeMemoryFile();
+            }
         }
+    }
 
-        isEnteringNumber = true;
-        return formatEnteredNumber(modifiedNumber, isAppendPointNeed);
+    /**
+     * Closes the {@link #memoryFile} when the application stops or after an error, the memory registers are not kept
+     * any more.
+     */
+    public void closeMemoryFile() {
+        if (memoryFile != null) {
+            try {
+                memoryFile.close();
+            } catch (IOException e) {
+                // the file is not used any more
+            }
+            memoryFile = null;
+        }
     }
 
     /**
-     * Executes a {@link MathOperation} appropriate to the {@link Button} extracted from the {@link Event} and
-     * returns the string contains formatted result to set in the {@link TextField} with current number.
-     *
-     * @param operation a {@link MathOperation} to execute
-     * @return the result of the specified {@link MathOperation} to set in the {@link TextField} with current number
-     * @throws CalculationException if some error occurred while calculations
+     * Restores the {@link CalculatorState} of the previous session and shows it. If the previous session was not
+     * stopped by {@link #saveState()}, for example it crashed, its state is restored from the {@link InputJournal},
+     * otherwise from the {@link #stateFilePath}. The memory registers are kept from the {@link #memoryFilePath}, which
+     * is written after every change of memory. The initial state is kept if there is no state to restore or it can
+     * not be read. The pressed {@link Button}s are recorded to the {@link InputJournal} after the restored state.
      */
-    private String executeMathOperation(MathOperation operation) throws CalculationException {
-        BigDecimal result = calculator.executeMathOperation(operation);
-        checkResultForOverflow(result);
-        String formattedResult;
+    public void restoreState() {
+        MemoryBank memory = calculator.getMemory();
+        CalculatorState state = openJournal();
 
-        if (operation == NEGATE && isEnteringNumber) { // if negate calls for entered number, not for resulted number
-            formattedResult = formatEnteredNumber(result, isAppendPointNeed);
-        } else {
-            formattedResult = formatWithGroupDelimiters(result);
-            isEnteringNumber = false;
+        if (state == null) {
+            state = readStateFile();
         }
 
-        return formattedResult;
+        calculator.restoreState(state);
+        if (memoryFile != null) {
+            calculator.setMemory(memory);
+        }
+        keypad.setInputJournal(journal);
+        showState(calculator.getState());
     }
 
     /**
-     * Checks the given {@link BigDecimal} number as result of an operations for overflow.
+     * Opens the {@link InputJournal} in the {@link #journalPath} and returns the state of the session it recorded or
+     * null if it is empty. The session is not recorded if the journal can not be opened.
      *
-     * @param result the {@link BigDecimal} number to check for overflow
-     * @throws CalculationException if result is out of valid bounds
+     * @return the {@link CalculatorState} recorded by the journal or null
      */
-    private static void checkResultForOverflow(BigDecimal result) throws CalculationException {
-        if (isResultOverflow(result)) {
-            throw new CalculationException(OVERFLOW);
+    private CalculatorState openJournal() {
+        CalculatorState state = null;
+
+        try {
+            journal = new InputJournal(journalPath);
+            if (!journal.isEmpty()) { // the previous session was not stopped by saving its state
+                state = restoreJournal();
+            }
+        } catch (IOException e) {
+            closeJournal();
         }
+
+        return state;
     }
 
     /**
-     * Executes an {@link MemoryOperation} appropriate to the {@link Button} extracted from the {@link Event}. Returns
-     * the string contains formatted last entered number or memorized value if operation is {@link MemoryOperation#MEMORY_RECALL}.
-     * Also enables or disables some memory {@link Button}s depends on what {@link MemoryOperation} it is.
+     * Returns the {@link CalculatorState} recorded by the {@link #journal} or null if it can not be read. The journal
+     * that can not be read is cleared, so the new session is recorded from its restored state.
      *
-     * @param operation an {@link MemoryOperation} appropriate to the {@link Button} extracted from the {@link Event}
-     * @return the last entered number or memorized value if operation is {@link MemoryOperation#MEMORY_RECALL}
-     * @throws CalculationException if some error occurred while calculations
+     * @return the {@link CalculatorState} recorded by the journal or null
+     * @throws IOException if the journal can not be cleared
      */
-    private String executeMemoryOperation(MemoryOperation operation) throws CalculationException {
-        calculator.executeMemoryOperation(operation);
-        boolean needEnable = (operation != MEMORY_CLEAN);
-        enableMemoryStateButtons(needEnable);
+    private CalculatorState restoreJournal() throws IOException {
+        CalculatorState state;
 
-        return formatWithGroupDelimiters(calculator.getLastNumber());
+        try {
+            journal.restore(calculator);
+            state = calculator.getState();
+        } catch (IOException e) { // the session is restored from the state file
+            journal.clear();
+            state = null;
+        }
+
+        return state;
     }
 
     /**
-     * Executes an {@link EditOperation} appropriate to the {@link Button} extracted from {@link Event}. Returns the
-     * value of the modified last entered {@link BigDecimal} number. Also resets {@link TextField}s values and enables
-     * operation {@link Button}s after previous error.
+     * Returns the {@link CalculatorState} read from the {@link #stateFilePath} or the initial state if the file does
+     * not exist or can not be read.
      *
-     * @param operation an {@link EditOperation} to execute
-     * @return the value of the modified last entered {@link BigDecimal} number
+     * @return the {@link CalculatorState} read from the {@link #stateFilePath} or the initial state
      */
-    private String executeEditOperation(EditOperation operation) {
-        resetAfterError();
+    private CalculatorState readStateFile() {
+        CalculatorState state = CalculatorState.INITIAL;
 
-        if (operation == LEFT_ERASE) {
-            isAppendPointNeed = calculator.deleteLastDigit();
-        } else {
-            executeCleanOperation(operation);
-            isErrorOccurred = false;
-            isAppendPointNeed = false;
+        if (Files.exists(stateFilePath)) {
+            try {
+                state = CalculatorStateCodec.read(stateFilePath);
+            } catch (IOException e) {
+                // the session starts from the initial state
+            }
         }
 
-        return formatEnteredNumber(calculator.getLastNumber(), isAppendPointNeed);
+        return state;
     }
 
     /**
-     * Executes the specified clean {@link EditOperation}.
-     *
-     * @param operation the clean {@link EditOperation} to execute
+     * Writes the current {@link CalculatorState} to the {@link #stateFilePath}, so the next session starts from it,
+     * and clears the {@link InputJournal}, which is not needed to restore the session any more. The state is not kept
+     * if the file can not be written.
      */
-    private void executeCleanOperation(EditOperation operation) {
-        if (operation == CLEAN) {
-            calculator.cleanAll();
-        } else if (operation == CLEAN_CURRENT) {
-            calculator.cleanCurrent();
+    public void saveState() {
+        try {
+            Files.createDirectories(stateFilePath.getParent());
+            CalculatorStateCodec.write(calculator.getState(), stateFilePath);
+            if (journal != null) {
+                journal.clear();
+            }
+        } catch (IOException e) {
+            // the next session starts from the initial state or from the journal
         }
     }
 
     /**
-     * Returns string contains formatted current {@link BigDecimal} number with added decimal separator.
-     *
-     * @return string contains formatted current {@link BigDecimal} number with added decimal separator
+     * Closes the {@link #journal} when the application stops or after an error, the pressed {@link Button}s are not
+     * recorded any more.
      */
-    private String addDecimalSeparator() {
-        calculator.addPoint();
-        isEnteringNumber = true;
-        BigDecimal currentNumber = calculator.getLastNumber();
-        isAppendPointNeed = (currentNumber.scale() == 0); // if after adding decimal separator number's scale still is zero, than need to format with point at the end of number
-
-        return formatEnteredNumber(currentNumber, isAppendPointNeed);
+    public void closeJournal() {
+        if (journal != null) {
+            keypad.setInputJournal(null);
+            try {
+                journal.close();
+            } catch (IOException e) {
+                // the journal is not used any more
+            }
+            journal = null;
+        }
     }
 
     /**
-     * Returns a string formatted result of calculations for all previous {@link MathOperation}s and
-     * {@link BigDecimal} numbers.
-     *
-     * @return a string formatted result of calculations for all previous {@link MathOperation}s and {@link BigDecimal} numbers
-     * @throws CalculationException if some error occurred while calculations
+     * Restores the {@link Calculator} state before the last button event, including the state before an error.
      */
-    private String calculateResult() throws CalculationException {
-        resetAfterError();
-        BigDecimal result = calculator.calculateResult();
-        isAppendPointNeed = false;
-        checkResultForOverflow(result);
-
-        return formatWithGroupDelimiters(result);
+    private void undo() {
+        if (history.canUndo()) {
+            showState(history.undo(calculator.getState()));
+        }
     }
 
     /**
-     * Resets after error content of {@link TextField}s to default values and enables all {@link Button}s that must be
-     * active by default.
+     * Restores the {@link Calculator} state after the last undone button event.
      */
-    private void resetAfterError() {
-        if (isErrorOccurred) {
-            enableAllOperations(true);
-            String numberToReset = formatWithGroupDelimiters(calculator.getLastNumber());
-            setDisplayedValue(numberToReset);
-            updateExpression();
-            isErrorOccurred = false;
-            isAppendPointNeed = false;
+    private void redo() {
+        if (history.canRedo()) {
+            showState(history.redo(calculator.getState()));
         }
     }
 
     /**
-     * Returns a message with information about given {@link Exception} and disables all {@link Button}s with mathematical
-     * operations, including memory add, subtract and store {@link Button}s.
+     * Restores the given {@link CalculatorState} and updates {@link TextField}s with expression and current number.
+     * Enables operation {@link Button}s after previous error.
      *
-     * @param e an occurred {@link Exception} instance
-     * @return a message with information about given {@link Exception}
-     */
-    private String handleException(CalculationException e) {
-        enableMemoryStateButtons(false);
-        enableAllOperations(false);
-        isErrorOccurred = true;
-        ErrorMessage errorType = e.getErrorMessage();
-
-        String errorMessage;
-        if (errorType == DIVISION_BY_ZERO) {
-            errorMessage = DIVISION_BY_ZERO_ERROR;
-        } else if (errorType == RESULT_IS_UNDEFINED) {
-            errorMessage = RESULT_UNDEFINED_ERROR;
-        } else if (errorType == INVALID_INPUT) {
-            errorMessage = INVALID_INPUT_ERROR;
-        } else if (errorType == OVERFLOW) {
-            errorMessage = OVERFLOW_ERROR;
-        } else {
-            throw new UnsupportedOperationException("No exception message specified " + errorType);
-        }
+     * @param state the {@link CalculatorState} to restore
+     */
+    private void showState(CalculatorState state) {
+        keypad.showState(state);
 
-        return errorMessage;
+        setDisplayedValue(keypad.getDisplayedValue());
+        updateExpression();
+        updateButtons();
+        saveMemory();
     }
 
     /**
@@ -549,97 +601,13 @@ public class CalculatorController {
      * Updates {@link TextField} with mathematical expression.
      */
     private void updateExpression() {
-        String expressionText = getExpression();
+        String expressionText = keypad.getExpression();
         Platform.runLater(() -> {
             prevOperationsText.setText(expressionText);
             prevOperationsText.end();
         });
     }
 
-    /**
-     * Returns string value contains formatted current mathematical expression.
-     *
-     * @return string value contains formatted current mathematical expression
-     */
-    private String getExpression() {
-        List<Object> arguments = calculator.getExpressionArguments();
-        // reset formatted expression properties
-        expression = new StringBuilder();
-        lastUnaryArgument = "";
-        int lastArgumentIndex = arguments.size() - 1;
-
-        for (int i = 0; i < arguments.size(); i++) {
-            Object argument = arguments.get(i);
-            formatAndAppendCurrentArgument(argument, i == lastArgumentIndex);
-        }
-
-        return expression.toString().trim();
-    }
-
-    /**
-     * Formats the given argument and appends it to the current formatted expression.
-     *
-     * @param argument          an argument to format
-     * @param isTheLastArgument a flag shows is this argument the last in expression
-     */
-    private void formatAndAppendCurrentArgument(Object argument, boolean isTheLastArgument) {
-        if (argument instanceof BigDecimal) {
-            appendNumber((BigDecimal) argument, isTheLastArgument);
-        } else if (argument instanceof MathOperation) {
-            MathOperation operation = (MathOperation) argument;
-            appendOperation(operation, isTheLastArgument);
-            wasUnaryBefore = !operation.isBinary();
-        }
-    }
-
-    /**
-     * Formats and appends the given {@link BigDecimal} number to the current formatted expression.
-     *
-     * @param number            a {@link BigDecimal} number to append
-     * @param isTheLastArgument a flag shows is this argument the last in expression
-     */
-    private void appendNumber(BigDecimal number, boolean isTheLastArgument) {
-        lastUnaryArgument = formatToMathView(number);
-
-        if (isTheLastArgument) {
-            appendToExpression(lastUnaryArgument);
-        }
-        wasUnaryBefore = !isTheLastArgument; // number in expression acts like an unary operation
-    }
-
-    /**
-     * Formats and appends the given {@link MathOperation} to the current formatted expression.
-     *
-     * @param operation         a {@link MathOperation} to append
-     * @param isTheLastArgument a flag shows is this argument the last in expression
-     */
-    private void appendOperation(MathOperation operation, boolean isTheLastArgument) {
-        boolean isBinaryOperation = operation.isBinary();
-
-        if (!isBinaryOperation) { // update last unary argument
-            lastUnaryArgument = formatUnaryOperation(operation, lastUnaryArgument);
-        }
-
-        if (isBinaryOperation) {
-            if (wasUnaryBefore) {
-                appendToExpression(lastUnaryArgument);
-            }
-
-            appendToExpression(operation.symbol());
-        } else if (isTheLastArgument) { // if current unary operation is the last in expression
-            appendToExpression(lastUnaryArgument);
-        }
-    }
-
-    /**
-     * Appends separator and the specified formatted value to the current expression.
-     *
-     * @param argument a formatted value to append to the expression
-     */
-    private void appendToExpression(String argument) {
-        expression.append(EXPRESSION_PARTS_SEPARATOR).append(argument);
-    }
-
     /**
      * Handles an {@link Event} generated by showing a {@link Tooltip}. Sets the location of {@link Tooltip} relies on current
      * mouse position.
@@ -754,6 +722,18 @@ public class CalculatorController {
         Platform.runLater(() -> memoryShow.setDisable(false));
     }
 
+    /**
+     * Disables the operation {@link Button}s while the {@link Keypad} shows an error and enables them after the error is
+     * reset. Enables or disables the memory recall, clean and show {@link Button}s as the {@link Keypad} does.
+     */
+    private void updateButtons() {
+        if (isErrorOccurred != keypad.isErrorOccurred()) {
+            isErrorOccurred = keypad.isErrorOccurred();
+            enableAllOperations(!isErrorOccurred);
+        }
+        enableMemoryStateButtons(keypad.isMemoryStateEnabled());
+    }
+
     /**
      * Enables or disables all mathematical operations, including memory add, subtract and store {@link Button}s depends
      * on the specified boolean value.
@@ -877,8 +857,8 @@ public class CalculatorController {
         addButton(add, ADD, KeyCode.ADD);
         addButton(add, ADD, KeyCode.EQUALS, SHIFT_DOWN);
         addButton(negate, NEGATE, null);
-        addButton(result, CALCULATE_RESULT_OPERATION, KeyCode.ENTER);
-        addButton(result, CALCULATE_RESULT_OPERATION, KeyCode.EQUALS);
+        addButton(result, Keypad.CALCULATE_RESULT_OPERATION, KeyCode.ENTER);
+        addButton(result, Keypad.CALCULATE_RESULT_OPERATION, KeyCode.EQUALS);
 
         // buttons with memory operations
         addButton(memoryClean, MEMORY_CLEAN, null);
@@ -0,0 +1,229 @@
+package com.implemica.CalculatorProject.controller;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.calculation.CalculationExecutor;
+import com.implemica.CalculatorProject.model.calculation.EditOperation;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
+import com.implemica.CalculatorProject.model.calculation.PrecisionProfile;
+import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.implemica.CalculatorProject.model.Calculator.POINT;
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+
+/**
+ * The KeySequenceEvaluator class drives a {@link Calculator} by a sequence of keys given as a string, for example
+ * {@code "5 + 10.2 = √ M+"}, without any user interface. The keys are pressed on the same {@link Keypad} as the
+ * buttons of {@link CalculatorController}: the displayed text is formatted the same way, the errors are shown by the
+ * same messages and the buttons disabled after an error are ignored until the error is reset.
+ * <p>
+ * The keys are digits, decimal point, {@code "="} and the symbols of {@link MathOperation}s, {@link MemoryOperation}s
+ * and {@link EditOperation}s. The {@link MathOperation}s also have ASCII aliases: {@code "-"}, {@code "*"},
+ * {@code "/"}, {@code "sqrt"}, {@code "sqr"}, {@code "1/x"} and {@code "negate"}. The keys may be separated by
+ * whitespaces, but it is not required: the longest key that matches the sequence is pressed.
+ * <p>
+ * Each thread evaluates its sequences with its own {@link Keypad} that is reset before each sequence, so one
+ * instance of the evaluator can be shared between threads.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class KeySequenceEvaluator {
+
+    /**
+     * The symbols of all keys sorted from the longest to the shortest.
+     */
+    private static final String[] KEY_SYMBOLS;
+
+    /**
+     * The functions of the keys from {@link #KEY_SYMBOLS} with the same indexes: a digit represented by
+     * {@link BigDecimal}, a {@link MathOperation}, a {@link MemoryOperation}, an {@link EditOperation},
+     * {@link Calculator#POINT} or {@link Keypad#CALCULATE_RESULT_OPERATION}.
+     */
+    private static final Object[] KEY_FUNCTIONS;
+
+    static {
+        Map<String, Object> keys = getKeys();
+        List<String> symbols = new ArrayList<>(keys.keySet());
+        symbols.sort((first, second) -> second.length() - first.length());
+
+        KEY_SYMBOLS = symbols.toArray(new String[symbols.size()]);
+        KEY_FUNCTIONS = new Object[KEY_SYMBOLS.length];
+        for (int i = 0; i < KEY_SYMBOLS.length; i++) {
+            KEY_FUNCTIONS[i] = keys.get(KEY_SYMBOLS[i]);
+        }
+    }
+
+    /**
+     * The error message about null {@link CalculationExecutor} supplier specified.
+     */
+    private static final String NO_EXECUTOR_SUPPLIER_ERROR = "Calculation executor supplier can not be null";
+
+    /**
+     * The error message about null precision budget specified.
+     */
+    private static final String NO_PRECISION_BUDGET_ERROR = "Precision budget can not be null";
+
+    /**
+     * The error message about null key sequence specified.
+     */
+    private static final String NO_KEY_SEQUENCE_ERROR = "Key sequence can not be null";
+
+    /**
+     * The error message about unknown key found in the key sequence.
+     */
+    private static final String UNKNOWN_KEY_ERROR = "Unknown key at position %s of key sequence: %s";
+
+    /**
+     * The {@link Keypad}s of the threads evaluating the key sequences.
+     */
+    private final ThreadLocal<Keypad> keypads;
+
+    /**
+     * Constructs a new {@code KeySequenceEvaluator} calculates with the {@link StandardCalculationExecutor}.
+     */
+    public KeySequenceEvaluator() {
+        this(StandardCalculationExecutor::new);
+    }
+
+    /**
+     * Constructs a new {@code KeySequenceEvaluator} calculates with the {@link CalculationExecutor}s given by
+     * the specified supplier. The supplier is called once for each thread that evaluates key sequences.
+     *
+     * @param executorSupplier a supplier of the {@link CalculationExecutor}s used for calculations
+     */
+    public KeySequenceEvaluator(Supplier<? extends CalculationExecutor> executorSupplier) {
+        this(executorSupplier, PrecisionProfile.REFERENCE);
+    }
+
+    /**
+     * Constructs a new {@code KeySequenceEvaluator} calculates with the {@link CalculationExecutor}s given by
+     * the specified supplier and rounds the calculated numbers by the given precision budget. The
+     * {@link CalculatorController} keeps the calculated numbers unchanged, so only the
+     * {@link PrecisionProfile#REFERENCE} budget gives the same texts as it displays.
+     *
+     * @param executorSupplier a supplier of the {@link CalculationExecutor}s used for calculations
+     * @param precisionBudget  a {@link PrecisionProfile} to round the calculated numbers by
+     * @see Calculator#setPrecisionBudget(PrecisionProfile)
+     */
+    KeySequenceEvaluator(Supplier<? extends CalculationExecutor> executorSupplier, PrecisionProfile precisionBudget) {
+        if (executorSupplier == null) {
+            throw new IllegalArgumentException(NO_EXECUTOR_SUPPLIER_ERROR);
+        }
+        if (precisionBudget == null) {
+            throw new IllegalArgumentException(NO_PRECISION_BUDGET_ERROR);
+        }
+        this.keypads = ThreadLocal.withInitial(() -> createKeypad(executorSupplier.get(), precisionBudget));
+    }
+
+    /**
+     * Presses the keys from the given sequence on a reset {@link Calculator} and returns the text displayed after
+     * the last key, that is a formatted number or an error message.
+     *
+     * @param keySequence a sequence of keys to press
+     * @return the text displayed after the last key
+     * @throws IllegalArgumentException if the key sequence is null or contains an unknown key
+     */
+    public String evaluate(String keySequence) {
+        if (keySequence == null) {
+            throw new IllegalArgumentException(NO_KEY_SEQUENCE_ERROR);
+        }
+
+        Keypad keypad = keypads.get();
+        keypad.reset();
+
+        int length = keySequence.length();
+        int position = 0;
+        while (position < length) {
+            if (Character.isWhitespace(keySequence.charAt(position))) {
+                position++;
+                continue;
+            }
+
+            int keyIndex = findKey(keySequence, position);
+            if (keyIndex < 0) {
+                throw new IllegalArgumentException(String.format(UNKNOWN_KEY_ERROR, position, keySequence));
+            }
+
+            keypad.press(KEY_FUNCTIONS[keyIndex]);
+            position += KEY_SYMBOLS[keyIndex].length();
+        }
+
+        return keypad.getDisplayedValue();
+    }
+
+    /**
+     * Returns a new {@link Keypad} of a {@link Calculator} calculates with the given {@link CalculationExecutor}
+     * and rounds the calculated numbers by the given precision budget.
+     *
+     * @param calculationExecutor a {@link CalculationExecutor} used for calculations
+     * @param precisionBudget     a {@link PrecisionProfile} to round the calculated numbers by
+     * @return a new {@link Keypad} of a {@link Calculator} calculates with the given {@link CalculationExecutor}
+     */
+    private static Keypad createKeypad(CalculationExecutor calculationExecutor, PrecisionProfile precisionBudget) {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(calculationExecutor);
+        calculator.setPrecisionBudget(precisionBudget);
+
+        return new Keypad(calculator);
+    }
+
+    /**
+     * Returns the index of the longest key from {@link #KEY_SYMBOLS} that starts at the given position of the given
+     * key sequence or -1 if there is no such key.
+     *
+     * @param keySequence a sequence of keys
+     * @param position    a position of the key in the sequence
+     * @return the index of the longest key starts at the given position or -1 if there is no such key
+     */
+    private static int findKey(String keySequence, int position) {
+        for (int i = 0; i < KEY_SYMBOLS.length; i++) {
+            if (keySequence.startsWith(KEY_SYMBOLS[i], position)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the symbols of all keys with their functions.
+     *
+     * @return the symbols of all keys with their functions
+     */
+    private static Map<String, Object> getKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+
+        for (int digit = 0; digit <= 9; digit++) {
+            keys.put(String.valueOf(digit), BigDecimal.valueOf(digit));
+        }
+        keys.put(POINT, POINT);
+        keys.put(Keypad.CALCULATE_RESULT_OPERATION, Keypad.CALCULATE_RESULT_OPERATION);
+
+        for (MathOperation operation : MathOperation.values()) {
+            keys.put(operation.symbol(), operation);
+        }
+        keys.put("-", SUBTRACT);
+        keys.put("*", MULTIPLY);
+        keys.put("/", DIVIDE);
+        keys.put("sqrt", SQUARE_ROOT);
+        keys.put("sqr", SQUARE);
+        keys.put("1/x", REVERSE);
+        keys.put("negate", NEGATE);
+
+        for (MemoryOperation operation : MemoryOperation.values()) {
+            keys.put(operation.symbol(), operation);
+        }
+        for (EditOperation operation : EditOperation.values()) {
+            keys.put(operation.symbol(), operation);
+        }
+
+        return keys;
+    }
+}
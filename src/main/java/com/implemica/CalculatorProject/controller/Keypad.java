@@ -0,0 +1,550 @@
+package com.implemica.CalculatorProject.controller;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.CalculatorState;
+import com.implemica.CalculatorProject.model.ExpressionView;
+import com.implemica.CalculatorProject.model.calculation.EditOperation;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import com.implemica.CalculatorProject.model.journal.InputEvent;
+import com.implemica.CalculatorProject.model.journal.InputJournal;
+import com.implemica.CalculatorProject.model.validation.NumberClass;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static com.implemica.CalculatorProject.model.Calculator.POINT;
+import static com.implemica.CalculatorProject.model.calculation.EditOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.MemoryOperation.*;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.OVERFLOW;
+import static com.implemica.CalculatorProject.view.formatting.OutputFormatter.*;
+
+/**
+ * The Keypad class presses the keys of the calculator on a {@link Calculator} and keeps what the calculator shows: the
+ * text of the current number or error message, the text of the expression and the keys disabled at the moment. Both
+ * {@link CalculatorController} and {@link KeySequenceEvaluator} press their keys on a {@code Keypad}, so the keys have
+ * the same semantics with and without user interface.
+ * <p>
+ * The functions of the keys are a digit represented by {@link BigDecimal}, a {@link MathOperation}, a
+ * {@link MemoryOperation}, an {@link EditOperation}, {@link Calculator#POINT} and {@link #CALCULATE_RESULT_OPERATION}.
+ * After an error the {@link Calculator} is cleaned, the {@link MathOperation}s, decimal point and memory operations are
+ * disabled until a digit, an {@link EditOperation} or {@link #CALCULATE_RESULT_OPERATION} resets the error.
+ * <p>
+ * The pressed keys can be recorded to an {@link InputJournal} as {@link InputEvent}s, including the cleaning of the
+ * {@link Calculator} after an error, so the journal restores the same state the keypad shows.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+class Keypad {
+
+    /**
+     * The function of the key calculates the result.
+     */
+    static final String CALCULATE_RESULT_OPERATION = "=";
+
+    /**
+     * The value of separator for mathematical expression parts.
+     */
+    private static final String EXPRESSION_PARTS_SEPARATOR = " ";
+
+    /**
+     * The error message about unknown function of the key.
+     */
+    private static final String UNKNOWN_KEY_FUNCTION_ERROR = "Unknown function of key: %s";
+
+    /**
+     * The {@link Calculator} the keys are pressed on.
+     */
+    private final Calculator calculator;
+
+    /**
+     * The {@link InputJournal} the pressed keys are recorded to or null if they are not recorded.
+     */
+    private InputJournal journal;
+
+    /**
+     * The text of the current number or error message displayed after the last pressed key.
+     */
+    private String displayedValue;
+
+    /**
+     * The text of the expression at the moment of the error or null if there is no error.
+     */
+    private String errorExpression;
+
+    /**
+     * The flag variable shows was the last calculation failed.
+     */
+    private boolean isErrorOccurred;
+
+    /**
+     * The flag variable shows are memory recall, memory clean and memory show enabled.
+     */
+    private boolean isMemoryStateEnabled;
+
+    /**
+     * The flag variable shows is the decimal separator displayed at the end of current number.
+     */
+    private boolean isAppendPointNeed;
+
+    /**
+     * The flag variable shows is new number entering now.
+     */
+    private boolean isEnteringNumber;
+
+    /**
+     * A {@link StringBuilder} instance constructs a mathematical expression string.
+     */
+    private StringBuilder expression;
+
+    /**
+     * The flag variable shows was a previous part of mathematical expression unary {@link MathOperation}.
+     */
+    private boolean wasUnaryBefore;
+
+    /**
+     * The string contains last formatted {@link BigDecimal} number or unary {@link MathOperation}.
+     */
+    private String lastUnaryArgument;
+
+    /**
+     * Constructs a new {@code Keypad} presses the keys on the given {@link Calculator} and shows its current state.
+     *
+     * @param calculator a {@link Calculator} to press the keys on
+     */
+    Keypad(Calculator calculator) {
+        this.calculator = calculator;
+        showState(calculator.getState());
+    }
+
+    /**
+     * Restores the given {@link CalculatorState} of the {@link Calculator} and shows it. Resets an error and enables
+     * the memory keys if the memory is not empty.
+     *
+     * @param state the {@link CalculatorState} to restore
+     */
+    void showState(CalculatorState state) {
+        calculator.restoreState(state);
+        // the restored state is the base the next recorded keys are applied to
+        if (journal != null) {
+            try {
+                journal.snapshot(calculator);
+            } catch (IOException e) {
+                journal = null; // the keys are not recorded any more, the journal is closed by its owner
+            }
+        }
+
+        resetAfterError();
+        isMemoryStateEnabled = !state.getMemory().isEmpty();
+        isEnteringNumber = !state.isNewNumber();
+        isAppendPointNeed = state.needAddPoint();
+
+        if (isEnteringNumber) {
+            displayedValue = formatEnteredNumber(state.getLastNumber(), isAppendPointNeed);
+        } else {
+            displayedValue = formatWithGroupDelimiters(state.getLastNumber());
+        }
+    }
+
+    /**
+     * Sets the {@link InputJournal} to record the pressed keys to. The state of the {@link Calculator} is written to
+     * the journal by {@link #showState(CalculatorState)}, so it must be called after the journal is set. The keys are
+     * not recorded any more if the journal can not be written.
+     *
+     * @param journal an {@link InputJournal} to record the pressed keys to or null to record nothing
+     */
+    void setInputJournal(InputJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Resets the {@link Calculator}, its memory and the state of the keys to the initial state.
+     */
+    void reset() {
+        showState(CalculatorState.INITIAL);
+    }
+
+    /**
+     * Presses the key with the given function and returns the text displayed after it, that is a formatted number or
+     * an error message. The keys disabled at the moment are ignored.
+     *
+     * @param keyFunction a function of the key to press
+     * @return the text displayed after the key
+     * @throws IllegalArgumentException if the key has unknown function
+     */
+    String press(Object keyFunction) {
+        if (isEnabled(keyFunction)) {
+            try {
+                displayedValue = pressImpl(keyFunction);
+                record(keyFunction);
+            } catch (CalculationException e) {
+                record(keyFunction);
+                handleException(e);
+                record(InputEvent.resetAfterError());
+            }
+        }
+
+        return displayedValue;
+    }
+
+    /**
+     * Returns true if the key with the given function is enabled at the moment.
+     *
+     * @param keyFunction a function of the key to check
+     * @return true if the key with the given function is enabled
+     */
+    boolean isEnabled(Object keyFunction) {
+        boolean isEnabled;
+
+        if (keyFunction == MEMORY_CLEAN || keyFunction == MEMORY_RECALL || keyFunction == MEMORY_SHOW) {
+            isEnabled = isMemoryStateEnabled;
+        } else if (keyFunction instanceof MathOperation || keyFunction instanceof MemoryOperation ||
+                POINT.equals(keyFunction)) {
+            isEnabled = !isErrorOccurred;
+        } else {
+            isEnabled = true;
+        }
+
+        return isEnabled;
+    }
+
+    String getDisplayedValue() {
+        return displayedValue;
+    }
+
+    boolean isErrorOccurred() {
+        return isErrorOccurred;
+    }
+
+    boolean isMemoryStateEnabled() {
+        return isMemoryStateEnabled;
+    }
+
+    /**
+     * Returns the formatted current mathematical expression or the expression at the moment of the error while the
+     * error is shown.
+     *
+     * @return the formatted current mathematical expression
+     */
+    String getExpression() {
+        String expressionText;
+
+        if (isErrorOccurred) {
+            expressionText = errorExpression;
+        } else {
+            expressionText = formatExpression();
+        }
+
+        return expressionText;
+    }
+
+    /**
+     * Executes an action for the key with the given function and returns the text to display.
+     *
+     * @param keyFunction a function of the key to press
+     * @return the text to display after the key
+     * @throws CalculationException if some error occurred while calculations
+     */
+    private String pressImpl(Object keyFunction) throws CalculationException {
+        String textToSet;
+
+        if (keyFunction instanceof BigDecimal) {
+            textToSet = addDigit((BigDecimal) keyFunction);
+        } else if (keyFunction instanceof MathOperation) {
+            textToSet = executeMathOperation((MathOperation) keyFunction);
+        } else if (keyFunction instanceof MemoryOperation) {
+            textToSet = executeMemoryOperation((MemoryOperation) keyFunction);
+        } else if (keyFunction instanceof EditOperation) {
+            textToSet = executeEditOperation((EditOperation) keyFunction);
+        } else if (POINT.equals(keyFunction)) {
+            textToSet = addDecimalSeparator();
+        } else if (CALCULATE_RESULT_OPERATION.equals(keyFunction)) {
+            textToSet = calculateResult();
+        } else {
+            throw new IllegalArgumentException(String.format(UNKNOWN_KEY_FUNCTION_ERROR, keyFunction));
+        }
+
+        return textToSet;
+    }
+
+    /**
+     * Records the {@link InputEvent} of the pressed key with the given function to the {@link #journal}. The key
+     * {@link MemoryOperation#MEMORY_SHOW} does not change the {@link Calculator} and is not recorded.
+     *
+     * @param keyFunction a function of the pressed key
+     */
+    private void record(Object keyFunction) {
+        InputEvent event;
+
+        if (keyFunction instanceof BigDecimal) {
+            event = InputEvent.digit(((BigDecimal) keyFunction).intValue());
+        } else if (keyFunction instanceof MathOperation) {
+            event = InputEvent.mathOperation((MathOperation) keyFunction);
+        } else if (keyFunction == MEMORY_SHOW) {
+            event = null;
+        } else if (keyFunction instanceof MemoryOperation) {
+            event = InputEvent.memoryOperation((MemoryOperation) keyFunction);
+        } else if (keyFunction instanceof EditOperation) {
+            event = InputEvent.editOperation((EditOperation) keyFunction);
+        } else if (POINT.equals(keyFunction)) {
+            event = InputEvent.point();
+        } else {
+            event = InputEvent.result();
+        }
+
+        if (event != null) {
+            record(event);
+        }
+    }
+
+    /**
+     * Appends the given {@link InputEvent} applied to the {@link Calculator} to the {@link #journal}.
+     *
+     * @param event an {@link InputEvent} to record
+     */
+    private void record(InputEvent event) {
+        if (journal != null) {
+            try {
+                journal.append(event, calculator);
+            } catch (IOException e) {
+                journal = null; // the keys are not recorded any more, the journal is closed by its owner
+            }
+        }
+    }
+
+    /**
+     * Returns string contains formatted {@link BigDecimal} number after entering a new digit.
+     *
+     * @param digit a digit represented by {@link BigDecimal} number to enter
+     * @return string contains formatted {@link BigDecimal} number after entering a new digit
+     */
+    private String addDigit(BigDecimal digit) {
+        resetAfterError();
+
+        // the digit exceeding the maximum length is not entered and the number stays the same
+        if (calculator.enterDigit(digit)) {
+            isAppendPointNeed = false;
+        }
+
+        isEnteringNumber = true;
+        return formatEnteredNumber(calculator.getLastNumber(), isAppendPointNeed);
+    }
+
+    /**
+     * Executes the given {@link MathOperation} and returns the string contains formatted result.
+     *
+     * @param operation a {@link MathOperation} to execute
+     * @return the string contains formatted result
+     * @throws CalculationException if some error occurred while calculations
+     */
+    private String executeMathOperation(MathOperation operation) throws CalculationException {
+        BigDecimal result = calculator.executeMathOperation(operation);
+        NumberClass resultClass = NumberClass.of(result);
+        checkResultForOverflow(resultClass);
+        String formattedResult;
+
+        if (operation == NEGATE && isEnteringNumber) { // if negate calls for entered number, not for resulted number
+            formattedResult = formatEnteredNumber(result, isAppendPointNeed);
+        } else {
+            formattedResult = formatWithGroupDelimiters(result, resultClass);
+            isEnteringNumber = false;
+        }
+
+        return formattedResult;
+    }
+
+    /**
+     * Executes the given {@link MemoryOperation} and returns the string contains formatted last entered number or
+     * memorized value if operation is {@link MemoryOperation#MEMORY_RECALL}. Also enables or disables the memory keys
+     * depends on what {@link MemoryOperation} it is.
+     *
+     * @param operation a {@link MemoryOperation} to execute
+     * @return the last entered number or memorized value if operation is {@link MemoryOperation#MEMORY_RECALL}
+     * @throws CalculationException if some error occurred while calculations
+     */
+    private String executeMemoryOperation(MemoryOperation operation) throws CalculationException {
+        if (operation != MEMORY_SHOW) { // the panel with memorized values does not change the calculator
+            calculator.executeMemoryOperation(operation);
+            isMemoryStateEnabled = (operation != MEMORY_CLEAN);
+        }
+
+        return formatWithGroupDelimiters(calculator.getLastNumber());
+    }
+
+    /**
+     * Executes the given {@link EditOperation} and returns the value of the modified last entered number.
+     *
+     * @param operation an {@link EditOperation} to execute
+     * @return the value of the modified last entered number
+     */
+    private String executeEditOperation(EditOperation operation) {
+        resetAfterError();
+
+        if (operation == LEFT_ERASE) {
+            isAppendPointNeed = calculator.deleteLastDigit();
+        } else {
+            if (operation == CLEAN) {
+                calculator.cleanAll();
+            } else {
+                calculator.cleanCurrent();
+            }
+            isAppendPointNeed = false;
+        }
+
+        return formatEnteredNumber(calculator.getLastNumber(), isAppendPointNeed);
+    }
+
+    /**
+     * Returns string contains formatted current number with added decimal separator.
+     *
+     * @return string contains formatted current number with added decimal separator
+     */
+    private String addDecimalSeparator() {
+        calculator.addPoint();
+        isEnteringNumber = true;
+        BigDecimal currentNumber = calculator.getLastNumber();
+        // if after adding decimal separator number's scale still is zero, than need to format with point at the end
+        isAppendPointNeed = (currentNumber.scale() == 0);
+
+        return formatEnteredNumber(currentNumber, isAppendPointNeed);
+    }
+
+    /**
+     * Returns a string formatted result of calculations for the current expression.
+     *
+     * @return a string formatted result of calculations for the current expression
+     * @throws CalculationException if some error occurred while calculations
+     */
+    private String calculateResult() throws CalculationException {
+        resetAfterError();
+        BigDecimal result = calculator.calculateResult();
+        isAppendPointNeed = false;
+        NumberClass resultClass = NumberClass.of(result);
+        checkResultForOverflow(resultClass);
+
+        return formatWithGroupDelimiters(result, resultClass);
+    }
+
+    /**
+     * Shows the message of the given {@link CalculationException}, disables the keys until the error is reset and
+     * cleans the {@link Calculator}. The expression at the moment of the error is shown until the error is reset.
+     *
+     * @param e an occurred {@link CalculationException}
+     */
+    private void handleException(CalculationException e) {
+        errorExpression = formatExpression();
+        isMemoryStateEnabled = false;
+        isErrorOccurred = true;
+        displayedValue = e.getErrorMessage().message();
+        calculator.cleanAll();
+    }
+
+    /**
+     * Enables the keys disabled after error.
+     */
+    private void resetAfterError() {
+        if (isErrorOccurred) {
+            isErrorOccurred = false;
+            isAppendPointNeed = false;
+            errorExpression = null;
+        }
+    }
+
+    /**
+     * Checks the {@link BigDecimal} number of the given {@link NumberClass} as result of an operations for overflow.
+     *
+     * @param resultClass the {@link NumberClass} of the number to check for overflow
+     * @throws CalculationException if result is out of valid bounds
+     */
+    private static void checkResultForOverflow(NumberClass resultClass) throws CalculationException {
+        if (resultClass.isOverflow()) {
+            throw new CalculationException(OVERFLOW);
+        }
+    }
+
+    /**
+     * Returns string value contains formatted current mathematical expression.
+     *
+     * @return string value contains formatted current mathematical expression
+     */
+    private String formatExpression() {
+        ExpressionView arguments = calculator.getExpression();
+        // reset formatted expression properties
+        expression = new StringBuilder();
+        lastUnaryArgument = "";
+        int lastArgumentIndex = arguments.size() - 1;
+
+        for (int i = 0; i < arguments.size(); i++) {
+            formatAndAppendCurrentArgument(arguments, i, i == lastArgumentIndex);
+        }
+
+        return expression.toString().trim();
+    }
+
+    /**
+     * Formats the argument with the given index and appends it to the current formatted expression.
+     *
+     * @param arguments         an {@link ExpressionView} of the expression arguments
+     * @param index             an index of the argument to format
+     * @param isTheLastArgument a flag shows is this argument the last in expression
+     */
+    private void formatAndAppendCurrentArgument(ExpressionView arguments, int index, boolean isTheLastArgument) {
+        if (arguments.isNumber(index)) {
+            appendNumber(arguments.getNumber(index), isTheLastArgument);
+        } else {
+            MathOperation operation = arguments.getOperation(index);
+            appendOperation(operation, isTheLastArgument);
+            wasUnaryBefore = !operation.isBinary();
+        }
+    }
+
+    /**
+     * Formats and appends the given {@link BigDecimal} number to the current formatted expression.
+     *
+     * @param number            a {@link BigDecimal} number to append
+     * @param isTheLastArgument a flag shows is this argument the last in expression
+     */
+    private void appendNumber(BigDecimal number, boolean isTheLastArgument) {
+        lastUnaryArgument = formatToMathView(number);
+
+        if (isTheLastArgument) {
+            appendToExpression(lastUnaryArgument);
+        }
+        wasUnaryBefore = !isTheLastArgument; // number in expression acts like an unary operation
+    }
+
+    /**
+     * Formats and appends the given {@link MathOperation} to the current formatted expression.
+     *
+     * @param operation         a {@link MathOperation} to append
+     * @param isTheLastArgument a flag shows is this argument the last in expression
+     */
+    private void appendOperation(MathOperation operation, boolean isTheLastArgument) {
+        boolean isBinaryOperation = operation.isBinary();
+
+        if (!isBinaryOperation) { // update last unary argument
+            lastUnaryArgument = formatUnaryOperation(operation, lastUnaryArgument);
+        }
+
+        if (isBinaryOperation) {
+            if (wasUnaryBefore) {
+                appendToExpression(lastUnaryArgument);
+            }
+
+            appendToExpression(operation.symbol());
+        } else if (isTheLastArgument) { // if current unary operation is the last in expression
+            appendToExpression(lastUnaryArgument);
+        }
+    }
+
+    /**
+     * Appends separator and the specified formatted value to the current expression.
+     *
+     * @param argument a formatted value to append to the expression
+     */
+    private void appendToExpression(String argument) {
+        expression.append(EXPRESSION_PARTS_SEPARATOR).append(argument);
+    }
+}
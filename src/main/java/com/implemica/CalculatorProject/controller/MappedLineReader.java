@@ -0,0 +1,179 @@
+package com.implemica.CalculatorProject.controller;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The MappedLineReader class reads the lines of UTF-8 text file through the memory mapped windows of the file. Only
+ * one window of a fixed size is mapped at a time, so a file of any size is read in bounded memory. A line ends with
+ * {@code '\n'} or {@code "\r\n"}; the line can not be longer than the window.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+class MappedLineReader implements Closeable {
+
+    /**
+     * The error message about the line longer than the mapped window.
+     */
+    private static final String LINE_TOO_LONG_ERROR = "Line at byte %s is longer than %s bytes";
+
+    /**
+     * The channel of the file to read.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The size of the file in bytes.
+     */
+    private final long fileSize;
+
+    /**
+     * The maximum size of the mapped window in bytes.
+     */
+    private final int windowSize;
+
+    /**
+     * The currently mapped window of the file.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * The position of the {@link #window} in the file.
+     */
+    private long windowPosition;
+
+    /**
+     * Constructs a new {@code MappedLineReader} reads the given file through the windows of the given size.
+     *
+     * @param file       a path to the file to read
+     * @param windowSize a maximum size of the mapped window in bytes
+     * @throws IOException if the file can not be opened
+     */
+    MappedLineReader(Path file, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns the next line of the file without the line terminator or null if the end of file is reached.
+     *
+     * @return the next line of the file or null if the end of file is reached
+     * @throws IOException if the line is longer than the window or the file can not be read
+     */
+    String readLine() throws IOException {
+        if (window == null || !window.hasRemaining()) {
+            if (!mapWindow(getPosition())) {
+                return null;
+            }
+        }
+
+        int lineEnd = findLineEnd();
+        if (lineEnd < 0 && !isLastWindow() && window.position() > 0) {
+            // the line continues after the window, map the window from the line start
+            mapWindow(getPosition());
+            lineEnd = findLineEnd();
+        }
+
+        if (lineEnd < 0 && !isLastWindow()) {
+            throw new IOException(String.format(LINE_TOO_LONG_ERROR, getPosition(), windowSize));
+        }
+
+        int lineStart = window.position();
+        int nextLineStart;
+        if (lineEnd < 0) { // the last line of the file without terminator
+            lineEnd = window.limit();
+            nextLineStart = lineEnd;
+        } else {
+            nextLineStart = lineEnd + 1;
+        }
+
+        if (lineEnd > lineStart && window.get(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+
+        byte[] bytes = new byte[lineEnd - lineStart];
+        window.get(bytes);
+        window.position(nextLineStart);
+
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns the position in the file of the next byte to read.
+     *
+     * @return the position in the file of the next byte to read
+     */
+    private long getPosition() {
+        long position = windowPosition;
+
+        if (window != null) {
+            position += window.position();
+        }
+
+        return position;
+    }
+
+    /**
+     * Returns true if the {@link #window} ends at the end of file.
+     *
+     * @return true if the window ends at the end of file
+     */
+    private boolean isLastWindow() {
+        return windowPosition + window.limit() >= fileSize;
+    }
+
+    /**
+     * Maps the window of the file starts at the given position. Returns false if the end of file is reached.
+     *
+     * @param position a position of the window in the file
+     * @return false if the end of file is reached
+     * @throws IOException if the file can not be mapped
+     */
+    private boolean mapWindow(long position) throws IOException {
+        if (position >= fileSize) {
+            return false;
+        }
+
+        long size = Math.min(windowSize, fileSize - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        windowPosition = position;
+
+        return true;
+    }
+
+    /**
+     * Returns the index of the next {@code '\n'} in the {@link #window} or -1 if the window has no more line
+     * terminators.
+     *
+     * @return the index of the next {@code '\n'} in the window or -1
+     */
+    private int findLineEnd() {
+        int limit = window.limit();
+
+        for (int i = window.position(); i < limit; i++) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Closes the channel of the file.
+     *
+     * @throws IOException if the channel can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -4,17 +4,19 @@ import com.implemica.CalculatorProject.model.calculation.CalculationExecutor;
 import com.implemica.CalculatorProject.model.calculation.EditOperation;
 import com.implemica.CalculatorProject.model.calculation.MathOperation;
 import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
+import com.implemica.CalculatorProject.model.calculation.PrecisionProfile;
 import com.implemica.CalculatorProject.model.exception.CalculationException;
+import com.implemica.CalculatorProject.model.history.HistoryTape;
+import com.implemica.CalculatorProject.model.history.HistoryText;
+import com.implemica.CalculatorProject.model.memory.MemoryBank;
+import com.implemica.CalculatorProject.model.validation.DataValidator;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.function.Function;
 
 import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
 import static com.implemica.CalculatorProject.model.calculation.MemoryOperation.*;
-import static com.implemica.CalculatorProject.model.validation.DataValidator.*;
 import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 
@@ -27,11 +29,32 @@ import static java.math.BigDecimal.ZERO;
  */
 public class Calculator {
 
+    /**
+     * The string contains a decimal point, the symbol of the input that calls {@link #addPoint()}.
+     */
+    public static final String POINT = ".";
+
     /**
      * An instance of {@link CalculationExecutor} implementation used for calculations.
      */
     private CalculationExecutor calculationExecutor;
 
+    /**
+     * The {@link HistoryTape} receives the calculated results or null if the results are not kept.
+     */
+    private HistoryTape historyTape;
+
+    /**
+     * The formatter of the numbers in the expressions appended to the {@link #historyTape}.
+     */
+    private Function<BigDecimal, String> historyFormatter = HistoryText.ROUNDED_NUMBERS;
+
+    /**
+     * The {@link PrecisionProfile} the calculated {@link BigDecimal} numbers are rounded by before they are stored. By
+     * default it is {@link PrecisionProfile#REFERENCE}, which keeps the numbers unchanged.
+     */
+    private PrecisionProfile precisionBudget = PrecisionProfile.REFERENCE;
+
     /**
      * The value of previous entered {@link BigDecimal} number or result of the last binary {@link MathOperation}.
      * By default it is zero.
@@ -50,14 +73,20 @@ public class Calculator {
     private BigDecimal lastNumber = ZERO;
 
     /**
-     * The value of last memorized {@link BigDecimal} number. By default it is zero.
+     * The buffer of the {@link BigDecimal} number being entered. While a number is entered, the buffer holds the
+     * actual value of the last number, and the last number is updated from it only when requested.
+     */
+    private final NumberEntry numberEntry = new NumberEntry();
+
+    /**
+     * The {@link MemoryBank} of the memory registers. By default it is empty.
      */
-    private BigDecimal memorizedNumber = ZERO;
+    private MemoryBank memory = MemoryBank.EMPTY;
 
     /**
-     * The list of current expression parts: {@link BigDecimal} numbers and {@link MathOperation}s.
+     * The current expression parts: {@link BigDecimal} numbers and {@link MathOperation}s.
      */
-    private final List<Object> expression = new ArrayList<>();
+    private final Expression expression = new Expression();
 
     /**
      * The value of temporary {@link BigDecimal} number stores last entered {@link BigDecimal} number before
@@ -92,6 +121,26 @@ public class Calculator {
      */
     private static final String NO_SUCH_OPERATION_FOUND = "No such operation found";
 
+    /**
+     * An error message about null {@link CalculatorState} to restore.
+     */
+    private static final String NO_STATE_ERROR = "Calculator state can not be null";
+
+    /**
+     * An error message about null {@link MemoryBank} to set.
+     */
+    private static final String NO_MEMORY_ERROR = "Memory bank can not be null";
+
+    /**
+     * An error message about null {@link PrecisionProfile} to set.
+     */
+    private static final String NO_PRECISION_BUDGET_ERROR = "Precision budget can not be null";
+
+    /**
+     * The error message about null formatter of the history specified.
+     */
+    private static final String NO_HISTORY_FORMATTER_ERROR = "History formatter can not be null";
+
     /**
      * Sets the specified {@link CalculationExecutor} implementation.
      *
@@ -101,76 +150,161 @@ public class Calculator {
         this.calculationExecutor = calculationExecutor;
     }
 
+    /**
+     * Sets the {@link PrecisionProfile} the calculated numbers are rounded by before they are stored to the previous,
+     * last, temporary numbers and the memory registers. For example, {@link PrecisionProfile#forDisplay(int)} keeps the
+     * displayed digits plus the guard digits, so a result of division does not carry thousands of digits to the next
+     * operations. Entered numbers are never rounded.
+     *
+     * @param precisionBudget a {@link PrecisionProfile} to round the calculated numbers by or
+     *                        {@link PrecisionProfile#REFERENCE} to keep them unchanged
+     */
+    public void setPrecisionBudget(PrecisionProfile precisionBudget) {
+        if (precisionBudget == null) {
+            throw new IllegalArgumentException(NO_PRECISION_BUDGET_ERROR);
+        }
+        this.precisionBudget = precisionBudget;
+    }
+
+    /**
+     * Sets the {@link HistoryTape} to append the expressions and results calculated by {@link #calculateResult()}.
+     * The numbers of the expressions are formatted by {@link HistoryText#ROUNDED_NUMBERS}.
+     *
+     * @param historyTape a {@link HistoryTape} to set or null to keep no history
+     */
+    public void setHistoryTape(HistoryTape historyTape) {
+        setHistoryTape(historyTape, HistoryText.ROUNDED_NUMBERS);
+    }
+
+    /**
+     * Sets the {@link HistoryTape} to append the expressions and results calculated by {@link #calculateResult()}
+     * and the formatter of the numbers of the expressions. Only the results in valid bounds are appended, rounded by
+     * {@link PrecisionProfile#DISPLAY_BUDGET}.
+     *
+     * @param historyTape a {@link HistoryTape} to set or null to keep no history
+     * @param formatter   a formatter of the numbers of the expressions, for example the one of the display
+     */
+    public void setHistoryTape(HistoryTape historyTape, Function<BigDecimal, String> formatter) {
+        if (formatter == null) {
+            throw new IllegalArgumentException(NO_HISTORY_FORMATTER_ERROR);
+        }
+        this.historyTape = historyTape;
+        this.historyFormatter = formatter;
+    }
+
     /**
      * Returns the last entered or modified after unary {@link MathOperation} {@link BigDecimal} number.
      *
      * @return the last entered or modified after unary {@link MathOperation} {@link BigDecimal}  number
      */
     public BigDecimal getLastNumber() {
+        updateLastNumberFromEntry();
         return lastNumber;
     }
 
     /**
-     * Returns the list of expression arguments represented by {@link BigDecimal} numbers and {@link MathOperation}s.
+     * Returns the read-only {@link ExpressionView} of the expression arguments represented by {@link BigDecimal}
+     * numbers and {@link MathOperation}s. The view reflects the following changes of the expression.
+     *
+     * @return the read-only {@link ExpressionView} of the expression arguments
+     */
+    public ExpressionView getExpression() {
+        return expression;
+    }
+
+    /**
+     * Returns the {@link CalculatorState} holds the current values of all the fields of this calculator except of
+     * {@link CalculationExecutor}.
      *
-     * @return the list of expression arguments represented by {@link BigDecimal} numbers and {@link MathOperation}s
+     * @return the {@link CalculatorState} holds the current values of the fields of this calculator
      */
-    public List<Object> getExpressionArguments() {
-        return Collections.unmodifiableList(expression);
+    public CalculatorState getState() {
+        updateLastNumberFromEntry();
+        return new CalculatorState(previousNumber, operation, lastNumber, memory, tempNumber,
+                expression.getSnapshot(), isNewNumber, wasUnaryBefore, needAddPoint, indexOfLastNumberInExpression);
     }
 
     /**
-     * Adds digit to the last entered {@link BigDecimal} number. Returns last entered {@link BigDecimal} number.
+     * Sets the values of all the fields of this calculator except of {@link CalculationExecutor} from the given
+     * {@link CalculatorState}.
+     *
+     * @param state a {@link CalculatorState} to restore
+     */
+    public void restoreState(CalculatorState state) {
+        if (state == null) {
+            throw new IllegalArgumentException(NO_STATE_ERROR);
+        }
+
+        previousNumber = state.getPreviousNumber();
+        operation = state.getOperation();
+        setLastNumber(state.getLastNumber());
+        memory = state.getMemory();
+        tempNumber = state.getTempNumber();
+        expression.restore(state.getExpressionSnapshot());
+        isNewNumber = state.isNewNumber();
+        wasUnaryBefore = state.wasUnaryBefore();
+        needAddPoint = state.needAddPoint();
+        indexOfLastNumberInExpression = state.getIndexOfLastNumberInExpression();
+    }
+
+    /**
+     * Adds digit represented by {@link BigDecimal} number to the last entered {@link BigDecimal} number. Returns false
+     * if the digit is not added, because the number already has the maximum length.
      *
      * @param digit to add to the last entered {@link BigDecimal} number
-     * @return last entered {@link BigDecimal} number
+     * @return true if the digit is added to the last entered {@link BigDecimal} number
      */
-    public BigDecimal enterDigit(BigDecimal digit) {
+    public boolean enterDigit(BigDecimal digit) {
+        return enterDigit(digit.intValue());
+    }
+
+    /**
+     * Adds digit to the last entered {@link BigDecimal} number. Returns false if the digit is not added, because the
+     * number already has the maximum length.
+     *
+     * @param digit a digit from 0 to 9 to add to the last entered {@link BigDecimal} number
+     * @return true if the digit is added to the last entered {@link BigDecimal} number
+     */
+    public boolean enterDigit(int digit) {
+        boolean isEntered = true;
+
         if (isNewNumber) {
-            lastNumber = digit;
+            numberEntry.start(digit);
             removeLastUnaryFromExpression();
             needAddPoint = false;
         } else {
-            appendDigit(digit);
+            isEntered = appendDigit(digit);
         }
 
         isNewNumber = false;
-        return lastNumber;
+        return isEntered;
     }
 
     /**
-     * Appends the given digit to the current {@link BigDecimal} number.
+     * Appends the given digit to the current {@link BigDecimal} number. Returns false if the digit is not appended,
+     * because the number already has the maximum length.
      *
      * @param digit a digit to append to the current {@link BigDecimal} number
+     * @return true if the digit is appended
      */
-    private void appendDigit(BigDecimal digit) {
-        if (isZero(lastNumber) && !isZero(digit) && (lastNumber.scale() == 0) && !needAddPoint) {
+    private boolean appendDigit(int digit) {
+        boolean isAppended;
+
+        if (!numberEntry.isActive() && !numberEntry.load(lastNumber)) { // the number is too long to append a digit
+            isAppended = false;
+        } else if (numberEntry.isZero() && digit != 0 && numberEntry.getScale() == 0 && !needAddPoint) {
             // if current number is zero, it has no fractional part and adding decimal separator didn't called
             // than replace current number by specified non-zero digit
-            lastNumber = digit;
+            numberEntry.start(digit);
+            isAppended = true;
         } else {
-            appendDigitImpl(digit);
-            needAddPoint = false;
+            isAppended = numberEntry.appendDigit(digit, needAddPoint);
+            if (isAppended) {
+                needAddPoint = false;
+            }
         }
-    }
 
-    /**
-     * Appends the given digit represented by {@link BigDecimal} number to the last entered {@link BigDecimal} number.
-     *
-     * @param digit a digit to append
-     */
-    private void appendDigitImpl(BigDecimal digit) {
-        if (lastNumber.signum() == -1) {
-            digit = digit.negate();
-        }
-
-        if (needAddPoint || (lastNumber.scale() != 0)) { // if called adding the decimal separator or current number already has fractional part
-            int newScale = lastNumber.scale() + 1;
-            BigDecimal tailToAdd = digit.divide(TEN.pow(newScale), newScale, RoundingMode.HALF_DOWN);
-            lastNumber = lastNumber.add(tailToAdd);
-        } else {
-            lastNumber = lastNumber.multiply(TEN).add(digit);
-        }
+        return isAppended;
     }
 
     /**
@@ -185,6 +319,7 @@ public class Calculator {
         if (currentOperation == null) {
             throw new UnsupportedOperationException(NO_SUCH_OPERATION_FOUND);
         }
+        updateLastNumberFromEntry();
 
         BigDecimal operationResult;
         if (currentOperation.isBinary()) {
@@ -253,7 +388,7 @@ public class Calculator {
      * @throws CalculationException if some error occurred while calculations
      */
     private BigDecimal executePercentOperation() throws CalculationException {
-        lastNumber = calculationExecutor.calculate(previousNumber, PERCENT, lastNumber);
+        setLastNumber(calculate(previousNumber, PERCENT, lastNumber));
         updateExpressionAfterPercentage();
         wasUnaryBefore = true; // for expression percentage acts like unary operation
 
@@ -277,7 +412,7 @@ public class Calculator {
      */
     private void updatePreviousNumber() throws CalculationException {
         if (expression.size() > 2 && operation != null) { // If was already entered more than one number and binary operation execute last binary operation
-            previousNumber = calculationExecutor.calculate(previousNumber, operation, lastNumber);
+            previousNumber = calculate(previousNumber, operation, lastNumber);
         } else { // or store last entered number in previous to enter new number
             previousNumber = lastNumber;
         }
@@ -329,7 +464,7 @@ public class Calculator {
             unaryArgument = previousNumber;
         }
 
-        lastNumber = calculationExecutor.calculate(unaryArgument, currentOperation, null);
+        setLastNumber(calculate(unaryArgument, currentOperation, null));
     }
 
     /**
@@ -370,9 +505,18 @@ public class Calculator {
      * @throws CalculationException if some error while calculations occurred
      */
     public BigDecimal calculateResult() throws CalculationException {
+        updateLastNumberFromEntry();
+        String expressionText = null;
+        if (historyTape != null) {
+            expressionText = getExpressionText();
+        }
+
         if (operation != null) { // calculate result if any binary math operation executes
             calculateResultForBinary();
         }
+        if (historyTape != null && !DataValidator.isResultOverflow(lastNumber)) {
+            historyTape.append(expressionText, PrecisionProfile.DISPLAY_BUDGET.round(lastNumber));
+        }
         // If all operations were unary return result (last number) and reset all
         isNewNumber = true;
         expression.clear();
@@ -381,6 +525,24 @@ public class Calculator {
         return lastNumber;
     }
 
+    /**
+     * Returns the text of the expression to calculate by {@link #calculateResult()}.
+     *
+     * @return the text of the expression to calculate
+     */
+    private String getExpressionText() {
+        String text;
+
+        if (operation != null && expression.isEmpty() && !wasUnaryBefore) { // the last binary operation is repeated
+            text = HistoryText.format(expression, lastNumber, operation, tempNumber, historyFormatter);
+        } else {
+            text = HistoryText.format(expression, previousNumber, operation, lastNumber,
+                    historyFormatter);
+        }
+
+        return text;
+    }
+
     /**
      * Calculates the result for the current binary {@link MathOperation} and entered {@link BigDecimal} numbers. The result
      * of calculations assigns to last entered {@link BigDecimal} number value.
@@ -399,7 +561,7 @@ public class Calculator {
             secondNumber = lastNumber;
         }
 
-        lastNumber = calculationExecutor.calculate(firstNumber, operation, secondNumber);
+        setLastNumber(calculate(firstNumber, operation, secondNumber));
     }
 
     /**
@@ -408,12 +570,13 @@ public class Calculator {
      */
     public void addPoint() {
         if (isNewNumber) { // If point adds when expected entering new number need to replace last number by zero
-            lastNumber = ZERO;
+            numberEntry.start(0);
             isNewNumber = false;
             removeLastUnaryFromExpression();
         }
 
-        if (lastNumber.scale() == 0) { // if number has no fractional part
+        int scale = numberEntry.isActive() ? numberEntry.getScale() : lastNumber.scale();
+        if (scale == 0) { // if number has no fractional part
             needAddPoint = true;
         }
     }
@@ -433,7 +596,7 @@ public class Calculator {
      * Resets the last entered {@link BigDecimal} number to default value - zero.
      */
     public void cleanCurrent() {
-        lastNumber = ZERO;
+        setLastNumber(ZERO);
         removeLastUnaryFromExpression();
         isNewNumber = true;
         needAddPoint = false;
@@ -451,36 +614,31 @@ public class Calculator {
         if (needAddPoint) { // if the last symbol in number is decimal separator
             isInteger = false;
             needAddPoint = false;
-        } else if (lastNumber.abs().compareTo(TEN) < 0 && lastNumber.scale() == 0) { // if number consists of only one digit
-            lastNumber = ZERO;
-            isInteger = false;
-        } else { // for other number that has more than one digit and decimal separator not at the end of number
-            isInteger = deleteLastDigitImpl();
+        } else {
+            if (numberEntry.isActive() || numberEntry.load(lastNumber)) { // if number is not longer than entered one
+                isInteger = numberEntry.getScale() == 1; // is the only fractional digit deleted
+                numberEntry.deleteLastDigit();
+            } else { // for too long number, for example the result of calculations
+                isInteger = lastNumber.scale() == 1;
+                deleteLastDigitImpl();
+            }
+            needAddPoint = isInteger;
         }
 
         return isInteger;
     }
 
     /**
-     * Deletes last digit in the current entered {@link BigDecimal} number. Returns true if the last symbol in current
-     * number is decimal point.
-     *
-     * @return true if the last symbol in current number is decimal point
+     * Deletes last digit in the current {@link BigDecimal} number that is too long to be entered.
      */
-    private boolean deleteLastDigitImpl() {
-        boolean isInteger;
+    private void deleteLastDigitImpl() {
         int currentNumberScale = lastNumber.scale();
 
         if (currentNumberScale > 0) { // if number has fractional part
-            lastNumber = lastNumber.setScale(currentNumberScale - 1, RoundingMode.DOWN);
-            isInteger = lastNumber.scale() == 0; // is integer number
-            needAddPoint = isInteger;
+            setLastNumber(lastNumber.setScale(currentNumberScale - 1, RoundingMode.DOWN));
         } else {
-            lastNumber = lastNumber.divide(TEN, 0, RoundingMode.DOWN);
-            isInteger = false;
+            setLastNumber(lastNumber.divide(TEN, 0, RoundingMode.DOWN));
         }
-
-        return isInteger;
     }
 
     /**
@@ -493,28 +651,139 @@ public class Calculator {
         if (operation == null) {
             return;
         }
+        updateLastNumberFromEntry();
 
         if (operation == MEMORY_CLEAN) {
-            memorizedNumber = ZERO;
+            memory = MemoryBank.EMPTY;
         } else if (operation == MEMORY_RECALL) {
-            lastNumber = memorizedNumber;
-            removeLastUnaryFromExpression();
+            recallSelectedRegister();
         } else if (operation == MEMORY_ADD) {
-            memorizedNumber = calculationExecutor.calculate(memorizedNumber, ADD, lastNumber);
+            updateSelectedRegister(ADD);
         } else if (operation == MEMORY_SUBTRACT) {
-            memorizedNumber = calculationExecutor.calculate(memorizedNumber, SUBTRACT, lastNumber);
+            updateSelectedRegister(SUBTRACT);
         } else if (operation == MEMORY_STORE) {
-            memorizedNumber = lastNumber;
+            memory = memory.push(lastNumber);
         }
         isNewNumber = true;
     }
 
+    /**
+     * Recalls the memory register with the given index to the last number and selects this register.
+     *
+     * @param index the index of the memory register
+     */
+    public void recallMemoryRegister(int index) {
+        memory = memory.select(index);
+        recallSelectedRegister();
+        isNewNumber = true;
+    }
+
+    /**
+     * Selects the memory register with the given index as the target of the next memory add and subtract.
+     *
+     * @param index the index of the memory register
+     */
+    public void selectMemoryRegister(int index) {
+        memory = memory.select(index);
+    }
+
+    /**
+     * Removes the memory register with the given index.
+     *
+     * @param index the index of the memory register
+     */
+    public void cleanMemoryRegister(int index) {
+        memory = memory.remove(index);
+    }
+
+    /**
+     * Returns the {@link MemoryBank} of the memory registers.
+     *
+     * @return the {@link MemoryBank} of the memory registers
+     */
+    public MemoryBank getMemory() {
+        return memory;
+    }
+
+    /**
+     * Sets the given {@link MemoryBank} of the memory registers, for example restored from a file.
+     *
+     * @param memory the {@link MemoryBank} to set
+     */
+    public void setMemory(MemoryBank memory) {
+        if (memory == null) {
+            throw new IllegalArgumentException(NO_MEMORY_ERROR);
+        }
+        this.memory = memory;
+    }
+
+    /**
+     * Sets the value of the selected memory register as the last number.
+     */
+    private void recallSelectedRegister() {
+        setLastNumber(memory.getSelected());
+        removeLastUnaryFromExpression();
+    }
+
+    /**
+     * Adds or subtracts the last number to the selected memory register. If there are no registers, the result is
+     * stored to a new register.
+     *
+     * @param operation {@link MathOperation#ADD} or {@link MathOperation#SUBTRACT}
+     * @throws CalculationException if some error occurred while calculations
+     */
+    private void updateSelectedRegister(MathOperation operation) throws CalculationException {
+        BigDecimal value = calculate(memory.getSelected(), operation, lastNumber);
+
+        if (memory.isEmpty()) {
+            memory = memory.push(value);
+        } else {
+            memory = memory.set(memory.getSelectedIndex(), value);
+        }
+    }
+
+    /**
+     * Returns the result of the given {@link MathOperation} calculated by the {@link CalculationExecutor} and rounded by
+     * the precision budget. The executor rounds the result itself, so the exact value it remembers for the result is
+     * kept for the rounded one.
+     *
+     * @param firstNumber  the first argument of operation
+     * @param operation    a {@link MathOperation} to calculate
+     * @param secondNumber the second argument of binary operation or null
+     * @return the rounded result of the given {@link MathOperation}
+     * @throws CalculationException if some error occurred while calculations
+     */
+    private BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber)
+            throws CalculationException {
+        BigDecimal result = calculationExecutor.calculate(firstNumber, operation, secondNumber);
+        return calculationExecutor.round(result, precisionBudget);
+    }
+
+    /**
+     * Sets the given {@link BigDecimal} number as the last number and finishes entering the number.
+     *
+     * @param number a {@link BigDecimal} number to set as the last number
+     */
+    private void setLastNumber(BigDecimal number) {
+        lastNumber = number;
+        numberEntry.clear();
+    }
+
+    /**
+     * Updates the last {@link BigDecimal} number from the buffer of the entered number if it was changed.
+     */
+    private void updateLastNumberFromEntry() {
+        if (numberEntry.isChanged()) {
+            lastNumber = numberEntry.toBigDecimal();
+        }
+    }
+
     /**
      * Replaces last binary {@link MathOperation} in expression by the last specified one.
      */
     private void replaceLastOperationInExpression(MathOperation currentOperation) {
         if (!expression.isEmpty()) {
-            expression.set(expression.size() - 1, currentOperation);
+            expression.replaceLastOperation(currentOperation);
         }
     }
 
@@ -525,7 +794,7 @@ public class Calculator {
      * @param number a {@link BigDecimal} number to add into expression
      */
     private void addToExpression(BigDecimal number) {
-        expression.add(number);
+        expression.addNumber(number);
         indexOfLastNumberInExpression = expression.size() - 1;
     }
 
@@ -535,7 +804,7 @@ public class Calculator {
      * @param operation a given {@link MathOperation} to add into expression
      */
     private void addToExpression(MathOperation operation) {
-        expression.add(operation);
+        expression.addOperation(operation);
     }
 
     /**
@@ -548,7 +817,7 @@ public class Calculator {
         // because number added before this operation is still in expression
         if (wasUnaryBefore && indexOfLastNumberInExpression < expressionSize) {
 
-            expression.subList(indexOfLastNumberInExpression, expressionSize).clear();
+            expression.truncate(indexOfLastNumberInExpression);
             wasUnaryBefore = false;
         }
     }
@@ -0,0 +1,233 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.memory.MemoryBank;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The CalculatorState class is an immutable snapshot of all the fields of {@link Calculator} that define the result
+ * of the next input: the {@link BigDecimal} numbers, the last binary {@link MathOperation}, the flags and the current
+ * expression. The {@link Calculator} returns its state by {@link Calculator#getState()} and continues from any state
+ * given to {@link Calculator#restoreState(CalculatorState)}.
+ * <p>
+ * The state refers to the numbers of the calculator and to the immutable chain of its expression parts without copying
+ * them, so a state is taken in constant time and the consecutive states share all the parts that are not changed.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class CalculatorState {
+
+    /**
+     * The state of a new {@link Calculator}.
+     */
+    public static final CalculatorState INITIAL = new Calculator().getState();
+
+    /**
+     * The error message about null number specified.
+     */
+    private static final String NO_NUMBER_ERROR = "Numbers of calculator state can not be null";
+
+    /**
+     * The value of previous entered {@link BigDecimal} number or result of the last binary {@link MathOperation}.
+     */
+    private final BigDecimal previousNumber;
+
+    /**
+     * The last requested binary {@link MathOperation} or null.
+     */
+    private final MathOperation operation;
+
+    /**
+     * The value of last entered {@link BigDecimal} number or result of the last unary {@link MathOperation}.
+     */
+    private final BigDecimal lastNumber;
+
+    /**
+     * The {@link MemoryBank} of the memory registers.
+     */
+    private final MemoryBank memory;
+
+    /**
+     * The last entered {@link BigDecimal} number before calculation result.
+     */
+    private final BigDecimal tempNumber;
+
+    /**
+     * The last {@link ExpressionNode} of the expression parts or null if the expression is empty.
+     */
+    private final ExpressionNode expression;
+
+    /**
+     * The flag variable shows is now entering a new number or continuing enter the last number.
+     */
+    private final boolean isNewNumber;
+
+    /**
+     * The flag variable shows was previous unary or binary {@link MathOperation}.
+     */
+    private final boolean wasUnaryBefore;
+
+    /**
+     * The flag variable shows the last symbol in current {@link BigDecimal} number is decimal point.
+     */
+    private final boolean needAddPoint;
+
+    /**
+     * The index of the last {@link BigDecimal} number added to the expression.
+     */
+    private final int indexOfLastNumberInExpression;
+
+    /**
+     * Constructs a new {@code CalculatorState} with the given values of {@link Calculator} fields.
+     *
+     * @param previousNumber                previous entered number or result of the last binary operation
+     * @param operation                     the last requested binary {@link MathOperation} or null
+     * @param lastNumber                    last entered number or result of the last unary operation
+     * @param memory                        the {@link MemoryBank} of the memory registers
+     * @param tempNumber                    last entered number before calculation result
+     * @param expression                    expression parts: {@link BigDecimal} numbers and {@link MathOperation}s
+     * @param isNewNumber                   is now entering a new number
+     * @param wasUnaryBefore                was previous operation unary
+     * @param needAddPoint                  is the last symbol in current number decimal point
+     * @param indexOfLastNumberInExpression the index of the last number added to the expression
+     */
+    public CalculatorState(BigDecimal previousNumber, MathOperation operation, BigDecimal lastNumber,
+                           MemoryBank memory, BigDecimal tempNumber, List<Object> expression,
+                           boolean isNewNumber, boolean wasUnaryBefore, boolean needAddPoint,
+                           int indexOfLastNumberInExpression) {
+        this(previousNumber, operation, lastNumber, memory, tempNumber, ExpressionNode.fromList(expression),
+                isNewNumber, wasUnaryBefore, needAddPoint, indexOfLastNumberInExpression);
+    }
+
+    /**
+     * Constructs a new {@code CalculatorState} with the given values of {@link Calculator} fields and the given chain
+     * of expression parts.
+     *
+     * @param previousNumber                previous entered number or result of the last binary operation
+     * @param operation                     the last requested binary {@link MathOperation} or null
+     * @param lastNumber                    last entered number or result of the last unary operation
+     * @param memory                        the {@link MemoryBank} of the memory registers
+     * @param tempNumber                    last entered number before calculation result
+     * @param expression                    the last {@link ExpressionNode} of the expression or null if it is empty
+     * @param isNewNumber                   is now entering a new number
+     * @param wasUnaryBefore                was previous operation unary
+     * @param needAddPoint                  is the last symbol in current number decimal point
+     * @param indexOfLastNumberInExpression the index of the last number added to the expression
+     */
+    CalculatorState(BigDecimal previousNumber, MathOperation operation, BigDecimal lastNumber,
+                    MemoryBank memory, BigDecimal tempNumber, ExpressionNode expression,
+                    boolean isNewNumber, boolean wasUnaryBefore, boolean needAddPoint,
+                    int indexOfLastNumberInExpression) {
+        if (previousNumber == null || lastNumber == null || memory == null || tempNumber == null) {
+            throw new IllegalArgumentException(NO_NUMBER_ERROR);
+        }
+
+        this.previousNumber = previousNumber;
+        this.operation = operation;
+        this.lastNumber = lastNumber;
+        this.memory = memory;
+        this.tempNumber = tempNumber;
+        this.expression = expression;
+        this.isNewNumber = isNewNumber;
+        this.wasUnaryBefore = wasUnaryBefore;
+        this.needAddPoint = needAddPoint;
+        this.indexOfLastNumberInExpression = indexOfLastNumberInExpression;
+    }
+
+    public BigDecimal getPreviousNumber() {
+        return previousNumber;
+    }
+
+    public MathOperation getOperation() {
+        return operation;
+    }
+
+    public BigDecimal getLastNumber() {
+        return lastNumber;
+    }
+
+    /**
+     * Returns the value of the selected memory register or {@link BigDecimal#ZERO} if there are no registers.
+     *
+     * @return the value of the selected memory register or zero
+     */
+    public BigDecimal getMemorizedNumber() {
+        return memory.getSelected();
+    }
+
+    public MemoryBank getMemory() {
+        return memory;
+    }
+
+    public BigDecimal getTempNumber() {
+        return tempNumber;
+    }
+
+    /**
+     * Returns a new unmodifiable list of expression parts: {@link BigDecimal} numbers and {@link MathOperation}s.
+     *
+     * @return a new unmodifiable list of expression parts
+     */
+    public List<Object> getExpression() {
+        return ExpressionNode.toList(expression);
+    }
+
+    ExpressionNode getExpressionSnapshot() {
+        return expression;
+    }
+
+    public boolean isNewNumber() {
+        return isNewNumber;
+    }
+
+    public boolean wasUnaryBefore() {
+        return wasUnaryBefore;
+    }
+
+    public boolean needAddPoint() {
+        return needAddPoint;
+    }
+
+    public int getIndexOfLastNumberInExpression() {
+        return indexOfLastNumberInExpression;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof CalculatorState)) {
+            return false;
+        }
+
+        CalculatorState that = (CalculatorState) other;
+        return previousNumber.equals(that.previousNumber) && operation == that.operation &&
+                lastNumber.equals(that.lastNumber) && memory.equals(that.memory) &&
+                tempNumber.equals(that.tempNumber) && ExpressionNode.equals(expression, that.expression) &&
+                isNewNumber == that.isNewNumber && wasUnaryBefore == that.wasUnaryBefore &&
+                needAddPoint == that.needAddPoint &&
+                indexOfLastNumberInExpression == that.indexOfLastNumberInExpression;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = previousNumber.hashCode();
+        hash = 31 * hash + lastNumber.hashCode();
+        hash = 31 * hash + memory.hashCode();
+        hash = 31 * hash + ExpressionNode.hashCode(expression);
+        return 31 * hash + indexOfLastNumberInExpression;
+    }
+
+    @Override
+    public String toString() {
+        return "CalculatorState{previousNumber=" + previousNumber + ", operation=" + operation +
+                ", lastNumber=" + lastNumber + ", memory=" + memory +
+                ", tempNumber=" + tempNumber + ", expression=" + getExpression() + ", isNewNumber=" + isNewNumber +
+                ", wasUnaryBefore=" + wasUnaryBefore + ", needAddPoint=" + needAddPoint +
+                ", indexOfLastNumberInExpression=" + indexOfLastNumberInExpression + '}';
+    }
+}
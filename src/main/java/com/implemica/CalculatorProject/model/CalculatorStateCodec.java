@@ -0,0 +1,353 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.memory.MemoryBank;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The CalculatorStateCodec class encodes the {@link CalculatorState} to a compact versioned binary form and decodes it
+ * back without serialization and reflection, so the state of {@link Calculator} is restored after restart in
+ * microseconds.
+ * <p>
+ * The encoded state starts with the magic and the version of the format. A {@link BigDecimal} number is encoded as its
+ * scale, the length of its unscaled value and the bytes of the unscaled value, a {@link MathOperation} as its ordinal
+ * or -1 for null, the flags as the bits of one byte. The expression is the count of parts followed by the parts, a
+ * part is the ordinal of operation or -1 followed by the number. The {@link MemoryBank} is the count of registers,
+ * the index of the selected one and the registers. Decoding checks every length against the remaining bytes, so any
+ * damaged input fails with {@link IOException}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class CalculatorStateCodec {
+
+    /**
+     * The first bytes of the encoded state.
+     */
+    private static final int MAGIC = 0x43414C43;
+
+    /**
+     * The version of the format of the encoded state.
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * The size of the header in bytes: the magic and the version.
+     */
+    private static final int HEADER_SIZE = 5;
+
+    /**
+     * The size of the encoded number without the unscaled value in bytes: the scale and the length.
+     */
+    private static final int NUMBER_HEADER_SIZE = 8;
+
+    /**
+     * The encoded value of null {@link MathOperation} and the tag of number in the expression.
+     */
+    private static final byte NO_OPERATION = -1;
+
+    /**
+     * The bit of the flag shows is now entering a new number.
+     */
+    private static final int NEW_NUMBER_FLAG = 1;
+
+    /**
+     * The bit of the flag shows was previous operation unary.
+     */
+    private static final int UNARY_BEFORE_FLAG = 2;
+
+    /**
+     * The bit of the flag shows is the last symbol in current number decimal point.
+     */
+    private static final int ADD_POINT_FLAG = 4;
+
+    /**
+     * All the {@link MathOperation}s, where index is the ordinal of operation.
+     */
+    private static final MathOperation[] MATH_OPERATIONS = MathOperation.values();
+
+    /**
+     * The suffix of the file the state is written to before it replaces the state file.
+     */
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * The error message about invalid encoded value.
+     */
+    private static final String INVALID_VALUE_ERROR = "Invalid calculator state value: %s";
+
+    /**
+     * The error message about the input of other format or version.
+     */
+    private static final String UNKNOWN_FORMAT_ERROR = "Unknown calculator state format: magic %s, version %s";
+
+    /**
+     * The error message about the input ending before the end of the state.
+     */
+    private static final String TRUNCATED_ERROR = "Calculator state is truncated";
+
+    /**
+     * The error message about the bytes after the end of the state.
+     */
+    private static final String TRAILING_BYTES_ERROR = "Calculator state is followed by %s bytes";
+
+    /**
+     * Returns the bytes of the given {@link CalculatorState}.
+     *
+     * @param state a {@link CalculatorState} to encode
+     * @return the bytes of the given state
+     */
+    public static byte[] encode(CalculatorState state) {
+        List<Object> expression = state.getExpression();
+        MemoryBank memory = state.getMemory();
+
+        // the operation, the counts of parts and registers, the selected register, the flags and the index
+        int size = HEADER_SIZE + 1 + 4 + 4 + 4 + 1 + 4;
+        size += getSize(state.getPreviousNumber()) + getSize(state.getLastNumber()) + getSize(state.getTempNumber());
+        for (Object part : expression) {
+            size += part instanceof BigDecimal ? 1 + getSize((BigDecimal) part) : 1;
+        }
+        for (BigDecimal register : memory.toList()) {
+            size += getSize(register);
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(size);
+        bytes.putInt(MAGIC).put(FORMAT_VERSION);
+        putNumber(bytes, state.getPreviousNumber());
+        putOperation(bytes, state.getOperation());
+        putNumber(bytes, state.getLastNumber());
+        putNumber(bytes, state.getTempNumber());
+
+        bytes.putInt(expression.size());
+        for (Object part : expression) {
+            if (part instanceof BigDecimal) {
+                bytes.put(NO_OPERATION);
+                putNumber(bytes, (BigDecimal) part);
+            } else {
+                putOperation(bytes, (MathOperation) part);
+            }
+        }
+
+        bytes.putInt(memory.size()).putInt(memory.getSelectedIndex());
+        for (BigDecimal register : memory.toList()) {
+            putNumber(bytes, register);
+        }
+
+        int flags = 0;
+        if (state.isNewNumber()) {
+            flags |= NEW_NUMBER_FLAG;
+        }
+        if (state.wasUnaryBefore()) {
+            flags |= UNARY_BEFORE_FLAG;
+        }
+        if (state.needAddPoint()) {
+            flags |= ADD_POINT_FLAG;
+        }
+        bytes.put((byte) flags);
+        bytes.putInt(state.getIndexOfLastNumberInExpression());
+
+        return bytes.array();
+    }
+
+    /**
+     * Returns the {@link CalculatorState} of the given bytes.
+     *
+     * @param encoded the bytes of a {@link CalculatorState}
+     * @return the decoded {@link CalculatorState}
+     * @throws IOException if the bytes are not a state of the known format or are damaged
+     */
+    public static CalculatorState decode(byte[] encoded) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(encoded);
+        CalculatorState state;
+
+        try {
+            int magic = bytes.getInt();
+            byte version = bytes.get();
+            if (magic != MAGIC || version != FORMAT_VERSION) {
+                throw new IOException(String.format(UNKNOWN_FORMAT_ERROR, magic, version));
+            }
+
+            BigDecimal previousNumber = getNumber(bytes);
+            MathOperation operation = getOperation(bytes);
+            BigDecimal lastNumber = getNumber(bytes);
+            BigDecimal tempNumber = getNumber(bytes);
+
+            int expressionSize = getCount(bytes, 1);
+            List<Object> expression = new ArrayList<>(expressionSize);
+            for (int i = 0; i < expressionSize; i++) {
+                MathOperation part = getOperation(bytes);
+                if (part == null) {
+                    expression.add(getNumber(bytes));
+                } else {
+                    expression.add(part);
+                }
+            }
+
+            int memorySize = getCount(bytes, NUMBER_HEADER_SIZE);
+            int selectedIndex = bytes.getInt();
+            List<BigDecimal> registers = new ArrayList<>(memorySize);
+            for (int i = 0; i < memorySize; i++) {
+                registers.add(getNumber(bytes));
+            }
+            MemoryBank memory = new MemoryBank(registers, selectedIndex);
+
+            int flags = bytes.get();
+            if ((flags & ~(NEW_NUMBER_FLAG | UNARY_BEFORE_FLAG | ADD_POINT_FLAG)) != 0) {
+                throw new IOException(String.format(INVALID_VALUE_ERROR, flags));
+            }
+            int indexOfLastNumberInExpression = bytes.getInt();
+            if (indexOfLastNumberInExpression < 0) {
+                throw new IOException(String.format(INVALID_VALUE_ERROR, indexOfLastNumberInExpression));
+            }
+            if (bytes.hasRemaining()) {
+                throw new IOException(String.format(TRAILING_BYTES_ERROR, bytes.remaining()));
+            }
+
+            state = new CalculatorState(previousNumber, operation, lastNumber, memory, tempNumber, expression,
+                    (flags & NEW_NUMBER_FLAG) != 0, (flags & UNARY_BEFORE_FLAG) != 0, (flags & ADD_POINT_FLAG) != 0,
+                    indexOfLastNumberInExpression);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(TRUNCATED_ERROR, e);
+        } catch (IndexOutOfBoundsException e) { // the selected memory register is out of the bank
+            throw new IOException(e.getMessage(), e);
+        }
+
+        return state;
+    }
+
+    /**
+     * Writes the given {@link CalculatorState} to the given file. The state is written to a temporary file first, which
+     * replaces the given file atomically, so the file always holds a complete state.
+     *
+     * @param state a {@link CalculatorState} to write
+     * @param file  the file to write to
+     * @throws IOException if the file can not be written
+     */
+    public static void write(CalculatorState state, Path file) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(temporaryFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(encode(state));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads the {@link CalculatorState} from the given file.
+     *
+     * @param file the file to read from
+     * @return the read {@link CalculatorState}
+     * @throws IOException if the file can not be read or is not a state of the known format
+     */
+    public static CalculatorState read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    /**
+     * Returns the size of the encoded {@link BigDecimal} number.
+     *
+     * @param number a {@link BigDecimal} number
+     * @return the size of the encoded number in bytes
+     */
+    private static int getSize(BigDecimal number) {
+        return NUMBER_HEADER_SIZE + number.unscaledValue().bitLength() / 8 + 1;
+    }
+
+    /**
+     * Puts the given {@link BigDecimal} number to the given buffer.
+     *
+     * @param bytes  a buffer to put to
+     * @param number a {@link BigDecimal} number to put
+     */
+    private static void putNumber(ByteBuffer bytes, BigDecimal number) {
+        byte[] unscaledValue = number.unscaledValue().toByteArray();
+        bytes.putInt(number.scale()).putInt(unscaledValue.length).put(unscaledValue);
+    }
+
+    /**
+     * Gets a {@link BigDecimal} number from the given buffer.
+     *
+     * @param bytes a buffer to get from
+     * @return the got {@link BigDecimal} number
+     * @throws IOException if the number is damaged
+     */
+    private static BigDecimal getNumber(ByteBuffer bytes) throws IOException {
+        int scale = bytes.getInt();
+        int length = bytes.getInt();
+        if (length <= 0 || length > bytes.remaining()) {
+            throw new IOException(String.format(INVALID_VALUE_ERROR, length));
+        }
+
+        byte[] unscaledValue = new byte[length];
+        bytes.get(unscaledValue);
+        return new BigDecimal(new BigInteger(unscaledValue), scale);
+    }
+
+    /**
+     * Puts the given {@link MathOperation} or null to the given buffer.
+     *
+     * @param bytes     a buffer to put to
+     * @param operation a {@link MathOperation} to put or null
+     */
+    private static void putOperation(ByteBuffer bytes, MathOperation operation) {
+        bytes.put(operation == null ? NO_OPERATION : (byte) operation.ordinal());
+    }
+
+    /**
+     * Gets a {@link MathOperation} or null from the given buffer.
+     *
+     * @param bytes a buffer to get from
+     * @return the got {@link MathOperation} or null
+     * @throws IOException if the ordinal of operation is unknown
+     */
+    private static MathOperation getOperation(ByteBuffer bytes) throws IOException {
+        byte ordinal = bytes.get();
+        MathOperation operation = null;
+
+        if (ordinal >= 0 && ordinal < MATH_OPERATIONS.length) {
+            operation = MATH_OPERATIONS[ordinal];
+        } else if (ordinal != NO_OPERATION) {
+            throw new IOException(String.format(INVALID_VALUE_ERROR, ordinal));
+        }
+
+        return operation;
+    }
+
+    /**
+     * Gets a count of elements from the given buffer and checks the remaining bytes can hold this count of elements of
+     * the given minimum size.
+     *
+     * @param bytes       a buffer to get from
+     * @param elementSize the minimum size of an element in bytes
+     * @return the got count of elements
+     * @throws IOException if the count is negative or larger than the remaining bytes can hold
+     */
+    private static int getCount(ByteBuffer bytes, int elementSize) throws IOException {
+        int count = bytes.getInt();
+
+        if (count < 0 || count > bytes.remaining() / elementSize) {
+            throw new IOException(String.format(INVALID_VALUE_ERROR, count));
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,246 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Expression class holds the parts of the current mathematical expression of {@link Calculator} in two parallel
+ * arrays: the ordinals of {@link MathOperation}s and the references to {@link BigDecimal} numbers. A part is a number
+ * if its ordinal is {@link #NUMBER}, otherwise it is the operation with that ordinal. Appending a part, replacing the
+ * last operation and truncating the expression take constant time and do not box or wrap the parts. Along with the
+ * arrays the expression keeps the chain of immutable {@link ExpressionNode}s, which is returned as the snapshot of the
+ * expression in constant time and shared by the consecutive snapshots.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+class Expression implements ExpressionView {
+
+    /**
+     * The ordinal of the part that is a {@link BigDecimal} number.
+     */
+    private static final byte NUMBER = -1;
+
+    /**
+     * The initial capacity of the arrays of parts.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * All the {@link MathOperation}s, where index is the ordinal of operation.
+     */
+    private static final MathOperation[] MATH_OPERATIONS = MathOperation.values();
+
+    /**
+     * The error message about the part of the expression is not a number.
+     */
+    private static final String NOT_NUMBER_ERROR = "Part %s of the expression is not a number";
+
+    /**
+     * The error message about the part of the expression is not an operation.
+     */
+    private static final String NOT_OPERATION_ERROR = "Part %s of the expression is not an operation";
+
+    /**
+     * The error message about the index out of the expression.
+     */
+    private static final String INVALID_INDEX_ERROR = "Index %s is out of the expression of size %s";
+
+    /**
+     * The ordinals of the {@link MathOperation}s or {@link #NUMBER} for the numbers.
+     */
+    private byte[] operations = new byte[INITIAL_CAPACITY];
+
+    /**
+     * The {@link BigDecimal} numbers or null for the operations.
+     */
+    private BigDecimal[] numbers = new BigDecimal[INITIAL_CAPACITY];
+
+    /**
+     * The count of the parts of the expression.
+     */
+    private int size;
+
+    /**
+     * The last {@link ExpressionNode} of the immutable chain of the same parts or null if the expression is empty.
+     */
+    private ExpressionNode last;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean isNumber(int index) {
+        checkIndex(index);
+        return operations[index] == NUMBER;
+    }
+
+    @Override
+    public BigDecimal getNumber(int index) {
+        if (!isNumber(index)) {
+            throw new IllegalArgumentException(String.format(NOT_NUMBER_ERROR, index));
+        }
+        return numbers[index];
+    }
+
+    @Override
+    public MathOperation getOperation(int index) {
+        if (isNumber(index)) {
+            throw new IllegalArgumentException(String.format(NOT_OPERATION_ERROR, index));
+        }
+        return MATH_OPERATIONS[operations[index]];
+    }
+
+    /**
+     * Appends the given {@link BigDecimal} number to the expression.
+     *
+     * @param number a {@link BigDecimal} number to append
+     */
+    void addNumber(BigDecimal number) {
+        ensureCapacity(size + 1);
+        operations[size] = NUMBER;
+        numbers[size] = number;
+        size++;
+        last = ExpressionNode.appendNumber(last, number);
+    }
+
+    /**
+     * Appends the given {@link MathOperation} to the expression.
+     *
+     * @param operation a {@link MathOperation} to append
+     */
+    void addOperation(MathOperation operation) {
+        ensureCapacity(size + 1);
+        operations[size] = (byte) operation.ordinal();
+        size++;
+        last = ExpressionNode.appendOperation(last, operation);
+    }
+
+    /**
+     * Replaces the last part of the expression by the given {@link MathOperation}.
+     *
+     * @param operation a {@link MathOperation} to set as the last part
+     */
+    void replaceLastOperation(MathOperation operation) {
+        int lastIndex = size - 1;
+        checkIndex(lastIndex);
+
+        operations[lastIndex] = (byte) operation.ordinal();
+        numbers[lastIndex] = null;
+        last = ExpressionNode.appendOperation(last.getPrevious(), operation);
+    }
+
+    /**
+     * Removes the parts of the expression starting with the given index.
+     *
+     * @param newSize a count of the parts to keep
+     */
+    void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IllegalArgumentException(String.format(INVALID_INDEX_ERROR, newSize, size));
+        }
+
+        // release the removed numbers, every number is released once, so it takes constant time on average
+        Arrays.fill(numbers, newSize, size, null);
+        size = newSize;
+        last = ExpressionNode.truncate(last, newSize);
+    }
+
+    /**
+     * Removes all the parts of the expression.
+     */
+    void clear() {
+        truncate(0);
+    }
+
+    /**
+     * Replaces the parts of the expression by the parts of the given chain of {@link ExpressionNode}s.
+     *
+     * @param snapshot the last {@link ExpressionNode} of the chain or null for the empty expression
+     */
+    void restore(ExpressionNode snapshot) {
+        clear();
+        int newSize = ExpressionNode.size(snapshot);
+        ensureCapacity(newSize);
+
+        for (ExpressionNode node = snapshot; node != null; node = node.getPrevious()) {
+            int index = node.getSize() - 1;
+            if (node.isNumber()) {
+                operations[index] = NUMBER;
+                numbers[index] = node.getNumber();
+            } else {
+                operations[index] = (byte) node.getOperation().ordinal();
+            }
+        }
+
+        size = newSize;
+        last = snapshot;
+    }
+
+    /**
+     * Returns the immutable snapshot of the expression in constant time.
+     *
+     * @return the last {@link ExpressionNode} of the chain of the parts or null if the expression is empty
+     */
+    ExpressionNode getSnapshot() {
+        return last;
+    }
+
+    /**
+     * Returns a new list of the parts of the expression: {@link BigDecimal} numbers and {@link MathOperation}s.
+     *
+     * @return a new list of the parts of the expression
+     */
+    List<Object> toList() {
+        List<Object> parts = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            if (operations[i] == NUMBER) {
+                parts.add(numbers[i]);
+            } else {
+                parts.add(MATH_OPERATIONS[operations[i]]);
+            }
+        }
+
+        return parts;
+    }
+
+    /**
+     * Grows the arrays of parts if there is no place for the given count of parts.
+     *
+     * @param capacity a required count of parts
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > operations.length) {
+            int newCapacity = Math.max(operations.length * 2, capacity);
+            operations = Arrays.copyOf(operations, newCapacity);
+            numbers = Arrays.copyOf(numbers, newCapacity);
+        }
+    }
+
+    /**
+     * Checks the given index is in the expression.
+     *
+     * @param index an index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format(INVALID_INDEX_ERROR, index, size));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
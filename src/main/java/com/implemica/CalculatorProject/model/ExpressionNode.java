@@ -0,0 +1,217 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ExpressionNode class is an immutable part of the expression: a {@link BigDecimal} number or a
+ * {@link MathOperation} with the reference to the previous part. The expression is referred by its last node, null
+ * is the empty expression. Appending a part or replacing the last one creates one node and shares all the previous
+ * ones, so the expressions of consecutive {@link CalculatorState}s share their common parts.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+final class ExpressionNode {
+
+    /**
+     * The error message about invalid part of expression.
+     */
+    private static final String INVALID_PART_ERROR = "Expression can contain only numbers and math operations";
+
+    /**
+     * The {@link BigDecimal} number of this part or null if this part is a {@link MathOperation}.
+     */
+    private final BigDecimal number;
+
+    /**
+     * The {@link MathOperation} of this part or null if this part is a {@link BigDecimal} number.
+     */
+    private final MathOperation operation;
+
+    /**
+     * The previous part of the expression or null if this part is the first.
+     */
+    private final ExpressionNode previous;
+
+    /**
+     * The count of the parts of the expression ending with this part.
+     */
+    private final int size;
+
+    /**
+     * Constructs a new {@code ExpressionNode} with the given number or operation after the given previous part.
+     *
+     * @param number    a {@link BigDecimal} number or null if the part is a {@link MathOperation}
+     * @param operation a {@link MathOperation} or null if the part is a {@link BigDecimal} number
+     * @param previous  the previous part or null if the part is the first
+     */
+    private ExpressionNode(BigDecimal number, MathOperation operation, ExpressionNode previous) {
+        this.number = number;
+        this.operation = operation;
+        this.previous = previous;
+        this.size = size(previous) + 1;
+    }
+
+    /**
+     * Returns the expression of the given expression with the given {@link BigDecimal} number appended.
+     *
+     * @param previous the last part of the expression or null for the empty expression
+     * @param number   a {@link BigDecimal} number to append
+     * @return the last part of the expression with the appended number
+     */
+    static ExpressionNode appendNumber(ExpressionNode previous, BigDecimal number) {
+        return new ExpressionNode(number, null, previous);
+    }
+
+    /**
+     * Returns the expression of the given expression with the given {@link MathOperation} appended.
+     *
+     * @param previous  the last part of the expression or null for the empty expression
+     * @param operation a {@link MathOperation} to append
+     * @return the last part of the expression with the appended operation
+     */
+    static ExpressionNode appendOperation(ExpressionNode previous, MathOperation operation) {
+        return new ExpressionNode(null, operation, previous);
+    }
+
+    /**
+     * Returns the expression of the first parts of the given expression.
+     *
+     * @param last    the last part of the expression or null for the empty expression
+     * @param newSize a count of the parts to keep
+     * @return the last of the kept parts or null if no part is kept
+     */
+    static ExpressionNode truncate(ExpressionNode last, int newSize) {
+        while (size(last) > newSize) {
+            last = last.previous;
+        }
+        return last;
+    }
+
+    /**
+     * Returns the count of the parts of the given expression.
+     *
+     * @param last the last part of the expression or null for the empty expression
+     * @return the count of the parts of the given expression
+     */
+    static int size(ExpressionNode last) {
+        return last == null ? 0 : last.size;
+    }
+
+    /**
+     * Returns the expression of the given {@link BigDecimal} numbers and {@link MathOperation}s.
+     *
+     * @param parts a list of {@link BigDecimal} numbers and {@link MathOperation}s
+     * @return the last part of the expression or null for the empty list
+     */
+    static ExpressionNode fromList(List<Object> parts) {
+        ExpressionNode last = null;
+
+        for (Object part : parts) {
+            if (part instanceof BigDecimal) {
+                last = appendNumber(last, (BigDecimal) part);
+            } else if (part instanceof MathOperation) {
+                last = appendOperation(last, (MathOperation) part);
+            } else {
+                throw new IllegalArgumentException(INVALID_PART_ERROR);
+            }
+        }
+
+        return last;
+    }
+
+    /**
+     * Returns the unmodifiable list of {@link BigDecimal} numbers and {@link MathOperation}s of the given expression.
+     *
+     * @param last the last part of the expression or null for the empty expression
+     * @return the unmodifiable list of the parts of the given expression
+     */
+    static List<Object> toList(ExpressionNode last) {
+        Object[] parts = new Object[size(last)];
+
+        for (ExpressionNode node = last; node != null; node = node.previous) {
+            parts[node.size - 1] = node.getPart();
+        }
+
+        List<Object> list = new ArrayList<>(parts.length);
+        Collections.addAll(list, parts);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns true if the given expressions have equal parts. The shared parts are not compared.
+     *
+     * @param first  the last part of the first expression or null for the empty expression
+     * @param second the last part of the second expression or null for the empty expression
+     * @return true if the given expressions have equal parts
+     */
+    static boolean equals(ExpressionNode first, ExpressionNode second) {
+        if (size(first) != size(second)) {
+            return false;
+        }
+
+        while (first != second) {
+            if (!first.getPart().equals(second.getPart())) {
+                return false;
+            }
+            first = first.previous;
+            second = second.previous;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the hash code of the parts of the given expression.
+     *
+     * @param last the last part of the expression or null for the empty expression
+     * @return the hash code of the parts of the given expression
+     */
+    static int hashCode(ExpressionNode last) {
+        int hash = 1;
+
+        for (ExpressionNode node = last; node != null; node = node.previous) {
+            hash = 31 * hash + node.getPart().hashCode();
+        }
+
+        return hash;
+    }
+
+    /**
+     * Returns true if this part is a {@link BigDecimal} number.
+     *
+     * @return true if this part is a {@link BigDecimal} number
+     */
+    boolean isNumber() {
+        return number != null;
+    }
+
+    BigDecimal getNumber() {
+        return number;
+    }
+
+    MathOperation getOperation() {
+        return operation;
+    }
+
+    ExpressionNode getPrevious() {
+        return previous;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the {@link BigDecimal} number or the {@link MathOperation} of this part.
+     *
+     * @return the {@link BigDecimal} number or the {@link MathOperation} of this part
+     */
+    private Object getPart() {
+        return number != null ? number : operation;
+    }
+}
@@ -0,0 +1,56 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+
+import java.math.BigDecimal;
+
+/**
+ * The ExpressionView interface grants a read-only access to the parts of the current mathematical expression of
+ * {@link Calculator}: {@link BigDecimal} numbers and {@link MathOperation}s. The view is not a copy, it reflects the
+ * changes of the expression, so it is intended to be read at once, for example to render the expression.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public interface ExpressionView {
+
+    /**
+     * Returns the count of the parts of the expression.
+     *
+     * @return the count of the parts of the expression
+     */
+    int size();
+
+    /**
+     * Returns true if the expression has no parts.
+     *
+     * @return true if the expression has no parts
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns true if the part of the expression with the given index is a {@link BigDecimal} number or false if it
+     * is a {@link MathOperation}.
+     *
+     * @param index an index of the part of the expression
+     * @return true if the part of the expression with the given index is a {@link BigDecimal} number
+     */
+    boolean isNumber(int index);
+
+    /**
+     * Returns the {@link BigDecimal} number with the given index in the expression.
+     *
+     * @param index an index of the number in the expression
+     * @return the {@link BigDecimal} number with the given index in the expression
+     * @throws IllegalArgumentException if the part of the expression with the given index is not a number
+     */
+    BigDecimal getNumber(int index);
+
+    /**
+     * Returns the {@link MathOperation} with the given index in the expression.
+     *
+     * @param index an index of the operation in the expression
+     * @return the {@link MathOperation} with the given index in the expression
+     * @throws IllegalArgumentException if the part of the expression with the given index is not an operation
+     */
+    MathOperation getOperation(int index);
+}
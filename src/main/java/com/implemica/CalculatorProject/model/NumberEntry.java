@@ -0,0 +1,217 @@
+package com.implemica.CalculatorProject.model;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * The NumberEntry class accumulates the digits of the number being entered into the {@link Calculator} in primitive
+ * fields: the magnitude of the unscaled value, the scale and the sign. Entering and deleting digits do not create
+ * objects, the {@link BigDecimal} number is created only when the entered number is requested.
+ * <p>
+ * The length of the entered number is limited by {@link #MAX_LENGTH} digits, the leading zero of number less than one
+ * is not counted. The digit exceeding the limit is not entered.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+class NumberEntry {
+
+    /**
+     * The maximum count of digits in the entered number.
+     */
+    static final int MAX_LENGTH = 16;
+
+    /**
+     * The powers of ten from 10^0 to 10^18.
+     */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * The magnitude of the unscaled value of the entered number.
+     */
+    private long magnitude;
+
+    /**
+     * The scale of the entered number.
+     */
+    private int scale;
+
+    /**
+     * The flag variable shows is the entered number negative.
+     */
+    private boolean isNegative;
+
+    /**
+     * The flag variable shows is a number being entered now.
+     */
+    private boolean isActive;
+
+    /**
+     * The flag variable shows was the entered number changed after the last call of {@link #toBigDecimal()}.
+     */
+    private boolean isChanged;
+
+    /**
+     * Returns true if a number is being entered now.
+     *
+     * @return true if a number is being entered now
+     */
+    boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Returns true if the entered number was changed after the last call of {@link #toBigDecimal()}.
+     *
+     * @return true if the entered number was changed after the last call of {@link #toBigDecimal()}
+     */
+    boolean isChanged() {
+        return isChanged;
+    }
+
+    /**
+     * Returns the scale of the entered number.
+     *
+     * @return the scale of the entered number
+     */
+    int getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns true if the entered number is zero.
+     *
+     * @return true if the entered number is zero
+     */
+    boolean isZero() {
+        return magnitude == 0;
+    }
+
+    /**
+     * Starts entering a new number from the given digit.
+     *
+     * @param digit a digit from 0 to 9
+     */
+    void start(int digit) {
+        magnitude = digit;
+        scale = 0;
+        isNegative = false;
+        isActive = true;
+        isChanged = true;
+    }
+
+    /**
+     * Continues entering the given {@link BigDecimal} number. Returns false if the number is longer than
+     * {@link #MAX_LENGTH} digits, so no digit can be appended to it.
+     *
+     * @param number a {@link BigDecimal} number to continue entering
+     * @return true if the given number is continued to enter or false if it is too long
+     */
+    boolean load(BigDecimal number) {
+        boolean isLoaded = false;
+
+        if (number.scale() < 0 && number.precision() - number.scale() <= MAX_LENGTH) {
+            number = number.setScale(0);
+        }
+
+        BigInteger unscaledValue = number.unscaledValue().abs();
+        if (number.scale() >= 0 && unscaledValue.bitLength() < Long.SIZE &&
+                getLength(unscaledValue.longValue(), number.scale()) <= MAX_LENGTH) {
+            magnitude = unscaledValue.longValue();
+            scale = number.scale();
+            isNegative = number.signum() < 0;
+            isActive = true;
+            isChanged = false;
+            isLoaded = true;
+        }
+
+        return isLoaded;
+    }
+
+    /**
+     * Appends the given digit to the entered number. The digit is appended to the fractional part if the number
+     * already has it or if the decimal point is added. Returns false if the digit is not appended, because the number
+     * would be longer than {@link #MAX_LENGTH} digits.
+     *
+     * @param digit        a digit from 0 to 9 to append
+     * @param isPointAdded true if the decimal point is added to the number and the digit is the first after it
+     * @return true if the digit is appended
+     */
+    boolean appendDigit(int digit, boolean isPointAdded) {
+        long newMagnitude = magnitude * 10 + digit;
+        int newScale = scale;
+        if (isPointAdded || scale != 0) {
+            newScale++;
+        }
+
+        boolean isAppended = getLength(newMagnitude, newScale) <= MAX_LENGTH;
+        if (isAppended) {
+            magnitude = newMagnitude;
+            scale = newScale;
+            isChanged = true;
+        }
+
+        return isAppended;
+    }
+
+    /**
+     * Deletes the last digit of the entered number. The number of one integer digit becomes zero.
+     */
+    void deleteLastDigit() {
+        magnitude /= 10;
+        if (scale > 0) {
+            scale--;
+        }
+        if (magnitude == 0) { // zero has no sign
+            isNegative = false;
+        }
+        isChanged = true;
+    }
+
+    /**
+     * Returns the entered number as {@link BigDecimal}.
+     *
+     * @return the entered number as {@link BigDecimal}
+     */
+    BigDecimal toBigDecimal() {
+        isChanged = false;
+        return BigDecimal.valueOf(isNegative ? -magnitude : magnitude, scale);
+    }
+
+    /**
+     * Finishes entering the number.
+     */
+    void clear() {
+        isActive = false;
+        isChanged = false;
+    }
+
+    /**
+     * Returns the length of the number with the given magnitude of unscaled value and scale: the count of its digits
+     * or only the count of its fractional digits if its integer part is zero.
+     *
+     * @param magnitude a magnitude of the unscaled value of the number
+     * @param scale     a scale of the number
+     * @return the length of the number
+     */
+    private static int getLength(long magnitude, int scale) {
+        int length;
+
+        if (scale > 0 && (scale >= POWERS_OF_TEN.length || magnitude < POWERS_OF_TEN[scale])) {
+            length = scale; // integer part is zero
+        } else {
+            length = 1;
+            while (length < POWERS_OF_TEN.length && magnitude >= POWERS_OF_TEN[length]) {
+                length++;
+            }
+        }
+
+        return length;
+    }
+}
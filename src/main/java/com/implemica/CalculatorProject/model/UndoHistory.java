@@ -0,0 +1,165 @@
+package com.implemica.CalculatorProject.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The UndoHistory class keeps the {@link CalculatorState}s of {@link Calculator} to undo and redo its changes. The
+ * state before every change is recorded by {@link #record(CalculatorState)}, then {@link #undo(CalculatorState)} and
+ * {@link #redo(CalculatorState)} return the state to restore by {@link Calculator#restoreState(CalculatorState)}.
+ * <p>
+ * The states are immutable and share the unchanged numbers and expression parts, so every recorded step takes memory
+ * only for the changed fields. The history keeps at most the given count of steps, the oldest steps are dropped.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class UndoHistory {
+
+    /**
+     * The default maximum count of steps to undo.
+     */
+    public static final int DEFAULT_DEPTH = 100;
+
+    /**
+     * The error message about non-positive depth of history.
+     */
+    private static final String INVALID_DEPTH_ERROR = "Depth of history must be positive, but was %s";
+
+    /**
+     * The error message about null state specified.
+     */
+    private static final String NO_STATE_ERROR = "Calculator state can not be null";
+
+    /**
+     * The error message about undo with no recorded steps.
+     */
+    private static final String NOTHING_TO_UNDO_ERROR = "There is no step to undo";
+
+    /**
+     * The error message about redo with no undone steps.
+     */
+    private static final String NOTHING_TO_REDO_ERROR = "There is no step to redo";
+
+    /**
+     * The maximum count of steps to undo.
+     */
+    private final int depth;
+
+    /**
+     * The states to undo, the last recorded state is the first.
+     */
+    private final Deque<CalculatorState> undoStates = new ArrayDeque<>();
+
+    /**
+     * The undone states to redo, the last undone state is the first.
+     */
+    private final Deque<CalculatorState> redoStates = new ArrayDeque<>();
+
+    /**
+     * Constructs a new {@code UndoHistory} with the {@link #DEFAULT_DEPTH}.
+     */
+    public UndoHistory() {
+        this(DEFAULT_DEPTH);
+    }
+
+    /**
+     * Constructs a new {@code UndoHistory} keeping the given maximum count of steps.
+     *
+     * @param depth the maximum count of steps to undo
+     */
+    public UndoHistory(int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_DEPTH_ERROR, depth));
+        }
+        this.depth = depth;
+    }
+
+    /**
+     * Records the given {@link CalculatorState} before a change of {@link Calculator}. The undone steps can not be
+     * redone after a new change.
+     *
+     * @param state the {@link CalculatorState} before a change
+     */
+    public void record(CalculatorState state) {
+        push(undoStates, state);
+        redoStates.clear();
+    }
+
+    /**
+     * Returns true if there is a recorded step to undo.
+     *
+     * @return true if there is a recorded step to undo
+     */
+    public boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone step to redo.
+     *
+     * @return true if there is an undone step to redo
+     */
+    public boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Returns the {@link CalculatorState} before the last recorded change and keeps the given current state to redo.
+     *
+     * @param current the current {@link CalculatorState} of {@link Calculator}
+     * @return the {@link CalculatorState} to restore
+     */
+    public CalculatorState undo(CalculatorState current) {
+        if (!canUndo()) {
+            throw new IllegalStateException(NOTHING_TO_UNDO_ERROR);
+        }
+
+        push(redoStates, current);
+        return undoStates.pop();
+    }
+
+    /**
+     * Returns the {@link CalculatorState} after the last undone change and keeps the given current state to undo.
+     *
+     * @param current the current {@link CalculatorState} of {@link Calculator}
+     * @return the {@link CalculatorState} to restore
+     */
+    public CalculatorState redo(CalculatorState current) {
+        if (!canRedo()) {
+            throw new IllegalStateException(NOTHING_TO_REDO_ERROR);
+        }
+
+        push(undoStates, current);
+        return redoStates.pop();
+    }
+
+    /**
+     * Removes all the steps to undo and redo.
+     */
+    public void clear() {
+        undoStates.clear();
+        redoStates.clear();
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Pushes the given {@link CalculatorState} to the given stack and drops the oldest state if the stack is deeper
+     * than the depth of history.
+     *
+     * @param states a stack of states
+     * @param state  a {@link CalculatorState} to push
+     */
+    private void push(Deque<CalculatorState> states, CalculatorState state) {
+        if (state == null) {
+            throw new IllegalArgumentException(NO_STATE_ERROR);
+        }
+
+        states.push(state);
+        if (states.size() > depth) {
+            states.removeLast();
+        }
+    }
+}
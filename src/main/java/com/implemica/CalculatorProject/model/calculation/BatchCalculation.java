@@ -0,0 +1,255 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.BatchCalculationException;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import com.implemica.CalculatorProject.model.exception.ErrorMessage;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The BatchCalculation class performs one {@link MathOperation} for the arrays of {@link BigDecimal} numbers.
+ * The arguments are validated once for the whole batch, then the {@link OperationFunction} of the operation is
+ * applied to each element in a tight loop, in the current thread or split across a {@link ForkJoinPool}.
+ * <p>
+ * If the calculation of an element throws {@link CalculationException}, its result is null and the calculation
+ * continues with the next element. After all elements are calculated, a {@link BatchCalculationException} with the
+ * {@link ErrorMessage}s of the failed elements is thrown.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+final class BatchCalculation {
+
+    /**
+     * The count of elements calculated by one fork-join task without splitting.
+     */
+    private static final int ELEMENTS_PER_TASK = 1024;
+
+    /**
+     * The error message about invalid arrays for the current {@link MathOperation}.
+     */
+    private static final String INVALID_ARRAYS_FOR_OPERATION = "Invalid arrays of numbers for operation %s, " +
+            "first numbers: %s, second numbers: %s, results: %s";
+
+    /**
+     * The error message about null number in array.
+     */
+    private static final String NULL_NUMBER_ERROR = "Number at index %s can not be null";
+
+    /**
+     * The error message about null {@link ForkJoinPool} specified.
+     */
+    private static final String NO_POOL_ERROR = "Fork-join pool can not be null";
+
+    /**
+     * The error message about such {@link MathOperation} not found.
+     */
+    private static final String NO_SUCH_OPERATION_ERROR = "No such operation";
+
+    private BatchCalculation() {
+    }
+
+    /**
+     * Calculates the given {@link MathOperation} for each element of the given arrays in the current thread and
+     * stores the results to the given output array.
+     *
+     * @param executor      a {@link CalculationExecutor} provides the {@link OperationFunction} of the operation
+     * @param firstNumbers  an array of numbers to perform a {@link MathOperation} with
+     * @param operation     a Mathematical operation to perform with the given numbers
+     * @param secondNumbers an array of numbers to perform a binary {@link MathOperation} with or null if
+     *                      {@link MathOperation} is unary
+     * @param results       an array to store the results to, it has the same length as the arrays of numbers
+     * @throws BatchCalculationException if calculations of some elements failed
+     */
+    static void calculate(CalculationExecutor executor, BigDecimal[] firstNumbers, MathOperation operation,
+                          BigDecimal[] secondNumbers, BigDecimal[] results) throws CalculationException {
+        checkArgumentsAreValid(firstNumbers, operation, secondNumbers, results);
+
+        OperationFunction function = executor.getOperationFunction(operation);
+        ErrorMessage[] errorMessages = new ErrorMessage[firstNumbers.length];
+        int failedCount = calculate(function, firstNumbers, secondNumbers, results, errorMessages, 0, firstNumbers.length);
+
+        checkFailures(errorMessages, failedCount);
+    }
+
+    /**
+     * Calculates the given {@link MathOperation} for each element of the given arrays with the tasks of the given
+     * {@link ForkJoinPool} and stores the results to the given output array.
+     *
+     * @param executor      a {@link CalculationExecutor} provides the {@link OperationFunction} of the operation
+     * @param firstNumbers  an array of numbers to perform a {@link MathOperation} with
+     * @param operation     a Mathematical operation to perform with the given numbers
+     * @param secondNumbers an array of numbers to perform a binary {@link MathOperation} with or null if
+     *                      {@link MathOperation} is unary
+     * @param results       an array to store the results to, it has the same length as the arrays of numbers
+     * @param pool          a {@link ForkJoinPool} to perform the calculations in
+     * @throws BatchCalculationException if calculations of some elements failed
+     */
+    static void calculate(CalculationExecutor executor, BigDecimal[] firstNumbers, MathOperation operation,
+                          BigDecimal[] secondNumbers, BigDecimal[] results, ForkJoinPool pool) throws CalculationException {
+        if (pool == null) {
+            throw new IllegalArgumentException(NO_POOL_ERROR);
+        }
+        checkArgumentsAreValid(firstNumbers, operation, secondNumbers, results);
+
+        OperationFunction function = executor.getOperationFunction(operation);
+        ErrorMessage[] errorMessages = new ErrorMessage[firstNumbers.length];
+        int failedCount = pool.invoke(new BatchTask(function, firstNumbers, secondNumbers, results, errorMessages,
+                0, firstNumbers.length));
+
+        checkFailures(errorMessages, failedCount);
+    }
+
+    /**
+     * Calculates the given {@link OperationFunction} for the elements of the given arrays within the given range.
+     *
+     * @param function      an {@link OperationFunction} to calculate
+     * @param firstNumbers  an array of numbers to perform a {@link MathOperation} with
+     * @param secondNumbers an array of numbers to perform a binary {@link MathOperation} with or null
+     * @param results       an array to store the results to
+     * @param errorMessages an array to store the {@link ErrorMessage}s of the failed elements to
+     * @param from          the index of the first element to calculate, inclusive
+     * @param to            the index of the last element to calculate, exclusive
+     * @return the count of the failed elements within the given range
+     */
+    private static int calculate(OperationFunction function, BigDecimal[] firstNumbers, BigDecimal[] secondNumbers,
+                                 BigDecimal[] results, ErrorMessage[] errorMessages, int from, int to) {
+        int failedCount = 0;
+
+        for (int i = from; i < to; i++) {
+            BigDecimal secondNumber = (secondNumbers == null) ? null : secondNumbers[i];
+            try {
+                results[i] = function.apply(firstNumbers[i], secondNumber);
+            } catch (CalculationException e) {
+                results[i] = null;
+                errorMessages[i] = e.getErrorMessage();
+                failedCount++;
+            }
+        }
+
+        return failedCount;
+    }
+
+    /**
+     * Checks are the given arrays valid for the given {@link MathOperation}: the second array is given only for
+     * binary operations, all arrays have the same length and contain no null numbers.
+     *
+     * @param firstNumbers  an array of numbers to perform a {@link MathOperation} with
+     * @param operation     a Mathematical operation to perform with the given numbers
+     * @param secondNumbers an array of numbers to perform a binary {@link MathOperation} with or null
+     * @param results       an array to store the results to
+     * @throws UnsupportedOperationException if the given {@link MathOperation} is null
+     * @throws IllegalArgumentException      if the given arrays are invalid for the given {@link MathOperation}
+     */
+    private static void checkArgumentsAreValid(BigDecimal[] firstNumbers, MathOperation operation,
+                                               BigDecimal[] secondNumbers, BigDecimal[] results) {
+        if (operation == null) {
+            throw new UnsupportedOperationException(NO_SUCH_OPERATION_ERROR);
+        }
+
+        boolean areArraysInvalid = (firstNumbers == null || results == null || results.length != firstNumbers.length);
+        if (!areArraysInvalid) {
+            if (operation.isBinary()) {
+                areArraysInvalid = (secondNumbers == null || secondNumbers.length != firstNumbers.length);
+            } else {
+                areArraysInvalid = (secondNumbers != null);
+            }
+        }
+
+        if (areArraysInvalid) {
+            throw new IllegalArgumentException(String.format(INVALID_ARRAYS_FOR_OPERATION, operation,
+                    getLength(firstNumbers), getLength(secondNumbers), getLength(results)));
+        }
+
+        checkNoNulls(firstNumbers);
+        if (secondNumbers != null) {
+            checkNoNulls(secondNumbers);
+        }
+    }
+
+    /**
+     * Checks the given array of numbers contains no nulls.
+     *
+     * @param numbers an array of numbers to check
+     * @throws IllegalArgumentException if the array contains null
+     */
+    private static void checkNoNulls(BigDecimal[] numbers) {
+        for (int i = 0; i < numbers.length; i++) {
+            if (numbers[i] == null) {
+                throw new IllegalArgumentException(String.format(NULL_NUMBER_ERROR, i));
+            }
+        }
+    }
+
+    /**
+     * Returns the string with the length of the given array or "null" if it is null.
+     *
+     * @param numbers an array to return the length of
+     * @return the string with the length of the given array or "null"
+     */
+    private static String getLength(BigDecimal[] numbers) {
+        return (numbers == null) ? "null" : numbers.length + " numbers";
+    }
+
+    /**
+     * Throws {@link BatchCalculationException} if some elements failed.
+     *
+     * @param errorMessages an {@link ErrorMessage}s of the batch elements
+     * @param failedCount   a count of the failed elements
+     * @throws BatchCalculationException if the count of failed elements is not zero
+     */
+    private static void checkFailures(ErrorMessage[] errorMessages, int failedCount) throws BatchCalculationException {
+        if (failedCount != 0) {
+            throw new BatchCalculationException(errorMessages, failedCount);
+        }
+    }
+
+    /**
+     * The BatchTask class calculates the elements within its range, splitting the range in halves while it is
+     * longer than {@value #ELEMENTS_PER_TASK} elements. The result of the task is the count of the failed elements.
+     */
+    private static class BatchTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final OperationFunction function;
+
+        private final BigDecimal[] firstNumbers;
+
+        private final BigDecimal[] secondNumbers;
+
+        private final BigDecimal[] results;
+
+        private final ErrorMessage[] errorMessages;
+
+        private final int from;
+
+        private final int to;
+
+        BatchTask(OperationFunction function, BigDecimal[] firstNumbers, BigDecimal[] secondNumbers,
+                  BigDecimal[] results, ErrorMessage[] errorMessages, int from, int to) {
+            this.function = function;
+            this.firstNumbers = firstNumbers;
+            this.secondNumbers = secondNumbers;
+            this.results = results;
+            this.errorMessages = errorMessages;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= ELEMENTS_PER_TASK) {
+                return calculate(function, firstNumbers, secondNumbers, results, errorMessages, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            BatchTask left = new BatchTask(function, firstNumbers, secondNumbers, results, errorMessages, from, middle);
+            BatchTask right = new BatchTask(function, firstNumbers, secondNumbers, results, errorMessages, middle, to);
+            left.fork();
+
+            return right.compute() + left.join();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.REVERSE;
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.SQUARE;
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.SQUARE_ROOT;
+import static com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor.checkArgumentsAreValid;
+
+/**
+ * The CachingCalculationExecutor class remembers the results of {@link MathOperation#SQUARE_ROOT},
+ * {@link MathOperation#REVERSE} and {@link MathOperation#SQUARE} calculated by another {@link CalculationExecutor},
+ * so repeated operations with the same numbers are not calculated again. The numbers are compared with their scales,
+ * so the cached result is always the same as the other executor returns.
+ * <p>
+ * The least recently used results are evicted when the count of cached results or their total weight exceeds the
+ * limit. The weight of the result is the count of digits in the number and the result. Other
+ * {@link MathOperation}s, failed calculations and numbers carrying an exact value as an {@link ExactDecimal} are not
+ * cached. The executor can be shared by
+ * {@link com.implemica.CalculatorProject.model.Calculator}s working in different threads if the other executor can.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class CachingCalculationExecutor implements CalculationExecutor {
+
+    /**
+     * The default maximum count of cached results.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    /**
+     * The default maximum total count of digits in the cached numbers and results.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 4 * 1024 * 1024;
+
+    /**
+     * The {@link MathOperation}s which results are cached.
+     */
+    private static final Set<MathOperation> CACHED_OPERATIONS = EnumSet.of(SQUARE_ROOT, REVERSE, SQUARE);
+
+    /**
+     * The error message about null {@link CalculationExecutor} specified.
+     */
+    private static final String NO_EXECUTOR_ERROR = "Executor can not be null";
+
+    /**
+     * The error message about invalid cache limits.
+     */
+    private static final String INVALID_LIMITS_ERROR = "Cache limits must be positive, max entries: %s, max weight: %s";
+
+    /**
+     * The {@link CalculationExecutor} calculates the results that are not cached.
+     */
+    private final CalculationExecutor executor;
+
+    /**
+     * The maximum count of cached results.
+     */
+    private final int maxEntries;
+
+    /**
+     * The maximum total weight of cached results.
+     */
+    private final long maxWeight;
+
+    /**
+     * The cached results in order of access, the least recently used first.
+     */
+    private final LinkedHashMap<CacheKey, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The total weight of cached results.
+     */
+    private long weight;
+
+    /**
+     * The count of calculations which results were found in the cache.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The count of calculations which results were not found in the cache.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Constructs a new {@code CachingCalculationExecutor} with the default limits for the given
+     * {@link CalculationExecutor}.
+     *
+     * @param executor a {@link CalculationExecutor} to cache the results of
+     */
+    public CachingCalculationExecutor(CalculationExecutor executor) {
+        this(executor, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Constructs a new {@code CachingCalculationExecutor} with the given limits for the given
+     * {@link CalculationExecutor}.
+     *
+     * @param executor   a {@link CalculationExecutor} to cache the results of
+     * @param maxEntries a maximum count of cached results
+     * @param maxWeight  a maximum total count of digits in the cached numbers and results
+     */
+    public CachingCalculationExecutor(CalculationExecutor executor, int maxEntries, long maxWeight) {
+        if (executor == null) {
+            throw new IllegalArgumentException(NO_EXECUTOR_ERROR);
+        }
+
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_LIMITS_ERROR, maxEntries, maxWeight));
+        }
+
+        this.executor = executor;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers
+     * from the cache or calculated by the other {@link CalculationExecutor}.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation to perform with the given numbers
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers
+     * @throws CalculationException if some error occurs during the calculations
+     */
+    @Override
+    public BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+        checkArgumentsAreValid(firstNumber, operation, secondNumber);
+
+        // the key compares only the digits, not the exact value an argument may carry
+        if (!CACHED_OPERATIONS.contains(operation) || firstNumber instanceof ExactDecimal) {
+            return executor.calculate(firstNumber, operation, secondNumber);
+        }
+
+        CacheKey key = new CacheKey(operation, firstNumber);
+        BigDecimal result = get(key);
+
+        if (result != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+            // the calculation is performed without lock, so other threads are not blocked by it
+            result = executor.calculate(firstNumber, operation, null);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the given result rounded by the given {@link PrecisionProfile} by the other {@link CalculationExecutor},
+     * which calculated the result.
+     *
+     * @param result           a result returned by this executor
+     * @param precisionProfile a {@link PrecisionProfile} to round the result by
+     * @return the given result rounded by the given {@link PrecisionProfile}
+     */
+    @Override
+    public BigDecimal round(BigDecimal result, PrecisionProfile precisionProfile) {
+        return executor.round(result, precisionProfile);
+    }
+
+    /**
+     * Returns the cached result for the given key or null if it is not cached.
+     *
+     * @param key a key of the result
+     * @return the cached result for the given key or null
+     */
+    private synchronized BigDecimal get(CacheKey key) {
+        CacheEntry entry = cache.get(key);
+        return (entry == null) ? null : entry.result;
+    }
+
+    /**
+     * Puts the given result to the cache and evicts the least recently used results while the limits are exceeded.
+     * The result heavier than the weight limit is not cached.
+     *
+     * @param key    a key of the result
+     * @param result a result to cache
+     */
+    private synchronized void put(CacheKey key, BigDecimal result) {
+        long entryWeight = (long) key.number.precision() + result.precision();
+        if (entryWeight > maxWeight) {
+            return;
+        }
+
+        CacheEntry previous = cache.put(key, new CacheEntry(result, entryWeight));
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += entryWeight;
+
+        Iterator<CacheEntry> iterator = cache.values().iterator();
+        while (cache.size() > maxEntries || weight > maxWeight) {
+            weight -= iterator.next().weight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes all cached results. The hit and miss counters are not reset.
+     */
+    public synchronized void clear() {
+        cache.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the count of calculations which results were found in the cache.
+     *
+     * @return the count of calculations which results were found in the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the count of calculations which results were not found in the cache.
+     *
+     * @return the count of calculations which results were not found in the cache
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the count of cached results.
+     *
+     * @return the count of cached results
+     */
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the total weight of cached results.
+     *
+     * @return the total count of digits in the cached numbers and results
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * The CacheKey class identifies the result by the {@link MathOperation} and the number with its scale.
+     */
+    private static final class CacheKey {
+
+        private final MathOperation operation;
+
+        private final BigDecimal number;
+
+        CacheKey(MathOperation operation, BigDecimal number) {
+            this.operation = operation;
+            this.number = number;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof CacheKey)) {
+                return false;
+            }
+
+            CacheKey that = (CacheKey) other;
+            return operation == that.operation && number.equals(that.number);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * operation.hashCode() + number.hashCode();
+        }
+    }
+
+    /**
+     * The CacheEntry class holds the cached result with its weight.
+     */
+    private static final class CacheEntry {
+
+        private final BigDecimal result;
+
+        private final long weight;
+
+        CacheEntry(BigDecimal result, long weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+}
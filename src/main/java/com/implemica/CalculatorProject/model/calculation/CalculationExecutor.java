@@ -3,6 +3,7 @@ package com.implemica.CalculatorProject.model.calculation;
 import com.implemica.CalculatorProject.model.exception.CalculationException;
 
 import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The CalculatorExecutor interface grants a functionality to perform calculations for some Mathematical operations.
@@ -21,4 +22,67 @@ public interface CalculationExecutor {
      * @throws CalculationException if some error occurs during the calculations
      */
     BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException;
+
+    /**
+     * Returns the given result of this executor rounded by the given {@link PrecisionProfile}. The executors which
+     * remember the exact values behind their results keep the value for the rounded result, so rounding the result
+     * does not make the next calculations with it inexact.
+     *
+     * @param result           a result returned by this executor
+     * @param precisionProfile a {@link PrecisionProfile} to round the result by
+     * @return the given result rounded by the given {@link PrecisionProfile}
+     */
+    default BigDecimal round(BigDecimal result, PrecisionProfile precisionProfile) {
+        return precisionProfile.round(result);
+    }
+
+    /**
+     * Returns the {@link OperationFunction} performs the given {@link MathOperation} with this executor. Used by
+     * the batch calculations to find the operation once for the whole batch. The returned function expects the
+     * arguments already validated for the operation.
+     *
+     * @param operation a Mathematical operation to return the function for
+     * @return the {@link OperationFunction} performs the given {@link MathOperation} with this executor
+     */
+    default OperationFunction getOperationFunction(MathOperation operation) {
+        return (firstNumber, secondNumber) -> calculate(firstNumber, operation, secondNumber);
+    }
+
+    /**
+     * Calculates the given {@link MathOperation} for each element of the given arrays and stores the results to the
+     * given output array: {@code results[i] = calculate(firstNumbers[i], operation, secondNumbers[i])}. The arguments
+     * are validated once for the whole batch. If the calculation of an element fails, its result is null and the
+     * other elements are calculated anyway.
+     *
+     * @param firstNumbers  an array of numbers to perform a {@link MathOperation} with
+     * @param operation     a Mathematical operation to perform with the given numbers
+     * @param secondNumbers an array of numbers to perform a binary {@link MathOperation} with or null if
+     *                      {@link MathOperation} is unary
+     * @param results       an array to store the results to, it has the same length as the arrays of numbers
+     * @throws CalculationException a {@link com.implemica.CalculatorProject.model.exception.BatchCalculationException}
+     *                              with the error messages by indexes if the calculations of some elements failed
+     */
+    default void calculateAll(BigDecimal[] firstNumbers, MathOperation operation, BigDecimal[] secondNumbers,
+                              BigDecimal[] results) throws CalculationException {
+        BatchCalculation.calculate(this, firstNumbers, operation, secondNumbers, results);
+    }
+
+    /**
+     * Calculates the given {@link MathOperation} for each element of the given arrays like
+     * {@link #calculateAll(BigDecimal[], MathOperation, BigDecimal[], BigDecimal[])} does, splitting the work across
+     * the tasks of the given {@link ForkJoinPool}.
+     *
+     * @param firstNumbers  an array of numbers to perform a {@link MathOperation} with
+     * @param operation     a Mathematical operation to perform with the given numbers
+     * @param secondNumbers an array of numbers to perform a binary {@link MathOperation} with or null if
+     *                      {@link MathOperation} is unary
+     * @param results       an array to store the results to, it has the same length as the arrays of numbers
+     * @param pool          a {@link ForkJoinPool} to perform the calculations in
+     * @throws CalculationException a {@link com.implemica.CalculatorProject.model.exception.BatchCalculationException}
+     *                              with the error messages by indexes if the calculations of some elements failed
+     */
+    default void calculateAll(BigDecimal[] firstNumbers, MathOperation operation, BigDecimal[] secondNumbers,
+                              BigDecimal[] results, ForkJoinPool pool) throws CalculationException {
+        BatchCalculation.calculate(this, firstNumbers, operation, secondNumbers, results, pool);
+    }
 }
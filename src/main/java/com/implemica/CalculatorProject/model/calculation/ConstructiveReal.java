@@ -0,0 +1,449 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * The ConstructiveReal class represents a real number that is calculated lazily: its digits are not computed until
+ * they are requested by {@link #approximate(int)}, and only as many digits as requested are computed. The most
+ * precise approximation is remembered, so repeated requests for the same or fewer digits are not computed again.
+ * <p>
+ * A number is either exact, created from a {@link BigDecimal}, or a result of an operation with other
+ * {@code ConstructiveReal}s that requests from its arguments just enough digits to approximate the result with the
+ * requested precision. A number is considered equal to zero if it can not be distinguished from zero with
+ * {@value PrecisionProfile#REFERENCE_SCALE} fractional digits, the same count of digits
+ * {@link StandardCalculationExecutor} computes with {@link PrecisionProfile#REFERENCE} profile.
+ * <p>
+ * The approximations are computed under the lock of the number, so a {@code ConstructiveReal} can be shared between
+ * threads.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public abstract class ConstructiveReal {
+
+    /**
+     * The count of fractional digits a number is compared with zero with.
+     */
+    public static final int ZERO_CHECK_SCALE = PrecisionProfile.REFERENCE_SCALE;
+
+    /**
+     * The value returned by {@link #getMagnitude(int)} if the number can not be distinguished from zero.
+     */
+    public static final int NO_MAGNITUDE = Integer.MIN_VALUE;
+
+    /**
+     * The count of fractional digits of the first approximation when the magnitude is searched for a number
+     * less than one.
+     */
+    private static final int MIN_MAGNITUDE_SCALE_STEP = 16;
+
+    /**
+     * The value of two represented by {@link BigDecimal}.
+     */
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    /**
+     * The error message about the reciprocal value of number that can not be distinguished from zero.
+     */
+    private static final String ZERO_RECIPROCAL_ERROR = "Reciprocal value of zero";
+
+    /**
+     * The count of fractional digits of {@link #cachedValue}.
+     */
+    private int cachedScale;
+
+    /**
+     * The most precise approximation computed, or null if there are no approximations yet.
+     */
+    private BigDecimal cachedValue;
+
+    /**
+     * The magnitude of the number found by {@link #getMagnitude(int)}, or {@link #NO_MAGNITUDE} if not found yet.
+     */
+    private int magnitude = NO_MAGNITUDE;
+
+    /**
+     * The signum of the number found with its {@link #magnitude}.
+     */
+    private int sign;
+
+    /**
+     * Returns a {@code ConstructiveReal} equal to the given {@link BigDecimal} number.
+     *
+     * @param number a {@link BigDecimal} number to convert
+     * @return a {@code ConstructiveReal} equal to the given {@link BigDecimal} number
+     */
+    public static ConstructiveReal valueOf(BigDecimal number) {
+        return new ExactReal(number);
+    }
+
+    /**
+     * Returns the approximation of this number with the given count of fractional digits, which differs from the
+     * number by not more than one unit in the last digit.
+     *
+     * @param scale a count of fractional digits of the approximation, may be negative
+     * @return the approximation of this number with the given count of fractional digits
+     */
+    public synchronized BigDecimal approximate(int scale) {
+        if (scale < 0) {
+            return approximate(0).setScale(scale, HALF_UP);
+        }
+
+        BigDecimal approximation;
+        if (cachedValue != null && cachedScale == scale) {
+            approximation = cachedValue;
+        } else if (cachedValue != null && cachedScale > scale) {
+            approximation = cachedValue.setScale(scale, HALF_UP);
+        } else {
+            approximation = compute(scale);
+            cachedValue = approximation;
+            cachedScale = scale;
+        }
+
+        return approximation;
+    }
+
+    /**
+     * Returns the approximation of this number with at least the given count of significant digits or
+     * {@link BigDecimal#ZERO} if this number is considered equal to zero.
+     *
+     * @param precision a count of significant digits of the approximation
+     * @return the approximation of this number with at least the given count of significant digits
+     */
+    public BigDecimal approximateToPrecision(int precision) {
+        int numberMagnitude = getMagnitude(ZERO_CHECK_SCALE);
+        BigDecimal approximation;
+
+        if (numberMagnitude == NO_MAGNITUDE) {
+            approximation = ZERO;
+        } else {
+            approximation = approximate(precision - numberMagnitude - 1);
+        }
+
+        return approximation;
+    }
+
+    /**
+     * Returns the magnitude of this number: the power of ten {@code m} such that
+     * {@code 10^m <= |x| < 10^(m+3)}, or {@link #NO_MAGNITUDE} if the number can not be distinguished from zero
+     * with the given count of fractional digits.
+     *
+     * @param maxScale a maximum count of fractional digits to compute to find the magnitude
+     * @return the magnitude of this number or {@link #NO_MAGNITUDE}
+     */
+    public synchronized int getMagnitude(int maxScale) {
+        if (magnitude != NO_MAGNITUDE) {
+            return magnitude;
+        }
+
+        int scale = 0;
+        while (true) {
+            BigDecimal approximation = approximate(scale);
+
+            // |x| >= |a| - 10^-scale >= |a|/2, so the lower bound and the sign of the number are known
+            if (approximation.abs().compareTo(TWO.scaleByPowerOfTen(-scale)) >= 0) {
+                sign = approximation.signum();
+                magnitude = approximation.precision() - approximation.scale() - 2;
+                return magnitude;
+            }
+
+            if (scale >= maxScale) {
+                return NO_MAGNITUDE;
+            }
+            scale = Math.min(maxScale, Math.max(MIN_MAGNITUDE_SCALE_STEP, scale * 2));
+        }
+    }
+
+    /**
+     * Returns the signum of this number: -1, 0 or 1 for negative, zero or positive value. The number is zero if it
+     * can not be distinguished from zero with {@value #ZERO_CHECK_SCALE} fractional digits.
+     *
+     * @return the signum of this number
+     */
+    public synchronized int signum() {
+        int signum = 0;
+        if (getMagnitude(ZERO_CHECK_SCALE) != NO_MAGNITUDE) {
+            signum = sign;
+        }
+
+        return signum;
+    }
+
+    /**
+     * Returns true if the value of this number is known exactly.
+     *
+     * @return true if the value of this number is known exactly
+     */
+    public boolean isExact() {
+        return false;
+    }
+
+    /**
+     * Returns the exact {@link BigDecimal} value of this number or null if the value is not known exactly.
+     *
+     * @return the exact {@link BigDecimal} value of this number or null
+     */
+    public BigDecimal getExactValue() {
+        return null;
+    }
+
+    /**
+     * Returns the sum of this and the given {@code ConstructiveReal}.
+     *
+     * @param other a {@code ConstructiveReal} to add
+     * @return the sum of this and the given {@code ConstructiveReal}
+     */
+    public ConstructiveReal add(ConstructiveReal other) {
+        return new SumReal(this, other);
+    }
+
+    /**
+     * Returns the difference of this and the given {@code ConstructiveReal}.
+     *
+     * @param other a {@code ConstructiveReal} to subtract
+     * @return the difference of this and the given {@code ConstructiveReal}
+     */
+    public ConstructiveReal subtract(ConstructiveReal other) {
+        return new SumReal(this, other.negate());
+    }
+
+    /**
+     * Returns the product of this and the given {@code ConstructiveReal}.
+     *
+     * @param other a {@code ConstructiveReal} to multiply by
+     * @return the product of this and the given {@code ConstructiveReal}
+     */
+    public ConstructiveReal multiply(ConstructiveReal other) {
+        return new ProductReal(this, other);
+    }
+
+    /**
+     * Returns the quotient of this and the given {@code ConstructiveReal}. The digits of the quotient can not be
+     * computed if the divisor is zero.
+     *
+     * @param other a non-zero {@code ConstructiveReal} to divide by
+     * @return the quotient of this and the given {@code ConstructiveReal}
+     */
+    public ConstructiveReal divide(ConstructiveReal other) {
+        return multiply(other.reciprocal());
+    }
+
+    /**
+     * Returns the negated value of this {@code ConstructiveReal}.
+     *
+     * @return the negated value of this {@code ConstructiveReal}
+     */
+    public ConstructiveReal negate() {
+        return new NegatedReal(this);
+    }
+
+    /**
+     * Returns the reciprocal value of this {@code ConstructiveReal}. The digits of the reciprocal value can not be
+     * computed if this number is zero.
+     *
+     * @return the reciprocal value of this {@code ConstructiveReal}
+     */
+    public ConstructiveReal reciprocal() {
+        return new ReciprocalReal(this);
+    }
+
+    /**
+     * Returns the square root of this non-negative {@code ConstructiveReal}.
+     *
+     * @return the square root of this {@code ConstructiveReal}
+     */
+    public ConstructiveReal sqrt() {
+        return new SquareRootReal(this);
+    }
+
+    /**
+     * Computes the approximation of this number with the given non-negative count of fractional digits, which
+     * differs from the number by not more than one unit in the last digit.
+     *
+     * @param scale a non-negative count of fractional digits of the approximation
+     * @return the approximation of this number with the given count of fractional digits
+     */
+    protected abstract BigDecimal compute(int scale);
+
+    /**
+     * Returns the count of integer digits enough to hold the absolute value of this number: {@code |x| < 10^d}.
+     *
+     * @return the count of integer digits enough to hold the absolute value of this number
+     */
+    private int getIntegerDigitsBound() {
+        BigDecimal bound = approximate(0).abs().add(ONE); // the error of the approximation is not more than one
+        return bound.precision() - bound.scale();
+    }
+
+    @Override
+    public String toString() {
+        return approximateToPrecision(MathContext.DECIMAL64.getPrecision()).toString();
+    }
+
+    /**
+     * The ExactReal class represents a number which value is known exactly.
+     */
+    private static final class ExactReal extends ConstructiveReal {
+
+        private final BigDecimal value;
+
+        ExactReal(BigDecimal value) {
+            this.value = value;
+        }
+
+        @Override
+        protected BigDecimal compute(int scale) {
+            return value.setScale(scale, HALF_UP);
+        }
+
+        @Override
+        public BigDecimal approximateToPrecision(int precision) {
+            return value.round(new MathContext(precision, HALF_UP));
+        }
+
+        @Override
+        public int getMagnitude(int maxScale) {
+            int numberMagnitude = NO_MAGNITUDE;
+            if (value.signum() != 0) {
+                numberMagnitude = value.precision() - value.scale() - 1;
+            }
+
+            return numberMagnitude;
+        }
+
+        @Override
+        public int signum() {
+            return value.signum();
+        }
+
+        @Override
+        public boolean isExact() {
+            return true;
+        }
+
+        @Override
+        public BigDecimal getExactValue() {
+            return value;
+        }
+    }
+
+    /**
+     * The SumReal class represents the sum of two numbers.
+     */
+    private static final class SumReal extends ConstructiveReal {
+
+        private final ConstructiveReal first;
+
+        private final ConstructiveReal second;
+
+        SumReal(ConstructiveReal first, ConstructiveReal second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        protected BigDecimal compute(int scale) {
+            // the error is 2 units of the digit after the last one before rounding
+            return first.approximate(scale + 1).add(second.approximate(scale + 1)).setScale(scale, HALF_UP);
+        }
+    }
+
+    /**
+     * The NegatedReal class represents the negated value of number.
+     */
+    private static final class NegatedReal extends ConstructiveReal {
+
+        private final ConstructiveReal number;
+
+        NegatedReal(ConstructiveReal number) {
+            this.number = number;
+        }
+
+        @Override
+        protected BigDecimal compute(int scale) {
+            return number.approximate(scale).negate();
+        }
+    }
+
+    /**
+     * The ProductReal class represents the product of two numbers.
+     */
+    private static final class ProductReal extends ConstructiveReal {
+
+        private final ConstructiveReal first;
+
+        private final ConstructiveReal second;
+
+        ProductReal(ConstructiveReal first, ConstructiveReal second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        protected BigDecimal compute(int scale) {
+            // (x + e1)(y + e2) - xy = x*e2 + y*e1 + e1*e2, each argument is computed with the digits
+            // enough to keep its error multiplied by the other argument less than 10^-(scale+2)
+            int firstScale = scale + 2 + second.getIntegerDigitsBound();
+            int secondScale = scale + 2 + first.getIntegerDigitsBound();
+
+            return first.approximate(firstScale).multiply(second.approximate(secondScale)).setScale(scale, HALF_UP);
+        }
+    }
+
+    /**
+     * The ReciprocalReal class represents the reciprocal value of non-zero number.
+     */
+    private static final class ReciprocalReal extends ConstructiveReal {
+
+        private final ConstructiveReal number;
+
+        ReciprocalReal(ConstructiveReal number) {
+            this.number = number;
+        }
+
+        @Override
+        protected BigDecimal compute(int scale) {
+            int numberMagnitude = number.getMagnitude(ZERO_CHECK_SCALE);
+            if (numberMagnitude == NO_MAGNITUDE) {
+                throw new ArithmeticException(ZERO_RECIPROCAL_ERROR);
+            }
+
+            // |1/a - 1/x| = |x - a|/|ax| <= 2|x - a|*10^(-2m) while |x - a| <= 10^m/2
+            int numberScale = Math.max(scale + 2 - 2 * numberMagnitude, 1 - numberMagnitude);
+            BigDecimal approximation = number.approximate(numberScale);
+
+            return ONE.divide(approximation, scale + 1, HALF_UP).setScale(scale, HALF_UP);
+        }
+    }
+
+    /**
+     * The SquareRootReal class represents the square root of non-negative number.
+     */
+    private static final class SquareRootReal extends ConstructiveReal {
+
+        private final ConstructiveReal number;
+
+        SquareRootReal(ConstructiveReal number) {
+            this.number = number;
+        }
+
+        @Override
+        protected BigDecimal compute(int scale) {
+            // |sqrt(a) - sqrt(x)| <= sqrt(|a - x|)
+            BigDecimal approximation = number.approximate(2 * scale + 2);
+            BigDecimal root;
+
+            if (approximation.signum() <= 0) {
+                root = ZERO.setScale(scale + 1);
+            } else {
+                root = SquareRoot.sqrt(approximation, scale + 1);
+            }
+
+            return root.setScale(scale, HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.math.BigDecimal;
+
+/**
+ * The Decimal64 class represents an immutable decimal number as a {@code long} coefficient of at most
+ * {@value #MAX_PRECISION} digits and an exponent: {@code coefficient × 10^exponent}, like the IEEE 754 decimal64
+ * format. The results of arithmetic operations are rounded to {@value #MAX_PRECISION} digits with
+ * {@link java.math.RoundingMode#HALF_UP} and are equal to the results of {@link BigDecimal} arithmetic with the same
+ * {@link java.math.MathContext}, but they are calculated with {@code long}s only.
+ * <p>
+ * If the exponent of the result leaves the range from {@value #MIN_EXPONENT} to {@value #MAX_EXPONENT},
+ * the operation throws {@link ArithmeticException}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class Decimal64 {
+
+    /**
+     * The maximum count of digits in the coefficient.
+     */
+    public static final int MAX_PRECISION = 16;
+
+    /**
+     * The minimum exponent of the number.
+     */
+    public static final int MIN_EXPONENT = -398;
+
+    /**
+     * The maximum exponent of the number.
+     */
+    public static final int MAX_EXPONENT = 369;
+
+    /**
+     * The count of digits the coefficient is extended to before the addition of numbers with different exponents.
+     */
+    private static final int ADDITION_PRECISION = 18;
+
+    /**
+     * The powers of ten that fit a {@code long}, where index is the exponent.
+     */
+    private static final long[] POWERS_OF_TEN = getPowersOfTen();
+
+    /**
+     * The smallest coefficient longer than {@value #MAX_PRECISION} digits.
+     */
+    private static final long COEFFICIENT_LIMIT = POWERS_OF_TEN[MAX_PRECISION];
+
+    /**
+     * The power of ten the coefficients are split by for multiplication.
+     */
+    private static final long HALF_COEFFICIENT_LIMIT = POWERS_OF_TEN[MAX_PRECISION / 2];
+
+    /**
+     * The error message about invalid coefficient or exponent.
+     */
+    private static final String INVALID_NUMBER_ERROR = "Number %sE%s is out of decimal64 range";
+
+    /**
+     * The error message about division by zero.
+     */
+    private static final String DIVISION_BY_ZERO_ERROR = "Division by zero";
+
+    /**
+     * The value of zero.
+     */
+    public static final Decimal64 ZERO = new Decimal64(0, 0);
+
+    /**
+     * The value of one.
+     */
+    public static final Decimal64 ONE = new Decimal64(1, 0);
+
+    /**
+     * The coefficient of the number with at most {@value #MAX_PRECISION} digits.
+     */
+    private final long coefficient;
+
+    /**
+     * The power of ten the coefficient is multiplied by.
+     */
+    private final int exponent;
+
+    /**
+     * Constructs a new {@code Decimal64} with the given valid coefficient and exponent.
+     *
+     * @param coefficient the coefficient of the number
+     * @param exponent    the power of ten the coefficient is multiplied by
+     */
+    private Decimal64(long coefficient, int exponent) {
+        this.coefficient = coefficient;
+        this.exponent = exponent;
+    }
+
+    /**
+     * Returns a {@code Decimal64} equal to {@code coefficient × 10^exponent}.
+     *
+     * @param coefficient the coefficient of the number with at most {@value #MAX_PRECISION} digits
+     * @param exponent    the power of ten the coefficient is multiplied by
+     * @return a {@code Decimal64} equal to {@code coefficient × 10^exponent}
+     * @throws ArithmeticException if the coefficient or exponent is out of range
+     */
+    public static Decimal64 valueOf(long coefficient, long exponent) {
+        if (coefficient <= -COEFFICIENT_LIMIT || coefficient >= COEFFICIENT_LIMIT ||
+                exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+            throw new ArithmeticException(String.format(INVALID_NUMBER_ERROR, coefficient, exponent));
+        }
+
+        return new Decimal64(coefficient, (int) exponent);
+    }
+
+    /**
+     * Returns a {@code Decimal64} equal to the given {@link BigDecimal} number or null if the number can not be
+     * represented exactly.
+     *
+     * @param number a {@link BigDecimal} number to convert
+     * @return a {@code Decimal64} equal to the given {@link BigDecimal} number or null
+     */
+    public static Decimal64 valueOf(BigDecimal number) {
+        long exponent = -(long) number.scale();
+        if (number.precision() > MAX_PRECISION || exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+            return null;
+        }
+
+        return new Decimal64(number.unscaledValue().longValue(), (int) exponent);
+    }
+
+    public long getCoefficient() {
+        return coefficient;
+    }
+
+    public int getExponent() {
+        return exponent;
+    }
+
+    /**
+     * Returns the signum of this {@code Decimal64}: -1, 0 or 1 for negative, zero or positive value.
+     *
+     * @return the signum of this {@code Decimal64}
+     */
+    public int signum() {
+        return Long.signum(coefficient);
+    }
+
+    /**
+     * Returns the negated value of this {@code Decimal64}.
+     *
+     * @return the negated value of this {@code Decimal64}
+     */
+    public Decimal64 negate() {
+        return new Decimal64(-coefficient, exponent);
+    }
+
+    /**
+     * Returns this {@code Decimal64} multiplied by ten to the given power.
+     *
+     * @param power the power of ten to multiply by
+     * @return this {@code Decimal64} multiplied by ten to the given power
+     * @throws ArithmeticException if the exponent of the result is out of range
+     */
+    public Decimal64 scaleByPowerOfTen(int power) {
+        return valueOf(coefficient, (long) exponent + power);
+    }
+
+    /**
+     * Returns the sum of this and the given {@code Decimal64} rounded to {@value #MAX_PRECISION} digits.
+     *
+     * @param other a {@code Decimal64} to add
+     * @return the sum of this and the given {@code Decimal64}
+     * @throws ArithmeticException if the exponent of the result is out of range
+     */
+    public Decimal64 add(Decimal64 other) {
+        Decimal64 larger = this; // the number with the larger exponent
+        Decimal64 smaller = other;
+        if (exponent < other.exponent) {
+            larger = other;
+            smaller = this;
+        }
+
+        if (larger.coefficient == 0) {
+            return smaller;
+        }
+
+        // extend the coefficient with the larger exponent to 18 digits, it still fits a long with the other one added
+        long exponentDifference = (long) larger.exponent - smaller.exponent;
+        int shift = (int) Math.min(exponentDifference, ADDITION_PRECISION - getDigitsCount(Math.abs(larger.coefficient)));
+        long largerCoefficient = larger.coefficient * POWERS_OF_TEN[shift];
+        long resultExponent = (long) larger.exponent - shift;
+        long restDifference = exponentDifference - shift;
+
+        Decimal64 sum;
+        if (restDifference == 0) {
+            long sumCoefficient = largerCoefficient + smaller.coefficient;
+            sum = round(sumCoefficient < 0, Math.abs(sumCoefficient), resultExponent);
+        } else {
+            // the sum has at least 17 digits, so the digits of the smaller number after the 18th digit are only
+            // needed to find the integer part: HALF_UP rounding does not depend on the digits after the rounded one
+            long integerPart;
+            boolean hasFraction;
+            if (restDifference >= POWERS_OF_TEN.length) {
+                integerPart = 0;
+                hasFraction = (smaller.coefficient != 0);
+            } else {
+                long divisor = POWERS_OF_TEN[(int) restDifference];
+                integerPart = smaller.coefficient / divisor;
+                hasFraction = (smaller.coefficient % divisor != 0);
+            }
+
+            long sumCoefficient = largerCoefficient + integerPart;
+            long magnitude = Math.abs(sumCoefficient);
+            if (hasFraction && Long.signum(smaller.coefficient) != Long.signum(largerCoefficient)) {
+                magnitude--; // the fraction moves the sum towards zero
+            }
+            sum = round(sumCoefficient < 0, magnitude, resultExponent);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the difference of this and the given {@code Decimal64} rounded to {@value #MAX_PRECISION} digits.
+     *
+     * @param other a {@code Decimal64} to subtract
+     * @return the difference of this and the given {@code Decimal64}
+     * @throws ArithmeticException if the exponent of the result is out of range
+     */
+    public Decimal64 subtract(Decimal64 other) {
+        return add(other.negate());
+    }
+
+    /**
+     * Returns the product of this and the given {@code Decimal64} rounded to {@value #MAX_PRECISION} digits.
+     *
+     * @param other a {@code Decimal64} to multiply by
+     * @return the product of this and the given {@code Decimal64}
+     * @throws ArithmeticException if the exponent of the result is out of range
+     */
+    public Decimal64 multiply(Decimal64 other) {
+        boolean isNegative = (coefficient < 0) != (other.coefficient < 0);
+        long first = Math.abs(coefficient);
+        long second = Math.abs(other.coefficient);
+        long resultExponent = (long) exponent + other.exponent;
+
+        // split the coefficients into 8-digit halves, the product is high × 10^16 + low
+        long firstHigh = first / HALF_COEFFICIENT_LIMIT;
+        long firstLow = first % HALF_COEFFICIENT_LIMIT;
+        long secondHigh = second / HALF_COEFFICIENT_LIMIT;
+        long secondLow = second % HALF_COEFFICIENT_LIMIT;
+
+        long middle = firstHigh * secondLow + firstLow * secondHigh;
+        long low = firstLow * secondLow + (middle % HALF_COEFFICIENT_LIMIT) * HALF_COEFFICIENT_LIMIT;
+        long high = firstHigh * secondHigh + middle / HALF_COEFFICIENT_LIMIT + low / COEFFICIENT_LIMIT;
+        low %= COEFFICIENT_LIMIT;
+
+        Decimal64 product;
+        if (high == 0) {
+            product = round(isNegative, low, resultExponent);
+        } else {
+            // keep all digits of the high part and the first digits of the low part
+            int droppedDigits = getDigitsCount(high);
+            long divisor = POWERS_OF_TEN[droppedDigits];
+            long magnitude = high * POWERS_OF_TEN[MAX_PRECISION - droppedDigits] + low / divisor;
+            if ((low % divisor) * 2 >= divisor) {
+                magnitude++;
+            }
+            product = create(isNegative, magnitude, resultExponent + droppedDigits);
+        }
+
+        return product;
+    }
+
+    /**
+     * Returns the quotient of this and the given {@code Decimal64} rounded to {@value #MAX_PRECISION} digits.
+     * An exact quotient has the exponent closest to the difference of exponents of the numbers.
+     *
+     * @param other a non-zero {@code Decimal64} to divide by
+     * @return the quotient of this and the given {@code Decimal64}
+     * @throws ArithmeticException if the given {@code Decimal64} is zero or the exponent of the result is
+     *                             out of range
+     */
+    public Decimal64 divide(Decimal64 other) {
+        if (other.coefficient == 0) {
+            throw new ArithmeticException(DIVISION_BY_ZERO_ERROR);
+        }
+
+        boolean isNegative = (coefficient < 0) != (other.coefficient < 0);
+        long dividend = Math.abs(coefficient);
+        long divisor = Math.abs(other.coefficient);
+        long preferredExponent = (long) exponent - other.exponent;
+        long resultExponent = preferredExponent;
+
+        // long division generates digits until the quotient is exact or has one digit more than needed
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        while (remainder != 0 && quotient < COEFFICIENT_LIMIT) {
+            remainder *= 10;
+            quotient = quotient * 10 + remainder / divisor;
+            remainder %= divisor;
+            resultExponent--;
+        }
+
+        Decimal64 result;
+        if (remainder == 0 && quotient < COEFFICIENT_LIMIT) {
+            while (quotient != 0 && quotient % 10 == 0 && resultExponent < preferredExponent) {
+                quotient /= 10;
+                resultExponent++;
+            }
+            result = create(isNegative, quotient, resultExponent);
+        } else {
+            result = round(isNegative, quotient, resultExponent);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the {@link BigDecimal} number equal to this {@code Decimal64}.
+     *
+     * @return the {@link BigDecimal} number equal to this {@code Decimal64}
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(coefficient, -exponent);
+    }
+
+    /**
+     * Returns the {@code Decimal64} with the given magnitude rounded to {@value #MAX_PRECISION} digits
+     * with {@link java.math.RoundingMode#HALF_UP}.
+     *
+     * @param isNegative the flag shows is the number negative
+     * @param magnitude  the absolute value of the coefficient
+     * @param exponent   the power of ten the coefficient is multiplied by
+     * @return the {@code Decimal64} with the given magnitude rounded to {@value #MAX_PRECISION} digits
+     * @throws ArithmeticException if the exponent of the result is out of range
+     */
+    private static Decimal64 round(boolean isNegative, long magnitude, long exponent) {
+        int droppedDigits = getDigitsCount(magnitude) - MAX_PRECISION;
+
+        if (droppedDigits > 0) {
+            long divisor = POWERS_OF_TEN[droppedDigits];
+            long remainder = magnitude % divisor;
+            magnitude /= divisor;
+            if (remainder * 2 >= divisor) {
+                magnitude++;
+            }
+            exponent += droppedDigits;
+        }
+
+        return create(isNegative, magnitude, exponent);
+    }
+
+    /**
+     * Returns the {@code Decimal64} with the given magnitude of at most {@value #MAX_PRECISION} digits or
+     * {@code 10^16} that is rounded up value.
+     *
+     * @param isNegative the flag shows is the number negative
+     * @param magnitude  the absolute value of the coefficient
+     * @param exponent   the power of ten the coefficient is multiplied by
+     * @return the {@code Decimal64} with the given magnitude
+     * @throws ArithmeticException if the exponent of the result is out of range
+     */
+    private static Decimal64 create(boolean isNegative, long magnitude, long exponent) {
+        if (magnitude == COEFFICIENT_LIMIT) { // 9999999999999999 was rounded up
+            magnitude /= 10;
+            exponent++;
+        }
+
+        return valueOf(isNegative ? -magnitude : magnitude, exponent);
+    }
+
+    /**
+     * Returns the count of decimal digits in the given non-negative {@code long}.
+     *
+     * @param value a non-negative {@code long} to count digits in
+     * @return the count of decimal digits in the given {@code long}
+     */
+    private static int getDigitsCount(long value) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+
+        return digits;
+    }
+
+    /**
+     * Returns the powers of ten that fit a {@code long}, where index is the exponent.
+     *
+     * @return the powers of ten that fit a {@code long}
+     */
+    private static long[] getPowersOfTen() {
+        long[] powers = new long[19];
+        powers[0] = 1;
+
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+
+        return powers;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof Decimal64)) {
+            return false;
+        }
+
+        Decimal64 that = (Decimal64) other;
+        return coefficient == that.coefficient && exponent == that.exponent;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(coefficient) + exponent;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toString();
+    }
+}
@@ -0,0 +1,182 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor.checkArgumentsAreValid;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+
+/**
+ * The Decimal64CalculationExecutor class performs calculations of {@link MathOperation}s for the standard calculator
+ * mode, where all results are rounded to {@value Decimal64#MAX_PRECISION} digits with {@link RoundingMode#HALF_UP}.
+ * The numbers of at most {@value Decimal64#MAX_PRECISION} digits are calculated as {@link Decimal64}s with
+ * {@code long} arithmetic. If the numbers are longer, the exponent of the result leaves the decimal64 range or the
+ * operation is {@link MathOperation#SQUARE_ROOT}, the calculation is performed with {@link BigDecimal}s rounded to
+ * the same precision, so the results of both ways are equal.
+ * <p>
+ * The errors are the same as the {@link StandardCalculationExecutor} reports.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class Decimal64CalculationExecutor implements CalculationExecutor {
+
+    /**
+     * The {@link MathContext} the results are rounded with.
+     */
+    public static final MathContext DECIMAL64 = new MathContext(Decimal64.MAX_PRECISION, RoundingMode.HALF_UP);
+
+    /**
+     * The {@link CalculationExecutor} used for calculations that can not be performed with {@link Decimal64}s.
+     */
+    private final CalculationExecutor fallbackExecutor = new StandardCalculationExecutor(getFallbackRegistry());
+
+    /**
+     * Returns the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers
+     * rounded to {@value Decimal64#MAX_PRECISION} digits.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation to perform with the given numbers
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers
+     * @throws CalculationException in cases of division by zero or square root of negative number
+     */
+    @Override
+    public BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+        checkArgumentsAreValid(firstNumber, operation, secondNumber);
+
+        Decimal64 firstValue = Decimal64.valueOf(firstNumber);
+        Decimal64 secondValue = null;
+        if (secondNumber != null) {
+            secondValue = Decimal64.valueOf(secondNumber);
+        }
+
+        Decimal64 result = null;
+        if (firstValue != null && (secondNumber == null || secondValue != null)) {
+            result = calculate(firstValue, operation, secondValue);
+        }
+
+        if (result == null) {
+            return fallbackExecutor.calculate(firstNumber, operation, secondNumber);
+        }
+
+        return result.toBigDecimal();
+    }
+
+    /**
+     * Returns the result of the given {@link MathOperation} calculated with the given {@link Decimal64} numbers or
+     * null if it can not be calculated with {@link Decimal64}s.
+     *
+     * @param firstValue  a number to perform a {@link MathOperation} with
+     * @param operation   a Mathematical operation to perform with the given numbers
+     * @param secondValue a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of the given {@link MathOperation} or null if it can not be calculated with {@link Decimal64}s
+     * @throws CalculationException in cases of division by zero
+     */
+    private static Decimal64 calculate(Decimal64 firstValue, MathOperation operation, Decimal64 secondValue) throws CalculationException {
+        Decimal64 result = null;
+
+        try {
+            if (operation == ADD) {
+                result = firstValue.add(secondValue);
+            } else if (operation == SUBTRACT) {
+                result = firstValue.subtract(secondValue);
+            } else if (operation == MULTIPLY) {
+                result = firstValue.multiply(secondValue);
+            } else if (operation == DIVIDE) {
+                result = divide(firstValue, secondValue);
+            } else if (operation == PERCENT) {
+                result = percent(firstValue, secondValue);
+            } else if (operation == NEGATE) {
+                result = firstValue.negate();
+            } else if (operation == SQUARE) {
+                result = firstValue.multiply(firstValue);
+            } else if (operation == REVERSE) {
+                result = reverse(firstValue);
+            }
+        } catch (ArithmeticException e) {
+            // the exponent of the result is out of range, it will be calculated by the fallback executor
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the quotient of the given {@link Decimal64} numbers.
+     *
+     * @param dividend a {@link Decimal64} number to divide
+     * @param divisor  a {@link Decimal64} number to divide by
+     * @return the quotient of the given {@link Decimal64} numbers
+     * @throws CalculationException if divisor or both arguments are equal to zero
+     */
+    private static Decimal64 divide(Decimal64 dividend, Decimal64 divisor) throws CalculationException {
+        if (dividend.signum() == 0 && divisor.signum() == 0) {
+            throw new CalculationException(RESULT_IS_UNDEFINED);
+        }
+
+        if (divisor.signum() == 0) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        return dividend.divide(divisor);
+    }
+
+    /**
+     * Returns the {@link Decimal64} number that is a specified percentage of the given {@link Decimal64} number.
+     *
+     * @param number     a {@link Decimal64} number to calculate the percentage of
+     * @param percentage a percentage to calculate
+     * @return the {@link Decimal64} number that is a specified percentage of the given {@link Decimal64} number
+     */
+    private static Decimal64 percent(Decimal64 number, Decimal64 percentage) {
+        if (number.signum() == 0 || percentage.signum() == 0) {
+            return Decimal64.ZERO;
+        }
+
+        return number.multiply(percentage.scaleByPowerOfTen(-2));
+    }
+
+    /**
+     * Returns the reciprocal value of the given {@link Decimal64} number.
+     *
+     * @param number a {@link Decimal64} number to calculate the reciprocal value for
+     * @return the reciprocal value of the given {@link Decimal64} number
+     * @throws CalculationException if the given {@link Decimal64} number is equal to zero
+     */
+    private static Decimal64 reverse(Decimal64 number) throws CalculationException {
+        if (number.signum() == 0) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        return Decimal64.ONE.divide(number);
+    }
+
+    /**
+     * Returns the {@link OperationRegistry} with the standard {@link MathOperation}s which results are rounded to
+     * {@value Decimal64#MAX_PRECISION} digits.
+     *
+     * @return the {@link OperationRegistry} for the calculations with {@link BigDecimal}s
+     */
+    private static OperationRegistry getFallbackRegistry() {
+        OperationRegistry registry = OperationRegistry.standard(PrecisionProfile.of(DECIMAL64));
+        CalculationExecutor rootExecutor = new StandardCalculationExecutor(PrecisionProfile.DECIMAL128);
+
+        registry.register(ADD, (first, second) -> first.add(second, DECIMAL64));
+        registry.register(SUBTRACT, (first, second) -> first.subtract(second, DECIMAL64));
+        registry.register(MULTIPLY, (first, second) -> first.multiply(second, DECIMAL64));
+        registry.register(NEGATE, (number, none) -> number.negate(DECIMAL64),
+                registry.get(NEGATE).getDisplayPattern());
+        registry.register(SQUARE, (number, none) -> number.multiply(number, DECIMAL64),
+                registry.get(SQUARE).getDisplayPattern());
+        // the root with 34 truncated digits rounds to 16 digits the same way as the exact root
+        registry.register(SQUARE_ROOT, (number, none) -> rootExecutor.calculate(number, SQUARE_ROOT, null).round(DECIMAL64),
+                registry.get(SQUARE_ROOT).getDisplayPattern());
+
+        return registry;
+    }
+}
@@ -0,0 +1,87 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.math.BigDecimal;
+
+/**
+ * The ExactDecimal class is a {@link BigDecimal} approximation returned by a {@link CalculationExecutor} that carries
+ * the exact value behind it, for example the exact {@link Rational} behind a rounded quotient. The exact value
+ * travels with the number, so the executor finds it whenever the number is passed back: after any count of other
+ * calculations, from the memory of {@link com.implemica.CalculatorProject.model.Calculator} or in another thread.
+ * <p>
+ * The arithmetic of {@link BigDecimal} returns plain numbers, so a number changed outside of the executor, for
+ * example rounded by {@link BigDecimal#round(java.math.MathContext)}, is calculated as is. The exact value is not
+ * serialized, a deserialized number is a plain approximation.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+final class ExactDecimal extends BigDecimal {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The exact value behind the approximation.
+     */
+    private final transient Object exactValue;
+
+    /**
+     * Constructs a new {@code ExactDecimal} with the digits of the given approximation and the given exact value.
+     *
+     * @param approximation a {@link BigDecimal} approximation of the exact value
+     * @param exactValue    the exact value behind the approximation
+     */
+    private ExactDecimal(BigDecimal approximation, Object exactValue) {
+        super(approximation.unscaledValue(), approximation.scale());
+        this.exactValue = exactValue;
+    }
+
+    /**
+     * Returns the given approximation that carries the given exact value.
+     *
+     * @param approximation a {@link BigDecimal} approximation of the exact value
+     * @param exactValue    the exact value behind the approximation
+     * @return the given approximation that carries the given exact value
+     */
+    static BigDecimal of(BigDecimal approximation, Object exactValue) {
+        return new ExactDecimal(approximation, exactValue);
+    }
+
+    /**
+     * Returns the exact value of the given type carried by the given {@link BigDecimal} number or null if the number
+     * carries no value of this type.
+     *
+     * @param number a {@link BigDecimal} number to get the exact value of
+     * @param type   the type of the exact value
+     * @param <T>    the type of the exact value
+     * @return the exact value of the given type carried by the given number or null
+     */
+    static <T> T getExactValue(BigDecimal number, Class<T> type) {
+        T value = null;
+
+        if (number instanceof ExactDecimal) {
+            Object exactValue = ((ExactDecimal) number).exactValue;
+            if (type.isInstance(exactValue)) {
+                value = type.cast(exactValue);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the given result rounded by the given {@link PrecisionProfile}. The rounded result carries the exact
+     * value of the given one.
+     *
+     * @param result           a result returned by the executor
+     * @param precisionProfile a {@link PrecisionProfile} to round the result by
+     * @return the given result rounded by the given {@link PrecisionProfile}
+     */
+    static BigDecimal round(BigDecimal result, PrecisionProfile precisionProfile) {
+        BigDecimal rounded = precisionProfile.round(result);
+
+        if (rounded != result && result instanceof ExactDecimal) {
+            rounded = new ExactDecimal(rounded, ((ExactDecimal) result).exactValue);
+        }
+
+        return rounded;
+    }
+}
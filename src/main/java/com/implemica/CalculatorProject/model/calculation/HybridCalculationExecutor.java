@@ -0,0 +1,217 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor.checkArgumentsAreValid;
+
+/**
+ * The HybridCalculationExecutor class performs {@link MathOperation#ADD}, {@link MathOperation#SUBTRACT},
+ * {@link MathOperation#MULTIPLY}, {@link MathOperation#NEGATE} and {@link MathOperation#SQUARE} with the unscaled
+ * values of {@link BigDecimal} numbers represented by {@code long}s. If the numbers are too long or the result
+ * overflows a {@code long}, the calculation is passed to the fallback {@link CalculationExecutor}. Other
+ * {@link MathOperation}s are always performed by the fallback {@link CalculationExecutor}, as well as the numbers
+ * carrying an exact value as an {@link ExactDecimal}, which the fallback executor may continue calculations with.
+ * <p>
+ * The results are the same as {@link BigDecimal} arithmetic returns, including the scale of the numbers. The unscaled
+ * value of an integer number is read without creating a {@link java.math.BigInteger}, so an operation with integers
+ * creates only its {@link BigDecimal} result.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class HybridCalculationExecutor implements CalculationExecutor {
+
+    /**
+     * The maximum count of digits in the unscaled value of {@link BigDecimal} number that always fits a {@code long}.
+     */
+    private static final int MAX_LONG_PRECISION = 18;
+
+    /**
+     * The powers of ten that fit a {@code long}, where index is the exponent.
+     */
+    private static final long[] POWERS_OF_TEN = getPowersOfTen();
+
+    /**
+     * The error message about null fallback {@link CalculationExecutor} specified.
+     */
+    private static final String NO_FALLBACK_EXECUTOR_ERROR = "Fallback executor can not be null";
+
+    /**
+     * The {@link CalculationExecutor} used for calculations that can not be performed with {@code long}s.
+     */
+    private final CalculationExecutor fallbackExecutor;
+
+    /**
+     * Constructs a new {@code HybridCalculationExecutor} with the {@link StandardCalculationExecutor} as a fallback.
+     */
+    public HybridCalculationExecutor() {
+        this(new StandardCalculationExecutor());
+    }
+
+    /**
+     * Constructs a new {@code HybridCalculationExecutor} with the given fallback {@link CalculationExecutor}.
+     *
+     * @param fallbackExecutor a {@link CalculationExecutor} used for calculations that can not be performed
+     *                         with {@code long}s
+     */
+    public HybridCalculationExecutor(CalculationExecutor fallbackExecutor) {
+        if (fallbackExecutor == null) {
+            throw new IllegalArgumentException(NO_FALLBACK_EXECUTOR_ERROR);
+        }
+        this.fallbackExecutor = fallbackExecutor;
+    }
+
+    /**
+     * Returns the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation to perform with the given numbers
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers
+     * @throws CalculationException if some error occurs during the calculations
+     */
+    @Override
+    public BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+        checkArgumentsAreValid(firstNumber, operation, secondNumber);
+
+        BigDecimal result = null;
+        if (fitsLong(firstNumber) && (secondNumber == null || fitsLong(secondNumber))) {
+            result = calculateWithLongs(firstNumber, operation, secondNumber);
+        }
+
+        if (result == null) {
+            result = fallbackExecutor.calculate(firstNumber, operation, secondNumber);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the given result rounded by the given {@link PrecisionProfile} by the fallback {@link CalculationExecutor},
+     * which may have calculated the result.
+     *
+     * @param result           a result returned by this executor
+     * @param precisionProfile a {@link PrecisionProfile} to round the result by
+     * @return the given result rounded by the given {@link PrecisionProfile}
+     */
+    @Override
+    public BigDecimal round(BigDecimal result, PrecisionProfile precisionProfile) {
+        return fallbackExecutor.round(result, precisionProfile);
+    }
+
+    /**
+     * Returns the result of the given {@link MathOperation} calculated with the unscaled values of the given
+     * {@link BigDecimal} numbers or null if it can not be calculated with {@code long}s.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation to perform with the given numbers
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of the given {@link MathOperation} or null if it can not be calculated with {@code long}s
+     */
+    private static BigDecimal calculateWithLongs(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) {
+        long firstValue = getUnscaledValue(firstNumber);
+        int firstScale = firstNumber.scale();
+        BigDecimal result = null;
+
+        try {
+            if (operation == ADD || operation == SUBTRACT) {
+                long secondValue = getUnscaledValue(secondNumber);
+                if (operation == SUBTRACT) {
+                    secondValue = Math.negateExact(secondValue);
+                }
+                result = add(firstValue, firstScale, secondValue, secondNumber.scale());
+            } else if (operation == MULTIPLY) {
+                long secondValue = getUnscaledValue(secondNumber);
+                result = BigDecimal.valueOf(Math.multiplyExact(firstValue, secondValue),
+                        Math.addExact(firstScale, secondNumber.scale()));
+            } else if (operation == NEGATE) {
+                result = BigDecimal.valueOf(Math.negateExact(firstValue), firstScale);
+            } else if (operation == SQUARE) {
+                result = BigDecimal.valueOf(Math.multiplyExact(firstValue, firstValue), Math.multiplyExact(firstScale, 2));
+            }
+        } catch (ArithmeticException e) {
+            // the result does not fit a long, it will be calculated by the fallback executor
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the sum of the numbers given by their unscaled values and scales or null if the numbers can not be
+     * aligned to the same scale within a {@code long}.
+     *
+     * @param firstValue  the unscaled value of the first number
+     * @param firstScale  the scale of the first number
+     * @param secondValue the unscaled value of the second number
+     * @param secondScale the scale of the second number
+     * @return the sum of the given numbers or null if the numbers can not be aligned to the same scale
+     * @throws ArithmeticException if the sum overflows a {@code long}
+     */
+    private static BigDecimal add(long firstValue, int firstScale, long secondValue, int secondScale) {
+        long scaleDifference = (long) firstScale - secondScale;
+
+        if (Math.abs(scaleDifference) >= POWERS_OF_TEN.length) {
+            return null;
+        }
+
+        int resultScale;
+        if (scaleDifference > 0) {
+            secondValue = Math.multiplyExact(secondValue, POWERS_OF_TEN[(int) scaleDifference]);
+            resultScale = firstScale;
+        } else {
+            firstValue = Math.multiplyExact(firstValue, POWERS_OF_TEN[(int) -scaleDifference]);
+            resultScale = secondScale;
+        }
+
+        return BigDecimal.valueOf(Math.addExact(firstValue, secondValue), resultScale);
+    }
+
+    /**
+     * Returns true if the unscaled value of the given {@link BigDecimal} number fits a {@code long} and the number
+     * carries no exact value.
+     *
+     * @param number a {@link BigDecimal} number to check
+     * @return true if the given {@link BigDecimal} number can be calculated with {@code long}s
+     */
+    private static boolean fitsLong(BigDecimal number) {
+        return number.precision() <= MAX_LONG_PRECISION && !(number instanceof ExactDecimal);
+    }
+
+    /**
+     * Returns the unscaled value of the given {@link BigDecimal} number that fits a {@code long}. The value of an
+     * integer number is read as is, a fractional number is moved to an integer one first.
+     *
+     * @param number a {@link BigDecimal} number which unscaled value fits a {@code long}
+     * @return the unscaled value of the given {@link BigDecimal} number
+     */
+    private static long getUnscaledValue(BigDecimal number) {
+        long value;
+
+        if (number.scale() == 0) {
+            value = number.longValue();
+        } else {
+            value = number.movePointRight(number.scale()).longValueExact();
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the powers of ten that fit a {@code long}, where index is the exponent.
+     *
+     * @return the powers of ten that fit a {@code long}
+     */
+    private static long[] getPowersOfTen() {
+        long[] powers = new long[MAX_LONG_PRECISION + 1];
+        powers[0] = 1;
+
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+
+        return powers;
+    }
+}
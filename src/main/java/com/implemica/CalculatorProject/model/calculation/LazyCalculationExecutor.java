@@ -0,0 +1,306 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor.INVALID_ARGUMENTS_FOR_OPERATION;
+import static com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor.NO_SUCH_OPERATION_ERROR;
+import static com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor.checkArgumentsAreValid;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * The LazyCalculationExecutor class performs calculations of {@link MathOperation}s with {@link ConstructiveReal}
+ * numbers, so the digits of the results are computed only when they are requested. The results of
+ * {@link MathOperation#ADD}, {@link MathOperation#SUBTRACT}, {@link MathOperation#MULTIPLY},
+ * {@link MathOperation#NEGATE}, {@link MathOperation#SQUARE} and {@link MathOperation#PERCENT} with exact numbers
+ * are exact, other results are lazy.
+ * <p>
+ * The lazy result is returned as a {@link BigDecimal} approximation with the precision of the executor, which
+ * carries the {@link ConstructiveReal} behind it as an {@link ExactDecimal}. When such a result is passed back as an
+ * argument, the calculation continues with the lazy value, so the later operations request from it as many digits
+ * as they need. The {@link ConstructiveReal} result can also be calculated directly with
+ * {@link #calculate(ConstructiveReal, MathOperation, ConstructiveReal)} and passed to the formatter and validator.
+ * <p>
+ * The errors are the same as the {@link StandardCalculationExecutor} reports, where a number is equal to zero if
+ * it can not be distinguished from zero with {@value ConstructiveReal#ZERO_CHECK_SCALE} fractional digits.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class LazyCalculationExecutor implements CalculationExecutor {
+
+    /**
+     * The default count of significant digits of the returned approximations.
+     */
+    public static final int DEFAULT_PRECISION = 34;
+
+    /**
+     * The value of one hundredth represented by {@link ConstructiveReal}.
+     */
+    private static final ConstructiveReal ONE_HUNDREDTH = ConstructiveReal.valueOf(new BigDecimal("0.01"));
+
+    /**
+     * The error message about invalid precision specified.
+     */
+    private static final String INVALID_PRECISION_ERROR = "Precision must be positive: %s";
+
+    /**
+     * The count of significant digits of the returned approximations.
+     */
+    private final int precision;
+
+    /**
+     * Constructs a new {@code LazyCalculationExecutor} returns approximations with {@value #DEFAULT_PRECISION}
+     * significant digits.
+     */
+    public LazyCalculationExecutor() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructs a new {@code LazyCalculationExecutor} returns approximations with the given count of
+     * significant digits.
+     *
+     * @param precision a count of significant digits of the returned approximations
+     */
+    public LazyCalculationExecutor(int precision) {
+        if (precision <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_PRECISION_ERROR, precision));
+        }
+        this.precision = precision;
+    }
+
+    /**
+     * Returns the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers.
+     * The lazy result is approximated with the precision of the executor.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation to perform with the given numbers
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers
+     * @throws CalculationException in cases of division by zero or square root of negative number
+     */
+    @Override
+    public BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+        checkArgumentsAreValid(firstNumber, operation, secondNumber);
+
+        ConstructiveReal firstValue = toConstructiveReal(firstNumber);
+        ConstructiveReal secondValue = null;
+        if (secondNumber != null) {
+            secondValue = toConstructiveReal(secondNumber);
+        }
+
+        ConstructiveReal value = calculate(firstValue, operation, secondValue);
+        BigDecimal result;
+
+        if (value.isExact()) {
+            result = value.getExactValue();
+        } else {
+            result = ExactDecimal.of(value.approximateToPrecision(precision), value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the given result rounded by the given {@link PrecisionProfile}. The rounded result carries the lazy
+     * value of the given one.
+     *
+     * @param result           a result returned by this executor
+     * @param precisionProfile a {@link PrecisionProfile} to round the result by
+     * @return the given result rounded by the given {@link PrecisionProfile}
+     */
+    @Override
+    public BigDecimal round(BigDecimal result, PrecisionProfile precisionProfile) {
+        return ExactDecimal.round(result, precisionProfile);
+    }
+
+    /**
+     * Returns the lazy result of calculations of an {@link MathOperation}s with the specified
+     * {@link ConstructiveReal} numbers. Only the digits needed to check the arguments are computed.
+     *
+     * @param firstValue  a number to perform a {@link MathOperation} with
+     * @param operation   a Mathematical operation to perform with the given numbers
+     * @param secondValue a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the lazy result of calculations of an {@link MathOperation}s with the specified numbers
+     * @throws CalculationException in cases of division by zero or square root of negative number
+     */
+    public ConstructiveReal calculate(ConstructiveReal firstValue, MathOperation operation, ConstructiveReal secondValue) throws CalculationException {
+        if (operation == null) {
+            throw new UnsupportedOperationException(NO_SUCH_OPERATION_ERROR);
+        }
+
+        if (firstValue == null || (operation.isBinary() == (secondValue == null))) {
+            throw new IllegalArgumentException(String.format(INVALID_ARGUMENTS_FOR_OPERATION, operation, firstValue, secondValue));
+        }
+
+        ConstructiveReal result;
+
+        if (firstValue.isExact() && (secondValue == null || secondValue.isExact()) && isExactForDecimals(operation)) {
+            result = calculateExactly(firstValue.getExactValue(), operation, secondValue);
+        } else if (operation == ADD) {
+            result = firstValue.add(secondValue);
+        } else if (operation == SUBTRACT) {
+            result = firstValue.subtract(secondValue);
+        } else if (operation == MULTIPLY) {
+            result = firstValue.multiply(secondValue);
+        } else if (operation == DIVIDE) {
+            result = divide(firstValue, secondValue);
+        } else if (operation == PERCENT) {
+            result = percent(firstValue, secondValue);
+        } else if (operation == NEGATE) {
+            result = firstValue.negate();
+        } else if (operation == SQUARE) {
+            result = firstValue.multiply(firstValue);
+        } else if (operation == SQUARE_ROOT) {
+            result = sqrt(firstValue);
+        } else if (operation == REVERSE) {
+            result = reverse(firstValue);
+        } else {
+            throw new UnsupportedOperationException(NO_SUCH_OPERATION_ERROR);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns true if the result of the given {@link MathOperation} for exact decimal numbers is always an exact
+     * decimal number.
+     *
+     * @param operation a {@link MathOperation} to check
+     * @return true if the result of the given {@link MathOperation} for exact decimal numbers is exact
+     */
+    private static boolean isExactForDecimals(MathOperation operation) {
+        return operation == ADD || operation == SUBTRACT || operation == MULTIPLY || operation == NEGATE ||
+                operation == SQUARE || operation == PERCENT;
+    }
+
+    /**
+     * Returns the exact result of the given {@link MathOperation} with the given exact numbers.
+     *
+     * @param firstNumber a number to perform a {@link MathOperation} with
+     * @param operation   a Mathematical operation which result is always exact
+     * @param secondValue an exact number to perform a binary {@link MathOperation} with or null
+     * @return the exact result of the given {@link MathOperation} with the given numbers
+     */
+    private static ConstructiveReal calculateExactly(BigDecimal firstNumber, MathOperation operation, ConstructiveReal secondValue) {
+        BigDecimal secondNumber = (secondValue == null) ? null : secondValue.getExactValue();
+        BigDecimal result;
+
+        if (operation == ADD) {
+            result = firstNumber.add(secondNumber);
+        } else if (operation == SUBTRACT) {
+            result = firstNumber.subtract(secondNumber);
+        } else if (operation == MULTIPLY) {
+            result = firstNumber.multiply(secondNumber);
+        } else if (operation == NEGATE) {
+            result = firstNumber.negate();
+        } else if (operation == SQUARE) {
+            result = firstNumber.pow(2);
+        } else if (firstNumber.signum() == 0 || secondNumber.signum() == 0) { // percent
+            result = ZERO;
+        } else {
+            result = firstNumber.multiply(secondNumber).movePointLeft(2);
+        }
+
+        return ConstructiveReal.valueOf(result);
+    }
+
+    /**
+     * Returns the quotient of the given {@link ConstructiveReal} numbers.
+     *
+     * @param dividend a number to divide
+     * @param divisor  a number to divide by
+     * @return the quotient of the given {@link ConstructiveReal} numbers
+     * @throws CalculationException if divisor or both arguments are equal to zero
+     */
+    private static ConstructiveReal divide(ConstructiveReal dividend, ConstructiveReal divisor) throws CalculationException {
+        if (divisor.signum() == 0 && dividend.signum() == 0) {
+            throw new CalculationException(RESULT_IS_UNDEFINED);
+        }
+
+        if (divisor.signum() == 0) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        return dividend.divide(divisor);
+    }
+
+    /**
+     * Returns the number that is a specified percentage of the given number.
+     *
+     * @param number     a number to calculate the percentage of
+     * @param percentage a percentage to calculate
+     * @return the number that is a specified percentage of the given number
+     */
+    private static ConstructiveReal percent(ConstructiveReal number, ConstructiveReal percentage) {
+        ConstructiveReal result;
+
+        if (number.signum() == 0 || percentage.signum() == 0) {
+            result = ConstructiveReal.valueOf(ZERO);
+        } else {
+            result = number.multiply(percentage.multiply(ONE_HUNDREDTH));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the square root of the given number.
+     *
+     * @param number a number to calculate the square root for
+     * @return the square root of the given number
+     * @throws CalculationException if the given number is negative
+     */
+    private static ConstructiveReal sqrt(ConstructiveReal number) throws CalculationException {
+        int signum = number.signum();
+
+        if (signum < 0) {
+            throw new CalculationException(INVALID_INPUT);
+        }
+
+        ConstructiveReal result;
+        if (signum == 0) {
+            result = ConstructiveReal.valueOf(ZERO);
+        } else {
+            result = number.sqrt();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the reciprocal value of the given number.
+     *
+     * @param number a number to calculate the reciprocal value for
+     * @return the reciprocal value of the given number
+     * @throws CalculationException if the given number is equal to zero
+     */
+    private static ConstructiveReal reverse(ConstructiveReal number) throws CalculationException {
+        if (number.signum() == 0) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        return number.reciprocal();
+    }
+
+    /**
+     * Returns the lazy value carried by the given {@link BigDecimal} number if it is a result of this executor or the
+     * exact value of the number otherwise.
+     *
+     * @param number a {@link BigDecimal} number to convert
+     * @return the {@link ConstructiveReal} value of the given {@link BigDecimal} number
+     */
+    private static ConstructiveReal toConstructiveReal(BigDecimal number) {
+        ConstructiveReal value = ExactDecimal.getExactValue(number, ConstructiveReal.class);
+        if (value == null) {
+            value = ConstructiveReal.valueOf(number);
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,78 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+
+/**
+ * The OperationDefinition class holds everything needed to perform and display a {@link MathOperation}:
+ * the {@link OperationFunction} calculates the result, the arity shows how many numbers the operation takes and the
+ * display pattern formats the expression of an unary operation for history.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class OperationDefinition {
+
+    /**
+     * The {@link MathOperation} this definition is for.
+     */
+    private final MathOperation operation;
+
+    /**
+     * The {@link OperationFunction} calculates the result of the {@link MathOperation}.
+     */
+    private final OperationFunction function;
+
+    /**
+     * The flag variable shows is the {@link MathOperation} binary (true) or unary (false).
+     */
+    private final boolean isBinary;
+
+    /**
+     * The pattern for formatting the history expression of an unary {@link MathOperation} or null for binary ones.
+     */
+    private final String displayPattern;
+
+    /**
+     * Constructs a new {@code OperationDefinition} with the given parameters.
+     *
+     * @param operation      a {@link MathOperation} this definition is for
+     * @param function       an {@link OperationFunction} calculates the result of the {@link MathOperation}
+     * @param isBinary       the flag shows is operation binary or unary
+     * @param displayPattern a pattern for formatting the history expression or null for binary operations
+     */
+    OperationDefinition(MathOperation operation, OperationFunction function, boolean isBinary, String displayPattern) {
+        this.operation = operation;
+        this.function = function;
+        this.isBinary = isBinary;
+        this.displayPattern = displayPattern;
+    }
+
+    public MathOperation getOperation() {
+        return operation;
+    }
+
+    public OperationFunction getFunction() {
+        return function;
+    }
+
+    public boolean isBinary() {
+        return isBinary;
+    }
+
+    public String getDisplayPattern() {
+        return displayPattern;
+    }
+
+    /**
+     * Returns the result of the {@link MathOperation} for the given {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of the {@link MathOperation} for the given {@link BigDecimal} numbers
+     * @throws CalculationException if some error occurs during the calculations
+     */
+    public BigDecimal apply(BigDecimal firstNumber, BigDecimal secondNumber) throws CalculationException {
+        return function.apply(firstNumber, secondNumber);
+    }
+}
@@ -0,0 +1,25 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+
+/**
+ * The OperationFunction interface represents the calculation of a {@link MathOperation} result for the given
+ * {@link BigDecimal} numbers.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+@FunctionalInterface
+public interface OperationFunction {
+
+    /**
+     * Returns the result of a {@link MathOperation} for the given {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of a {@link MathOperation} for the given {@link BigDecimal} numbers
+     * @throws CalculationException if some error occurs during the calculations
+     */
+    BigDecimal apply(BigDecimal firstNumber, BigDecimal secondNumber) throws CalculationException;
+}
@@ -0,0 +1,158 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+
+/**
+ * The OperationRegistry class holds the {@link OperationDefinition}s of {@link MathOperation}s: the function
+ * calculates the result, the arity and the pattern to display the operation in history. The definitions are stored
+ * in an {@link EnumMap}, so finding the definition of the operation is a single indexed lookup, and a new
+ * implementation of the operation can be registered without changing the {@link CalculationExecutor}s.
+ * <p>
+ * The registry is not thread-safe while it is being filled. The {@link StandardCalculationExecutor} works with its
+ * own copy of the registry, so the registry given to the executor can not be changed after that.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class OperationRegistry {
+
+    /**
+     * The value of pattern for formatting the history expression for square root operation.
+     */
+    private static final String SQUARE_ROOT_PATTERN = "√(%s)";
+
+    /**
+     * The value of pattern for formatting the history expression for square operation.
+     */
+    private static final String SQUARE_PATTERN = "sqr(%s)";
+
+    /**
+     * The value of pattern for formatting the history expression for reverse operation.
+     */
+    private static final String REVERSE_PATTERN = "1/(%s)";
+
+    /**
+     * The value of pattern for formatting the history expression for negate operation.
+     */
+    private static final String NEGATE_PATTERN = "negate(%s)";
+
+    /**
+     * The error message about null {@link PrecisionProfile} specified.
+     */
+    private static final String NO_PRECISION_PROFILE_ERROR = "Precision profile can not be null";
+
+    /**
+     * The error message about null {@link MathOperation} or {@link OperationFunction} specified.
+     */
+    private static final String INVALID_DEFINITION_ERROR = "Operation and function can not be null, " +
+            "operation is %s, function is %s";
+
+    /**
+     * The {@link PrecisionProfile} describes how many digits the registered functions compute for the inexact results.
+     */
+    private final PrecisionProfile precisionProfile;
+
+    /**
+     * The {@link OperationDefinition}s of the registered {@link MathOperation}s.
+     */
+    private final Map<MathOperation, OperationDefinition> definitions = new EnumMap<>(MathOperation.class);
+
+    /**
+     * Constructs a new empty {@code OperationRegistry} for the functions computing with the given
+     * {@link PrecisionProfile}.
+     *
+     * @param precisionProfile a {@link PrecisionProfile} describes how many digits the registered functions compute
+     */
+    public OperationRegistry(PrecisionProfile precisionProfile) {
+        if (precisionProfile == null) {
+            throw new IllegalArgumentException(NO_PRECISION_PROFILE_ERROR);
+        }
+        this.precisionProfile = precisionProfile;
+    }
+
+    /**
+     * Returns a new {@code OperationRegistry} with all the standard {@link MathOperation}s calculated with the given
+     * {@link PrecisionProfile}.
+     *
+     * @param precisionProfile a {@link PrecisionProfile} describes how many digits to compute for the inexact results
+     * @return a new {@code OperationRegistry} with all the standard {@link MathOperation}s
+     */
+    public static OperationRegistry standard(PrecisionProfile precisionProfile) {
+        OperationRegistry registry = new OperationRegistry(precisionProfile);
+        StandardOperations operations = new StandardOperations(precisionProfile);
+
+        // Binary operations
+        registry.register(ADD, operations::add);
+        registry.register(SUBTRACT, operations::subtract);
+        registry.register(MULTIPLY, operations::multiply);
+        registry.register(DIVIDE, operations::divide);
+        registry.register(PERCENT, operations::percent);
+
+        // Unary operations
+        registry.register(NEGATE, (number, none) -> operations.negate(number), NEGATE_PATTERN);
+        registry.register(SQUARE_ROOT, (number, none) -> operations.sqrt(number), SQUARE_ROOT_PATTERN);
+        registry.register(SQUARE, (number, none) -> operations.square(number), SQUARE_PATTERN);
+        registry.register(REVERSE, (number, none) -> operations.reverse(number), REVERSE_PATTERN);
+
+        return registry;
+    }
+
+    public PrecisionProfile getPrecisionProfile() {
+        return precisionProfile;
+    }
+
+    /**
+     * Registers the given {@link OperationFunction} for the given binary {@link MathOperation} or for the unary
+     * one which is not displayed in history. The previous definition of the operation is replaced.
+     *
+     * @param operation a {@link MathOperation} to register
+     * @param function  an {@link OperationFunction} calculates the result of the operation
+     * @return this {@code OperationRegistry}
+     */
+    public OperationRegistry register(MathOperation operation, OperationFunction function) {
+        return register(operation, function, null);
+    }
+
+    /**
+     * Registers the given {@link OperationFunction} and display pattern for the given {@link MathOperation}.
+     * The previous definition of the operation is replaced.
+     *
+     * @param operation      a {@link MathOperation} to register
+     * @param function       an {@link OperationFunction} calculates the result of the operation
+     * @param displayPattern a pattern for formatting the history expression of an unary operation, where
+     *                       {@code %s} is replaced with the argument, or null
+     * @return this {@code OperationRegistry}
+     */
+    public OperationRegistry register(MathOperation operation, OperationFunction function, String displayPattern) {
+        if (operation == null || function == null) {
+            throw new IllegalArgumentException(String.format(INVALID_DEFINITION_ERROR, operation, function));
+        }
+
+        definitions.put(operation, new OperationDefinition(operation, function, operation.isBinary(), displayPattern));
+        return this;
+    }
+
+    /**
+     * Returns the {@link OperationDefinition} of the given {@link MathOperation} or null if it is not registered.
+     *
+     * @param operation a {@link MathOperation} to find the definition for
+     * @return the {@link OperationDefinition} of the given {@link MathOperation} or null if it is not registered
+     */
+    public OperationDefinition get(MathOperation operation) {
+        return definitions.get(operation);
+    }
+
+    /**
+     * Returns a new {@code OperationRegistry} with the same {@link PrecisionProfile} and definitions as this one.
+     *
+     * @return a copy of this {@code OperationRegistry}
+     */
+    public OperationRegistry copy() {
+        OperationRegistry copy = new OperationRegistry(precisionProfile);
+        copy.definitions.putAll(definitions);
+
+        return copy;
+    }
+}
@@ -0,0 +1,186 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.math.BigDecimal.ROUND_HALF_UP;
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * The PrecisionProfile class describes how many digits a {@link CalculationExecutor} computes for the results of
+ * {@link MathOperation}s that cannot be represented exactly: division, reverse, percent and square root.
+ * The {@link #REFERENCE} profile always divides at the fixed scale of {@value #REFERENCE_SCALE} fractional digits,
+ * other profiles compute only the significant digits of the given {@link MathContext}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class PrecisionProfile {
+
+    /**
+     * Scale of the {@link BigDecimal} quotient to be returned for result of the division in the reference profile.
+     */
+    public static final int REFERENCE_SCALE = 10100;
+
+    /**
+     * The count of significant digits shown at the calculator's display.
+     */
+    public static final int DISPLAY_PRECISION = 16;
+
+    /**
+     * The profile computes results at the fixed scale of {@value #REFERENCE_SCALE} fractional digits.
+     */
+    public static final PrecisionProfile REFERENCE = new PrecisionProfile(null);
+
+    /**
+     * The profile computes results with 34 significant digits like the IEEE 754 decimal128 format does.
+     */
+    public static final PrecisionProfile DECIMAL128 = new PrecisionProfile(new MathContext(34, HALF_UP));
+
+    /**
+     * The profile keeps the {@value #DISPLAY_PRECISION} displayed significant digits and as many guard digits. It can
+     * be used as the precision budget of the stored numbers to keep them small. The subtraction of close numbers may
+     * show the residue below the guard digits, which is lost with the {@link #REFERENCE} profile, so the displayed
+     * result may differ.
+     */
+    public static final PrecisionProfile DISPLAY_BUDGET = forDisplay(DISPLAY_PRECISION);
+
+    /**
+     * The error message about null {@link MathContext} specified.
+     */
+    private static final String NULL_CONTEXT_ERROR = "Math context can not be null";
+
+    /**
+     * The error message about invalid count of guard digits.
+     */
+    private static final String INVALID_GUARD_DIGITS_ERROR = "Count of guard digits can not be negative: %s";
+
+    /**
+     * The {@link MathContext} used for the inexact results or null for the {@link #REFERENCE} profile.
+     */
+    private final MathContext mathContext;
+
+    /**
+     * Constructs a new {@code PrecisionProfile} with the given {@link MathContext}.
+     *
+     * @param mathContext a {@link MathContext} used for the inexact results or null for the reference profile
+     */
+    private PrecisionProfile(MathContext mathContext) {
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * Returns a new {@code PrecisionProfile} computes the inexact results with the given {@link MathContext}.
+     *
+     * @param mathContext a {@link MathContext} to use for the inexact results
+     * @return a new {@code PrecisionProfile} computes the inexact results with the given {@link MathContext}
+     */
+    public static PrecisionProfile of(MathContext mathContext) {
+        if (mathContext == null) {
+            throw new IllegalArgumentException(NULL_CONTEXT_ERROR);
+        }
+
+        return new PrecisionProfile(mathContext);
+    }
+
+    /**
+     * Returns a new {@code PrecisionProfile} computes the inexact results with the {@value #DISPLAY_PRECISION}
+     * significant digits shown at display plus the given count of guard digits.
+     *
+     * @param guardDigits a count of digits computed in addition to the displayed ones
+     * @return a new {@code PrecisionProfile} for the display precision plus the given count of guard digits
+     */
+    public static PrecisionProfile forDisplay(int guardDigits) {
+        if (guardDigits < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_GUARD_DIGITS_ERROR, guardDigits));
+        }
+
+        return of(new MathContext(DISPLAY_PRECISION + guardDigits, HALF_UP));
+    }
+
+    /**
+     * Returns true if this profile computes results at the fixed scale of {@value #REFERENCE_SCALE} fractional digits.
+     *
+     * @return true if this profile is the reference one
+     */
+    public boolean isReference() {
+        return mathContext == null;
+    }
+
+    /**
+     * Returns the {@link MathContext} used for the inexact results or null for the {@link #REFERENCE} profile.
+     *
+     * @return the {@link MathContext} used for the inexact results or null for the reference profile
+     */
+    public MathContext getMathContext() {
+        return mathContext;
+    }
+
+    /**
+     * Returns the quotient of the given {@link BigDecimal} numbers computed with the digits this profile needs.
+     * The divisor must not be zero.
+     *
+     * @param dividend a {@link BigDecimal} number to divide
+     * @param divisor  a {@link BigDecimal} number to divide by
+     * @return the quotient of the given {@link BigDecimal} numbers
+     */
+    public BigDecimal divide(BigDecimal dividend, BigDecimal divisor) {
+        BigDecimal quotient;
+
+        if (isReference()) {
+            quotient = dividend.divide(divisor, REFERENCE_SCALE, ROUND_HALF_UP);
+        } else {
+            quotient = dividend.divide(divisor, mathContext);
+        }
+
+        return quotient;
+    }
+
+    /**
+     * Returns the given {@link BigDecimal} number rounded to the digits this profile needs. The {@link #REFERENCE}
+     * profile returns the number unchanged.
+     *
+     * @param number a {@link BigDecimal} number to round
+     * @return the given {@link BigDecimal} number rounded to the digits this profile needs
+     */
+    public BigDecimal round(BigDecimal number) {
+        BigDecimal rounded;
+
+        if (isReference()) {
+            rounded = number;
+        } else {
+            rounded = number.round(mathContext);
+        }
+
+        return rounded;
+    }
+
+    /**
+     * Returns the count of fractional digits for the square root of the given positive {@link BigDecimal} number.
+     *
+     * @param number a positive {@link BigDecimal} number to calculate the square root for
+     * @return the count of fractional digits for the square root of the given {@link BigDecimal} number
+     */
+    public int getSquareRootScale(BigDecimal number) {
+        if (isReference()) {
+            return REFERENCE_SCALE;
+        }
+        // the square root has a half of the integer digits of the number
+        int integerDigits = number.precision() - number.scale();
+        int rootIntegerDigits = (integerDigits + 1) >> 1;
+
+        return Math.max(0, mathContext.getPrecision() - rootIntegerDigits);
+    }
+
+    @Override
+    public String toString() {
+        String description;
+
+        if (isReference()) {
+            description = "REFERENCE";
+        } else {
+            description = mathContext.toString();
+        }
+
+        return description;
+    }
+}
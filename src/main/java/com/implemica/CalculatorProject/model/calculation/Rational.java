@@ -0,0 +1,382 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.TEN;
+import static java.math.BigInteger.ZERO;
+
+/**
+ * The Rational class represents an exact rational number as a fraction of two {@link BigInteger}s. The fraction is
+ * reduced by the greatest common divisor lazily: only when its denominator becomes long or when the exact
+ * value is requested. The denominator is always positive.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class Rational {
+
+    /**
+     * The bit length of denominator after what the fraction is reduced.
+     */
+    private static final int REDUCE_BIT_LENGTH = 256;
+
+    /**
+     * The value of five represented by {@link BigInteger}.
+     */
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+    /**
+     * The value of one hundred represented by {@link BigInteger}.
+     */
+    private static final BigInteger ONE_HUNDRED = BigInteger.valueOf(100);
+
+    /**
+     * The error message about zero denominator.
+     */
+    private static final String ZERO_DENOMINATOR_ERROR = "Denominator can not be zero";
+
+    /**
+     * The error message about square root of negative number.
+     */
+    private static final String NEGATIVE_ROOT_ERROR = "Square root of negative number %s";
+
+    /**
+     * The numerator of the fraction.
+     */
+    private final BigInteger numerator;
+
+    /**
+     * The positive denominator of the fraction.
+     */
+    private final BigInteger denominator;
+
+    /**
+     * The flag variable shows is the fraction already reduced.
+     */
+    private final boolean isReduced;
+
+    /**
+     * Constructs a new {@code Rational} with the given numerator and positive denominator.
+     *
+     * @param numerator   the numerator of the fraction
+     * @param denominator the positive denominator of the fraction
+     * @param isReduced   the flag shows is the fraction already reduced
+     */
+    private Rational(BigInteger numerator, BigInteger denominator, boolean isReduced) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.isReduced = isReduced;
+    }
+
+    /**
+     * Returns a {@code Rational} equal to the given {@link BigDecimal} number.
+     *
+     * @param number a {@link BigDecimal} number to convert
+     * @return a {@code Rational} equal to the given {@link BigDecimal} number
+     */
+    public static Rational valueOf(BigDecimal number) {
+        int scale = number.scale();
+        Rational rational;
+
+        if (scale > 0) {
+            rational = new Rational(number.unscaledValue(), TEN.pow(scale), false);
+        } else {
+            rational = new Rational(number.unscaledValue().multiply(TEN.pow(-scale)), ONE, true);
+        }
+
+        return rational;
+    }
+
+    /**
+     * Returns a {@code Rational} equal to the fraction of the given {@link BigInteger}s.
+     *
+     * @param numerator   the numerator of the fraction
+     * @param denominator the non-zero denominator of the fraction
+     * @return a {@code Rational} equal to the fraction of the given {@link BigInteger}s
+     */
+    public static Rational valueOf(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() == 0) {
+            throw new ArithmeticException(ZERO_DENOMINATOR_ERROR);
+        }
+
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+
+        return new Rational(numerator, denominator, false).reduceIfLong();
+    }
+
+    /**
+     * Returns the numerator of this {@code Rational}, which has the sign of the number.
+     *
+     * @return the numerator of this {@code Rational}
+     */
+    public BigInteger getNumerator() {
+        return numerator;
+    }
+
+    /**
+     * Returns the denominator of this {@code Rational}, which is always positive.
+     *
+     * @return the denominator of this {@code Rational}
+     */
+    public BigInteger getDenominator() {
+        return denominator;
+    }
+
+    /**
+     * Returns the signum of this {@code Rational}: -1, 0 or 1 for negative, zero or positive value.
+     *
+     * @return the signum of this {@code Rational}
+     */
+    public int signum() {
+        return numerator.signum();
+    }
+
+    /**
+     * Returns the sum of this and the given {@code Rational}.
+     *
+     * @param other a {@code Rational} to add
+     * @return the sum of this and the given {@code Rational}
+     */
+    public Rational add(Rational other) {
+        Rational sum;
+
+        if (denominator.equals(other.denominator)) {
+            sum = new Rational(numerator.add(other.numerator), denominator, false);
+        } else {
+            sum = new Rational(numerator.multiply(other.denominator).add(other.numerator.multiply(denominator)),
+                    denominator.multiply(other.denominator), false);
+        }
+
+        return sum.reduceIfLong();
+    }
+
+    /**
+     * Returns the difference of this and the given {@code Rational}.
+     *
+     * @param other a {@code Rational} to subtract
+     * @return the difference of this and the given {@code Rational}
+     */
+    public Rational subtract(Rational other) {
+        return add(other.negate());
+    }
+
+    /**
+     * Returns the product of this and the given {@code Rational}.
+     *
+     * @param other a {@code Rational} to multiply by
+     * @return the product of this and the given {@code Rational}
+     */
+    public Rational multiply(Rational other) {
+        return new Rational(numerator.multiply(other.numerator), denominator.multiply(other.denominator), false)
+                .reduceIfLong();
+    }
+
+    /**
+     * Returns the quotient of this and the given non-zero {@code Rational}.
+     *
+     * @param other a non-zero {@code Rational} to divide by
+     * @return the quotient of this and the given {@code Rational}
+     */
+    public Rational divide(Rational other) {
+        return multiply(other.reciprocal());
+    }
+
+    /**
+     * Returns the negated value of this {@code Rational}.
+     *
+     * @return the negated value of this {@code Rational}
+     */
+    public Rational negate() {
+        return new Rational(numerator.negate(), denominator, isReduced);
+    }
+
+    /**
+     * Returns the reciprocal value of this non-zero {@code Rational}.
+     *
+     * @return the reciprocal value of this {@code Rational}
+     */
+    public Rational reciprocal() {
+        if (numerator.signum() == 0) {
+            throw new ArithmeticException(ZERO_DENOMINATOR_ERROR);
+        }
+
+        Rational reciprocal;
+        if (numerator.signum() < 0) {
+            reciprocal = new Rational(denominator.negate(), numerator.negate(), isReduced);
+        } else {
+            reciprocal = new Rational(denominator, numerator, isReduced);
+        }
+
+        return reciprocal;
+    }
+
+    /**
+     * Returns the value of this {@code Rational} divided by one hundred.
+     *
+     * @return the value of this {@code Rational} divided by one hundred
+     */
+    public Rational percent() {
+        return new Rational(numerator, denominator.multiply(ONE_HUNDRED), false).reduceIfLong();
+    }
+
+    /**
+     * Returns the exact square root of this {@code Rational} or null if it is not a rational number.
+     *
+     * @return the exact square root of this {@code Rational} or null if it is not a rational number
+     */
+    public Rational sqrt() {
+        if (numerator.signum() < 0) {
+            throw new ArithmeticException(String.format(NEGATIVE_ROOT_ERROR, this));
+        }
+
+        Rational reduced = reduce();
+        BigInteger numeratorRoot = exactSquareRoot(reduced.numerator);
+        BigInteger denominatorRoot = exactSquareRoot(reduced.denominator);
+        Rational root = null;
+
+        if (numeratorRoot != null && denominatorRoot != null) {
+            root = new Rational(numeratorRoot, denominatorRoot, true);
+        }
+
+        return root;
+    }
+
+    /**
+     * Returns the exact {@link BigDecimal} value of this {@code Rational} or null if its decimal expansion
+     * does not terminate.
+     *
+     * @return the exact {@link BigDecimal} value of this {@code Rational} or null if its decimal expansion
+     * does not terminate
+     */
+    public BigDecimal toExactBigDecimal() {
+        Rational reduced = reduce();
+        BigInteger rest = reduced.denominator;
+
+        int twos = rest.getLowestSetBit();
+        rest = rest.shiftRight(twos);
+
+        int fives = 0;
+        BigInteger[] quotientAndRemainder = rest.divideAndRemainder(FIVE);
+        while (quotientAndRemainder[1].signum() == 0) {
+            rest = quotientAndRemainder[0];
+            fives++;
+            quotientAndRemainder = rest.divideAndRemainder(FIVE);
+        }
+
+        if (!rest.equals(ONE)) {
+            return null;
+        }
+
+        // multiply numerator and denominator to make denominator equal to 10^scale
+        int scale = Math.max(twos, fives);
+        BigInteger unscaledValue = reduced.numerator.shiftLeft(scale - twos).multiply(FIVE.pow(scale - fives));
+
+        return new BigDecimal(unscaledValue, scale);
+    }
+
+    /**
+     * Returns the {@link BigDecimal} value of this {@code Rational} computed with the digits the given
+     * {@link PrecisionProfile} needs.
+     *
+     * @param precisionProfile a {@link PrecisionProfile} describes how many digits to compute
+     * @return the {@link BigDecimal} value of this {@code Rational}
+     */
+    public BigDecimal toBigDecimal(PrecisionProfile precisionProfile) {
+        BigDecimal value = toExactBigDecimal();
+
+        if (value == null) {
+            Rational reduced = reduce();
+            value = precisionProfile.divide(new BigDecimal(reduced.numerator), new BigDecimal(reduced.denominator));
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns this {@code Rational} reduced by the greatest common divisor of numerator and denominator.
+     *
+     * @return this {@code Rational} reduced by the greatest common divisor of numerator and denominator
+     */
+    public Rational reduce() {
+        if (isReduced) {
+            return this;
+        }
+
+        BigInteger gcd = numerator.gcd(denominator);
+        Rational reduced;
+
+        if (gcd.equals(ONE) || gcd.signum() == 0) {
+            reduced = new Rational(numerator, denominator, true);
+        } else {
+            reduced = new Rational(numerator.divide(gcd), denominator.divide(gcd), true);
+        }
+
+        return reduced;
+    }
+
+    /**
+     * Returns this {@code Rational} reduced if its denominator is longer than {@value #REDUCE_BIT_LENGTH} bits or
+     * this {@code Rational} as is.
+     *
+     * @return this {@code Rational} reduced if its denominator is long or this {@code Rational} as is
+     */
+    private Rational reduceIfLong() {
+        Rational rational;
+
+        if (numerator.signum() == 0) {
+            rational = new Rational(ZERO, ONE, true);
+        } else if (denominator.bitLength() > REDUCE_BIT_LENGTH) {
+            rational = reduce();
+        } else {
+            rational = this;
+        }
+
+        return rational;
+    }
+
+    /**
+     * Returns the exact square root of the given non-negative {@link BigInteger} or null if it is not a square.
+     *
+     * @param value a non-negative {@link BigInteger} to calculate the square root for
+     * @return the exact square root of the given {@link BigInteger} or null if it is not a square
+     */
+    private static BigInteger exactSquareRoot(BigInteger value) {
+        BigInteger root = SquareRoot.sqrt(value);
+        BigInteger exactRoot = null;
+
+        if (root.multiply(root).equals(value)) {
+            exactRoot = root;
+        }
+
+        return exactRoot;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof Rational)) {
+            return false;
+        }
+
+        Rational that = (Rational) other;
+        return numerator.multiply(that.denominator).equals(that.numerator.multiply(denominator));
+    }
+
+    @Override
+    public int hashCode() {
+        Rational reduced = reduce();
+        return 31 * reduced.numerator.hashCode() + reduced.denominator.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return numerator + "/" + denominator;
+    }
+}
@@ -0,0 +1,274 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor.checkArgumentsAreValid;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * The RationalCalculationExecutor class performs calculations of {@link MathOperation}s with exact {@link Rational}
+ * numbers. The division is deferred: an inexact result is returned as a {@link BigDecimal} rounded with the
+ * {@link PrecisionProfile} of the executor, which carries the exact {@link Rational} value behind it as an
+ * {@link ExactDecimal}. When such a result is passed back as an argument, the calculation continues with the exact
+ * value, so chains like {@code 1/(3) × 3} give exact results and never operate on long rounded numbers.
+ * <p>
+ * The results with terminating decimal expansion are exact and, for the {@link MathOperation}s with exact
+ * arguments, the same as {@link StandardCalculationExecutor} returns. {@link MathOperation#SQUARE_ROOT} of a number
+ * that is not a square of rational number is calculated by the {@link StandardCalculationExecutor}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class RationalCalculationExecutor implements CalculationExecutor {
+
+    /**
+     * The error message about null {@link PrecisionProfile} specified.
+     */
+    private static final String NO_PRECISION_PROFILE_ERROR = "Precision profile can not be null";
+
+    /**
+     * The {@link PrecisionProfile} used to round the inexact results.
+     */
+    private final PrecisionProfile precisionProfile;
+
+    /**
+     * The {@link CalculationExecutor} used for the square roots that are not rational.
+     */
+    private final CalculationExecutor rootExecutor;
+
+    /**
+     * Constructs a new {@code RationalCalculationExecutor} rounds the inexact results with the
+     * {@link PrecisionProfile#DECIMAL128} profile.
+     */
+    public RationalCalculationExecutor() {
+        this(PrecisionProfile.DECIMAL128);
+    }
+
+    /**
+     * Constructs a new {@code RationalCalculationExecutor} rounds the inexact results with the given
+     * {@link PrecisionProfile}.
+     *
+     * @param precisionProfile a {@link PrecisionProfile} used to round the inexact results
+     */
+    public RationalCalculationExecutor(PrecisionProfile precisionProfile) {
+        if (precisionProfile == null) {
+            throw new IllegalArgumentException(NO_PRECISION_PROFILE_ERROR);
+        }
+        this.precisionProfile = precisionProfile;
+        this.rootExecutor = new StandardCalculationExecutor(precisionProfile);
+    }
+
+    /**
+     * Returns the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation to perform with the given numbers
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers
+     * @throws CalculationException in cases of division by zero or square root of negative number
+     */
+    @Override
+    public BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+        checkArgumentsAreValid(firstNumber, operation, secondNumber);
+
+        Rational firstValue = ExactDecimal.getExactValue(firstNumber, Rational.class);
+        Rational secondValue = null;
+        if (secondNumber != null) {
+            secondValue = ExactDecimal.getExactValue(secondNumber, Rational.class);
+        }
+
+        boolean areArgumentsExact = (firstValue == null && secondValue == null);
+        if (areArgumentsExact && isExactForDecimals(operation)) {
+            return calculateExactly(firstNumber, operation, secondNumber);
+        }
+
+        if (firstValue == null) {
+            firstValue = Rational.valueOf(firstNumber);
+        }
+        if (secondValue == null && secondNumber != null) {
+            secondValue = Rational.valueOf(secondNumber);
+        }
+
+        BigDecimal result;
+        if (operation == SQUARE_ROOT) {
+            result = sqrt(firstValue, firstNumber);
+        } else {
+            result = toBigDecimal(calculate(firstValue, operation, secondValue));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the given result rounded by the given {@link PrecisionProfile}. The rounded result carries the exact
+     * {@link Rational} value of the given one.
+     *
+     * @param result           a result returned by this executor
+     * @param precisionProfile a {@link PrecisionProfile} to round the result by
+     * @return the given result rounded by the given {@link PrecisionProfile}
+     */
+    @Override
+    public BigDecimal round(BigDecimal result, PrecisionProfile precisionProfile) {
+        return ExactDecimal.round(result, precisionProfile);
+    }
+
+    /**
+     * Returns true if the result of the given {@link MathOperation} for exact decimal numbers is always an exact
+     * decimal number.
+     *
+     * @param operation a {@link MathOperation} to check
+     * @return true if the result of the given {@link MathOperation} for exact decimal numbers is exact
+     */
+    private static boolean isExactForDecimals(MathOperation operation) {
+        return operation == ADD || operation == SUBTRACT || operation == MULTIPLY || operation == NEGATE ||
+                operation == SQUARE;
+    }
+
+    /**
+     * Returns the exact result of the given {@link MathOperation} with the given {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation which result is always exact
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the exact result of the given {@link MathOperation} with the given {@link BigDecimal} numbers
+     */
+    private static BigDecimal calculateExactly(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) {
+        BigDecimal result;
+
+        if (operation == ADD) {
+            result = firstNumber.add(secondNumber);
+        } else if (operation == SUBTRACT) {
+            result = firstNumber.subtract(secondNumber);
+        } else if (operation == MULTIPLY) {
+            result = firstNumber.multiply(secondNumber);
+        } else if (operation == NEGATE) {
+            result = firstNumber.negate();
+        } else {
+            result = firstNumber.pow(2);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the result of the given {@link MathOperation} with the given {@link Rational} numbers.
+     *
+     * @param firstValue  a number to perform a {@link MathOperation} with
+     * @param operation   a Mathematical operation to perform with the given numbers, except of square root
+     * @param secondValue a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @return the result of the given {@link MathOperation} with the given {@link Rational} numbers
+     * @throws CalculationException in cases of division by zero
+     */
+    private static Rational calculate(Rational firstValue, MathOperation operation, Rational secondValue) throws CalculationException {
+        Rational result;
+
+        if (operation == ADD) {
+            result = firstValue.add(secondValue);
+        } else if (operation == SUBTRACT) {
+            result = firstValue.subtract(secondValue);
+        } else if (operation == MULTIPLY) {
+            result = firstValue.multiply(secondValue);
+        } else if (operation == DIVIDE) {
+            result = divide(firstValue, secondValue);
+        } else if (operation == PERCENT) {
+            result = firstValue.multiply(secondValue).percent();
+        } else if (operation == NEGATE) {
+            result = firstValue.negate();
+        } else if (operation == SQUARE) {
+            result = firstValue.multiply(firstValue);
+        } else if (operation == REVERSE) {
+            result = reverse(firstValue);
+        } else {
+            throw new UnsupportedOperationException(operation.name());
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the quotient of the given {@link Rational} numbers.
+     *
+     * @param dividend a {@link Rational} number to divide
+     * @param divisor  a {@link Rational} number to divide by
+     * @return the quotient of the given {@link Rational} numbers
+     * @throws CalculationException if divisor or both arguments are equal to zero
+     */
+    private static Rational divide(Rational dividend, Rational divisor) throws CalculationException {
+        if (dividend.signum() == 0 && divisor.signum() == 0) {
+            throw new CalculationException(RESULT_IS_UNDEFINED);
+        }
+
+        if (divisor.signum() == 0) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        return dividend.divide(divisor);
+    }
+
+    /**
+     * Returns the reciprocal value of the given {@link Rational} number.
+     *
+     * @param value a {@link Rational} number to calculate the reciprocal value for
+     * @return the reciprocal value of the given {@link Rational} number
+     * @throws CalculationException if the given {@link Rational} number is equal to zero
+     */
+    private static Rational reverse(Rational value) throws CalculationException {
+        if (value.signum() == 0) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        return value.reciprocal();
+    }
+
+    /**
+     * Returns the square root of the given {@link Rational} number. The root is exact if the number is a square
+     * of rational number, otherwise it is calculated for the given {@link BigDecimal} representation of the number.
+     *
+     * @param value  a {@link Rational} number to calculate the square root for
+     * @param number the {@link BigDecimal} representation of the given {@link Rational} number
+     * @return the square root of the given {@link Rational} number
+     * @throws CalculationException if the given number is negative
+     */
+    private BigDecimal sqrt(Rational value, BigDecimal number) throws CalculationException {
+        if (value.signum() < 0) {
+            throw new CalculationException(INVALID_INPUT);
+        }
+
+        if (value.signum() == 0) {
+            return ZERO;
+        }
+
+        Rational root = value.sqrt();
+        BigDecimal result;
+
+        if (root != null) {
+            result = toBigDecimal(root);
+        } else {
+            result = rootExecutor.calculate(number, SQUARE_ROOT, null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the {@link BigDecimal} value of the given {@link Rational} number. If the value is inexact, the returned
+     * approximation carries the exact value to continue calculations with it.
+     *
+     * @param value a {@link Rational} number to convert
+     * @return the {@link BigDecimal} value of the given {@link Rational} number
+     */
+    private BigDecimal toBigDecimal(Rational value) {
+        BigDecimal result = value.toExactBigDecimal();
+
+        if (result == null) {
+            result = ExactDecimal.of(value.toBigDecimal(precisionProfile), value);
+        }
+
+        return result;
+    }
+}
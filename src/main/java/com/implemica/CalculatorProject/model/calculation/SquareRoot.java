@@ -0,0 +1,110 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.math.BigInteger.ONE;
+
+/**
+ * The SquareRoot class calculates square roots of {@link BigDecimal} numbers with the requested count of fractional
+ * digits. The approximation is seeded from a {@code double} estimate and each Newton iteration doubles the count of
+ * correct digits, so the most iterations work with short numbers and only the last one works with the requested
+ * precision.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class SquareRoot {
+
+    /**
+     * The maximum bit length of integer whose square root is calculated directly from the {@code double} estimate.
+     */
+    private static final int DOUBLE_ESTIMATE_BIT_LENGTH = 104;
+
+    /**
+     * The error message about negative number specified.
+     */
+    private static final String NEGATIVE_NUMBER_ERROR = "Square root of negative number %s";
+
+    /**
+     * The error message about negative scale specified.
+     */
+    private static final String NEGATIVE_SCALE_ERROR = "Scale of square root can not be negative: %s";
+
+    /**
+     * Returns the square root of the given non-negative {@link BigDecimal} number with the given count of fractional
+     * digits. The digits after the requested ones are truncated.
+     *
+     * @param number a non-negative {@link BigDecimal} number to calculate the square root for
+     * @param scale  a count of fractional digits of the result
+     * @return the square root of the given {@link BigDecimal} number with the given count of fractional digits
+     */
+    public static BigDecimal sqrt(BigDecimal number, int scale) {
+        if (number.signum() < 0) {
+            throw new ArithmeticException(String.format(NEGATIVE_NUMBER_ERROR, number));
+        }
+
+        if (scale < 0) {
+            throw new IllegalArgumentException(String.format(NEGATIVE_SCALE_ERROR, scale));
+        }
+
+        // n = x*(10^(2*scale))
+        BigInteger n = number.movePointRight(scale << 1).toBigInteger();
+
+        return new BigDecimal(sqrt(n), scale);
+    }
+
+    /**
+     * Returns the largest integer which square is not greater than the given non-negative {@link BigInteger}.
+     *
+     * @param n a non-negative {@link BigInteger} to calculate the square root for
+     * @return the largest integer which square is not greater than the given {@link BigInteger}
+     */
+    public static BigInteger sqrt(BigInteger n) {
+        if (n.signum() < 0) {
+            throw new ArithmeticException(String.format(NEGATIVE_NUMBER_ERROR, n));
+        }
+
+        int bitLength = n.bitLength();
+        BigInteger root;
+
+        if (bitLength <= DOUBLE_ESTIMATE_BIT_LENGTH) {
+            root = BigInteger.valueOf((long) Math.sqrt(n.doubleValue()));
+        } else {
+            // the root of the upper half of bits gives a half of the correct bits of the result
+            int shift = bitLength >> 2;
+            BigInteger estimate = sqrt(n.shiftRight(shift << 1)).shiftLeft(shift);
+
+            // one Newton iteration doubles the count of correct bits: x = (x + n/x)/2
+            root = estimate.add(n.divide(estimate)).shiftRight(1);
+        }
+
+        return correct(root, n);
+    }
+
+    /**
+     * Returns the largest integer which square is not greater than the given {@link BigInteger} found by
+     * adjusting the given approximation of the square root that differs from it by a few units.
+     *
+     * @param root an approximation of the square root
+     * @param n    a {@link BigInteger} to calculate the square root for
+     * @return the largest integer which square is not greater than the given {@link BigInteger}
+     */
+    private static BigInteger correct(BigInteger root, BigInteger n) {
+        BigInteger square = root.multiply(root);
+
+        while (square.compareTo(n) > 0) {
+            // (x - 1)^2 = x^2 - 2x + 1
+            square = square.subtract(root.shiftLeft(1)).add(ONE);
+            root = root.subtract(ONE);
+        }
+
+        // (x + 1)^2 = x^2 + 2x + 1
+        BigInteger nextSquare = square.add(root.shiftLeft(1)).add(ONE);
+        while (nextSquare.compareTo(n) <= 0) {
+            root = root.add(ONE);
+            nextSquare = nextSquare.add(root.shiftLeft(1)).add(ONE);
+        }
+
+        return root;
+    }
+}
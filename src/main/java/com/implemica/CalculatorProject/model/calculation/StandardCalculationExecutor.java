@@ -4,20 +4,15 @@ package com.implemica.CalculatorProject.model.calculation;
 import com.implemica.CalculatorProject.model.exception.CalculationException;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
-
-import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
-import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
-import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
-import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
-import static com.implemica.CalculatorProject.model.validation.DataValidator.isZero;
-import static java.math.BigDecimal.ONE;
-import static java.math.BigDecimal.ROUND_HALF_UP;
-import static java.math.BigDecimal.ZERO;
 
 /**
  * The StandardCalculator class performs calculations of a {@link MathOperation}s for the specified
- * {@link BigDecimal} numbers.
+ * {@link BigDecimal} numbers. The count of digits computed for division, reverse, percent and square root
+ * is defined by the {@link PrecisionProfile} of the executor. Each {@link MathOperation} is performed by the
+ * function found in the {@link OperationRegistry} of the executor.
+ * <p>
+ * The executor keeps no state between calculations, so one instance can be shared by any number of
+ * {@link com.implemica.CalculatorProject.model.Calculator}s working in different threads.
  *
  * @author V. Kozina-Kravchenko
  */
@@ -26,39 +21,61 @@ public class StandardCalculationExecutor implements CalculationExecutor {
     /**
      * The error message about invalid arguments for the current {@link MathOperation}.
      */
-    private static final String INVALID_ARGUMENTS_FOR_OPERATION = "Invalid count of numbers for operation %s, " +
+    static final String INVALID_ARGUMENTS_FOR_OPERATION = "Invalid count of numbers for operation %s, " +
             "first number is %s, second number is %s";
 
     /**
      * The error message about such {@link MathOperation} not found.
      */
-    private static final String NO_SUCH_OPERATION_ERROR = "No such operation";
+    static final String NO_SUCH_OPERATION_ERROR = "No such operation";
 
     /**
-     * The value of first number used for calculations.
+     * The error message about null {@link OperationRegistry} specified.
      */
-    private BigDecimal firstNumber;
+    private static final String NO_REGISTRY_ERROR = "Operation registry can not be null";
 
     /**
-     * The value of second number used for calculations.
+     * The {@link OperationRegistry} contains the functions performing {@link MathOperation}s.
      */
-    private BigDecimal secondNumber;
+    private final OperationRegistry registry;
 
     /**
-     * The value of a {@link MathOperation} instance that indicates what manipulations with given {@link BigDecimal} numbers
-     * need to do.
+     * Constructs a new {@code StandardCalculationExecutor} with the {@link PrecisionProfile#REFERENCE} profile.
      */
-    private MathOperation operation;
+    public StandardCalculationExecutor() {
+        this(PrecisionProfile.REFERENCE);
+    }
 
     /**
-     * Scale of the {@link BigDecimal} quotient to be returned for result of the division.
+     * Constructs a new {@code StandardCalculationExecutor} with the given {@link PrecisionProfile}.
+     *
+     * @param precisionProfile a {@link PrecisionProfile} describes how many digits to compute for the inexact results
      */
-    private static final int SCALE = 10100;
+    public StandardCalculationExecutor(PrecisionProfile precisionProfile) {
+        this(OperationRegistry.standard(precisionProfile));
+    }
 
     /**
-     * The value of 100 represented as {@link BigDecimal} number.
+     * Constructs a new {@code StandardCalculationExecutor} performs {@link MathOperation}s with the functions from
+     * the given {@link OperationRegistry}. The registry is copied, so its later changes do not affect the executor.
+     *
+     * @param registry an {@link OperationRegistry} contains the functions performing {@link MathOperation}s
+     */
+    public StandardCalculationExecutor(OperationRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException(NO_REGISTRY_ERROR);
+        }
+        this.registry = registry.copy();
+    }
+
+    /**
+     * Returns the {@link PrecisionProfile} used by this executor.
+     *
+     * @return the {@link PrecisionProfile} used by this executor
      */
-    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+    public PrecisionProfile getPrecisionProfile() {
+        return registry.getPrecisionProfile();
+    }
 
     /**
      * Returns the result of calculations of an {@link MathOperation}s with the specified {@link BigDecimal} numbers.
@@ -71,48 +88,51 @@ public class StandardCalculationExecutor implements CalculationExecutor {
      *                              specified invalid arguments
      */
     public BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
-        this.operation = operation;
-        this.firstNumber = firstNumber;
-        this.secondNumber = secondNumber;
-        checkArgumentsAreValid();
+        checkArgumentsAreValid(firstNumber, operation, secondNumber);
 
-        BigDecimal result;
+        return getDefinition(operation).apply(firstNumber, secondNumber);
+    }
 
-        // Binary operations
-        if (operation == ADD) {
-            result = add();
-        } else if (operation == SUBTRACT) {
-            result = subtract();
-        } else if (operation == MULTIPLY) {
-            result = multiply();
-        } else if (operation == DIVIDE) {
-            result = divide();
-        } else if (operation == PERCENT) {
-            result = percent();
+    /**
+     * Returns the function registered for the given {@link MathOperation}, so the batch calculations skip the
+     * validation and lookup for each element.
+     *
+     * @param operation a Mathematical operation to return the function for
+     * @return the {@link OperationFunction} registered for the given {@link MathOperation}
+     * @throws UnsupportedOperationException if the given {@link MathOperation} is not registered
+     */
+    @Override
+    public OperationFunction getOperationFunction(MathOperation operation) {
+        return getDefinition(operation).getFunction();
+    }
 
-            // Unary operations
-        } else if (operation == NEGATE) {
-            result = negate();
-        } else if (operation == SQUARE_ROOT) {
-            result = sqrt();
-        } else if (operation == SQUARE) {
-            result = square();
-        } else if (operation == REVERSE) {
-            result = reverse();
-        } else {
+    /**
+     * Returns the {@link OperationDefinition} of the given {@link MathOperation} from the registry.
+     *
+     * @param operation a Mathematical operation to return the definition for
+     * @return the {@link OperationDefinition} of the given {@link MathOperation}
+     * @throws UnsupportedOperationException if the given {@link MathOperation} is not registered
+     */
+    private OperationDefinition getDefinition(MathOperation operation) {
+        OperationDefinition definition = registry.get(operation);
+        if (definition == null) {
             throw new UnsupportedOperationException(NO_SUCH_OPERATION_ERROR);
         }
 
-        return result;
+        return definition;
     }
 
     /**
      * Checks are the given arguments valid.
      *
-     * @throws CalculationException if the given arguments are null or invalid count of {@link BigDecimal} numbers for
-     *                              the given {@link MathOperation}
+     * @param firstNumber  a number to perform a {@link MathOperation} with
+     * @param operation    a Mathematical operation to perform with the given numbers
+     * @param secondNumber a number to perform a binary {@link MathOperation} with or null if {@link MathOperation} is unary
+     * @throws UnsupportedOperationException if the given {@link MathOperation} is null
+     * @throws IllegalArgumentException      if the given arguments are null or invalid count of {@link BigDecimal}
+     *                                       numbers for the given {@link MathOperation}
      */
-    private void checkArgumentsAreValid() throws CalculationException {
+    static void checkArgumentsAreValid(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) {
         if (operation == null) {
             throw new UnsupportedOperationException(NO_SUCH_OPERATION_ERROR);
         }
@@ -130,134 +150,4 @@ public class StandardCalculationExecutor implements CalculationExecutor {
             throw new IllegalArgumentException(String.format(INVALID_ARGUMENTS_FOR_OPERATION, operation, firstNumber, secondNumber));
         }
     }
-
-    /**
-     * Returns the sum of two specified {@link BigDecimal} numbers.
-     *
-     * @return the sum of two specified {@link BigDecimal} numbers
-     */
-    private BigDecimal add() {
-        return firstNumber.add(secondNumber);
-    }
-
-    /**
-     * Returns the subtraction of two specified {@link BigDecimal} numbers.
-     *
-     * @return the subtraction of two specified {@link BigDecimal} numbers
-     */
-    private BigDecimal subtract() {
-        return firstNumber.subtract(secondNumber);
-    }
-
-    /**
-     * Returns the multiplication of two specified {@link BigDecimal} numbers.
-     *
-     * @return the multiplication of two specified numbers
-     */
-    private BigDecimal multiply() {
-        return firstNumber.multiply(secondNumber);
-    }
-
-    /**
-     * Returns the division of two specified {@link BigDecimal} numbers.
-     *
-     * @return the division of two specified {@link BigDecimal} numbers
-     * @throws CalculationException if divisor or both arguments are equal to zero
-     */
-    private BigDecimal divide() throws CalculationException {
-        if (isZero(firstNumber) && isZero(secondNumber)) {
-            throw new CalculationException(RESULT_IS_UNDEFINED);
-        }
-
-        if (isZero(secondNumber)) {
-            throw new CalculationException(DIVISION_BY_ZERO);
-        }
-
-        return firstNumber.divide(secondNumber, SCALE, ROUND_HALF_UP);
-    }
-
-    /**
-     * Returns the square calculated for the specified {@link BigDecimal} number.
-     *
-     * @return the square for the specified {@link BigDecimal} number
-     */
-    private BigDecimal square() {
-        return firstNumber.pow(2);
-    }
-
-    /**
-     * Returns the negated given {@link BigDecimal} number.
-     *
-     * @return the negated given {@link BigDecimal} number
-     */
-    private BigDecimal negate() {
-        return firstNumber.negate();
-    }
-
-    /**
-     * Returns the square root calculated for the given {@link BigDecimal} number. Source of square root algorithm for {@link BigDecimal} is
-     * <a href="https://www.java-forums.org/advanced-java/44345-square-rooting-bigdecimal.html">square rooting a BigDecimal</a>
-     *
-     * @return the square root calculated for the given {@link BigDecimal} number
-     * @throws CalculationException if the given {@link BigDecimal} number is negative
-     */
-    private BigDecimal sqrt() throws CalculationException {
-        if (firstNumber.compareTo(ZERO) < 0) {
-            throw new CalculationException(INVALID_INPUT);
-        }
-
-        if (isZero(firstNumber)) {
-            return ZERO;
-        }
-
-        // n = x*(10^(2*scale))
-        BigInteger n = firstNumber.movePointRight(SCALE << 1).toBigInteger();
-
-        // The first approximation is the upper half of n.
-        int bits = (n.bitLength() + 1) >> 1;
-        BigInteger ix = n.shiftRight(bits);
-        BigInteger ixPrev;
-
-        // Loop until the approximations converge
-        // (two successive approximations are equal after rounding).
-        do {
-            ixPrev = ix;
-
-            // x = (x + n/x)/2
-            ix = ix.add(n.divide(ix)).shiftRight(1);
-
-            Thread.yield();
-        } while (ix.compareTo(ixPrev) != 0);
-
-        return new BigDecimal(ix, SCALE);
-    }
-
-    /**
-     * Returns the {@link BigDecimal} number that is a specified percentage calculated for the given {@link BigDecimal} number.
-     *
-     * @return the {@link BigDecimal} number that is a specified percentage calculated for the given {@link BigDecimal} number
-     */
-    private BigDecimal percent() {
-        if (isZero(firstNumber) || isZero(secondNumber)) {
-            return ZERO;
-        }
-        // Convert percentage to an absolute value
-        BigDecimal absolutePercentageValue = secondNumber.divide(ONE_HUNDRED, SCALE, ROUND_HALF_UP);
-
-        return firstNumber.multiply(absolutePercentageValue);
-    }
-
-    /**
-     * Returns the {@link BigDecimal} number calculated as a division of 1 by the given {@link BigDecimal} number.
-     *
-     * @return the {@link BigDecimal} number calculated as a division of 1 by the given {@link BigDecimal} number
-     * @throws CalculationException if {@link BigDecimal} number is equal to zero
-     */
-    private BigDecimal reverse() throws CalculationException {
-        if (isZero(firstNumber)) {
-            throw new CalculationException(DIVISION_BY_ZERO);
-        }
-
-        return ONE.divide(firstNumber, SCALE, ROUND_HALF_UP);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.math.BigDecimal;
+
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.OVERFLOW;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isProductOverflow;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isQuotientOverflow;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isZero;
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * The StandardOperations class contains the {@link BigDecimal} implementations of the standard
+ * {@link MathOperation}s registered by {@link OperationRegistry#standard(PrecisionProfile)}. The count of digits
+ * computed for division, reverse, percent and square root is defined by the {@link PrecisionProfile}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+class StandardOperations {
+
+    /**
+     * The value of 100 represented as {@link BigDecimal} number.
+     */
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    /**
+     * The {@link PrecisionProfile} describes how many digits to compute for the inexact results.
+     */
+    private final PrecisionProfile precisionProfile;
+
+    /**
+     * Constructs a new {@code StandardOperations} with the given {@link PrecisionProfile}.
+     *
+     * @param precisionProfile a {@link PrecisionProfile} describes how many digits to compute for the inexact results
+     */
+    StandardOperations(PrecisionProfile precisionProfile) {
+        this.precisionProfile = precisionProfile;
+    }
+
+    /**
+     * Returns the sum of two specified {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  the first {@link BigDecimal} number
+     * @param secondNumber the second {@link BigDecimal} number
+     * @return the sum of two specified {@link BigDecimal} numbers
+     */
+    BigDecimal add(BigDecimal firstNumber, BigDecimal secondNumber) {
+        return firstNumber.add(secondNumber);
+    }
+
+    /**
+     * Returns the subtraction of two specified {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  the first {@link BigDecimal} number
+     * @param secondNumber the second {@link BigDecimal} number
+     * @return the subtraction of two specified {@link BigDecimal} numbers
+     */
+    BigDecimal subtract(BigDecimal firstNumber, BigDecimal secondNumber) {
+        return firstNumber.subtract(secondNumber);
+    }
+
+    /**
+     * Returns the multiplication of two specified {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  the first {@link BigDecimal} number
+     * @param secondNumber the second {@link BigDecimal} number
+     * @return the multiplication of two specified numbers
+     * @throws CalculationException if the multiplication is surely out of valid bounds
+     */
+    BigDecimal multiply(BigDecimal firstNumber, BigDecimal secondNumber) throws CalculationException {
+        if (isProductOverflow(firstNumber, secondNumber)) { // do not compute the digits of the rejected result
+            throw new CalculationException(OVERFLOW);
+        }
+
+        return firstNumber.multiply(secondNumber);
+    }
+
+    /**
+     * Returns the division of two specified {@link BigDecimal} numbers.
+     *
+     * @param firstNumber  the first {@link BigDecimal} number
+     * @param secondNumber the second {@link BigDecimal} number
+     * @return the division of two specified {@link BigDecimal} numbers
+     * @throws CalculationException if divisor or both arguments are equal to zero or if the division is surely out of
+     *                              valid bounds
+     */
+    BigDecimal divide(BigDecimal firstNumber, BigDecimal secondNumber) throws CalculationException {
+        if (isZero(firstNumber) && isZero(secondNumber)) {
+            throw new CalculationException(RESULT_IS_UNDEFINED);
+        }
+
+        if (isZero(secondNumber)) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        if (isQuotientOverflow(firstNumber, secondNumber)) {
+            throw new CalculationException(OVERFLOW);
+        }
+
+        return precisionProfile.divide(firstNumber, secondNumber);
+    }
+
+    /**
+     * Returns the square calculated for the specified {@link BigDecimal} number.
+     *
+     * @param number the {@link BigDecimal} number
+     * @return the square for the specified {@link BigDecimal} number
+     * @throws CalculationException if the square is surely out of valid bounds
+     */
+    BigDecimal square(BigDecimal number) throws CalculationException {
+        if (isProductOverflow(number, number)) {
+            throw new CalculationException(OVERFLOW);
+        }
+
+        return number.pow(2);
+    }
+
+    /**
+     * Returns the negated given {@link BigDecimal} number.
+     *
+     * @param number the {@link BigDecimal} number
+     * @return the negated given {@link BigDecimal} number
+     */
+    BigDecimal negate(BigDecimal number) {
+        return number.negate();
+    }
+
+    /**
+     * Returns the square root calculated for the given {@link BigDecimal} number with the count of fractional digits
+     * defined by the {@link PrecisionProfile}.
+     *
+     * @param number the {@link BigDecimal} number
+     * @return the square root calculated for the given {@link BigDecimal} number
+     * @throws CalculationException if the given {@link BigDecimal} number is negative
+     */
+    BigDecimal sqrt(BigDecimal number) throws CalculationException {
+        if (number.compareTo(ZERO) < 0) {
+            throw new CalculationException(INVALID_INPUT);
+        }
+
+        if (isZero(number)) {
+            return ZERO;
+        }
+
+        return SquareRoot.sqrt(number, precisionProfile.getSquareRootScale(number));
+    }
+
+    /**
+     * Returns the {@link BigDecimal} number that is a specified percentage calculated for the given {@link BigDecimal} number.
+     *
+     * @param firstNumber  the first {@link BigDecimal} number
+     * @param secondNumber the second {@link BigDecimal} number
+     * @return the {@link BigDecimal} number that is a specified percentage calculated for the given {@link BigDecimal} number
+     */
+    BigDecimal percent(BigDecimal firstNumber, BigDecimal secondNumber) {
+        if (isZero(firstNumber) || isZero(secondNumber)) {
+            return ZERO;
+        }
+        // Convert percentage to an absolute value
+        BigDecimal absolutePercentageValue = precisionProfile.divide(secondNumber, ONE_HUNDRED);
+
+        return precisionProfile.round(firstNumber.multiply(absolutePercentageValue));
+    }
+
+    /**
+     * Returns the {@link BigDecimal} number calculated as a division of 1 by the given {@link BigDecimal} number.
+     *
+     * @param number the {@link BigDecimal} number
+     * @return the {@link BigDecimal} number calculated as a division of 1 by the given {@link BigDecimal} number
+     * @throws CalculationException if {@link BigDecimal} number is equal to zero
+     */
+    BigDecimal reverse(BigDecimal number) throws CalculationException {
+        if (isZero(number)) {
+            throw new CalculationException(DIVISION_BY_ZERO);
+        }
+
+        return precisionProfile.divide(ONE, number);
+    }
+}
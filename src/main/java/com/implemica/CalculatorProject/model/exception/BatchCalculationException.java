@@ -0,0 +1,65 @@
+package com.implemica.CalculatorProject.model.exception;
+
+/**
+ * Thrown to indicate that the calculations of some elements of a batch failed. The results of the other elements are
+ * calculated anyway. The {@link ErrorMessage} of the first failed element is the error message of the exception,
+ * the error messages of all the elements are available by their indexes.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class BatchCalculationException extends CalculationException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The {@link ErrorMessage}s of the failed elements of the batch, the successful elements have null.
+     */
+    private final ErrorMessage[] errorMessages;
+
+    /**
+     * The count of the failed elements of the batch.
+     */
+    private final int failedCount;
+
+    /**
+     * Constructs a new instance with the given error messages of the batch elements.
+     *
+     * @param errorMessages an {@link ErrorMessage}s of the batch elements, where the successful elements have null
+     * @param failedCount   a count of the failed elements
+     */
+    public BatchCalculationException(ErrorMessage[] errorMessages, int failedCount) {
+        super(getFirstErrorMessage(errorMessages));
+        this.errorMessages = errorMessages;
+        this.failedCount = failedCount;
+    }
+
+    /**
+     * Returns the {@link ErrorMessage} of the batch element with the given index or null if its calculation succeeded.
+     *
+     * @param index an index of the batch element
+     * @return the {@link ErrorMessage} of the batch element with the given index or null
+     */
+    public ErrorMessage getErrorMessage(int index) {
+        return errorMessages[index];
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the first not null {@link ErrorMessage} from the given array.
+     *
+     * @param errorMessages an array of {@link ErrorMessage}s
+     * @return the first not null {@link ErrorMessage} from the given array or null if there are no such
+     */
+    private static ErrorMessage getFirstErrorMessage(ErrorMessage[] errorMessages) {
+        for (ErrorMessage errorMessage : errorMessages) {
+            if (errorMessage != null) {
+                return errorMessage;
+            }
+        }
+
+        return null;
+    }
+}
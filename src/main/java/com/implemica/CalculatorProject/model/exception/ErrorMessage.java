@@ -14,22 +14,40 @@ public enum ErrorMessage {
     /**
      * The error message about division by zero occurs.
      */
-    DIVISION_BY_ZERO,
+    DIVISION_BY_ZERO("Cannot divide by zero"),
 
     /**
      * An error message about situation when result is undefined.
      * For example, division zero by zero.
      */
-    RESULT_IS_UNDEFINED,
+    RESULT_IS_UNDEFINED("Result is undefined"),
 
     /**
      * The error message about invalid input that means an input {@link BigDecimal} number is not allowed for the current
      * {@link MathOperation}. For example, negative number for {@link MathOperation#SQUARE_ROOT} operation.
      */
-    INVALID_INPUT,
+    INVALID_INPUT("Invalid input"),
 
     /**
      * An error message about {@link BigDecimal} number's value is too large or too small.
      */
-    OVERFLOW
+    OVERFLOW("Overflow");
+
+    /**
+     * The text of the error message shown to user.
+     */
+    private final String message;
+
+    /**
+     * Constructs a new {@code ErrorMessage} with the given text shown to user.
+     *
+     * @param message the text of the error message shown to user
+     */
+    ErrorMessage(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
 }
@@ -0,0 +1,73 @@
+package com.implemica.CalculatorProject.model.history;
+
+import java.math.BigDecimal;
+
+/**
+ * The HistoryEntry class is an immutable row of the {@link HistoryTape}: the text of the calculated expression and
+ * its {@link BigDecimal} result.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class HistoryEntry {
+
+    /**
+     * The error message about null expression or result specified.
+     */
+    private static final String NO_VALUE_ERROR = "Expression and result of history entry can not be null";
+
+    /**
+     * The text of the calculated expression.
+     */
+    private final String expression;
+
+    /**
+     * The result of the expression.
+     */
+    private final BigDecimal result;
+
+    /**
+     * Constructs a new {@code HistoryEntry} with the given expression text and result.
+     *
+     * @param expression the text of the calculated expression
+     * @param result     the {@link BigDecimal} result of the expression
+     */
+    public HistoryEntry(String expression, BigDecimal result) {
+        if (expression == null || result == null) {
+            throw new IllegalArgumentException(NO_VALUE_ERROR);
+        }
+        this.expression = expression;
+        this.result = result;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public BigDecimal getResult() {
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof HistoryEntry)) {
+            return false;
+        }
+
+        HistoryEntry that = (HistoryEntry) other;
+        return expression.equals(that.expression) && result.equals(that.result);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * expression.hashCode() + result.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return expression + " = " + result;
+    }
+}
@@ -0,0 +1,468 @@
+package com.implemica.CalculatorProject.model.history;
+
+import com.implemica.CalculatorProject.model.Calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The HistoryTape class keeps the last {@link HistoryEntry}s calculated by {@link Calculator#calculateResult()} in a
+ * bounded ring outside of the heap: a direct {@link ByteBuffer} or a file mapped to memory, which keeps the tape
+ * between sessions.
+ * <p>
+ * The region consists of a header, the ring of fixed size index records and the ring of entry bytes. The index
+ * record of an entry holds the position and the length of its bytes, so any entry is read by its index without
+ * reading the others, and the UI reads only the page of visible rows. When the tape is full by the count of entries
+ * or by the size of their bytes, appending an entry drops the oldest ones, so appending takes constant time on
+ * average and the tape never grows.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class HistoryTape implements Closeable {
+
+    /**
+     * The default maximum count of entries.
+     */
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    /**
+     * The default size of the ring of entry bytes.
+     */
+    public static final int DEFAULT_DATA_CAPACITY = 4 * 1024 * 1024;
+
+    /**
+     * The first bytes of the region.
+     */
+    private static final int MAGIC = 0x43414C48;
+
+    /**
+     * The version of the format of the region.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the header in bytes: the magic, the version, the capacities and the positions of the rings.
+     */
+    static final int HEADER_SIZE = 48;
+
+    /**
+     * The size of the index record in bytes: the position and the length of the entry bytes.
+     */
+    static final int INDEX_RECORD_SIZE = 12;
+
+    /**
+     * The offset of the index of the oldest entry in the header.
+     */
+    private static final int FIRST_INDEX_OFFSET = 16;
+
+    /**
+     * The offset of the index of the next entry in the header.
+     */
+    private static final int NEXT_INDEX_OFFSET = 24;
+
+    /**
+     * The offset of the position of the oldest entry bytes in the header.
+     */
+    private static final int DATA_START_OFFSET = 32;
+
+    /**
+     * The offset of the position after the newest entry bytes in the header.
+     */
+    private static final int DATA_END_OFFSET = 40;
+
+    /**
+     * The size of the fixed part of the entry bytes: the scale and the length of the unscaled value of result.
+     */
+    private static final int ENTRY_HEADER_SIZE = 8;
+
+    /**
+     * The error message about invalid capacities specified.
+     */
+    private static final String INVALID_CAPACITY_ERROR = "Capacities of history tape must be positive and fit " +
+            "into 2 GB, capacity is %s, data capacity is %s";
+
+    /**
+     * The error message about the index out of the tape.
+     */
+    private static final String INVALID_INDEX_ERROR = "Index %s is out of the history tape of size %s";
+
+    /**
+     * The error message about the file of other format or capacities.
+     */
+    private static final String INVALID_FORMAT_ERROR = "File %s is not a history tape of capacity %s and data " +
+            "capacity %s";
+
+    /**
+     * The region of the header, the index ring and the data ring.
+     */
+    private final ByteBuffer region;
+
+    /**
+     * The channel of the mapped file or null if the region is not mapped.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The maximum count of entries.
+     */
+    private final int capacity;
+
+    /**
+     * The size of the ring of entry bytes.
+     */
+    private final int dataCapacity;
+
+    /**
+     * The offset of the data ring in the region.
+     */
+    private final int dataOffset;
+
+    /**
+     * The index of the oldest kept entry counting from the first entry ever appended.
+     */
+    private long firstIndex;
+
+    /**
+     * The index of the next entry counting from the first entry ever appended.
+     */
+    private long nextIndex;
+
+    /**
+     * The position of the oldest kept entry bytes counting from the first byte ever appended.
+     */
+    private long dataStart;
+
+    /**
+     * The position after the newest entry bytes counting from the first byte ever appended.
+     */
+    private long dataEnd;
+
+    /**
+     * Constructs a new empty {@code HistoryTape} in a direct {@link ByteBuffer} with the default capacities.
+     */
+    public HistoryTape() {
+        this(DEFAULT_CAPACITY, DEFAULT_DATA_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty {@code HistoryTape} in a direct {@link ByteBuffer}.
+     *
+     * @param capacity     the maximum count of entries
+     * @param dataCapacity the size of the ring of entry bytes
+     */
+    public HistoryTape(int capacity, int dataCapacity) {
+        this.capacity = capacity;
+        this.dataCapacity = dataCapacity;
+        this.dataOffset = HEADER_SIZE + capacity * INDEX_RECORD_SIZE;
+        this.region = ByteBuffer.allocateDirect(getRegionSize(capacity, dataCapacity));
+        this.channel = null;
+        writeHeader();
+    }
+
+    /**
+     * Constructs a new {@code HistoryTape} in the given file mapped to memory. The entries of the existing file are
+     * kept, the new file is created empty.
+     *
+     * @param file         the file of the tape
+     * @param capacity     the maximum count of entries
+     * @param dataCapacity the size of the ring of entry bytes
+     * @throws IOException if the file can not be mapped or it is not a tape of the given capacities
+     */
+    public HistoryTape(Path file, int capacity, int dataCapacity) throws IOException {
+        int regionSize = getRegionSize(capacity, dataCapacity);
+        this.capacity = capacity;
+        this.dataCapacity = dataCapacity;
+        this.dataOffset = HEADER_SIZE + capacity * INDEX_RECORD_SIZE;
+        this.channel = FileChannel.open(file, CREATE, READ, WRITE);
+
+        try {
+            long fileSize = channel.size();
+            if (fileSize != 0 && fileSize != regionSize) {
+                throw new IOException(String.format(INVALID_FORMAT_ERROR, file, capacity, dataCapacity));
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, regionSize);
+            this.region = mapped;
+            if (fileSize == 0) {
+                writeHeader();
+            } else if (!readHeader()) {
+                throw new IOException(String.format(INVALID_FORMAT_ERROR, file, capacity, dataCapacity));
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the entry with the given expression text and result to the tape and drops the oldest entries if there
+     * is no place for it. Returns false if the entry is larger than the ring of entry bytes and is not appended.
+     *
+     * @param expression the text of the calculated expression
+     * @param result     the {@link BigDecimal} result of the expression
+     * @return true if the entry is appended
+     */
+    public boolean append(String expression, BigDecimal result) {
+        byte[] unscaled = result.unscaledValue().toByteArray();
+        byte[] text = expression.getBytes(StandardCharsets.UTF_8);
+        long length = (long) ENTRY_HEADER_SIZE + unscaled.length + text.length;
+
+        if (length > dataCapacity) {
+            return false;
+        }
+
+        while (nextIndex - firstIndex == capacity || dataEnd + length - dataStart > dataCapacity) {
+            dropFirst();
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate((int) length);
+        bytes.putInt(result.scale()).putInt(unscaled.length).put(unscaled).put(text);
+        bytes.flip();
+        writeData(dataEnd, bytes);
+
+        int indexRecord = getIndexRecordOffset(nextIndex);
+        region.putLong(indexRecord, dataEnd);
+        region.putInt(indexRecord + 8, (int) length);
+
+        dataEnd += length;
+        nextIndex++;
+        writePositions();
+        return true;
+    }
+
+    /**
+     * Returns the {@link HistoryEntry} with the given index, where 0 is the oldest kept entry.
+     *
+     * @param index the index of the entry
+     * @return the {@link HistoryEntry} with the given index
+     */
+    public HistoryEntry get(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format(INVALID_INDEX_ERROR, index, size));
+        }
+
+        int indexRecord = getIndexRecordOffset(firstIndex + index);
+        long position = region.getLong(indexRecord);
+        int length = region.getInt(indexRecord + 8);
+
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        readData(position, bytes);
+        bytes.flip();
+
+        int scale = bytes.getInt();
+        byte[] unscaled = new byte[bytes.getInt()];
+        bytes.get(unscaled);
+        String expression = new String(bytes.array(), bytes.position(), bytes.remaining(), StandardCharsets.UTF_8);
+
+        return new HistoryEntry(expression, new BigDecimal(new BigInteger(unscaled), scale));
+    }
+
+    /**
+     * Returns the page of at most the given count of {@link HistoryEntry}s starting with the given index. Only the
+     * entries of the page are read.
+     *
+     * @param fromIndex the index of the first entry of the page
+     * @param count     the maximum count of entries of the page
+     * @return the list of entries of the page, it is shorter if the tape ends before the end of the page
+     */
+    public List<HistoryEntry> getPage(int fromIndex, int count) {
+        int size = size();
+        if (fromIndex < 0 || fromIndex > size || count < 0) {
+            throw new IndexOutOfBoundsException(String.format(INVALID_INDEX_ERROR, fromIndex, size));
+        }
+
+        int toIndex = (int) Math.min(size, (long) fromIndex + count);
+        List<HistoryEntry> page = new ArrayList<>(toIndex - fromIndex);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            page.add(get(i));
+        }
+
+        return page;
+    }
+
+    /**
+     * Returns the count of the kept entries.
+     *
+     * @return the count of the kept entries
+     */
+    public int size() {
+        return (int) (nextIndex - firstIndex);
+    }
+
+    /**
+     * Returns the count of all the entries ever appended, including the dropped ones.
+     *
+     * @return the count of all the entries ever appended
+     */
+    public long getAppendedCount() {
+        return nextIndex;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getDataCapacity() {
+        return dataCapacity;
+    }
+
+    /**
+     * Removes all the entries of the tape.
+     */
+    public void clear() {
+        firstIndex = nextIndex;
+        dataStart = dataEnd;
+        writePositions();
+    }
+
+    /**
+     * Writes the changes of the mapped file to the storage and closes the file.
+     *
+     * @throws IOException if some error occurred while writing the file
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            ((MappedByteBuffer) region).force();
+            channel.close();
+        }
+    }
+
+    /**
+     * Drops the oldest kept entry.
+     */
+    private void dropFirst() {
+        firstIndex++;
+
+        if (firstIndex < nextIndex) {
+            dataStart = region.getLong(getIndexRecordOffset(firstIndex));
+        } else {
+            dataStart = dataEnd;
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of the given buffer to the data ring starting with the given position.
+     *
+     * @param position the position counting from the first byte ever appended
+     * @param bytes    the bytes to write
+     */
+    private void writeData(long position, ByteBuffer bytes) {
+        int offset = (int) (position % dataCapacity);
+        int firstPart = Math.min(bytes.remaining(), dataCapacity - offset);
+
+        ByteBuffer target = region.duplicate();
+        target.position(dataOffset + offset);
+        int limit = bytes.limit();
+        bytes.limit(bytes.position() + firstPart);
+        target.put(bytes);
+
+        bytes.limit(limit);
+        if (bytes.hasRemaining()) { // the bytes wrap around the end of the ring
+            target.position(dataOffset);
+            target.put(bytes);
+        }
+    }
+
+    /**
+     * Reads the bytes from the data ring starting with the given position to the remaining part of the given buffer.
+     *
+     * @param position the position counting from the first byte ever appended
+     * @param bytes    the buffer to read to
+     */
+    private void readData(long position, ByteBuffer bytes) {
+        int offset = (int) (position % dataCapacity);
+        int firstPart = Math.min(bytes.remaining(), dataCapacity - offset);
+
+        ByteBuffer source = region.duplicate();
+        source.position(dataOffset + offset);
+        source.limit(dataOffset + offset + firstPart);
+        bytes.put(source);
+
+        if (bytes.hasRemaining()) { // the bytes wrap around the end of the ring
+            source.limit(dataOffset + bytes.remaining());
+            source.position(dataOffset);
+            bytes.put(source);
+        }
+    }
+
+    /**
+     * Returns the offset of the index record of the entry with the given index in the region.
+     *
+     * @param index the index of the entry counting from the first entry ever appended
+     * @return the offset of the index record in the region
+     */
+    private int getIndexRecordOffset(long index) {
+        return HEADER_SIZE + (int) (index % capacity) * INDEX_RECORD_SIZE;
+    }
+
+    /**
+     * Writes the header of the empty tape.
+     */
+    private void writeHeader() {
+        region.putInt(0, MAGIC);
+        region.putInt(4, FORMAT_VERSION);
+        region.putInt(8, capacity);
+        region.putInt(12, dataCapacity);
+        writePositions();
+    }
+
+    /**
+     * Writes the indexes of entries and the positions of bytes to the header.
+     */
+    private void writePositions() {
+        region.putLong(FIRST_INDEX_OFFSET, firstIndex);
+        region.putLong(NEXT_INDEX_OFFSET, nextIndex);
+        region.putLong(DATA_START_OFFSET, dataStart);
+        region.putLong(DATA_END_OFFSET, dataEnd);
+    }
+
+    /**
+     * Reads the header of the existing tape. Returns false if the header does not match this tape.
+     *
+     * @return true if the header is read
+     */
+    private boolean readHeader() {
+        firstIndex = region.getLong(FIRST_INDEX_OFFSET);
+        nextIndex = region.getLong(NEXT_INDEX_OFFSET);
+        dataStart = region.getLong(DATA_START_OFFSET);
+        dataEnd = region.getLong(DATA_END_OFFSET);
+
+        return region.getInt(0) == MAGIC && region.getInt(4) == FORMAT_VERSION && region.getInt(8) == capacity &&
+                region.getInt(12) == dataCapacity && 0 <= firstIndex && firstIndex <= nextIndex &&
+                nextIndex - firstIndex <= capacity && 0 <= dataStart && dataStart <= dataEnd &&
+                dataEnd - dataStart <= dataCapacity;
+    }
+
+    /**
+     * Returns the size of the region for the given capacities.
+     *
+     * @param capacity     the maximum count of entries
+     * @param dataCapacity the size of the ring of entry bytes
+     * @return the size of the region in bytes
+     */
+    private static int getRegionSize(int capacity, int dataCapacity) {
+        long size = HEADER_SIZE + (long) capacity * INDEX_RECORD_SIZE + dataCapacity;
+
+        if (capacity <= 0 || dataCapacity <= 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(INVALID_CAPACITY_ERROR, capacity, dataCapacity));
+        }
+
+        return (int) size;
+    }
+}
@@ -0,0 +1,88 @@
+package com.implemica.CalculatorProject.model.history;
+
+import com.implemica.CalculatorProject.model.ExpressionView;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.OperationDefinition;
+import com.implemica.CalculatorProject.model.calculation.OperationRegistry;
+import com.implemica.CalculatorProject.model.calculation.PrecisionProfile;
+
+import java.math.BigDecimal;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * The HistoryText class builds the text of the calculated expression for the {@link HistoryTape}. The binary
+ * {@link MathOperation}s are shown by their symbols and the unary ones by the display patterns of the standard
+ * {@link OperationRegistry}, for example: 5 + √(sqr(3)). The numbers are shown by the given formatter, for example
+ * the one of the calculator's display, or by {@link #ROUNDED_NUMBERS}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class HistoryText {
+
+    /**
+     * The {@link OperationRegistry} contains the patterns for formatting the unary {@link MathOperation}s.
+     */
+    private static final OperationRegistry OPERATIONS = OperationRegistry.standard(PrecisionProfile.REFERENCE);
+
+    /**
+     * The delimiter between the arguments and the binary operations.
+     */
+    private static final String DELIMITER = " ";
+
+    /**
+     * The formatter shows the numbers rounded by {@link PrecisionProfile#DISPLAY_BUDGET}, so a result of division
+     * does not take thousands of characters of the text.
+     */
+    public static final Function<BigDecimal, String> ROUNDED_NUMBERS =
+            number -> PrecisionProfile.DISPLAY_BUDGET.round(number).toString();
+
+    /**
+     * Returns the text of the calculation of the given expression. The last number follows the expression if the
+     * expression does not end with an argument already. If the expression has no binary {@link MathOperation}, the
+     * given binary operation with the previous number precedes it, as this operation is applied to the expression.
+     *
+     * @param expression     the {@link ExpressionView} of the calculated expression
+     * @param previousNumber the first argument of the given binary operation
+     * @param operation      the last binary {@link MathOperation} or null
+     * @param lastNumber     the last entered {@link BigDecimal} number
+     * @param formatter      the formatter of the numbers
+     * @return the text of the calculated expression
+     */
+    public static String format(ExpressionView expression, BigDecimal previousNumber, MathOperation operation,
+                                BigDecimal lastNumber, Function<BigDecimal, String> formatter) {
+        StringJoiner text = new StringJoiner(DELIMITER);
+        String argument = null;
+        boolean hasBinaryOperation = false;
+
+        for (int i = 0; i < expression.size(); i++) {
+            if (expression.isNumber(i)) {
+                argument = formatter.apply(expression.getNumber(i));
+            } else {
+                MathOperation part = expression.getOperation(i);
+                OperationDefinition definition = OPERATIONS.get(part);
+
+                if (definition != null && definition.getDisplayPattern() != null) {
+                    argument = String.format(definition.getDisplayPattern(), argument);
+                } else {
+                    if (argument != null) {
+                        text.add(argument);
+                    }
+                    text.add(part.symbol());
+                    argument = null;
+                    hasBinaryOperation = true;
+                }
+            }
+        }
+
+        if (operation != null && !hasBinaryOperation) { // the binary operation is applied to the result
+            text.add(formatter.apply(previousNumber)).add(operation.symbol());
+        }
+        if (argument == null) { // the last number is not in the expression yet
+            argument = formatter.apply(lastNumber);
+        }
+        text.add(argument);
+
+        return text.toString();
+    }
+}
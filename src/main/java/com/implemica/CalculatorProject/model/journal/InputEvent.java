@@ -0,0 +1,390 @@
+package com.implemica.CalculatorProject.model.journal;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.calculation.EditOperation;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import static com.implemica.CalculatorProject.model.journal.InputEventType.*;
+
+/**
+ * The InputEvent class represents one input to the {@link Calculator}: a digit, a {@link MathOperation}, a
+ * {@link MemoryOperation}, an {@link EditOperation}, a decimal point, calculating the result, selecting, recalling
+ * or removing a memory register or cleaning the calculator after an error. An event is encoded by a byte with the ordinal of its {@link InputEventType} and an
+ * int with its argument, that is the digit, the ordinal of the operation or the index of the memory register. All the
+ * events without a register index are cached, so getting them never allocates memory.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class InputEvent {
+
+    /**
+     * The count of decimal digits.
+     */
+    private static final int DIGITS_COUNT = 10;
+
+    /**
+     * All the {@link MathOperation}s, where index is the ordinal of operation.
+     */
+    private static final MathOperation[] MATH_OPERATIONS = MathOperation.values();
+
+    /**
+     * All the {@link MemoryOperation}s, where index is the ordinal of operation.
+     */
+    private static final MemoryOperation[] MEMORY_OPERATIONS = MemoryOperation.values();
+
+    /**
+     * All the {@link EditOperation}s, where index is the ordinal of operation.
+     */
+    private static final EditOperation[] EDIT_OPERATIONS = EditOperation.values();
+
+    /**
+     * The events of entering digits, where index is the digit.
+     */
+    private static final InputEvent[] DIGIT_EVENTS = new InputEvent[DIGITS_COUNT];
+
+    /**
+     * The events of executing {@link MathOperation}s, where index is the ordinal of operation.
+     */
+    private static final InputEvent[] MATH_OPERATION_EVENTS = new InputEvent[MATH_OPERATIONS.length];
+
+    /**
+     * The events of executing {@link MemoryOperation}s, where index is the ordinal of operation.
+     */
+    private static final InputEvent[] MEMORY_OPERATION_EVENTS = new InputEvent[MEMORY_OPERATIONS.length];
+
+    /**
+     * The events of executing {@link EditOperation}s, where index is the ordinal of operation.
+     */
+    private static final InputEvent[] EDIT_OPERATION_EVENTS = new InputEvent[EDIT_OPERATIONS.length];
+
+    /**
+     * The event of adding a decimal point.
+     */
+    private static final InputEvent POINT_EVENT = new InputEvent(POINT, 0);
+
+    /**
+     * The event of calculating the result.
+     */
+    private static final InputEvent RESULT_EVENT = new InputEvent(RESULT, 0);
+
+    /**
+     * The event of cleaning the calculator after an error.
+     */
+    private static final InputEvent RESET_AFTER_ERROR_EVENT = new InputEvent(RESET_AFTER_ERROR, 0);
+
+    static {
+        for (int digit = 0; digit < DIGITS_COUNT; digit++) {
+            DIGIT_EVENTS[digit] = new InputEvent(DIGIT, digit);
+        }
+        for (MathOperation operation : MATH_OPERATIONS) {
+            MATH_OPERATION_EVENTS[operation.ordinal()] = new InputEvent(MATH_OPERATION, operation.ordinal());
+        }
+        for (MemoryOperation operation : MEMORY_OPERATIONS) {
+            MEMORY_OPERATION_EVENTS[operation.ordinal()] = new InputEvent(MEMORY_OPERATION, operation.ordinal());
+        }
+        for (EditOperation operation : EDIT_OPERATIONS) {
+            EDIT_OPERATION_EVENTS[operation.ordinal()] = new InputEvent(EDIT_OPERATION, operation.ordinal());
+        }
+    }
+
+    /**
+     * The error message about invalid digit specified.
+     */
+    private static final String INVALID_DIGIT_ERROR = "Digit must be from 0 to 9: %s";
+
+    /**
+     * The error message about negative index of memory register specified.
+     */
+    private static final String INVALID_REGISTER_ERROR = "Index of memory register can not be negative: %s";
+
+    /**
+     * The error message about null operation specified.
+     */
+    private static final String NO_OPERATION_ERROR = "Operation can not be null";
+
+    /**
+     * The error message about invalid encoded event.
+     */
+    private static final String INVALID_ENCODING_ERROR = "Invalid input event encoding: type %s, argument %s";
+
+    /**
+     * The type of the event.
+     */
+    private final InputEventType type;
+
+    /**
+     * The argument of the event: the digit, the ordinal of the operation or the index of the memory register.
+     */
+    private final int argument;
+
+    /**
+     * Constructs a new {@code InputEvent} of the given type with the given argument.
+     *
+     * @param type     the type of the event
+     * @param argument the argument of the event: the digit, the ordinal of the operation or the index of the memory
+     *                 register
+     */
+    private InputEvent(InputEventType type, int argument) {
+        this.type = type;
+        this.argument = argument;
+    }
+
+    /**
+     * Returns the event of entering the given digit.
+     *
+     * @param digit a digit from 0 to 9
+     * @return the event of entering the given digit
+     */
+    public static InputEvent digit(int digit) {
+        if (digit < 0 || digit >= DIGITS_COUNT) {
+            throw new IllegalArgumentException(String.format(INVALID_DIGIT_ERROR, digit));
+        }
+        return DIGIT_EVENTS[digit];
+    }
+
+    /**
+     * Returns the event of executing the given {@link MathOperation}.
+     *
+     * @param operation a {@link MathOperation} to execute
+     * @return the event of executing the given {@link MathOperation}
+     */
+    public static InputEvent mathOperation(MathOperation operation) {
+        checkOperation(operation);
+        return MATH_OPERATION_EVENTS[operation.ordinal()];
+    }
+
+    /**
+     * Returns the event of executing the given {@link MemoryOperation}.
+     *
+     * @param operation a {@link MemoryOperation} to execute
+     * @return the event of executing the given {@link MemoryOperation}
+     */
+    public static InputEvent memoryOperation(MemoryOperation operation) {
+        checkOperation(operation);
+        return MEMORY_OPERATION_EVENTS[operation.ordinal()];
+    }
+
+    /**
+     * Returns the event of executing the given {@link EditOperation}.
+     *
+     * @param operation an {@link EditOperation} to execute
+     * @return the event of executing the given {@link EditOperation}
+     */
+    public static InputEvent editOperation(EditOperation operation) {
+        checkOperation(operation);
+        return EDIT_OPERATION_EVENTS[operation.ordinal()];
+    }
+
+    /**
+     * Returns the event of adding a decimal point.
+     *
+     * @return the event of adding a decimal point
+     */
+    public static InputEvent point() {
+        return POINT_EVENT;
+    }
+
+    /**
+     * Returns the event of calculating the result.
+     *
+     * @return the event of calculating the result
+     */
+    public static InputEvent result() {
+        return RESULT_EVENT;
+    }
+
+    /**
+     * Returns the event of cleaning the calculator after an error. The error leaves the calculator in the state of
+     * the failed calculation, while the drivers clean it to show the error, so the cleaning is a part of the session.
+     *
+     * @return the event of cleaning the calculator after an error
+     */
+    public static InputEvent resetAfterError() {
+        return RESET_AFTER_ERROR_EVENT;
+    }
+
+    /**
+     * Returns the event of selecting the memory register with the given index.
+     *
+     * @param index the index of the memory register
+     * @return the event of selecting the memory register
+     */
+    public static InputEvent selectMemoryRegister(int index) {
+        return registerEvent(SELECT_MEMORY_REGISTER, index);
+    }
+
+    /**
+     * Returns the event of recalling the memory register with the given index.
+     *
+     * @param index the index of the memory register
+     * @return the event of recalling the memory register
+     */
+    public static InputEvent recallMemoryRegister(int index) {
+        return registerEvent(RECALL_MEMORY_REGISTER, index);
+    }
+
+    /**
+     * Returns the event of removing the memory register with the given index.
+     *
+     * @param index the index of the memory register
+     * @return the event of removing the memory register
+     */
+    public static InputEvent cleanMemoryRegister(int index) {
+        return registerEvent(CLEAN_MEMORY_REGISTER, index);
+    }
+
+    /**
+     * Returns the event encoded by the given type and argument.
+     *
+     * @param type     the encoded type of the event
+     * @param argument the encoded argument of the event
+     * @return the event encoded by the given type and argument
+     * @throws IllegalArgumentException if the type and argument do not encode any event
+     */
+    public static InputEvent decode(byte type, int argument) {
+        InputEvent event = null;
+
+        if (type == DIGIT.ordinal()) {
+            event = getEvent(DIGIT_EVENTS, argument);
+        } else if (type == MATH_OPERATION.ordinal()) {
+            event = getEvent(MATH_OPERATION_EVENTS, argument);
+        } else if (type == MEMORY_OPERATION.ordinal()) {
+            event = getEvent(MEMORY_OPERATION_EVENTS, argument);
+        } else if (type == EDIT_OPERATION.ordinal()) {
+            event = getEvent(EDIT_OPERATION_EVENTS, argument);
+        } else if (type == POINT.ordinal() && argument == 0) {
+            event = POINT_EVENT;
+        } else if (type == RESULT.ordinal() && argument == 0) {
+            event = RESULT_EVENT;
+        } else if (type == RESET_AFTER_ERROR.ordinal() && argument == 0) {
+            event = RESET_AFTER_ERROR_EVENT;
+        } else if (type >= SELECT_MEMORY_REGISTER.ordinal() && type <= CLEAN_MEMORY_REGISTER.ordinal() &&
+                argument >= 0) {
+            event = new InputEvent(InputEventType.values()[type], argument);
+        }
+
+        if (event == null) {
+            throw new IllegalArgumentException(String.format(INVALID_ENCODING_ERROR, type, argument));
+        }
+
+        return event;
+    }
+
+    /**
+     * Returns the event from the given array with the given index or null if the index is out of the array.
+     *
+     * @param events an array of the events
+     * @param index  an index of the event
+     * @return the event from the given array with the given index or null
+     */
+    private static InputEvent getEvent(InputEvent[] events, int index) {
+        InputEvent event = null;
+
+        if (index >= 0 && index < events.length) {
+            event = events[index];
+        }
+
+        return event;
+    }
+
+    /**
+     * Returns the event of the given type with the given index of the memory register.
+     *
+     * @param type  the type of the event
+     * @param index the index of the memory register
+     * @return the event of the given type with the given index of the memory register
+     */
+    private static InputEvent registerEvent(InputEventType type, int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_REGISTER_ERROR, index));
+        }
+        return new InputEvent(type, index);
+    }
+
+    /**
+     * Checks the given operation is not null.
+     *
+     * @param operation an operation to check
+     */
+    private static void checkOperation(Enum<?> operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException(NO_OPERATION_ERROR);
+        }
+    }
+
+    public InputEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the encoded type of this event.
+     *
+     * @return the encoded type of this event
+     */
+    public byte getEncodedType() {
+        return (byte) type.ordinal();
+    }
+
+    /**
+     * Returns the encoded argument of this event.
+     *
+     * @return the encoded argument of this event
+     */
+    public int getEncodedArgument() {
+        return argument;
+    }
+
+    /**
+     * Applies this event to the given {@link Calculator}.
+     *
+     * @param calculator a {@link Calculator} to apply this event to
+     * @throws CalculationException      if some error while calculations occurred
+     * @throws IndexOutOfBoundsException if there is no memory register with the index of this event
+     */
+    public void applyTo(Calculator calculator) throws CalculationException {
+        if (type == DIGIT) {
+            calculator.enterDigit(argument);
+        } else if (type == MATH_OPERATION) {
+            calculator.executeMathOperation(MATH_OPERATIONS[argument]);
+        } else if (type == MEMORY_OPERATION) {
+            calculator.executeMemoryOperation(MEMORY_OPERATIONS[argument]);
+        } else if (type == EDIT_OPERATION) {
+            applyEditOperation(calculator, EDIT_OPERATIONS[argument]);
+        } else if (type == POINT) {
+            calculator.addPoint();
+        } else if (type == RESULT) {
+            calculator.calculateResult();
+        } else if (type == SELECT_MEMORY_REGISTER) {
+            calculator.selectMemoryRegister(argument);
+        } else if (type == RECALL_MEMORY_REGISTER) {
+            calculator.recallMemoryRegister(argument);
+        } else if (type == CLEAN_MEMORY_REGISTER) {
+            calculator.cleanMemoryRegister(argument);
+        } else {
+            calculator.cleanAll();
+        }
+    }
+
+    /**
+     * Executes the given {@link EditOperation} with the given {@link Calculator}.
+     *
+     * @param calculator a {@link Calculator} to execute the operation with
+     * @param operation  an {@link EditOperation} to execute
+     */
+    private static void applyEditOperation(Calculator calculator, EditOperation operation) {
+        if (operation == EditOperation.CLEAN) {
+            calculator.cleanAll();
+        } else if (operation == EditOperation.CLEAN_CURRENT) {
+            calculator.cleanCurrent();
+        } else {
+            calculator.deleteLastDigit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + argument + ")";
+    }
+}
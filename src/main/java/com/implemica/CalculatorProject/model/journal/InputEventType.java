@@ -0,0 +1,61 @@
+package com.implemica.CalculatorProject.model.journal;
+
+import com.implemica.CalculatorProject.model.Calculator;
+
+/**
+ * The enum contains the types of the {@link InputEvent}s applied to the {@link Calculator}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public enum InputEventType {
+
+    /**
+     * Constant represents entering a digit.
+     */
+    DIGIT,
+
+    /**
+     * Constant represents executing a mathematical operation.
+     */
+    MATH_OPERATION,
+
+    /**
+     * Constant represents executing an operation with memorized number.
+     */
+    MEMORY_OPERATION,
+
+    /**
+     * Constant represents executing an edit operation.
+     */
+    EDIT_OPERATION,
+
+    /**
+     * Constant represents adding a decimal point.
+     */
+    POINT,
+
+    /**
+     * Constant represents calculating the result.
+     */
+    RESULT,
+
+    /**
+     * Constant represents selecting a memory register.
+     */
+    SELECT_MEMORY_REGISTER,
+
+    /**
+     * Constant represents recalling a memory register.
+     */
+    RECALL_MEMORY_REGISTER,
+
+    /**
+     * Constant represents removing a memory register.
+     */
+    CLEAN_MEMORY_REGISTER,
+
+    /**
+     * Constant represents cleaning the calculator after an error shown to user.
+     */
+    RESET_AFTER_ERROR
+}
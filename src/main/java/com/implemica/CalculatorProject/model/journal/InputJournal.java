@@ -0,0 +1,422 @@
+package com.implemica.CalculatorProject.model.journal;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.CalculatorState;
+import com.implemica.CalculatorProject.model.CalculatorStateCodec;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The InputJournal class keeps an append-only log of the {@link InputEvent}s applied to a {@link Calculator} and
+ * periodic snapshots of its {@link CalculatorState}, so a session can be resumed after a crash.
+ * <p>
+ * Each event is a record of fixed size, so the position of any event in the log is known without reading the log.
+ * Every {@link #DEFAULT_SNAPSHOT_INTERVAL} events (or the interval given to constructor) the state of the
+ * {@link Calculator} is written to the snapshot file together with the count of events it includes. The snapshot
+ * file is replaced atomically, so there is always a complete snapshot. Restoring reads the snapshot and applies only
+ * the events after it, so its cost does not depend on the length of the session.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class InputJournal implements Closeable {
+
+    /**
+     * The default count of events between snapshots.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 1024;
+
+    /**
+     * The name of the log file.
+     */
+    static final String LOG_FILE_NAME = "input.log";
+
+    /**
+     * The name of the snapshot file.
+     */
+    static final String SNAPSHOT_FILE_NAME = "snapshot.bin";
+
+    /**
+     * The name of the file the snapshot is written to before it replaces the snapshot file.
+     */
+    private static final String TEMPORARY_SNAPSHOT_FILE_NAME = "snapshot.tmp";
+
+    /**
+     * The first bytes of the log file.
+     */
+    private static final int LOG_MAGIC = 0x43414C4C;
+
+    /**
+     * The first bytes of the snapshot file.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x43414C53;
+
+    /**
+     * The version of the format of the log file.
+     */
+    private static final int LOG_FORMAT_VERSION = 2;
+
+    /**
+     * The version of the format of the snapshot file.
+     */
+    private static final int SNAPSHOT_FORMAT_VERSION = 3;
+
+    /**
+     * The size of the header of the snapshot file in bytes: the magic, the version and the count of events.
+     */
+    private static final int SNAPSHOT_HEADER_SIZE = 16;
+
+    /**
+     * The size of the header of the log file in bytes: the magic and the version.
+     */
+    static final int LOG_HEADER_SIZE = 8;
+
+    /**
+     * The size of an event record in bytes: the type and the int argument.
+     */
+    static final int RECORD_SIZE = 5;
+
+    /**
+     * The error message about invalid snapshot interval specified.
+     */
+    private static final String INVALID_INTERVAL_ERROR = "Snapshot interval must be positive: %s";
+
+    /**
+     * The error message about null argument specified.
+     */
+    private static final String NULL_ARGUMENT_ERROR = "Argument can not be null";
+
+    /**
+     * The error message about the file of unknown format.
+     */
+    private static final String UNKNOWN_FORMAT_ERROR = "Unknown format of journal file %s";
+
+    /**
+     * The error message about invalid event record in the log.
+     */
+    private static final String INVALID_RECORD_ERROR = "Invalid record of event %s in %s";
+
+    /**
+     * The error message about the snapshot includes more events than the log.
+     */
+    private static final String SNAPSHOT_AHEAD_ERROR = "Snapshot includes %s events, but the log has only %s";
+
+    /**
+     * The directory with the log and snapshot files.
+     */
+    private final Path directory;
+
+    /**
+     * The count of events between snapshots.
+     */
+    private final int snapshotInterval;
+
+    /**
+     * The channel of the log file.
+     */
+    private final FileChannel log;
+
+    /**
+     * The buffer for one event record.
+     */
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+
+    /**
+     * The count of events in the log.
+     */
+    private long eventsCount;
+
+    /**
+     * Opens or creates the journal in the given directory with the {@link #DEFAULT_SNAPSHOT_INTERVAL}.
+     *
+     * @param directory a directory with the log and snapshot files
+     * @throws IOException if the journal can not be opened
+     */
+    public InputJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens or creates the journal in the given directory with the given count of events between snapshots.
+     * An incomplete record at the end of the log, left by a crash, is discarded.
+     *
+     * @param directory        a directory with the log and snapshot files
+     * @param snapshotInterval a count of events between snapshots
+     * @throws IOException if the journal can not be opened
+     */
+    public InputJournal(Path directory, int snapshotInterval) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_INTERVAL_ERROR, snapshotInterval));
+        }
+
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+
+        Files.createDirectories(directory);
+        Path logFile = directory.resolve(LOG_FILE_NAME);
+        this.log = FileChannel.open(logFile, CREATE, READ, WRITE);
+
+        try {
+            openLog(logFile);
+        } catch (IOException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the header of the new log file or checks the header of the existing one and discards an incomplete
+     * record at its end.
+     *
+     * @param logFile a path to the log file
+     * @throws IOException if the log file has unknown format or can not be read
+     */
+    private void openLog(Path logFile) throws IOException {
+        long size = log.size();
+
+        if (size == 0) {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+            header.putInt(LOG_MAGIC).putInt(LOG_FORMAT_VERSION).flip();
+            writeFully(header, 0);
+            size = LOG_HEADER_SIZE;
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+            readFully(header, 0);
+            header.flip();
+            if (size < LOG_HEADER_SIZE || header.getInt() != LOG_MAGIC || header.getInt() != LOG_FORMAT_VERSION) {
+                throw new IOException(String.format(UNKNOWN_FORMAT_ERROR, logFile));
+            }
+        }
+
+        eventsCount = (size - LOG_HEADER_SIZE) / RECORD_SIZE;
+        long validSize = getRecordPosition(eventsCount);
+        if (validSize < size) {
+            log.truncate(validSize);
+        }
+        log.position(validSize);
+    }
+
+    /**
+     * Appends the given {@link InputEvent} to the log. The event must be already applied to the given
+     * {@link Calculator}, its state is written to the snapshot when the snapshot interval is reached.
+     *
+     * @param event      an {@link InputEvent} applied to the {@link Calculator}
+     * @param calculator a {@link Calculator} the event is applied to
+     * @throws IOException if the event or snapshot can not be written
+     */
+    public void append(InputEvent event, Calculator calculator) throws IOException {
+        if (event == null || calculator == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+
+        record.clear();
+        record.put(event.getEncodedType()).putInt(event.getEncodedArgument()).flip();
+        writeFully(record, getRecordPosition(eventsCount));
+        eventsCount++;
+
+        if (eventsCount % snapshotInterval == 0) {
+            snapshot(calculator);
+        }
+    }
+
+    /**
+     * Writes the state of the given {@link Calculator} to the snapshot as the state after all the events of the log.
+     *
+     * @param calculator a {@link Calculator} all the events of the log are applied to
+     * @throws IOException if the snapshot can not be written
+     */
+    public void snapshot(Calculator calculator) throws IOException {
+        if (calculator == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+
+        byte[] state = CalculatorStateCodec.encode(calculator.getState());
+        ByteBuffer bytes = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE + state.length);
+        bytes.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_FORMAT_VERSION).putLong(eventsCount).put(state);
+        bytes.flip();
+
+        // the events included in the snapshot must be stored before the snapshot
+        log.force(false);
+
+        Path temporaryFile = directory.resolve(TEMPORARY_SNAPSHOT_FILE_NAME);
+        try (FileChannel snapshot = FileChannel.open(temporaryFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                snapshot.write(bytes);
+            }
+            snapshot.force(true);
+        }
+        Files.move(temporaryFile, directory.resolve(SNAPSHOT_FILE_NAME), ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    /**
+     * Restores the state of the given {@link Calculator} after all the events of the log: sets the state from the
+     * snapshot and applies the events after it. Returns the count of the applied events.
+     *
+     * @param calculator a {@link Calculator} to restore
+     * @return the count of the events applied after the snapshot
+     * @throws IOException if the journal can not be read or is corrupted
+     */
+    public long restore(Calculator calculator) throws IOException {
+        if (calculator == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+
+        CalculatorState state = CalculatorState.INITIAL;
+        long firstEvent = 0;
+
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+        if (Files.exists(snapshotFile)) {
+            ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+            if (bytes.remaining() < SNAPSHOT_HEADER_SIZE || bytes.getInt() != SNAPSHOT_MAGIC
+                    || bytes.getInt() != SNAPSHOT_FORMAT_VERSION) {
+                throw new IOException(String.format(UNKNOWN_FORMAT_ERROR, snapshotFile));
+            }
+            firstEvent = bytes.getLong();
+
+            byte[] encodedState = new byte[bytes.remaining()];
+            bytes.get(encodedState);
+            state = CalculatorStateCodec.decode(encodedState);
+        }
+
+        if (firstEvent < 0 || firstEvent > eventsCount) {
+            throw new IOException(String.format(SNAPSHOT_AHEAD_ERROR, firstEvent, eventsCount));
+        }
+
+        calculator.restoreState(state);
+        replay(calculator, firstEvent);
+
+        return eventsCount - firstEvent;
+    }
+
+    /**
+     * Applies the events of the log from the given one to the last to the given {@link Calculator}.
+     *
+     * @param calculator a {@link Calculator} to apply the events to
+     * @param firstEvent an index of the first event to apply
+     * @throws IOException if the log can not be read or is corrupted
+     */
+    private void replay(Calculator calculator, long firstEvent) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate((int) ((eventsCount - firstEvent) * RECORD_SIZE));
+        readFully(records, getRecordPosition(firstEvent));
+        records.flip();
+
+        for (long event = firstEvent; records.hasRemaining(); event++) {
+            InputEvent inputEvent;
+            try {
+                inputEvent = InputEvent.decode(records.get(), records.getInt());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(String.format(INVALID_RECORD_ERROR, event, directory.resolve(LOG_FILE_NAME)), e);
+            }
+
+            try {
+                inputEvent.applyTo(calculator);
+            } catch (CalculationException e) {
+                // the error is a part of the session, the cleaning after it is recorded as the next event
+            } catch (IndexOutOfBoundsException e) { // the recorded register must exist at this point of the session
+                throw new IOException(String.format(INVALID_RECORD_ERROR, event, directory.resolve(LOG_FILE_NAME)), e);
+            }
+        }
+    }
+
+    /**
+     * Removes all the events and the snapshot, for example when the state of the session is saved otherwise. The
+     * journal stays open and the next session is recorded from the initial state.
+     *
+     * @throws IOException if the log or the snapshot can not be removed
+     */
+    public void clear() throws IOException {
+        log.truncate(LOG_HEADER_SIZE);
+        log.position(LOG_HEADER_SIZE);
+        log.force(false);
+        eventsCount = 0;
+        Files.deleteIfExists(directory.resolve(SNAPSHOT_FILE_NAME));
+    }
+
+    /**
+     * Returns true if the journal has no events and no snapshot, so it has nothing to restore.
+     *
+     * @return true if the journal has no events and no snapshot
+     */
+    public boolean isEmpty() {
+        return eventsCount == 0 && !Files.exists(directory.resolve(SNAPSHOT_FILE_NAME));
+    }
+
+    public long getEventsCount() {
+        return eventsCount;
+    }
+
+    /**
+     * Forces the appended events to be written to the storage device.
+     *
+     * @throws IOException if the events can not be written
+     */
+    public void sync() throws IOException {
+        log.force(false);
+    }
+
+    /**
+     * Closes the log file.
+     *
+     * @throws IOException if the log file can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    /**
+     * Returns the position in the log file of the record of the event with the given index.
+     *
+     * @param event an index of the event
+     * @return the position in the log file of the record of the event
+     */
+    private static long getRecordPosition(long event) {
+        return LOG_HEADER_SIZE + event * RECORD_SIZE;
+    }
+
+    /**
+     * Writes all the remaining bytes of the given buffer to the log file at the given position.
+     *
+     * @param buffer   a buffer to write
+     * @param position a position in the log file
+     * @throws IOException if the bytes can not be written
+     */
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += log.write(buffer, position);
+        }
+    }
+
+    /**
+     * Reads the bytes of the log file from the given position until the given buffer is full.
+     *
+     * @param buffer   a buffer to read to
+     * @param position a position in the log file
+     * @throws IOException if the log file ends before the buffer is full
+     */
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int count = log.read(buffer, position);
+            if (count < 0) {
+                throw new EOFException();
+            }
+            position += count;
+        }
+    }
+}
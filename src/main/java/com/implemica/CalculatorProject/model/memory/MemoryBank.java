@@ -0,0 +1,242 @@
+package com.implemica.CalculatorProject.model.memory;
+
+import com.implemica.CalculatorProject.model.Calculator;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * The MemoryBank class is an immutable list of the memory registers of {@link Calculator} with the selected one. The
+ * memory store pushes a new register to the top of the list, the memory add and subtract change the selected register
+ * and the memory recall returns it. Every change returns a new bank, so the states of {@link Calculator} share the
+ * bank until the memory is changed.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class MemoryBank {
+
+    /**
+     * The bank with no registers.
+     */
+    public static final MemoryBank EMPTY = new MemoryBank(new BigDecimal[0], 0);
+
+    /**
+     * The error message about null register specified.
+     */
+    private static final String NO_REGISTER_ERROR = "Memory register can not be null";
+
+    /**
+     * The error message about the index out of the bank.
+     */
+    private static final String INVALID_INDEX_ERROR = "Index %s is out of the memory bank of size %s";
+
+    /**
+     * The values of the registers, the last stored register is the first.
+     */
+    private final BigDecimal[] registers;
+
+    /**
+     * The index of the selected register or 0 if the bank is empty.
+     */
+    private final int selectedIndex;
+
+    /**
+     * Constructs a new {@code MemoryBank} with the given registers and the selected register.
+     *
+     * @param registers     the values of the registers, the last stored register is the first
+     * @param selectedIndex the index of the selected register, must be 0 if there are no registers
+     */
+    public MemoryBank(List<BigDecimal> registers, int selectedIndex) {
+        this(registers.toArray(new BigDecimal[registers.size()]), selectedIndex);
+
+        for (BigDecimal register : this.registers) {
+            if (register == null) {
+                throw new IllegalArgumentException(NO_REGISTER_ERROR);
+            }
+        }
+    }
+
+    /**
+     * Constructs a new {@code MemoryBank} with the given array of registers, which is not copied.
+     *
+     * @param registers     the values of the registers, the last stored register is the first
+     * @param selectedIndex the index of the selected register, must be 0 if there are no registers
+     */
+    private MemoryBank(BigDecimal[] registers, int selectedIndex) {
+        if (selectedIndex != 0 || registers.length != 0) {
+            checkIndex(selectedIndex, registers.length);
+        }
+        this.registers = registers;
+        this.selectedIndex = selectedIndex;
+    }
+
+    /**
+     * Returns the count of the registers.
+     *
+     * @return the count of the registers
+     */
+    public int size() {
+        return registers.length;
+    }
+
+    /**
+     * Returns true if there are no registers.
+     *
+     * @return true if there are no registers
+     */
+    public boolean isEmpty() {
+        return registers.length == 0;
+    }
+
+    /**
+     * Returns the value of the register with the given index.
+     *
+     * @param index the index of the register
+     * @return the value of the register with the given index
+     */
+    public BigDecimal get(int index) {
+        checkIndex(index, registers.length);
+        return registers[index];
+    }
+
+    public int getSelectedIndex() {
+        return selectedIndex;
+    }
+
+    /**
+     * Returns the value of the selected register or {@link BigDecimal#ZERO} if the bank is empty.
+     *
+     * @return the value of the selected register or zero
+     */
+    public BigDecimal getSelected() {
+        return isEmpty() ? ZERO : registers[selectedIndex];
+    }
+
+    /**
+     * Returns the bank with the new register of the given value on the top. The new register is selected.
+     *
+     * @param value the value of the new register
+     * @return the bank with the new register
+     */
+    public MemoryBank push(BigDecimal value) {
+        checkValue(value);
+        BigDecimal[] newRegisters = new BigDecimal[registers.length + 1];
+        newRegisters[0] = value;
+        System.arraycopy(registers, 0, newRegisters, 1, registers.length);
+
+        return new MemoryBank(newRegisters, 0);
+    }
+
+    /**
+     * Returns the bank with the given value of the register with the given index.
+     *
+     * @param index the index of the register
+     * @param value the new value of the register
+     * @return the bank with the changed register
+     */
+    public MemoryBank set(int index, BigDecimal value) {
+        checkIndex(index, registers.length);
+        checkValue(value);
+        BigDecimal[] newRegisters = registers.clone();
+        newRegisters[index] = value;
+
+        return new MemoryBank(newRegisters, selectedIndex);
+    }
+
+    /**
+     * Returns the bank with the register of the given index selected.
+     *
+     * @param index the index of the register to select
+     * @return the bank with the selected register
+     */
+    public MemoryBank select(int index) {
+        checkIndex(index, registers.length);
+        return index == selectedIndex ? this : new MemoryBank(registers, index);
+    }
+
+    /**
+     * Returns the bank without the register of the given index. If the selected register is removed, the register
+     * taking its place is selected or the last one if the removed register was the last.
+     *
+     * @param index the index of the register to remove
+     * @return the bank without the register
+     */
+    public MemoryBank remove(int index) {
+        checkIndex(index, registers.length);
+        MemoryBank result = EMPTY;
+
+        if (registers.length > 1) {
+            BigDecimal[] newRegisters = new BigDecimal[registers.length - 1];
+            System.arraycopy(registers, 0, newRegisters, 0, index);
+            System.arraycopy(registers, index + 1, newRegisters, index, newRegisters.length - index);
+
+            int newSelectedIndex = selectedIndex;
+            if (selectedIndex > index || selectedIndex == newRegisters.length) {
+                newSelectedIndex--;
+            }
+            result = new MemoryBank(newRegisters, newSelectedIndex);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the unmodifiable list of the values of the registers, the last stored register is the first.
+     *
+     * @return the unmodifiable list of the values of the registers
+     */
+    public List<BigDecimal> toList() {
+        return Collections.unmodifiableList(Arrays.asList(registers));
+    }
+
+    /**
+     * Checks the given value of register is not null.
+     *
+     * @param value the value of register to check
+     */
+    private static void checkValue(BigDecimal value) {
+        if (value == null) {
+            throw new IllegalArgumentException(NO_REGISTER_ERROR);
+        }
+    }
+
+    /**
+     * Checks the given index is in the bank of the given size.
+     *
+     * @param index an index to check
+     * @param size  the count of the registers
+     */
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format(INVALID_INDEX_ERROR, index, size));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof MemoryBank)) {
+            return false;
+        }
+
+        MemoryBank that = (MemoryBank) other;
+        return selectedIndex == that.selectedIndex && Arrays.equals(registers, that.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(registers) + selectedIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryBank{registers=" + Arrays.toString(registers) + ", selectedIndex=" + selectedIndex + '}';
+    }
+}
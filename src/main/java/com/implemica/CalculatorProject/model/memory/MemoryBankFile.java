@@ -0,0 +1,287 @@
+package com.implemica.CalculatorProject.model.memory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The MemoryBankFile class keeps the {@link MemoryBank} in a file mapped to memory, so the memory registers are
+ * restored after restart by reading a few bytes without parsing text.
+ * <p>
+ * The file starts with the header: the magic, the version, the count of registers, the index of the selected one and
+ * the offset and length of the registers. A register is its scale, the length of its unscaled value and the bytes of
+ * the unscaled value. The mapped region grows twice when the bank does not fit into it.
+ * <p>
+ * The new registers are written beside the registers of the header, never over them, and are forced to the storage
+ * before the header is changed to point to them. So if the application stops while saving, the file keeps the
+ * previous bank. The changed part of the header is 16 bytes of one sector, which is written at once.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public class MemoryBankFile implements Closeable {
+
+    /**
+     * The initial size of the mapped region in bytes.
+     */
+    static final int INITIAL_SIZE = 4096;
+
+    /**
+     * The size of the header in bytes: the magic, the version, the count of registers, the selected index and the
+     * offset and length of the registers.
+     */
+    static final int HEADER_SIZE = 24;
+
+    /**
+     * The position in the file of the count of registers.
+     */
+    private static final int COUNT_POSITION = 8;
+
+    /**
+     * The position in the file of the index of the selected register.
+     */
+    static final int SELECTED_INDEX_POSITION = 12;
+
+    /**
+     * The position in the file of the offset of the registers.
+     */
+    private static final int DATA_OFFSET_POSITION = 16;
+
+    /**
+     * The position in the file of the length of the registers in bytes.
+     */
+    private static final int DATA_LENGTH_POSITION = 20;
+
+    /**
+     * The size of the header of the first version of the file, the registers follow it.
+     */
+    private static final int LEGACY_HEADER_SIZE = 16;
+
+    /**
+     * The size of the fixed part of the register in bytes: the scale and the length of the unscaled value.
+     */
+    private static final int REGISTER_HEADER_SIZE = 8;
+
+    /**
+     * The first bytes of the file.
+     */
+    private static final int MAGIC = 0x43414C4D;
+
+    /**
+     * The version of the format of the file.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * The first version of the format of the file, which has no offset and length of the registers and is written
+     * over the registers of the previous bank.
+     */
+    private static final int LEGACY_FORMAT_VERSION = 1;
+
+    /**
+     * The error message about the file of other format.
+     */
+    private static final String INVALID_FORMAT_ERROR = "File %s is not a memory bank file";
+
+    /**
+     * The error message about the bank too large for the file.
+     */
+    private static final String TOO_LARGE_ERROR = "Memory bank of %s bytes is too large for the file";
+
+    /**
+     * The path of the file.
+     */
+    private final Path file;
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The region of the file mapped to memory.
+     */
+    private MappedByteBuffer region;
+
+    /**
+     * The offset of the registers the header points to, they are not overwritten by the next save.
+     */
+    private int dataOffset;
+
+    /**
+     * The length in bytes of the registers the header points to.
+     */
+    private int dataLength;
+
+    /**
+     * Constructs a new {@code MemoryBankFile} for the given file. The new file is created with the empty bank.
+     *
+     * @param file the path of the file
+     * @throws IOException if the file can not be opened or mapped
+     */
+    public MemoryBankFile(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, CREATE, READ, WRITE);
+
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(INVALID_FORMAT_ERROR, file));
+            }
+
+            region = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, INITIAL_SIZE));
+            if (size == 0) {
+                dataOffset = HEADER_SIZE;
+                save(MemoryBank.EMPTY);
+            } else {
+                findData();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the {@link MemoryBank} from the file.
+     *
+     * @return the {@link MemoryBank} of the file
+     * @throws IOException if the file is not a memory bank file
+     */
+    public MemoryBank load() throws IOException {
+        ByteBuffer bytes = region.duplicate();
+        MemoryBank bank;
+
+        try {
+            if (bytes.getInt() != MAGIC) {
+                throw new IOException(String.format(INVALID_FORMAT_ERROR, file));
+            }
+
+            int version = bytes.getInt();
+            int count = bytes.getInt();
+            int selectedIndex = bytes.getInt();
+            if (version == FORMAT_VERSION) {
+                int offset = bytes.getInt();
+                int length = bytes.getInt();
+                if (offset < HEADER_SIZE || length < 0 || length > bytes.capacity() - offset) {
+                    throw new IOException(String.format(INVALID_FORMAT_ERROR, file));
+                }
+                bytes.limit(offset + length).position(offset);
+            } else if (version != LEGACY_FORMAT_VERSION) {
+                throw new IOException(String.format(INVALID_FORMAT_ERROR, file));
+            }
+
+            if (count < 0 || count > bytes.remaining() / REGISTER_HEADER_SIZE) {
+                throw new IOException(String.format(INVALID_FORMAT_ERROR, file));
+            }
+
+            List<BigDecimal> registers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int scale = bytes.getInt();
+                int length = bytes.getInt();
+                if (length <= 0 || length > bytes.remaining()) {
+                    throw new IOException(String.format(INVALID_FORMAT_ERROR, file));
+                }
+
+                byte[] unscaled = new byte[length];
+                bytes.get(unscaled);
+                registers.add(new BigDecimal(new BigInteger(unscaled), scale));
+            }
+
+            bank = new MemoryBank(registers, selectedIndex);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(String.format(INVALID_FORMAT_ERROR, file), e);
+        }
+
+        return bank;
+    }
+
+    /**
+     * Writes the given {@link MemoryBank} to the file. The registers are written and forced to the storage first,
+     * then the header is changed to point to them and forced too.
+     *
+     * @param bank the {@link MemoryBank} to write
+     * @throws IOException if the bank can not be written
+     */
+    public void save(MemoryBank bank) throws IOException {
+        List<byte[]> unscaledValues = new ArrayList<>(bank.size());
+        long size = 0;
+
+        for (BigDecimal register : bank.toList()) {
+            byte[] unscaled = register.unscaledValue().toByteArray();
+            unscaledValues.add(unscaled);
+            size += REGISTER_HEADER_SIZE + unscaled.length;
+        }
+
+        // the registers go before the current ones if they fit there, otherwise after them
+        long offset = HEADER_SIZE;
+        if (offset + size > dataOffset) {
+            offset = (long) dataOffset + dataLength;
+        }
+
+        if (offset + size > Integer.MAX_VALUE) {
+            throw new IOException(String.format(TOO_LARGE_ERROR, size));
+        }
+        if (offset + size > region.capacity()) {
+            long newSize = Math.min(Integer.MAX_VALUE, Math.max(offset + size, 2L * region.capacity()));
+            region = channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        }
+
+        ByteBuffer bytes = region.duplicate();
+        bytes.position((int) offset);
+        for (int i = 0; i < unscaledValues.size(); i++) {
+            byte[] unscaled = unscaledValues.get(i);
+            bytes.putInt(bank.get(i).scale()).putInt(unscaled.length).put(unscaled);
+        }
+        region.force();
+
+        region.putInt(0, MAGIC).putInt(Integer.BYTES, FORMAT_VERSION);
+        region.putInt(COUNT_POSITION, bank.size()).putInt(SELECTED_INDEX_POSITION, bank.getSelectedIndex());
+        region.putInt(DATA_OFFSET_POSITION, (int) offset).putInt(DATA_LENGTH_POSITION, (int) size);
+        region.force();
+
+        dataOffset = (int) offset;
+        dataLength = (int) size;
+    }
+
+    /**
+     * Finds the registers the header of the existing file points to. The registers of a file of the first version or
+     * of unknown format are considered to take all the file, so they are not overwritten until the header is.
+     */
+    private void findData() {
+        dataOffset = LEGACY_HEADER_SIZE;
+        dataLength = region.capacity() - LEGACY_HEADER_SIZE;
+
+        if (region.capacity() >= HEADER_SIZE && region.getInt(0) == MAGIC &&
+                region.getInt(Integer.BYTES) == FORMAT_VERSION) {
+            int offset = region.getInt(DATA_OFFSET_POSITION);
+            int length = region.getInt(DATA_LENGTH_POSITION);
+            if (offset >= HEADER_SIZE && length >= 0 && length <= region.capacity() - offset) {
+                dataOffset = offset;
+                dataLength = length;
+            }
+        }
+    }
+
+    /**
+     * Writes the changes of the file to the storage and closes the file.
+     *
+     * @throws IOException if some error occurred while writing the file
+     */
+    @Override
+    public void close() throws IOException {
+        region.force();
+        channel.close();
+    }
+}
@@ -1,5 +1,7 @@
 package com.implemica.CalculatorProject.model.validation;
 
+import com.implemica.CalculatorProject.model.calculation.ConstructiveReal;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -24,51 +26,66 @@ public class DataValidator {
     private static final int MAX_LENGTH_WITH_POINT = 16;
 
     /**
-     * The string value of pattern for any digit.
+     * The state of number scanning before the first character.
+     */
+    private static final int START = 0;
+
+    /**
+     * The state of number scanning after the minus sign of number.
+     */
+    private static final int AFTER_MINUS = 1;
+
+    /**
+     * The state of number scanning in the integer digits of number.
      */
-    private static final String PATTERN_FOR_DIGIT = "\\d";
+    private static final int INTEGER_DIGITS = 2;
 
     /**
-     * The string value of pattern for any number.
+     * The state of number scanning after the decimal point or in the fractional digits of number.
      */
-    private static final String PATTERN_FOR_NUMBERS = "[-]?\\d+[.]?[\\d]*[Ee]?([-+]?\\d+)?";
+    private static final int FRACTION_DIGITS = 3;
 
     /**
-     * The minimum number user can enter.
+     * The state of number scanning after the exponent separator.
      */
-    private static final BigDecimal MIN_VALUE = new BigDecimal("0.0000000000000001");
+    private static final int AFTER_EXPONENT = 4;
 
     /**
-     * The maximum number without converting to exponential view.
+     * The state of number scanning after the sign of exponent.
      */
-    private static final BigDecimal MAX_VALUE = new BigDecimal("9999999999999999.5");
+    private static final int AFTER_EXPONENT_SIGN = 5;
 
     /**
-     * The upper bound of number's value after what will be thrown an exception about overflow.
+     * The state of number scanning in the digits of exponent.
      */
-    private static final BigDecimal MAX_NUMBER = new BigDecimal("1.e+10000");
+    private static final int EXPONENT_DIGITS = 6;
 
     /**
-     * The lower bound of number's value under what will be thrown an exception about overflow.
+     * The state of number scanning after a character that can not be in the number.
      */
-    private static final BigDecimal MIN_NUMBER = new BigDecimal("1.e-10000");
+    private static final int REJECTED = -1;
 
     /**
-     * The value of scale for numbers with fraction part longer than valid to check is exponential converting need/
+     * The error message about the range out of the characters.
      */
-    private static final int SCALE_FOR_FRACTION_PART_CHECK = 21;
+    private static final String INVALID_RANGE_ERROR = "Range [%s, %s) is out of the characters of length %s";
 
     /**
-     * The value greater than {@link #MIN_VALUE} but number less of it must be converted to exponential view
-     * on condition when this number's length is bigger than valid.
+     * The error message about the array of offsets too small for the numbers.
      */
-    private static final BigDecimal NUMBER_FOR_EXPONENTIAL_CHECK = BigDecimal.valueOf(0.001);
+    private static final String NO_SPACE_FOR_OFFSETS_ERROR = "Array of %s offsets can not hold the offsets of number %s";
 
     /**
-     * The minimum value of number's fraction part after 16-th digit after point greater what number must be converted
-     * to an exponential view.
+     * The power of ten the magnitude of {@link ConstructiveReal} number must be greater than to be surely
+     * over the lower valid bound.
      */
-    private static final BigDecimal MIN_TAIL_VALUE_FOR_EXPONENT = BigDecimal.valueOf(0.000000000000000000001);
+    private static final int MIN_SAFE_MAGNITUDE = -9990;
+
+    /**
+     * The power of ten the magnitude of {@link ConstructiveReal} number must be less than to be surely
+     * under the upper valid bound.
+     */
+    private static final int MAX_SAFE_MAGNITUDE = 9990;
 
     /**
      * Returns true if the specified string is null or empty.
@@ -87,21 +104,221 @@ public class DataValidator {
      * @return true if the specified string represents a digit
      */
     public static boolean isDigit(String value) {
-        return value != null && value.matches(PATTERN_FOR_DIGIT);
+        return value != null && value.length() == 1 && isDigit(value.charAt(0));
     }
 
     /**
-     * Returns true if the specified string contains only number.
+     * Returns true if the specified character is a digit from 0 to 9.
+     *
+     * @param symbol a character to validate for digit
+     * @return true if the specified character is a digit from 0 to 9
+     */
+    public static boolean isDigit(char symbol) {
+        return symbol >= '0' && symbol <= '9';
+    }
+
+    /**
+     * Returns true if the specified string contains only number: an optional minus, the integer digits, an optional
+     * decimal point with the fractional digits and an optional exponent separator E or e with the optional signed
+     * digits of exponent, like the regular expression {@code [-]?\d+[.]?[\d]*[Ee]?([-+]?\d+)?} does.
      *
      * @param value a string to validate for containing only number
      * @return true if the specified string contains only number
      */
     public static boolean isNumber(String value) {
-        return value != null && value.matches(PATTERN_FOR_NUMBERS);
+        return value != null && isNumber(value, 0, value.length());
     }
 
     /**
-     * Returns true if the length of current {@link BigDecimal} number is valid.
+     * Returns true if the characters of the given {@link CharSequence} from the given index inclusive to the given
+     * index exclusive are a number, see {@link #isNumber(String)}. The characters are scanned once without creating
+     * any objects.
+     *
+     * @param value a {@link CharSequence} to validate
+     * @param from  an index of the first character of the number
+     * @param to    an index after the last character of the number
+     * @return true if the characters of the given range are a number
+     */
+    public static boolean isNumber(CharSequence value, int from, int to) {
+        checkRange(from, to, value.length());
+        int state = START;
+
+        for (int i = from; i < to && state != REJECTED; i++) {
+            state = nextNumberState(state, value.charAt(i));
+        }
+
+        return isNumberEndState(state);
+    }
+
+    /**
+     * Returns true if the characters of the given array from the given index inclusive to the given index exclusive
+     * are a number, see {@link #isNumber(String)}. The characters are scanned once without creating any objects.
+     *
+     * @param value an array of characters to validate
+     * @param from  an index of the first character of the number
+     * @param to    an index after the last character of the number
+     * @return true if the characters of the given range are a number
+     */
+    public static boolean isNumber(char[] value, int from, int to) {
+        checkRange(from, to, value.length);
+        int state = START;
+
+        for (int i = from; i < to && state != REJECTED; i++) {
+            state = nextNumberState(state, value[i]);
+        }
+
+        return isNumberEndState(state);
+    }
+
+    /**
+     * Validates the numbers separated by the given delimiter in the given range of {@link CharSequence} without
+     * creating substrings. The start and the end offsets of the i-th number are written to the given array at indexes
+     * {@code 2 * i} and {@code 2 * i + 1}. Returns the count of numbers if all of them are valid or
+     * {@code -(i + 1)} if the i-th number is the first invalid one, its offsets are written too. The empty range has
+     * no numbers, an empty field between delimiters is an invalid number.
+     *
+     * @param value     a {@link CharSequence} with the delimited numbers
+     * @param from      an index of the first character of the first number
+     * @param to        an index after the last character of the last number
+     * @param delimiter a character the numbers are separated by
+     * @param offsets   an array to write the start and the end offsets of the numbers to
+     * @return the count of numbers or {@code -(i + 1)} if the i-th number is invalid
+     */
+    public static int validateNumbers(CharSequence value, int from, int to, char delimiter, int[] offsets) {
+        checkRange(from, to, value.length());
+        int count = 0;
+        int start = from;
+        int state = START;
+
+        for (int i = from; i <= to && count >= 0; i++) {
+            if (i == to || value.charAt(i) == delimiter) {
+                if (from < to) { // the empty range has no numbers
+                    count = addNumberOffsets(offsets, count, start, i, isNumberEndState(state));
+                }
+                start = i + 1;
+                state = START;
+            } else if (state != REJECTED) {
+                state = nextNumberState(state, value.charAt(i));
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Validates the numbers separated by the given delimiter in the given range of array of characters, see
+     * {@link #validateNumbers(CharSequence, int, int, char, int[])}.
+     *
+     * @param value     an array of characters with the delimited numbers
+     * @param from      an index of the first character of the first number
+     * @param to        an index after the last character of the last number
+     * @param delimiter a character the numbers are separated by
+     * @param offsets   an array to write the start and the end offsets of the numbers to
+     * @return the count of numbers or {@code -(i + 1)} if the i-th number is invalid
+     */
+    public static int validateNumbers(char[] value, int from, int to, char delimiter, int[] offsets) {
+        checkRange(from, to, value.length);
+        int count = 0;
+        int start = from;
+        int state = START;
+
+        for (int i = from; i <= to && count >= 0; i++) {
+            if (i == to || value[i] == delimiter) {
+                if (from < to) { // the empty range has no numbers
+                    count = addNumberOffsets(offsets, count, start, i, isNumberEndState(state));
+                }
+                start = i + 1;
+                state = START;
+            } else if (state != REJECTED) {
+                state = nextNumberState(state, value[i]);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes the offsets of the scanned number to the given array and returns the new count of numbers or
+     * {@code -(count + 1)} if the number is invalid.
+     *
+     * @param offsets an array to write the offsets to
+     * @param count   the count of numbers before the scanned one
+     * @param start   the start offset of the number
+     * @param end     the end offset of the number
+     * @param isValid true if the scanned number is valid
+     * @return the new count of numbers or {@code -(count + 1)} if the number is invalid
+     */
+    private static int addNumberOffsets(int[] offsets, int count, int start, int end, boolean isValid) {
+        if (2 * count + 1 >= offsets.length) {
+            throw new IllegalArgumentException(String.format(NO_SPACE_FOR_OFFSETS_ERROR, offsets.length, count));
+        }
+        offsets[2 * count] = start;
+        offsets[2 * count + 1] = end;
+
+        return isValid ? count + 1 : -(count + 1);
+    }
+
+    /**
+     * Returns the state of number scanning after the given character.
+     *
+     * @param state  the state of number scanning before the character
+     * @param symbol the next character of number
+     * @return the state of number scanning after the given character
+     */
+    private static int nextNumberState(int state, char symbol) {
+        int nextState = REJECTED;
+
+        if (isDigit(symbol)) {
+            if (state == START || state == AFTER_MINUS) {
+                nextState = INTEGER_DIGITS;
+            } else if (state == AFTER_EXPONENT || state == AFTER_EXPONENT_SIGN) {
+                nextState = EXPONENT_DIGITS;
+            } else {
+                // the digits of exponent can follow the digits of number without the separator
+                nextState = state;
+            }
+        } else if (symbol == '-' && state == START) {
+            nextState = AFTER_MINUS;
+        } else if (symbol == '.' && state == INTEGER_DIGITS) {
+            nextState = FRACTION_DIGITS;
+        } else if ((symbol == 'E' || symbol == 'e') && (state == INTEGER_DIGITS || state == FRACTION_DIGITS)) {
+            nextState = AFTER_EXPONENT;
+        } else if ((symbol == '-' || symbol == '+') &&
+                (state == INTEGER_DIGITS || state == FRACTION_DIGITS || state == AFTER_EXPONENT)) {
+            nextState = AFTER_EXPONENT_SIGN;
+        }
+
+        return nextState;
+    }
+
+    /**
+     * Returns true if the scanned characters are a number when scanning ends in the given state.
+     *
+     * @param state the state of number scanning
+     * @return true if the scanned characters are a number
+     */
+    private static boolean isNumberEndState(int state) {
+        return state == INTEGER_DIGITS || state == FRACTION_DIGITS || state == AFTER_EXPONENT ||
+                state == EXPONENT_DIGITS;
+    }
+
+    /**
+     * Checks the given range is in the characters of the given length.
+     *
+     * @param from   an index of the first character of the range
+     * @param to     an index after the last character of the range
+     * @param length the count of characters
+     */
+    private static void checkRange(int from, int to, int length) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(String.format(INVALID_RANGE_ERROR, from, to, length));
+        }
+    }
+
+    /**
+     * Returns true if the length of current {@link BigDecimal} number is valid. The {@code Calculator} does not call
+     * this method: the length of the entered number is limited by {@code NumberEntry} digit by digit. The method stays
+     * as the same rule for a number given as a whole, and the tests of {@code NumberEntry} check it against this rule.
      *
      * @param number a {@link BigDecimal} number to validate
      * @return true if the length of current {@link BigDecimal} number is valid
@@ -134,25 +351,7 @@ public class DataValidator {
      * @return true if the specified {@link BigDecimal} number needs exponential formatting
      */
     public static boolean isExponentFormattingNeed(BigDecimal number) {
-        number = number.abs();
-        boolean isExponentNeed = false;
-
-        if (number.compareTo(MIN_VALUE) < 0 || number.compareTo(MAX_VALUE) >= 0) {
-            isExponentNeed = true;
-        }
-
-        // The value of number's fraction part after 16-th digit
-        BigDecimal tailAfter16thDigit = number.remainder(MIN_VALUE).setScale(SCALE_FOR_FRACTION_PART_CHECK, RoundingMode.HALF_UP);
-        if (number.compareTo(NUMBER_FOR_EXPONENTIAL_CHECK) < 0 &&
-                tailAfter16thDigit.compareTo(MIN_TAIL_VALUE_FOR_EXPONENT) >= 0) {
-            isExponentNeed = true;
-        }
-
-        if (isZero(number)) {
-            isExponentNeed = false;
-        }
-
-        return isExponentNeed;
+        return NumberClass.of(number).isExponentFormattingNeed();
     }
 
     /**
@@ -172,9 +371,73 @@ public class DataValidator {
      * @return true if the given {@link BigDecimal} number is out of valid bounds
      */
     public static boolean isResultOverflow(BigDecimal result) {
-        BigDecimal absResult = result.abs();
+        return NumberClass.isOverflow(result);
+    }
+
+    /**
+     * Returns true if the product of the given {@link BigDecimal} numbers is surely out of valid bounds. The product
+     * is not computed: its first significant digit is at the sum of the exponents of the numbers or one digit higher.
+     * Returns false if the product can be inside the bounds. The product is exact, so it is out of bounds on both
+     * sides, unlike the quotient.
+     *
+     * @param firstNumber  the first factor
+     * @param secondNumber the second factor
+     * @return true if the product of the given numbers is surely out of valid bounds
+     */
+    public static boolean isProductOverflow(BigDecimal firstNumber, BigDecimal secondNumber) {
+        boolean isOverflow = false;
+
+        if (firstNumber.signum() != 0 && secondNumber.signum() != 0) {
+            long exponent = NumberClass.exponentOf(firstNumber) + NumberClass.exponentOf(secondNumber);
+            isOverflow = exponent >= NumberClass.MAX_EXPONENT || exponent + 1 < NumberClass.MIN_EXPONENT;
+        }
+
+        return isOverflow;
+    }
+
+    /**
+     * Returns true if the quotient of the given {@link BigDecimal} numbers is surely over the upper valid bound. The
+     * quotient is not computed: its first significant digit is at the difference of the exponents of the numbers or
+     * one digit lower. Returns false if the quotient can be inside the bounds.
+     * <p>
+     * The quotient under the lower bound is not predicted: computed with a fixed count of fractional digits, it is
+     * rounded to zero, which is a valid result.
+     *
+     * @param dividend the number to divide
+     * @param divisor  the non-zero number to divide by
+     * @return true if the quotient of the given numbers is surely over the upper valid bound
+     */
+    public static boolean isQuotientOverflow(BigDecimal dividend, BigDecimal divisor) {
+        boolean isOverflow = false;
+
+        if (dividend.signum() != 0) {
+            long exponent = NumberClass.exponentOf(dividend) - NumberClass.exponentOf(divisor);
+            isOverflow = exponent - 1 >= NumberClass.MAX_EXPONENT;
+        }
+
+        return isOverflow;
+    }
+
+    /**
+     * Returns true if the given {@link ConstructiveReal} number is out of valid bounds. The magnitude of the number
+     * is searched with the count of fractional digits doubled at each step, so a small number is checked with about
+     * twice as many digits as it has leading zeroes. All the {@value ConstructiveReal#ZERO_CHECK_SCALE} fractional
+     * digits are computed only for a number close to the bounds or not distinguished from zero.
+     *
+     * @param result the number to check for overflow
+     * @return true if the given {@link ConstructiveReal} number is out of valid bounds
+     */
+    public static boolean isResultOverflow(ConstructiveReal result) {
+        int magnitude = result.getMagnitude(ConstructiveReal.ZERO_CHECK_SCALE);
+        boolean isOverflow;
+
+        if (magnitude != ConstructiveReal.NO_MAGNITUDE && magnitude > MIN_SAFE_MAGNITUDE &&
+                magnitude < MAX_SAFE_MAGNITUDE) {
+            isOverflow = false;
+        } else {
+            isOverflow = isResultOverflow(result.approximate(ConstructiveReal.ZERO_CHECK_SCALE));
+        }
 
-        return MAX_NUMBER.compareTo(absResult) <= 0 ||
-                !isZero(absResult) && MIN_NUMBER.compareTo(absResult) >= 0;
+        return isOverflow;
     }
 }
@@ -0,0 +1,292 @@
+package com.implemica.CalculatorProject.model.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.math.RoundingMode.DOWN;
+
+/**
+ * The NumberClass class describes the magnitude of a {@link BigDecimal} number: its sign, the power of ten of its first
+ * significant digit, the count of its integer digits, is it out of valid bounds and does it need exponential
+ * formatting. The description is computed once per number, mostly from its {@link BigDecimal#precision()} and
+ * {@link BigDecimal#scale()}, so the validation and formatting of a result do not repeat the arithmetic on all its
+ * digits.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+public final class NumberClass {
+
+    /**
+     * The power of ten the number must be less than to be inside the valid bounds.
+     */
+    static final int MAX_EXPONENT = 10000;
+
+    /**
+     * The power of ten the number must be greater than to be inside the valid bounds.
+     */
+    static final int MIN_EXPONENT = -10000;
+
+    /**
+     * The lower bound of number's value under what will be thrown an exception about overflow.
+     */
+    private static final BigDecimal MIN_NUMBER = new BigDecimal("1.e-10000");
+
+    /**
+     * The exponent of the maximum number without converting to exponential view.
+     */
+    private static final int MAX_PLAIN_EXPONENT = 15;
+
+    /**
+     * The exponent of the minimum number user can enter, the numbers less than it are converted to exponential view.
+     */
+    private static final int MIN_PLAIN_EXPONENT = -16;
+
+    /**
+     * The maximum number without converting to exponential view.
+     */
+    private static final BigDecimal MAX_VALUE = new BigDecimal("9999999999999999.5");
+
+    /**
+     * The exponent of the numbers converted to exponential view if they have the digits after the 16-th digit after
+     * point.
+     */
+    private static final int MAX_TAIL_CHECK_EXPONENT = -4;
+
+    /**
+     * The count of digits after point shown without exponent.
+     */
+    private static final int FRACTION_LENGTH = 16;
+
+    /**
+     * The scale the digits after the 16-th digit after point are checked at. The digits after it can not make the
+     * number to be converted to exponential view.
+     */
+    private static final int TAIL_CHECK_SCALE = 22;
+
+    /**
+     * The count of the checked digits after the 16-th digit after point.
+     */
+    private static final BigInteger TAIL_MODULUS = BigInteger.TEN.pow(TAIL_CHECK_SCALE - FRACTION_LENGTH);
+
+    /**
+     * The minimum value of the checked digits after the 16-th digit after point the number is converted to exponential
+     * view with.
+     */
+    private static final BigInteger MIN_TAIL_FOR_EXPONENT = BigInteger.valueOf(5);
+
+    /**
+     * The class of zero.
+     */
+    private static final NumberClass ZERO = new NumberClass(0, 0, false, false, false);
+
+    /**
+     * The sign of the number: -1, 0 or 1.
+     */
+    private final int signum;
+
+    /**
+     * The power of ten of the first significant digit of the number or 0 for zero.
+     */
+    private final long exponent;
+
+    /**
+     * The flag shows the number has non-zero fractional digits.
+     */
+    private final boolean hasFractionalPart;
+
+    /**
+     * The flag shows the number is out of valid bounds.
+     */
+    private final boolean isOverflow;
+
+    /**
+     * The flag shows the number needs exponential formatting.
+     */
+    private final boolean isExponentFormattingNeed;
+
+    /**
+     * Constructs a new {@code NumberClass} with the given properties.
+     *
+     * @param signum                   the sign of the number
+     * @param exponent                 the power of ten of the first significant digit of the number
+     * @param hasFractionalPart        true if the number has non-zero fractional digits
+     * @param isOverflow               true if the number is out of valid bounds
+     * @param isExponentFormattingNeed true if the number needs exponential formatting
+     */
+    private NumberClass(int signum, long exponent, boolean hasFractionalPart, boolean isOverflow,
+                        boolean isExponentFormattingNeed) {
+        this.signum = signum;
+        this.exponent = exponent;
+        this.hasFractionalPart = hasFractionalPart;
+        this.isOverflow = isOverflow;
+        this.isExponentFormattingNeed = isExponentFormattingNeed;
+    }
+
+    /**
+     * Returns the {@code NumberClass} of the given {@link BigDecimal} number.
+     *
+     * @param number a {@link BigDecimal} number to classify
+     * @return the {@code NumberClass} of the given number
+     */
+    public static NumberClass of(BigDecimal number) {
+        NumberClass numberClass = ZERO;
+
+        if (number.signum() != 0) {
+            long exponent = exponentOf(number);
+            boolean isOverflow = isOverflow(number, exponent);
+
+            boolean isExponentFormattingNeed;
+            if (exponent < MIN_PLAIN_EXPONENT || exponent > MAX_PLAIN_EXPONENT) {
+                isExponentFormattingNeed = true;
+            } else if (exponent == MAX_PLAIN_EXPONENT) { // can be rounded up to 17 digits
+                isExponentFormattingNeed = number.abs().compareTo(MAX_VALUE) >= 0;
+            } else if (exponent <= MAX_TAIL_CHECK_EXPONENT) { // the digits after 16-th digit after point are lost
+                isExponentFormattingNeed = hasTailAfterFractionLength(number);
+            } else {
+                isExponentFormattingNeed = false;
+            }
+
+            numberClass = new NumberClass(number.signum(), exponent, hasFractionalPart(number), isOverflow,
+                    isExponentFormattingNeed);
+        }
+
+        return numberClass;
+    }
+
+    /**
+     * Returns the power of ten of the first significant digit of the given non-zero {@link BigDecimal} number.
+     *
+     * @param number a non-zero {@link BigDecimal} number
+     * @return the power of ten of the first significant digit of the number
+     */
+    static long exponentOf(BigDecimal number) {
+        return (long) number.precision() - number.scale() - 1;
+    }
+
+    /**
+     * Returns true if the given {@link BigDecimal} number is out of valid bounds. Only the number with the exponent at
+     * the lower bound is compared with the bound.
+     *
+     * @param number a {@link BigDecimal} number to check
+     * @return true if the given number is out of valid bounds
+     */
+    static boolean isOverflow(BigDecimal number) {
+        return number.signum() != 0 && isOverflow(number, exponentOf(number));
+    }
+
+    /**
+     * Returns true if the given non-zero {@link BigDecimal} number of the given exponent is out of valid bounds.
+     *
+     * @param number   a non-zero {@link BigDecimal} number to check
+     * @param exponent the power of ten of the first significant digit of the number
+     * @return true if the given number is out of valid bounds
+     */
+    private static boolean isOverflow(BigDecimal number, long exponent) {
+        return exponent >= MAX_EXPONENT || exponent < MIN_EXPONENT ||
+                exponent == MIN_EXPONENT && number.abs().compareTo(MIN_NUMBER) <= 0;
+    }
+
+    /**
+     * Returns true if the given number has the digits after 16-th digit after point, which are shown after rounding at
+     * 21 digits after point.
+     *
+     * @param number a {@link BigDecimal} number less than one to check
+     * @return true if the number has the digits after 16-th digit after point
+     */
+    private static boolean hasTailAfterFractionLength(BigDecimal number) {
+        boolean hasTail = false;
+
+        if (number.scale() > FRACTION_LENGTH) {
+            BigInteger digits = number.abs().setScale(TAIL_CHECK_SCALE, DOWN).unscaledValue();
+            hasTail = digits.mod(TAIL_MODULUS).compareTo(MIN_TAIL_FOR_EXPONENT) >= 0;
+        }
+
+        return hasTail;
+    }
+
+    /**
+     * Returns true if the given number has non-zero fractional digits.
+     *
+     * @param number a {@link BigDecimal} number to check
+     * @return true if the given number has non-zero fractional digits
+     */
+    private static boolean hasFractionalPart(BigDecimal number) {
+        int scale = number.scale();
+        boolean hasFractionalPart;
+
+        if (scale <= 0) {
+            hasFractionalPart = false;
+        } else if (number.unscaledValue().getLowestSetBit() < scale) { // not divisible by 2 ^ scale, so by 10 ^ scale
+            hasFractionalPart = true;
+        } else {
+            hasFractionalPart = number.stripTrailingZeros().scale() > 0;
+        }
+
+        return hasFractionalPart;
+    }
+
+    public int getSignum() {
+        return signum;
+    }
+
+    /**
+     * Returns true if the number is zero.
+     *
+     * @return true if the number is zero
+     */
+    public boolean isZero() {
+        return signum == 0;
+    }
+
+    /**
+     * Returns the power of ten of the first significant digit of the number, for example 2 for 123.4 and -3 for 0.005,
+     * or 0 for zero.
+     *
+     * @return the power of ten of the first significant digit of the number
+     */
+    public long getExponent() {
+        return exponent;
+    }
+
+    /**
+     * Returns the count of digits in the integer part of the number or 0 if it is less than one by absolute value.
+     *
+     * @return the count of digits in the integer part of the number
+     */
+    public long getIntegerDigitsCount() {
+        return signum != 0 && exponent >= 0 ? exponent + 1 : 0;
+    }
+
+    /**
+     * Returns true if the number has non-zero fractional digits.
+     *
+     * @return true if the number has non-zero fractional digits
+     */
+    public boolean hasFractionalPart() {
+        return hasFractionalPart;
+    }
+
+    /**
+     * Returns true if the number is out of valid bounds.
+     *
+     * @return true if the number is out of valid bounds
+     */
+    public boolean isOverflow() {
+        return isOverflow;
+    }
+
+    /**
+     * Returns true if the number needs exponential formatting.
+     *
+     * @return true if the number needs exponential formatting
+     */
+    public boolean isExponentFormattingNeed() {
+        return isExponentFormattingNeed;
+    }
+
+    @Override
+    public String toString() {
+        return "NumberClass{signum=" + signum + ", exponent=" + exponent + ", hasFractionalPart=" + hasFractionalPart +
+                ", isOverflow=" + isOverflow + ", isExponentFormattingNeed=" + isExponentFormattingNeed + '}';
+    }
+}
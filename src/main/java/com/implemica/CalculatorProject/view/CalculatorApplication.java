@@ -1,5 +1,6 @@
 package com.implemica.CalculatorProject.view;
 
+import com.implemica.CalculatorProject.controller.CalculatorController;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
@@ -88,6 +89,11 @@ public class CalculatorApplication extends Application {
      */
     private Parent root;
 
+    /**
+     * The {@link CalculatorController} of the view, which restores and keeps the state of calculator between sessions.
+     */
+    private CalculatorController controller;
+
     /**
      * The value of pixel count from application's left border to X coordinate where was generated {@link MouseEvent}
      * after mouse pressed on application title {@link Label}.
@@ -279,6 +285,7 @@ public class CalculatorApplication extends Application {
         try {
             currentStage = primaryStage;
             configureStageParameters();
+            controller.restoreState();
 
             // add listeners
             addWindowMoveListener();
@@ -294,6 +301,19 @@ public class CalculatorApplication extends Application {
         }
     }
 
+    /**
+     * Writes the state of calculator, so the next start of the application continues from it, and closes the journal
+     * of the session and the file of the memory registers.
+     */
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.saveState();
+            controller.closeJournal();
+            controller.closeMemoryFile();
+        }
+    }
+
     /**
      * Configures current {@link Stage} parameters: sets {@link Scene}, title, window style, width and height attributes
      * and etc.
@@ -321,14 +341,17 @@ public class CalculatorApplication extends Application {
     }
 
     /**
-     * Loads and returns the root {@link Parent} for the view.
+     * Loads and returns the root {@link Parent} for the view and keeps its {@link CalculatorController}.
      *
      * @return the root {@link Parent} for the view
      * @throws IOException if something wrong with the view file
      */
     private Parent loadParent() throws IOException {
         FXMLLoader loader = new FXMLLoader();
-        return loader.load(getClass().getResourceAsStream(CALCULATOR_VIEW_FILE));
+        Parent parent = loader.load(getClass().getResourceAsStream(CALCULATOR_VIEW_FILE));
+        controller = loader.getController();
+
+        return parent;
     }
 
     /**
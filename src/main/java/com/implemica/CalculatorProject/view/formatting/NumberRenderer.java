@@ -0,0 +1,255 @@
+package com.implemica.CalculatorProject.view.formatting;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * The NumberRenderer class writes the digits of {@link BigDecimal} numbers used by {@link OutputFormatter}. The number
+ * is rounded to the shown digits first, so only these digits are converted to characters, and then the sign, group
+ * delimiters, decimal separator and exponent are appended to the reused {@link StringBuilder}. The builder can not be
+ * shared between threads: each thread gets its own {@code NumberRenderer} by {@link #get()}.
+ *
+ * @author V. Kozina-Kravchenko
+ */
+final class NumberRenderer {
+
+    /**
+     * The string value contains an exponent symbol.
+     */
+    private static final String EXPONENT = "e";
+
+    /**
+     * The string value contains exponent symbol with plus sign.
+     */
+    private static final String POSITIVE_EXPONENT = "e+";
+
+    /**
+     * The value of character used as minus sign.
+     */
+    private static final char MINUS = '-';
+
+    /**
+     * The value of character used as decimal separator.
+     */
+    private static final char DECIMAL_SEPARATOR = '.';
+
+    /**
+     * The value of character used as group separator.
+     */
+    private static final char GROUP_SEPARATOR = ',';
+
+    /**
+     * The count of integer digits in a group.
+     */
+    private static final int GROUP_SIZE = 3;
+
+    /**
+     * The character of zero digit.
+     */
+    private static final char ZERO_DIGIT = '0';
+
+    /**
+     * The {@link MathContext} rounds number to the significant digits shown in an exponential view.
+     */
+    private static final MathContext EXPONENTIAL_VIEW_CONTEXT = new MathContext(16, HALF_UP);
+
+    /**
+     * The initial capacity of the {@link StringBuilder}, enough for the numbers shown with rounding or exponent.
+     */
+    private static final int BUILDER_CAPACITY = 32;
+
+    /**
+     * The {@code NumberRenderer}s of the threads formatting numbers.
+     */
+    private static final ThreadLocal<NumberRenderer> RENDERERS = ThreadLocal.withInitial(NumberRenderer::new);
+
+    /**
+     * The {@link StringBuilder} the formatted number is written to.
+     */
+    private final StringBuilder builder = new StringBuilder(BUILDER_CAPACITY);
+
+    /**
+     * Constructs a new {@code NumberRenderer}.
+     */
+    private NumberRenderer() {
+    }
+
+    /**
+     * Returns the {@code NumberRenderer} of the current thread.
+     *
+     * @return the {@code NumberRenderer} of the current thread
+     */
+    static NumberRenderer get() {
+        return RENDERERS.get();
+    }
+
+    /**
+     * Returns the given non-zero {@link BigDecimal} number rounded to 16 significant digits and written in an
+     * exponential view, for example {@code 1.e+16} or {@code -4.572473708276177e-4}. The decimal separator is always
+     * shown, the trailing zeroes of fractional part are not.
+     *
+     * @param number             a non-zero {@link BigDecimal} number to format
+     * @param isPositiveExponent true if the number has positive exponent, which sign is shown
+     * @return the string contains the number in an exponential view
+     */
+    String renderWithExponent(BigDecimal number, boolean isPositiveExponent) {
+        BigDecimal rounded = number.round(EXPONENTIAL_VIEW_CONTEXT);
+        String digits = rounded.unscaledValue().abs().toString();
+        long exponent = (long) digits.length() - rounded.scale() - 1;
+        int significantDigitsCount = getSignificantLength(digits, digits.length());
+
+        builder.setLength(0);
+        appendSign(number);
+        builder.append(digits.charAt(0)).append(DECIMAL_SEPARATOR).append(digits, 1, significantDigitsCount);
+
+        if (isPositiveExponent) {
+            builder.append(POSITIVE_EXPONENT);
+        } else {
+            builder.append(EXPONENT);
+        }
+        if (exponent < 0) {
+            builder.append(MINUS);
+        }
+        builder.append(Math.abs(exponent));
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns the given {@link BigDecimal} number rounded to the given count of fractional digits by the given
+     * {@link RoundingMode}. The trailing zeroes of fractional part and the decimal separator of the number without
+     * fractional digits are not shown.
+     *
+     * @param number              a {@link BigDecimal} number to format
+     * @param fractionDigitsCount the maximum count of fractional digits
+     * @param roundingMode        the {@link RoundingMode} used for rounding
+     * @param isGroupingUsed      true if the group delimiters are used
+     * @return the string contains the rounded number
+     */
+    String renderWithRounding(BigDecimal number, int fractionDigitsCount, RoundingMode roundingMode,
+                              boolean isGroupingUsed) {
+        BigDecimal rounded = number.setScale(fractionDigitsCount, roundingMode);
+        String digits = rounded.unscaledValue().abs().toString();
+
+        builder.setLength(0);
+        appendSign(number);
+        appendFixedPoint(digits, fractionDigitsCount, isGroupingUsed);
+
+        if (fractionDigitsCount > 0) { // remove the trailing zeroes and the decimal separator if no digits are left
+            int fractionStart = builder.length() - fractionDigitsCount;
+            int length = getSignificantLength(builder, builder.length());
+            if (length == fractionStart) {
+                length--;
+            }
+            builder.setLength(length);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns the given entered by user {@link BigDecimal} number with group delimiters. All fractional digits of the
+     * number are shown, including the trailing zeroes.
+     *
+     * @param number            an entered {@link BigDecimal} number to format
+     * @param isAppendPointNeed true if the decimal separator is shown for the number without fractional digits
+     * @return the string contains the entered number
+     */
+    String renderEntered(BigDecimal number, boolean isAppendPointNeed) {
+        String digits = number.unscaledValue().abs().toString();
+        int scale = number.scale();
+
+        builder.setLength(0);
+        appendSign(number);
+        if (scale >= 0) {
+            appendFixedPoint(digits, scale, true);
+        } else if (number.signum() == 0) {
+            builder.append(ZERO_DIGIT);
+        } else { // the integer number with trailing zeroes not kept in unscaled value
+            appendIntegerPart(digits, digits.length(), -scale, true);
+        }
+
+        if (scale <= 0 && isAppendPointNeed) {
+            builder.append(DECIMAL_SEPARATOR);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Appends the minus sign if the given {@link BigDecimal} number is negative.
+     *
+     * @param number a {@link BigDecimal} number to append sign of
+     */
+    private void appendSign(BigDecimal number) {
+        if (number.signum() < 0) {
+            builder.append(MINUS);
+        }
+    }
+
+    /**
+     * Appends the number of the given digits and scale with all its fractional digits. The decimal separator is
+     * appended only if the scale is positive.
+     *
+     * @param digits         the digits of unscaled value of the number
+     * @param scale          the non-negative count of fractional digits of the number
+     * @param isGroupingUsed true if the group delimiters are used
+     */
+    private void appendFixedPoint(String digits, int scale, boolean isGroupingUsed) {
+        int integerDigitsCount = digits.length() - scale;
+
+        if (integerDigitsCount > 0) {
+            appendIntegerPart(digits, integerDigitsCount, 0, isGroupingUsed);
+        } else {
+            builder.append(ZERO_DIGIT);
+        }
+
+        if (scale > 0) {
+            builder.append(DECIMAL_SEPARATOR);
+            for (int i = integerDigitsCount; i < 0; i++) {
+                builder.append(ZERO_DIGIT);
+            }
+            builder.append(digits, Math.max(integerDigitsCount, 0), digits.length());
+        }
+    }
+
+    /**
+     * Appends the integer part of the number which consists of the given count of first digits followed by the given
+     * count of zeroes.
+     *
+     * @param digits         the digits of the number
+     * @param digitsCount    the count of the first digits in the integer part
+     * @param zeroesCount    the count of zeroes after the digits
+     * @param isGroupingUsed true if the group delimiters are used
+     */
+    private void appendIntegerPart(String digits, int digitsCount, int zeroesCount, boolean isGroupingUsed) {
+        long length = (long) digitsCount + zeroesCount;
+
+        for (int i = 0; i < length; i++) {
+            if (isGroupingUsed && i > 0 && (length - i) % GROUP_SIZE == 0) {
+                builder.append(GROUP_SEPARATOR);
+            }
+            builder.append(i < digitsCount ? digits.charAt(i) : ZERO_DIGIT);
+        }
+    }
+
+    /**
+     * Returns the length of the given characters without the trailing zeroes. The first character is always kept.
+     *
+     * @param characters the characters to check
+     * @param length     the count of characters to check
+     * @return the length of the characters without the trailing zeroes
+     */
+    private static int getSignificantLength(CharSequence characters, int length) {
+        int significantLength = length;
+
+        while (significantLength > 1 && characters.charAt(significantLength - 1) == ZERO_DIGIT) {
+            significantLength--;
+        }
+
+        return significantLength;
+    }
+}
@@ -1,14 +1,15 @@
 package com.implemica.CalculatorProject.view.formatting;
 
+import com.implemica.CalculatorProject.model.calculation.ConstructiveReal;
 import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.OperationDefinition;
+import com.implemica.CalculatorProject.model.calculation.OperationRegistry;
+import com.implemica.CalculatorProject.model.calculation.PrecisionProfile;
+import com.implemica.CalculatorProject.model.validation.NumberClass;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 
-import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
-import static com.implemica.CalculatorProject.model.validation.DataValidator.*;
 import static java.lang.String.format;
 import static java.math.BigDecimal.*;
 import static java.math.RoundingMode.DOWN;
@@ -16,22 +17,13 @@ import static java.math.RoundingMode.HALF_UP;
 import static java.math.RoundingMode.UP;
 
 /**
- * The class contains an instruments for formatting number views or expressions for history.
+ * The class contains an instruments for formatting number views or expressions for history. The methods can be called
+ * from several threads at once, every thread formats numbers with its own {@link NumberRenderer}.
  *
  * @author V. Kozina-Kravchenko
  */
 public class OutputFormatter {
 
-    /**
-     * The string value contains an exponent symbol.
-     */
-    private static final String EXPONENT = "e";
-
-    /**
-     * The string value contains exponent symbol with plus sign.
-     */
-    private static final String POSITIVE_EXPONENT = "e+";
-
     /**
      * The string value contains minus sign.
      */
@@ -49,73 +41,22 @@ public class OutputFormatter {
     private static final BigDecimal FRACTION_PART_WITH_NINE_IN_PERIOD = BigDecimal.valueOf(0.99);
 
     /**
-     * The string value contains a pattern for decimal numbers with exponent.
-     */
-    private static final String NUMBER_FORMAT_PATTERN = "0.###############E0";
-
-    /**
-     * The value of character used as decimal separator.
-     */
-    private static final char DECIMAL_SEPARATOR = '.';
-
-    /**
-     * The value of character used as group separator.
+     * The {@link OperationRegistry} contains the patterns for formatting the history expressions of unary
+     * {@link MathOperation}s.
      */
-    private static final char GROUP_SEPARATOR = ',';
+    private static final OperationRegistry OPERATIONS = OperationRegistry.standard(PrecisionProfile.REFERENCE);
 
     /**
-     * The value of pattern for formatting the history expression for square root operation.
+     * The count of significant digits computed to format {@link ConstructiveReal} number. The digits after the shown
+     * ones are needed to round the number and to detect the nine in period.
      */
-    private static final String SQUARE_ROOT_PATTERN = "√(%s)";
-
-    /**
-     * The value of pattern for formatting the history expression for square operation.
-     */
-    private static final String SQUARE_PATTERN = "sqr(%s)";
-
-    /**
-     * The value of pattern for formatting the history expression for reverse operation.
-     */
-    private static final String REVERSE_PATTERN = "1/(%s)";
-
-    /**
-     * The value of pattern for formatting the history expression for negate operation.
-     */
-    private static final String NEGATE_PATTERN = "negate(%s)";
+    private static final int CONSTRUCTIVE_REAL_PRECISION = 34;
 
     /**
      * The maximum fractional part length for numbers with point.
      */
     private static final int FRACTION_LENGTH_WITH_POINT = 16;
 
-    /**
-     * The {@link DecimalFormat} instance configured to format number to an exponential view without group
-     * delimiters.
-     */
-    private static final DecimalFormat mathFormatWithExponent = getMathFormatWithExponent();
-
-    /**
-     * The {@link DecimalFormat} instance configured to format number with rounding without group delimiters.
-     */
-    private static final DecimalFormat mathFormatWithRounding = getMathFormatWithRounding();
-
-    /**
-     * The {@link DecimalFormat} instance configured to format number to an exponential view with group
-     * delimiters.
-     */
-    private static final DecimalFormat exponentialFormatWithGroups = getExponentialFormatWithGroups();
-
-    /**
-     * The {@link DecimalFormat} instance configured to format number with rounding with group delimiters.
-     */
-    private static final DecimalFormat roundingFormatWithGroups = getRoundingFormatWithGroups();
-
-    /**
-     * The {@link DecimalFormat} instance configured to format entered by user numbers by adding group
-     * delimiters. Do not change fractional part of the number.
-     */
-    private static final DecimalFormat formatForEnteredNumber = getRoundingFormatWithGroups();
-
     /**
      * Returns the formatted specified {@link BigDecimal} number to Mathematical view (without group delimiters).
      * Removes trailing zeroes in fractional part of the number, rounds or converts to exponential view if needed.
@@ -125,15 +66,14 @@ public class OutputFormatter {
      * group delimiters
      */
     public static String formatToMathView(BigDecimal number) {
+        NumberClass numberClass = NumberClass.of(number);
         String formattedNumber;
 
-        if (isExponentFormattingNeed(number)) { // format with exponent
-            setExponentSeparator(mathFormatWithExponent, number);
-            formattedNumber = mathFormatWithExponent.format(number);
+        if (numberClass.isExponentFormattingNeed()) { // format with exponent
+            formattedNumber = NumberRenderer.get().renderWithExponent(number, isPositiveExponent(numberClass));
         } else { // format with rounding
-            int maxFractionDigitsCount = getFractionDigitsCount(number);
-            mathFormatWithRounding.setMaximumFractionDigits(maxFractionDigitsCount);
-            formattedNumber = mathFormatWithRounding.format(number);
+            int maxFractionDigitsCount = getFractionDigitsCount(numberClass);
+            formattedNumber = NumberRenderer.get().renderWithRounding(number, maxFractionDigitsCount, HALF_UP, false);
         }
 
         return formattedNumber;
@@ -148,17 +88,43 @@ public class OutputFormatter {
      * group delimiters
      */
     public static String formatWithGroupDelimiters(BigDecimal number) {
+        return formatWithGroupDelimiters(number, NumberClass.of(number));
+    }
+
+    /**
+     * Returns the formatted specified {@link BigDecimal} number with group delimiters like
+     * {@link #formatWithGroupDelimiters(BigDecimal)} does, but uses the given {@link NumberClass} of the number
+     * already computed for its validation.
+     *
+     * @param number      a {@link BigDecimal} number to format
+     * @param numberClass the {@link NumberClass} of the number
+     * @return the formatted string containing number rounded or converted to an exponential view with
+     * group delimiters
+     */
+    public static String formatWithGroupDelimiters(BigDecimal number, NumberClass numberClass) {
         String stringValue;
 
-        if (isExponentFormattingNeed(number)) {
-            stringValue = formatToExponentialViewWithGroups(number);
+        if (numberClass.isExponentFormattingNeed()) {
+            stringValue = formatToExponentialViewWithGroups(number, numberClass);
         } else {
-            stringValue = formatWithRoundingWithGroups(number);
+            stringValue = formatWithRoundingWithGroups(number, numberClass);
         }
 
         return stringValue;
     }
 
+    /**
+     * Returns the formatted specified {@link ConstructiveReal} number with group delimiters. Only the digits needed
+     * for formatting are computed.
+     *
+     * @param number a {@link ConstructiveReal} number to format
+     * @return the formatted string containing number rounded or converted to an exponential view with
+     * group delimiters
+     */
+    public static String formatWithGroupDelimiters(ConstructiveReal number) {
+        return formatWithGroupDelimiters(number.approximateToPrecision(CONSTRUCTIVE_REAL_PRECISION));
+    }
+
     /**
      * Formats the specified {@link BigDecimal} number by adding group delimiters. Do not change the fractional part of the number.
      * Returns the string contains this formatted {@link BigDecimal} number.
@@ -167,89 +133,88 @@ public class OutputFormatter {
      * @return the string contains this formatted {@link BigDecimal} number
      */
     public static String formatEnteredNumber(BigDecimal number, boolean isAppendPointNeed) {
-        formatForEnteredNumber.setDecimalSeparatorAlwaysShown(isAppendPointNeed);
-        formatForEnteredNumber.setMinimumFractionDigits(number.scale());
-
-        return formatForEnteredNumber.format(number);
+        return NumberRenderer.get().renderEntered(number, isAppendPointNeed);
     }
 
     /**
      * Formats the given {@link BigDecimal} number to an exponential view with group delimiters and returns this
      * formatted number represented by string.
      *
-     * @param number a {@link BigDecimal} number to format to an exponential view with group delimiters
+     * @param number      a {@link BigDecimal} number to format to an exponential view with group delimiters
+     * @param numberClass the {@link NumberClass} of the number
      * @return formatted given {@link BigDecimal} number represented by string
      */
-    private static String formatToExponentialViewWithGroups(BigDecimal number) {
-        setExponentSeparator(exponentialFormatWithGroups, number);
-
-        return exponentialFormatWithGroups.format(number);
+    private static String formatToExponentialViewWithGroups(BigDecimal number, NumberClass numberClass) {
+        return NumberRenderer.get().renderWithExponent(number, isPositiveExponent(numberClass));
     }
 
     /**
-     * Sets an exponent separator for the given {@link DecimalFormat} depends on value of the given
-     * {@link BigDecimal} number. Exponent sign is always shown.
+     * Returns true if the number of the given {@link NumberClass} is formatted with positive exponent, which sign is
+     * shown.
      *
-     * @param formatter the {@link DecimalFormat} instance to add an exponent separator
-     * @param number    the number to set exponent separator depends on
+     * @param numberClass the {@link NumberClass} of the number formatted with exponent
+     * @return true if the number of the given {@link NumberClass} is formatted with positive exponent
      */
-    private static void setExponentSeparator(DecimalFormat formatter, BigDecimal number) {
-        boolean isPositiveExponent = number.abs().compareTo(ONE) > 0;
-        DecimalFormatSymbols symbols = formatter.getDecimalFormatSymbols();
-        String exponentSeparator;
-
-        if (isPositiveExponent) {
-            exponentSeparator = POSITIVE_EXPONENT;
-        } else {
-            exponentSeparator = EXPONENT;
-        }
-
-        symbols.setExponentSeparator(exponentSeparator);
-        formatter.setDecimalFormatSymbols(symbols);
+    private static boolean isPositiveExponent(NumberClass numberClass) {
+        // the numbers between one and ten are never formatted with exponent
+        return numberClass.getExponent() > 0;
     }
 
     /**
      * Rounds the given {@link BigDecimal} number and returns it's string representation.
      *
-     * @param number a {@link BigDecimal} number to round
+     * @param number      a {@link BigDecimal} number to round
+     * @param numberClass the {@link NumberClass} of the number
      * @return formatted given {@link BigDecimal} number represented by string
      */
-    private static String formatWithRoundingWithGroups(BigDecimal number) {
-        RoundingMode roundingMode;
+    private static String formatWithRoundingWithGroups(BigDecimal number, NumberClass numberClass) {
+        RoundingMode roundingMode = HALF_UP;
 
-        BigDecimal tail = number.remainder(ONE).abs();
-        if (tail.compareTo(FRACTION_PART_WITH_NINE_IN_PERIOD) > 0 &&
-                tail.scale() > FRACTION_LENGTH_WITH_POINT) { // If fractional part has nine in period - round it up
+        if (number.scale() > FRACTION_LENGTH_WITH_POINT && numberClass.hasFractionalPart() &&
+                hasNineInPeriod(number)) { // If fractional part has nine in period - round it up
             roundingMode = UP;
-        } else {
-            roundingMode = HALF_UP;
         }
 
-        roundingFormatWithGroups.setRoundingMode(roundingMode);
-        int fractionalDigitsCount = getFractionDigitsCount(number);
-        roundingFormatWithGroups.setMaximumFractionDigits(fractionalDigitsCount);
+        int fractionalDigitsCount = getFractionDigitsCount(numberClass);
+
+        return NumberRenderer.get().renderWithRounding(number, fractionalDigitsCount, roundingMode, true);
+    }
+
+    /**
+     * Returns true if the fractional part of the given {@link BigDecimal} number is greater than 0.99 by absolute
+     * value. Only the first fractional digits are compared, the remainder of the whole number is not computed.
+     *
+     * @param number a {@link BigDecimal} number with more than two fractional digits to check
+     * @return true if the fractional part of the given number is greater than 0.99
+     */
+    private static boolean hasNineInPeriod(BigDecimal number) {
+        BigDecimal absolute = number.abs();
+        int scale = FRACTION_PART_WITH_NINE_IN_PERIOD.scale();
+        BigDecimal truncated = absolute.setScale(scale, DOWN);
+        boolean hasNineInPeriod = false;
+
+        if (truncated.remainder(ONE).compareTo(FRACTION_PART_WITH_NINE_IN_PERIOD) == 0) {
+            // the digits after the compared ones are not all zeroes
+            hasNineInPeriod = absolute.setScale(scale, UP).compareTo(truncated) != 0;
+        }
 
-        return roundingFormatWithGroups.format(number);
+        return hasNineInPeriod;
     }
 
     /**
-     * Returns a count of fractional digits to the specified {@link BigDecimal} number.
+     * Returns a count of fractional digits to show for the number of the specified {@link NumberClass}. The number is
+     * not formatted with exponent, so it has no more than 16 integer digits.
      *
-     * @param number a {@link BigDecimal}  number to count fractional digits
-     * @return a count of fractional digits to the specified {@link BigDecimal} number
+     * @param numberClass the {@link NumberClass} of the number to count fractional digits
+     * @return a count of fractional digits to show for the number
      */
-    private static int getFractionDigitsCount(BigDecimal number) {
-        BigDecimal fractionalPart = number.remainder(ONE);
-        BigDecimal intPart = number.setScale(0, DOWN);
+    private static int getFractionDigitsCount(NumberClass numberClass) {
         int fractionalDigitsCount;
 
-        if (isZero(fractionalPart)) { // if number has no fractional part
+        if (!numberClass.hasFractionalPart()) { // if number has no fractional part
             fractionalDigitsCount = 0;
-        } else if (isZero(intPart)) { // if int part is zero
-            fractionalDigitsCount = FRACTION_LENGTH_WITH_POINT;
-        } else { // if number greater 1 and has fractional part
-            int digitsInIntPart = number.precision() - number.scale();
-            fractionalDigitsCount = FRACTION_LENGTH_WITH_POINT - digitsInIntPart;
+        } else { // the integer digits are shown instead of the fractional ones
+            fractionalDigitsCount = FRACTION_LENGTH_WITH_POINT - (int) numberClass.getIntegerDigitsCount();
         }
 
         return fractionalDigitsCount;
@@ -264,93 +229,15 @@ public class OutputFormatter {
      * @return a string contains formatted expression for the specified argument and {@link MathOperation}
      */
     public static String formatUnaryOperation(MathOperation operation, String argument) {
+        OperationDefinition definition = OPERATIONS.get(operation);
         String operationPattern;
 
-        if (operation == SQUARE_ROOT) {
-            operationPattern = SQUARE_ROOT_PATTERN;
-        } else if (operation == SQUARE) {
-            operationPattern = SQUARE_PATTERN;
-        } else if (operation == REVERSE) {
-            operationPattern = REVERSE_PATTERN;
-        } else if (operation == NEGATE) {
-            operationPattern = NEGATE_PATTERN;
+        if (definition != null && definition.getDisplayPattern() != null) {
+            operationPattern = definition.getDisplayPattern();
         } else { // for binary operations
             operationPattern = EMPTY_VALUE;
         }
 
         return format(operationPattern, argument);
     }
-
-    /**
-     * Returns a new {@link DecimalFormat} instance configured for formatting to exponential view without
-     * group delimiters.
-     *
-     * @return a new {@link DecimalFormat} instance configured for formatting to exponential view without
-     * group delimiters
-     */
-    private static DecimalFormat getMathFormatWithExponent() {
-        DecimalFormat format = getExponentialFormatWithGroups();
-        format.setGroupingUsed(false);
-
-        return format;
-    }
-
-    /**
-     * Returns a new {@link DecimalFormat} instance configured for formatting to exponential view with
-     * group delimiters.
-     *
-     * @return a new {@link DecimalFormat} instance configured for formatting to exponential view with
-     * group delimiters
-     */
-    private static DecimalFormat getExponentialFormatWithGroups() {
-        DecimalFormat format = new DecimalFormat(NUMBER_FORMAT_PATTERN);
-        format.setRoundingMode(HALF_UP);
-        DecimalFormatSymbols symbols = getDelimiters();
-        format.setDecimalFormatSymbols(symbols);
-        format.setDecimalSeparatorAlwaysShown(true);
-
-        return format;
-    }
-
-    /**
-     * Returns a new {@link DecimalFormat} instance configured for formatting with rounding without
-     * group delimiters.
-     *
-     * @return a new {@link DecimalFormat} instance configured for formatting with rounding without
-     * group delimiters
-     */
-    private static DecimalFormat getMathFormatWithRounding() {
-        DecimalFormat format = getRoundingFormatWithGroups();
-        format.setGroupingUsed(false);
-
-        return format;
-    }
-
-    /**
-     * Returns a new {@link DecimalFormat} instance configured for formatting with rounding and
-     * group delimiters.
-     *
-     * @return a new {@link DecimalFormat} instance configured for formatting with rounding and
-     * group delimiters
-     */
-    private static DecimalFormat getRoundingFormatWithGroups() {
-        DecimalFormat format = new DecimalFormat();
-        format.setRoundingMode(HALF_UP);
-        format.setDecimalFormatSymbols(getDelimiters());
-
-        return format;
-    }
-
-    /**
-     * Returns a {@link DecimalFormatSymbols} instance with configured decimal and group separators.
-     *
-     * @return a {@link DecimalFormatSymbols} instance with configured decimal and group separators
-     */
-    private static DecimalFormatSymbols getDelimiters() {
-        DecimalFormatSymbols delimiters = new DecimalFormatSymbols();
-        delimiters.setDecimalSeparator(DECIMAL_SEPARATOR);
-        delimiters.setGroupingSeparator(GROUP_SEPARATOR);
-
-        return delimiters;
-    }
 }
@@ -1,27 +1,90 @@
 package com.implemica.CalculatorProject;
 
+import com.implemica.CalculatorProject.controller.CalculatorController;
+import com.implemica.CalculatorProject.model.calculation.BatchCalculationTest;
+import com.implemica.CalculatorProject.model.calculation.CachingCalculationExecutorTest;
 import com.implemica.CalculatorProject.model.calculation.CalculatorTest;
+import com.implemica.CalculatorProject.model.calculation.Decimal64Test;
+import com.implemica.CalculatorProject.model.calculation.HybridCalculationExecutorTest;
+import com.implemica.CalculatorProject.model.calculation.LazyCalculationExecutorTest;
+import com.implemica.CalculatorProject.model.calculation.OperationRegistryTest;
+import com.implemica.CalculatorProject.model.calculation.RationalCalculationExecutorTest;
+import com.implemica.CalculatorProject.model.calculation.SquareRootTest;
+import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutorTest;
+import com.implemica.CalculatorProject.controller.BulkKeySequenceEvaluatorTest;
+import com.implemica.CalculatorProject.controller.KeySequenceEvaluatorTest;
+import com.implemica.CalculatorProject.controller.KeypadTest;
 import com.implemica.CalculatorProject.controller.TestView;
+import com.implemica.CalculatorProject.model.history.HistoryTapeTest;
+import com.implemica.CalculatorProject.model.journal.InputJournalTest;
+import com.implemica.CalculatorProject.model.memory.MemoryBankTest;
+import com.implemica.CalculatorProject.model.CalculatorStateCodecTest;
+import com.implemica.CalculatorProject.model.ExpressionTest;
+import com.implemica.CalculatorProject.model.NumberEntryTest;
+import com.implemica.CalculatorProject.model.UndoHistoryTest;
 import com.implemica.CalculatorProject.view.formatting.OutputFormatterTest;
 import com.implemica.CalculatorProject.model.validation.DataValidatorTest;
+import com.implemica.CalculatorProject.model.validation.NumberClassTest;
 import com.implemica.CalculatorProject.view.CalculatorApplication;
+import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
 import static org.testfx.framework.junit.ApplicationTest.launch;
 
 @Suite.SuiteClasses({
         CalculatorTest.class,
+        ExpressionTest.class,
+        NumberEntryTest.class,
+        UndoHistoryTest.class,
+        CalculatorStateCodecTest.class,
+        StandardCalculationExecutorTest.class,
+        HybridCalculationExecutorTest.class,
+        SquareRootTest.class,
+        RationalCalculationExecutorTest.class,
+        OperationRegistryTest.class,
+        BatchCalculationTest.class,
+        Decimal64Test.class,
+        CachingCalculationExecutorTest.class,
+        LazyCalculationExecutorTest.class,
         DataValidatorTest.class,
+        NumberClassTest.class,
         OutputFormatterTest.class,
+        KeySequenceEvaluatorTest.class,
+        BulkKeySequenceEvaluatorTest.class,
+        KeypadTest.class,
+        InputJournalTest.class,
+        HistoryTapeTest.class,
+        MemoryBankTest.class,
         TestView.class
 })
 @RunWith(Suite.class)
 public class AllTests {
 
+    private static Path storageDirectory;
+
     @BeforeClass
     public static void setUpInit() throws Exception {
+        // the application must not read or change the memory and state of the user
+        storageDirectory = Files.createTempDirectory("calculator");
+        System.setProperty(CalculatorController.STORAGE_DIRECTORY_PROPERTY, storageDirectory.toString());
+
         launch(CalculatorApplication.class);
     }
+
+    @AfterClass
+    public static void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(storageDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package com.implemica.CalculatorProject.controller;
+
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.implemica.CalculatorProject.controller.BulkKeySequenceEvaluator.INVALID_KEY_SEQUENCE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BulkKeySequenceEvaluatorTest {
+
+    private static final int SESSIONS_COUNT = 5000;
+
+    private static final int THREADS_COUNT = 4;
+
+    private static final int SMALL_WINDOW_SIZE = 64;
+
+    private static final String[] SEQUENCES = {"5 + 10.2 =", "1 + 2 × 3 − 4 =", "2 √", "3 1/x", "0 ÷ 0 =",
+            "5 MS 1/0= 2 M+ MR", "12 ⌫", "", "5 ± . 2", "5 + a", "10 sqr sqr sqr sqr sqr sqr sqr sqr sqr"};
+
+    private Path folder;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("sessions");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(getInputFile());
+        Files.deleteIfExists(getOutputFile());
+        Files.delete(folder);
+    }
+
+    @Test
+    public void testResultsInInputOrder() throws IOException {
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator(Decimal64CalculationExecutor::new);
+
+        StringBuilder input = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        int expectedInvalidCount = 0;
+        for (int i = 0; i < SESSIONS_COUNT; i++) {
+            String sequence = SEQUENCES[i % SEQUENCES.length] + (i % 7 == 0 ? "" : " " + (i % 1000));
+            input.append(sequence).append(i % 3 == 0 ? "\r\n" : "\n");
+
+            String result;
+            try {
+                result = evaluator.evaluate(sequence);
+            } catch (IllegalArgumentException e) {
+                result = INVALID_KEY_SEQUENCE;
+                expectedInvalidCount++;
+            }
+            expected.add(result);
+        }
+
+        // the small window makes the lines cross the windows
+        for (int windowSize : new int[]{SMALL_WINDOW_SIZE, BulkKeySequenceEvaluator.DEFAULT_WINDOW_SIZE}) {
+            BulkEvaluationSummary summary = evaluate(input.toString(), evaluator, windowSize);
+
+            assertEquals(expected, readOutput());
+            assertEquals(SESSIONS_COUNT, summary.getSessionsCount());
+            assertEquals(expectedInvalidCount, summary.getInvalidSessionsCount());
+            assertTrue(summary.getSessionsPerSecond() > 0);
+        }
+    }
+
+    @Test
+    public void testLineTerminators() throws IOException {
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator();
+
+        evaluate("", evaluator, SMALL_WINDOW_SIZE);
+        assertEquals(Arrays.asList(), readOutput());
+
+        evaluate("5 + 3 =", evaluator, SMALL_WINDOW_SIZE);
+        assertEquals(Arrays.asList("8"), readOutput());
+
+        evaluate("5 + 3 =\r\n\n7\r", evaluator, SMALL_WINDOW_SIZE);
+        assertEquals(Arrays.asList("8", "0", "7"), readOutput());
+    }
+
+    @Test
+    public void testLineLongerThanWindow() throws IOException {
+        StringBuilder input = new StringBuilder("1 + 1 =\n");
+        for (int i = 0; i < SMALL_WINDOW_SIZE; i++) {
+            input.append("1 + ");
+        }
+        input.append("=\n");
+
+        try {
+            evaluate(input.toString(), new KeySequenceEvaluator(), SMALL_WINDOW_SIZE);
+            fail("Expected IOException");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        try {
+            new BulkKeySequenceEvaluator(null, THREADS_COUNT);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        try {
+            new BulkKeySequenceEvaluator(new KeySequenceEvaluator(), 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private BulkEvaluationSummary evaluate(String input, KeySequenceEvaluator evaluator, int windowSize)
+            throws IOException {
+        Files.write(getInputFile(), input.getBytes(UTF_8));
+
+        return new BulkKeySequenceEvaluator(evaluator, THREADS_COUNT, windowSize)
+                .evaluate(getInputFile(), getOutputFile());
+    }
+
+    private List<String> readOutput() throws IOException {
+        return Files.readAllLines(getOutputFile(), UTF_8);
+    }
+
+    private Path getInputFile() {
+        return folder.resolve("input.txt");
+    }
+
+    private Path getOutputFile() {
+        return folder.resolve("output.txt");
+    }
+}
@@ -0,0 +1,179 @@
+package com.implemica.CalculatorProject.controller;
+
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import com.implemica.CalculatorProject.model.calculation.PrecisionProfile;
+import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class KeySequenceEvaluatorTest {
+
+    private static final int THREADS_COUNT = 8;
+
+    private static final int SEQUENCES_PER_THREAD = 500;
+
+    private static final String[][] SEQUENCES = {
+            {"5 + 10.2 =", "15.2"},
+            {"5+10.2=", "15.2"},
+            {"5 + 10.2 = √ M+", "3.898717737923586"},
+            {"1 + 2 × 3 − 4 =", "5"},
+            {"1 + 2 * 3 - 4 =", "5"},
+            {"5 + = = =", "20"},
+            {"0.1 + 0.2 =", "0.3"},
+            {"50 + 10 %", "5"},
+            {"2 √", "1.414213562373095"},
+            {"2 sqrt sqrt", "1.189207115002721"},
+            {"3 1/x", "0.3333333333333333"},
+            {"3 ¹⁄𝑥", "0.3333333333333333"},
+            {"1 / 3 * 3 =", "1"},
+            {"1234567 =", "1,234,567"},
+
+            // cancellation
+            {"1 / 3 - 0.3333333333333333 =", "3.333333333333333e-17"},
+            {"2 √ sqr - 2 =", "Overflow"},
+
+            // entering numbers
+            {"", "0"},
+            {"1.", "1."},
+            {"1 0 .", "10."},
+            {"5 ± . 2", "-5.2"},
+            {"5 negate", "-5"},
+            {"12 ⌫", "1"},
+            {"12345678901234567", "1,234,567,890,123,456"},
+            {"123 CE", "0"},
+            {"123 + 4 C", "0"},
+
+            // errors
+            {"0 ÷ 0 =", "Result is undefined"},
+            {"0 1/x", "Cannot divide by zero"},
+            {"9 ± √", "Invalid input"},
+            {"10 sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr", "Overflow"},
+            {"1 / 0 = + . M+", "Cannot divide by zero"},
+            {"1 / 0 = 7", "7"},
+            {"1 / 0 = C", "0"},
+
+            // memory
+            {"5 MS C MR", "5"},
+            {"5 M+ 3 M+ C MR", "8"},
+            {"5 M+ 3 M- C MR", "2"},
+            {"5 MS MC 3 MR", "3"},
+            {"5 MS 1 / 0 = MR", "Cannot divide by zero"},
+            {"5 MS 1 / 0 = 2 MR", "2"},
+            {"5 MS 1/0= 2 M+ MR", "7"}
+    };
+
+    // the key sequence, the text displayed with the reference and with the display precision budget
+    private static final String[][] CANCELLATION_SEQUENCES = {
+            {"1 / 3 - 0.3333333333333333 =", "3.333333333333333e-17", "3.333333333333333e-17"},
+            {"2 / 3 - 0.6666666666666667 =", "-3.333333333333333e-17", "-3.333333333333333e-17"},
+            {"10 / 3 - 3 =", "0.3333333333333333", "0.3333333333333333"},
+            {"1 / 3 * 3 - 0.9 =", "0.1", "0.1"},
+            {"0.1 + 0.2 - 0.3 =", "0", "0"},
+            {"1 / 3 * 3 - 1 =", "Overflow", "-1.e-32"},
+            {"2 √ sqr - 2 =", "Overflow", "0"}
+    };
+
+    @Test
+    public void testSequences() {
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator();
+
+        for (String[] sequence : SEQUENCES) {
+            assertEquals(sequence[0], sequence[1], evaluator.evaluate(sequence[0]));
+        }
+    }
+
+    @Test
+    public void testPrecisionBudget() {
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator();
+        KeySequenceEvaluator reference = new KeySequenceEvaluator(StandardCalculationExecutor::new,
+                PrecisionProfile.REFERENCE);
+        KeySequenceEvaluator displayBudget = new KeySequenceEvaluator(StandardCalculationExecutor::new,
+                PrecisionProfile.DISPLAY_BUDGET);
+
+        for (String[] sequence : CANCELLATION_SEQUENCES) {
+            assertEquals(sequence[0], sequence[1], evaluator.evaluate(sequence[0]));
+            assertEquals(sequence[0], sequence[1], reference.evaluate(sequence[0]));
+            assertEquals(sequence[0], sequence[2], displayBudget.evaluate(sequence[0]));
+        }
+    }
+
+    @Test
+    public void testSessionsAreIndependent() {
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator();
+
+        assertEquals("Cannot divide by zero", evaluator.evaluate("5 MS 1 / 0 ="));
+        assertEquals("0", evaluator.evaluate("MR"));
+        assertEquals("8", evaluator.evaluate("5 + 3 ="));
+        assertEquals("0", evaluator.evaluate("="));
+    }
+
+    @Test
+    public void testExecutorSupplier() {
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator(Decimal64CalculationExecutor::new);
+
+        assertEquals("0.3333333333333333", evaluator.evaluate("1 / 3 ="));
+        assertEquals("15.2", evaluator.evaluate("5 + 10.2 ="));
+    }
+
+    @Test
+    public void testInvalidSequences() {
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator();
+
+        expectIllegalArgument(() -> evaluator.evaluate(null));
+        expectIllegalArgument(() -> evaluator.evaluate("5 + a"));
+        expectIllegalArgument(() -> evaluator.evaluate("5 M"));
+        expectIllegalArgument(() -> new KeySequenceEvaluator(null));
+        expectIllegalArgument(() -> new KeySequenceEvaluator(StandardCalculationExecutor::new, null));
+    }
+
+    private void expectIllegalArgument(Runnable action) {
+        try {
+            action.run();
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        // the 16-digit executor keeps the results short, so many sequences are evaluated fast
+        KeySequenceEvaluator evaluator = new KeySequenceEvaluator(Decimal64CalculationExecutor::new);
+        String[] expected = new String[SEQUENCES.length];
+        for (int i = 0; i < SEQUENCES.length; i++) {
+            expected[i] = evaluator.evaluate(SEQUENCES[i][0]);
+        }
+
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS_COUNT);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS_COUNT; i++) {
+                int firstSequence = i;
+                results.add(threads.submit((Callable<Integer>) () -> {
+                    int evaluated = 0;
+                    for (int j = 0; j < SEQUENCES_PER_THREAD; j++) {
+                        int index = (firstSequence + j) % SEQUENCES.length;
+                        assertEquals(SEQUENCES[index][0], expected[index], evaluator.evaluate(SEQUENCES[index][0]));
+                        evaluated++;
+                    }
+                    return evaluated;
+                }));
+            }
+
+            for (Future<Integer> result : results) {
+                assertEquals(SEQUENCES_PER_THREAD, (int) result.get());
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.implemica.CalculatorProject.controller;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.CalculatorState;
+import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor;
+import com.implemica.CalculatorProject.model.journal.InputJournal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static com.implemica.CalculatorProject.controller.Keypad.CALCULATE_RESULT_OPERATION;
+import static com.implemica.CalculatorProject.model.Calculator.POINT;
+import static com.implemica.CalculatorProject.model.calculation.EditOperation.CLEAN_CURRENT;
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.MemoryOperation.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KeypadTest {
+
+    private static final int SNAPSHOT_INTERVAL = 3;
+
+    private Path folder;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("keypad");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Test
+    public void testJournalWithErrors() throws IOException {
+        Calculator calculator = createCalculator();
+        Keypad keypad = new Keypad(calculator);
+
+        try (InputJournal journal = new InputJournal(folder, SNAPSHOT_INTERVAL)) {
+            keypad.setInputJournal(journal);
+            keypad.showState(CalculatorState.INITIAL);
+
+            // 5 MS 2 + 1 ÷ 0 =, the error cleans the calculator, but not its memory
+            press(keypad, digit(5), MEMORY_STORE, digit(2), ADD, digit(1), DIVIDE, digit(0),
+                    CALCULATE_RESULT_OPERATION);
+            assertEquals("Cannot divide by zero", keypad.getDisplayedValue());
+            checkRestore(journal, calculator);
+
+            // the disabled keys are ignored and not recorded
+            long eventsCount = journal.getEventsCount();
+            press(keypad, ADD, POINT, MEMORY_ADD, MEMORY_SHOW);
+            assertEquals(eventsCount, journal.getEventsCount());
+
+            // 1 ÷ 3 × 3 − 1 = is under the valid bounds, which is checked by the keypad, not by the calculator
+            press(keypad, digit(1), DIVIDE, digit(3), MULTIPLY, digit(3), SUBTRACT, digit(1),
+                    CALCULATE_RESULT_OPERATION);
+            assertEquals("Overflow", keypad.getDisplayedValue());
+            checkRestore(journal, calculator);
+
+            // 7 + 5 = after the errors
+            press(keypad, digit(7), ADD, digit(5), CALCULATE_RESULT_OPERATION);
+            assertEquals("12", keypad.getDisplayedValue());
+            checkRestore(journal, calculator);
+
+            // the error of unary operation in the middle of the expression: 4 + 0 1/x CE 8 . 5 =
+            press(keypad, digit(4), ADD, digit(0), REVERSE, CLEAN_CURRENT, digit(8), POINT, digit(5),
+                    CALCULATE_RESULT_OPERATION);
+            assertEquals("8.5", keypad.getDisplayedValue());
+            checkRestore(journal, calculator);
+        }
+    }
+
+    @Test
+    public void testShownStateIsRecorded() throws IOException {
+        Calculator calculator = createCalculator();
+        Keypad keypad = new Keypad(calculator);
+
+        try (InputJournal journal = new InputJournal(folder)) {
+            keypad.setInputJournal(journal);
+            keypad.showState(CalculatorState.INITIAL);
+            assertFalse(journal.isEmpty());
+
+            press(keypad, digit(9), SQUARE, MEMORY_STORE);
+            CalculatorState state = calculator.getState();
+            press(keypad, digit(1), SUBTRACT);
+
+            // undo restores the state before the last keys, which replaces the recorded keys
+            keypad.showState(state);
+            press(keypad, SQUARE_ROOT);
+            assertEquals("9", keypad.getDisplayedValue());
+            checkRestore(journal, calculator);
+
+            journal.clear();
+            assertTrue(journal.isEmpty());
+            Calculator restored = createCalculator();
+            assertEquals(0, journal.restore(restored));
+            assertEquals(CalculatorState.INITIAL, restored.getState());
+        }
+    }
+
+    private static void press(Keypad keypad, Object... keyFunctions) {
+        for (Object keyFunction : keyFunctions) {
+            keypad.press(keyFunction);
+        }
+    }
+
+    private static BigDecimal digit(int digit) {
+        return BigDecimal.valueOf(digit);
+    }
+
+    private static void checkRestore(InputJournal journal, Calculator calculator) throws IOException {
+        Calculator restored = createCalculator();
+        journal.restore(restored);
+        assertEquals(calculator.getState(), restored.getState());
+    }
+
+    private static Calculator createCalculator() {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new StandardCalculationExecutor());
+        return calculator;
+    }
+}
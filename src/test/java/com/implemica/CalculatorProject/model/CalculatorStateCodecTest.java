@@ -0,0 +1,251 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import com.implemica.CalculatorProject.model.memory.MemoryBank;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CalculatorStateCodecTest {
+
+    private static final long SEED = 20261017L;
+
+    private static final int STATES_COUNT = 5000;
+
+    private static final int SESSIONS_COUNT = 200;
+
+    private static final int SESSION_LENGTH = 60;
+
+    private static final int MAX_EXPRESSION_SIZE = 20;
+
+    private static final int MAX_REGISTERS_COUNT = 10;
+
+    private static final MathOperation[] MATH_OPERATIONS = MathOperation.values();
+
+    private Path folder;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("state");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Test
+    public void testRandomStates() throws IOException {
+        Random random = new Random(SEED);
+
+        checkRoundTrip(CalculatorState.INITIAL);
+        for (int i = 0; i < STATES_COUNT; i++) {
+            checkRoundTrip(randomState(random));
+        }
+    }
+
+    @Test
+    public void testCalculatorSessions() throws IOException {
+        Random random = new Random(SEED);
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new Decimal64CalculationExecutor());
+
+        for (int session = 0; session < SESSIONS_COUNT; session++) {
+            calculator.cleanAll();
+
+            for (int step = 0; step < SESSION_LENGTH; step++) {
+                applyRandomInput(calculator, random);
+                checkRoundTrip(calculator.getState());
+            }
+
+            // the restored calculator continues the same way as the original one
+            Calculator restored = new Calculator();
+            restored.setCalculationExecutor(new Decimal64CalculationExecutor());
+            restored.restoreState(CalculatorStateCodec.decode(CalculatorStateCodec.encode(calculator.getState())));
+
+            long inputSeed = random.nextLong();
+            Random originalInput = new Random(inputSeed);
+            Random restoredInput = new Random(inputSeed);
+            for (int step = 0; step < SESSION_LENGTH; step++) {
+                applyRandomInput(calculator, originalInput);
+                applyRandomInput(restored, restoredInput);
+                assertEquals(calculator.getState(), restored.getState());
+            }
+        }
+    }
+
+    @Test
+    public void testDamagedBytes() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < STATES_COUNT; i++) {
+            byte[] bytes = CalculatorStateCodec.encode(randomState(random));
+
+            // every prefix of the state is rejected
+            checkInvalidBytes(Arrays.copyOf(bytes, random.nextInt(bytes.length)));
+
+            byte[] extended = Arrays.copyOf(bytes, bytes.length + 1 + random.nextInt(8));
+            checkInvalidBytes(extended);
+
+            // a changed byte gives a state or the IOException, never other exceptions
+            byte[] changed = bytes.clone();
+            int changesCount = 1 + random.nextInt(4);
+            for (int j = 0; j < changesCount; j++) {
+                changed[random.nextInt(changed.length)] = (byte) random.nextInt();
+            }
+            try {
+                CalculatorStateCodec.decode(changed);
+            } catch (IOException e) {
+                // expected
+            }
+        }
+
+        checkInvalidBytes(new byte[0]);
+    }
+
+    @Test
+    public void testFile() throws IOException, CalculationException {
+        Path file = folder.resolve("state.bin");
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new Decimal64CalculationExecutor());
+
+        // 12 MS + 0.5 √ ×
+        calculator.enterDigit(1);
+        calculator.enterDigit(2);
+        calculator.executeMemoryOperation(MemoryOperation.MEMORY_STORE);
+        calculator.executeMathOperation(MathOperation.ADD);
+        calculator.addPoint();
+        calculator.enterDigit(5);
+        calculator.executeMathOperation(MathOperation.SQUARE_ROOT);
+        calculator.executeMathOperation(MathOperation.MULTIPLY);
+
+        CalculatorStateCodec.write(calculator.getState(), file);
+        assertEquals(calculator.getState(), CalculatorStateCodec.read(file));
+
+        calculator.cleanAll();
+        CalculatorStateCodec.write(calculator.getState(), file);
+        assertEquals(calculator.getState(), CalculatorStateCodec.read(file));
+
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    private static void checkRoundTrip(CalculatorState state) throws IOException {
+        CalculatorState decoded = CalculatorStateCodec.decode(CalculatorStateCodec.encode(state));
+
+        assertEquals(state, decoded);
+        assertEquals(state.getIndexOfLastNumberInExpression(), decoded.getIndexOfLastNumberInExpression());
+        // the scale of numbers is kept too, not only their values
+        assertEquals(state.getLastNumber().scale(), decoded.getLastNumber().scale());
+        assertEquals(state.getExpression().toString(), decoded.getExpression().toString());
+    }
+
+    private static void checkInvalidBytes(byte[] bytes) {
+        try {
+            CalculatorStateCodec.decode(bytes);
+            fail("Expected an IOException for " + Arrays.toString(bytes));
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    private static CalculatorState randomState(Random random) {
+        List<Object> expression = new ArrayList<>();
+        int expressionSize = random.nextInt(MAX_EXPRESSION_SIZE);
+        for (int i = 0; i < expressionSize; i++) {
+            if (random.nextBoolean()) {
+                expression.add(randomNumber(random));
+            } else {
+                expression.add(randomOperation(random));
+            }
+        }
+
+        List<BigDecimal> registers = new ArrayList<>();
+        int registersCount = random.nextInt(MAX_REGISTERS_COUNT);
+        for (int i = 0; i < registersCount; i++) {
+            registers.add(randomNumber(random));
+        }
+        MemoryBank memory = new MemoryBank(registers, registersCount == 0 ? 0 : random.nextInt(registersCount));
+
+        MathOperation operation = random.nextBoolean() ? null : randomOperation(random);
+
+        return new CalculatorState(randomNumber(random), operation, randomNumber(random), memory,
+                randomNumber(random), expression, random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                random.nextInt(expressionSize + 1));
+    }
+
+    private static BigDecimal randomNumber(Random random) {
+        BigDecimal number;
+
+        switch (random.nextInt(4)) {
+            case 0:
+                number = BigDecimal.valueOf(random.nextInt(10));
+                break;
+            case 1:
+                number = BigDecimal.valueOf(random.nextLong(), random.nextInt(40) - 20);
+                break;
+            case 2:
+                // the numbers of standard calculations have thousands of digits
+                number = new BigDecimal(new BigInteger(1 + random.nextInt(40000), random), random.nextInt(10100));
+                break;
+            default:
+                number = new BigDecimal(BigInteger.valueOf(random.nextInt()), random.nextInt());
+                break;
+        }
+
+        return random.nextBoolean() ? number : number.negate();
+    }
+
+    private static MathOperation randomOperation(Random random) {
+        return MATH_OPERATIONS[random.nextInt(MATH_OPERATIONS.length)];
+    }
+
+    private static void applyRandomInput(Calculator calculator, Random random) {
+        try {
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    calculator.enterDigit(random.nextInt(10));
+                    break;
+                case 2:
+                    calculator.addPoint();
+                    break;
+                case 3:
+                    calculator.executeMathOperation(randomOperation(random));
+                    break;
+                case 4:
+                    calculator.executeMemoryOperation(
+                            MemoryOperation.values()[random.nextInt(MemoryOperation.values().length)]);
+                    break;
+                default:
+                    calculator.calculateResult();
+                    break;
+            }
+        } catch (CalculationException e) {
+            calculator.cleanAll();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ExpressionTest {
+
+    private static final int PARTS_COUNT = 1000;
+
+    @Test
+    public void testAppendReplaceTruncate() {
+        Expression expression = new Expression();
+        List<Object> expected = new ArrayList<>();
+        assertTrue(expression.isEmpty());
+
+        // grows over the initial capacity
+        for (int i = 0; i < PARTS_COUNT; i++) {
+            if (i % 2 == 0) {
+                BigDecimal number = BigDecimal.valueOf(i);
+                expression.addNumber(number);
+                expected.add(number);
+            } else {
+                MathOperation operation = MathOperation.values()[i % MathOperation.values().length];
+                expression.addOperation(operation);
+                expected.add(operation);
+            }
+        }
+        checkExpression(expected, expression);
+
+        expression.replaceLastOperation(MULTIPLY);
+        expected.set(expected.size() - 1, MULTIPLY);
+        checkExpression(expected, expression);
+
+        expression.truncate(PARTS_COUNT / 2 + 1);
+        expected.subList(PARTS_COUNT / 2 + 1, expected.size()).clear();
+        checkExpression(expected, expression);
+
+        // the last number is replaced by operation
+        expression.replaceLastOperation(DIVIDE);
+        expected.set(expected.size() - 1, DIVIDE);
+        checkExpression(expected, expression);
+
+        expression.clear();
+        assertTrue(expression.isEmpty());
+        assertEquals(new ArrayList<>(), expression.toList());
+    }
+
+    @Test
+    public void testSnapshotAndRestore() {
+        Expression expression = new Expression();
+        List<Object> parts = Arrays.asList(BigDecimal.ONE, ADD, BigDecimal.TEN, SQUARE_ROOT, SQUARE, SUBTRACT);
+        for (Object part : parts) {
+            if (part instanceof BigDecimal) {
+                expression.addNumber((BigDecimal) part);
+            } else {
+                expression.addOperation((MathOperation) part);
+            }
+        }
+        ExpressionNode snapshot = expression.getSnapshot();
+        assertEquals(parts, ExpressionNode.toList(snapshot));
+
+        // the snapshot is not changed by the expression and shares the kept parts
+        expression.replaceLastOperation(DIVIDE);
+        assertSame(snapshot.getPrevious(), expression.getSnapshot().getPrevious());
+        expression.truncate(2);
+        expression.addNumber(BigDecimal.ZERO);
+        assertSame(snapshot.getPrevious().getPrevious().getPrevious().getPrevious(),
+                expression.getSnapshot().getPrevious());
+        assertEquals(parts, ExpressionNode.toList(snapshot));
+
+        // restores over the initial capacity
+        Expression restored = new Expression();
+        ExpressionNode longSnapshot = ExpressionNode.fromList(Collections.nCopies(PARTS_COUNT, (Object) SQUARE));
+        restored.restore(longSnapshot);
+        checkExpression(Collections.nCopies(PARTS_COUNT, (Object) SQUARE), restored);
+
+        restored.restore(snapshot);
+        checkExpression(parts, restored);
+        assertSame(snapshot, restored.getSnapshot());
+        restored.restore(null);
+        assertTrue(restored.isEmpty());
+
+        try {
+            ExpressionNode.fromList(Arrays.asList(BigDecimal.ONE, "+"));
+            fail("Expected an IllegalArgumentException for the string in the expression");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testInvalidAccess() {
+        Expression expression = new Expression();
+        expression.addNumber(BigDecimal.ONE);
+        expression.addOperation(ADD);
+
+        try {
+            expression.getOperation(0);
+            fail("Expected an IllegalArgumentException for the number got as operation");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            expression.getNumber(1);
+            fail("Expected an IllegalArgumentException for the operation got as number");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            expression.isNumber(2);
+            fail("Expected an IndexOutOfBoundsException for the index out of the expression");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            expression.truncate(3);
+            fail("Expected an IllegalArgumentException for the size greater than the expression");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCalculatorExpressionView() throws CalculationException {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new Decimal64CalculationExecutor());
+        ExpressionView view = calculator.getExpression();
+
+        // 5 + 9 √ √ 4 ×
+        calculator.enterDigit(BigDecimal.valueOf(5));
+        calculator.executeMathOperation(ADD);
+        calculator.enterDigit(BigDecimal.valueOf(9));
+        calculator.executeMathOperation(SQUARE_ROOT);
+        calculator.executeMathOperation(SQUARE_ROOT);
+        checkExpression(Arrays.asList(BigDecimal.valueOf(5), ADD, BigDecimal.valueOf(9), SQUARE_ROOT, SQUARE_ROOT),
+                view);
+
+        // the new number replaces the unary operations
+        calculator.enterDigit(BigDecimal.valueOf(4));
+        calculator.executeMathOperation(SUBTRACT);
+        calculator.executeMathOperation(MULTIPLY);
+        checkExpression(Arrays.asList(BigDecimal.valueOf(5), ADD, BigDecimal.valueOf(4), MULTIPLY), view);
+        assertSame(view, calculator.getExpression());
+        assertEquals(((Expression) view).toList(), calculator.getState().getExpression());
+
+        calculator.calculateResult();
+        assertTrue(view.isEmpty());
+    }
+
+    private static void checkExpression(List<Object> expected, ExpressionView expression) {
+        assertEquals(expected.size(), expression.size());
+        assertEquals(expected.isEmpty(), expression.isEmpty());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Object part = expected.get(i);
+            if (part instanceof BigDecimal) {
+                assertTrue(expression.isNumber(i));
+                assertEquals(part, expression.getNumber(i));
+            } else {
+                assertFalse(expression.isNumber(i));
+                assertSame(part, expression.getOperation(i));
+            }
+        }
+    }
+}
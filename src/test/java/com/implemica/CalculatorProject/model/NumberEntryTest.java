@@ -0,0 +1,221 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.NEGATE;
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.SQUARE_ROOT;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isNumberLengthValid;
+import static java.math.BigDecimal.TEN;
+import static java.math.BigDecimal.ZERO;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NumberEntryTest {
+
+    private static final int SEQUENCES_COUNT = 2000;
+
+    private static final int SEQUENCE_LENGTH = 40;
+
+    private static final long SEED = 15L;
+
+    private Calculator calculator;
+
+    @Before
+    public void setUp() {
+        calculator = new Calculator();
+        calculator.setCalculationExecutor(new StandardCalculationExecutor());
+    }
+
+    @Test
+    public void testEnterDigits() throws CalculationException {
+        checkInput("0", "0");
+        checkInput("000", "0");
+        checkInput("0012", "12");
+        checkInput("1234567890", "1234567890");
+        checkInput(".", "0");
+        checkInput(".05", "0.05");
+        checkInput("0.0", "0.0");
+        checkInput("5.000", "5.000");
+        checkInput("5±3", "-53");
+        checkInput("5±.25", "-5.25");
+        checkInput("0±5", "5");
+        checkInput("12.5⌫", "12");
+        checkInput("12.5⌫⌫", "12");
+        checkInput("12.5⌫⌫⌫", "1");
+        checkInput("5±⌫7", "7");
+        checkInput(".5±⌫7", "0.7");
+    }
+
+    @Test
+    public void testMaximumLength() throws CalculationException {
+        checkInput("12345678901234567", "1234567890123456");
+        checkInput("1234567890123456.7", "1234567890123456");
+        checkInput("123456789012345.67", "123456789012345.6");
+        checkInput("0.00000000000000012", "0.0000000000000001");
+        checkInput("±1234567890123456789", "1234567890123456");
+        checkInput("1234567890123456±7", "-1234567890123456");
+
+        calculator.cleanAll();
+        for (char digit : "1234567890123456".toCharArray()) {
+            assertTrue(calculator.enterDigit(digit - '0'));
+        }
+        assertFalse(calculator.enterDigit(7));
+        assertEquals(new BigDecimal("1234567890123456"), calculator.getLastNumber());
+
+        // the point is still shown after the digit exceeding the length
+        calculator.addPoint();
+        assertFalse(calculator.enterDigit(7));
+        assertTrue(calculator.getState().needAddPoint());
+    }
+
+    @Test
+    public void testDeleteDigitOfResult() throws CalculationException {
+        // the result is too long to be entered, but its digits are deleted
+        calculator.enterDigit(2);
+        BigDecimal root = calculator.executeMathOperation(SQUARE_ROOT);
+        calculator.deleteLastDigit();
+        assertEquals(root.setScale(root.scale() - 1, RoundingMode.DOWN), calculator.getLastNumber());
+
+        // the new number replaces the result
+        calculator.enterDigit(7);
+        assertEquals(BigDecimal.valueOf(7), calculator.getLastNumber());
+    }
+
+    @Test
+    public void testSameAsBigDecimalEntry() throws CalculationException {
+        Random random = new Random(SEED);
+        String keys = "0123456789012345678901234567890123456789..±⌫";
+
+        for (int i = 0; i < SEQUENCES_COUNT; i++) {
+            StringBuilder input = new StringBuilder();
+            for (int j = 0; j < SEQUENCE_LENGTH; j++) {
+                input.append(keys.charAt(random.nextInt(keys.length())));
+            }
+
+            BigDecimalEntry expected = new BigDecimalEntry();
+            calculator.cleanAll();
+            for (char key : input.toString().toCharArray()) {
+                boolean expectedPoint = expected.press(key);
+                boolean point = press(key);
+                assertEquals(input.toString(), expected.lastNumber, calculator.getLastNumber());
+                if (key == '⌫') {
+                    assertEquals(input.toString(), expectedPoint, point);
+                }
+            }
+            assertEquals(input.toString(), expected.lastNumber, calculator.getState().getLastNumber());
+            assertEquals(input.toString(), expected.needAddPoint, calculator.getState().needAddPoint());
+        }
+    }
+
+    private void checkInput(String input, String expected) throws CalculationException {
+        calculator.cleanAll();
+        for (char key : input.toCharArray()) {
+            press(key);
+        }
+        assertEquals(input, new BigDecimal(expected), calculator.getLastNumber());
+    }
+
+    private boolean press(char key) throws CalculationException {
+        boolean result = false;
+
+        if (key == '.') {
+            calculator.addPoint();
+        } else if (key == '±') {
+            calculator.executeMathOperation(NEGATE);
+        } else if (key == '⌫') {
+            result = calculator.deleteLastDigit();
+        } else {
+            result = calculator.enterDigit(key - '0');
+        }
+
+        return result;
+    }
+
+    /**
+     * The entry of number by {@link BigDecimal} arithmetic with the length check after adding a digit.
+     */
+    private static class BigDecimalEntry {
+
+        private BigDecimal lastNumber = ZERO;
+
+        private boolean isNewNumber = true;
+
+        private boolean needAddPoint;
+
+        private boolean press(char key) {
+            boolean result = false;
+
+            if (key == '.') {
+                addPoint();
+            } else if (key == '±') {
+                lastNumber = lastNumber.negate();
+            } else if (key == '⌫') {
+                result = deleteLastDigit();
+            } else {
+                enterDigit(BigDecimal.valueOf(key - '0'));
+                if (!isNumberLengthValid(lastNumber)) {
+                    deleteLastDigit();
+                }
+            }
+
+            return result;
+        }
+
+        private void enterDigit(BigDecimal digit) {
+            if (isNewNumber) {
+                lastNumber = digit;
+                needAddPoint = false;
+            } else if (lastNumber.signum() == 0 && digit.signum() != 0 && lastNumber.scale() == 0 && !needAddPoint) {
+                lastNumber = digit;
+            } else {
+                if (lastNumber.signum() == -1) {
+                    digit = digit.negate();
+                }
+                if (needAddPoint || lastNumber.scale() != 0) {
+                    int newScale = lastNumber.scale() + 1;
+                    lastNumber = lastNumber.add(digit.divide(TEN.pow(newScale), newScale, RoundingMode.HALF_DOWN));
+                } else {
+                    lastNumber = lastNumber.multiply(TEN).add(digit);
+                }
+                needAddPoint = false;
+            }
+            isNewNumber = false;
+        }
+
+        private void addPoint() {
+            if (isNewNumber) {
+                lastNumber = ZERO;
+                isNewNumber = false;
+            }
+            if (lastNumber.scale() == 0) {
+                needAddPoint = true;
+            }
+        }
+
+        private boolean deleteLastDigit() {
+            boolean isInteger = false;
+
+            if (needAddPoint) {
+                needAddPoint = false;
+            } else if (lastNumber.abs().compareTo(TEN) < 0 && lastNumber.scale() == 0) {
+                lastNumber = ZERO;
+            } else if (lastNumber.scale() > 0) {
+                lastNumber = lastNumber.setScale(lastNumber.scale() - 1, RoundingMode.DOWN);
+                isInteger = lastNumber.scale() == 0;
+                needAddPoint = isInteger;
+            } else {
+                lastNumber = lastNumber.divide(TEN, 0, RoundingMode.DOWN);
+            }
+
+            return isInteger;
+        }
+    }
+}
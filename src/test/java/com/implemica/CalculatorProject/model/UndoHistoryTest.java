@@ -0,0 +1,157 @@
+package com.implemica.CalculatorProject.model;
+
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.MemoryOperation.MEMORY_STORE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class UndoHistoryTest {
+
+    private static final int STEPS_COUNT = 10000;
+
+    private Calculator calculator;
+
+    private UndoHistory history;
+
+    @Before
+    public void setUp() {
+        calculator = new Calculator();
+        calculator.setCalculationExecutor(new Decimal64CalculationExecutor());
+        history = new UndoHistory();
+    }
+
+    @Test
+    public void testUndoRedo() throws CalculationException {
+        List<CalculatorState> states = new ArrayList<>();
+        states.add(calculator.getState());
+
+        // 12 + 3 √ = MS
+        enterDigit(1);
+        states.add(calculator.getState());
+        enterDigit(2);
+        states.add(calculator.getState());
+        record(() -> calculator.executeMathOperation(ADD));
+        states.add(calculator.getState());
+        enterDigit(3);
+        states.add(calculator.getState());
+        record(() -> calculator.executeMathOperation(SQUARE_ROOT));
+        states.add(calculator.getState());
+        record(() -> calculator.calculateResult());
+        states.add(calculator.getState());
+        record(() -> calculator.executeMemoryOperation(MEMORY_STORE));
+        states.add(calculator.getState());
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            assertTrue(history.canUndo());
+            calculator.restoreState(history.undo(calculator.getState()));
+            assertEquals(states.get(i), calculator.getState());
+        }
+        assertFalse(history.canUndo());
+
+        for (int i = 1; i < states.size(); i++) {
+            assertTrue(history.canRedo());
+            calculator.restoreState(history.redo(calculator.getState()));
+            assertEquals(states.get(i), calculator.getState());
+        }
+        assertFalse(history.canRedo());
+
+        // the new change drops the undone steps
+        calculator.restoreState(history.undo(calculator.getState()));
+        calculator.restoreState(history.undo(calculator.getState()));
+        record(() -> calculator.executeMathOperation(NEGATE));
+        assertFalse(history.canRedo());
+        calculator.restoreState(history.undo(calculator.getState()));
+        assertEquals(states.get(states.size() - 3), calculator.getState());
+    }
+
+    @Test
+    public void testDepth() throws CalculationException {
+        history = new UndoHistory(3);
+        assertEquals(3, history.getDepth());
+
+        for (int i = 1; i <= 5; i++) {
+            enterDigit(i);
+        }
+        for (int i = 0; i < 3; i++) {
+            calculator.restoreState(history.undo(calculator.getState()));
+        }
+        assertEquals(BigDecimal.valueOf(12), calculator.getLastNumber());
+        assertFalse(history.canUndo());
+
+        try {
+            history.undo(calculator.getState());
+            fail("Expected an IllegalStateException for undo with no steps");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            new UndoHistory(0);
+            fail("Expected an IllegalArgumentException for zero depth");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        history.clear();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void testStatesShareFields() throws CalculationException {
+        enterDigit(7);
+        calculator.executeMathOperation(ADD);
+        for (int i = 0; i < STEPS_COUNT; i++) {
+            calculator.executeMathOperation(i % 2 == 0 ? ADD : SUBTRACT);
+            history.record(calculator.getState());
+        }
+
+        // the states refer to the same numbers and expression parts instead of the copies
+        CalculatorState last = history.undo(calculator.getState());
+        CalculatorState previous = history.undo(last);
+        assertSame(last.getPreviousNumber(), previous.getPreviousNumber());
+        assertSame(last.getLastNumber(), previous.getLastNumber());
+        assertSame(last.getExpressionSnapshot().getPrevious(), previous.getExpressionSnapshot().getPrevious());
+        assertEquals(2, last.getExpression().size());
+
+        // the state is taken in constant time with a long expression
+        calculator.cleanAll();
+        enterDigit(1);
+        for (int i = 0; i < STEPS_COUNT; i++) {
+            calculator.executeMathOperation(SQUARE);
+        }
+        CalculatorState first = calculator.getState();
+        calculator.executeMathOperation(SQUARE);
+        CalculatorState second = calculator.getState();
+        assertSame(first.getExpressionSnapshot(), second.getExpressionSnapshot().getPrevious());
+        assertEquals(STEPS_COUNT + 2, second.getExpression().size());
+
+        calculator.restoreState(first);
+        assertEquals(first, calculator.getState());
+        assertEquals(STEPS_COUNT + 1, calculator.getExpression().size());
+    }
+
+    private void enterDigit(int digit) {
+        history.record(calculator.getState());
+        calculator.enterDigit(digit);
+    }
+
+    private void record(Action action) throws CalculationException {
+        history.record(calculator.getState());
+        action.execute();
+    }
+
+    private interface Action {
+        void execute() throws CalculationException;
+    }
+}
@@ -0,0 +1,147 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.BatchCalculationException;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.DECIMAL128;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class BatchCalculationTest {
+
+    private static final int BATCH_SIZE = 10000;
+
+    @Test
+    public void testBatchIsSameAsSingleCalculations() throws CalculationException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (MathOperation operation : new MathOperation[]{ADD, SUBTRACT, MULTIPLY, DIVIDE, PERCENT, NEGATE, SQUARE}) {
+                testBatch(new StandardCalculationExecutor(DECIMAL128), operation, pool);
+                testBatch(new HybridCalculationExecutor(new StandardCalculationExecutor(DECIMAL128)), operation, pool);
+                testBatch(new RationalCalculationExecutor(), operation, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void testBatch(CalculationExecutor executor, MathOperation operation, ForkJoinPool pool) throws CalculationException {
+        Random random = new Random(operation.ordinal());
+        BigDecimal[] firstNumbers = getRandomNumbers(random);
+        BigDecimal[] secondNumbers = operation.isBinary() ? getRandomNumbers(random) : null;
+
+        BigDecimal[] expected = new BigDecimal[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            BigDecimal secondNumber = (secondNumbers == null) ? null : secondNumbers[i];
+            expected[i] = executor.calculate(firstNumbers[i], operation, secondNumber);
+        }
+
+        BigDecimal[] results = new BigDecimal[BATCH_SIZE];
+        executor.calculateAll(firstNumbers, operation, secondNumbers, results);
+        assertArrayEquals(expected, results);
+
+        results = new BigDecimal[BATCH_SIZE];
+        executor.calculateAll(firstNumbers, operation, secondNumbers, results, pool);
+        assertArrayEquals(expected, results);
+    }
+
+    private BigDecimal[] getRandomNumbers(Random random) {
+        BigDecimal[] numbers = new BigDecimal[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            numbers[i] = BigDecimal.valueOf(random.nextInt(2000000) - 1000000 + 1, random.nextInt(6));
+        }
+        return numbers;
+    }
+
+    @Test
+    public void testErrorsByIndexes() throws CalculationException {
+        CalculationExecutor executor = new StandardCalculationExecutor();
+        BigDecimal[] firstNumbers = {BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.valueOf(6)};
+        BigDecimal[] secondNumbers = {BigDecimal.valueOf(4), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.valueOf(3)};
+
+        BigDecimal[] results = new BigDecimal[4];
+        testErrors(() -> executor.calculateAll(firstNumbers, DIVIDE, secondNumbers, results), results);
+
+        BigDecimal[] parallelResults = new BigDecimal[4];
+        testErrors(() -> executor.calculateAll(firstNumbers, DIVIDE, secondNumbers, parallelResults,
+                ForkJoinPool.commonPool()), parallelResults);
+
+        BigDecimal[] roots = new BigDecimal[2];
+        try {
+            executor.calculateAll(new BigDecimal[]{BigDecimal.valueOf(-4), BigDecimal.valueOf(4)}, SQUARE_ROOT, null, roots);
+            fail("Expected BatchCalculationException");
+        } catch (BatchCalculationException e) {
+            assertEquals(1, e.getFailedCount());
+            assertEquals(INVALID_INPUT, e.getErrorMessage());
+            assertEquals(INVALID_INPUT, e.getErrorMessage(0));
+            assertNull(e.getErrorMessage(1));
+            assertNull(roots[0]);
+            assertEquals(0, BigDecimal.valueOf(2).compareTo(roots[1]));
+        }
+    }
+
+    private void testErrors(BatchAction action, BigDecimal[] results) throws CalculationException {
+        try {
+            action.run();
+            fail("Expected BatchCalculationException");
+        } catch (BatchCalculationException e) {
+            assertEquals(2, e.getFailedCount());
+            assertEquals(RESULT_IS_UNDEFINED, e.getErrorMessage());
+            assertNull(e.getErrorMessage(0));
+            assertEquals(RESULT_IS_UNDEFINED, e.getErrorMessage(1));
+            assertEquals(DIVISION_BY_ZERO, e.getErrorMessage(2));
+            assertNull(e.getErrorMessage(3));
+
+            assertEquals(0, new BigDecimal("0.25").compareTo(results[0]));
+            assertNull(results[1]);
+            assertNull(results[2]);
+            assertEquals(0, BigDecimal.valueOf(2).compareTo(results[3]));
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() throws CalculationException {
+        CalculationExecutor executor = new StandardCalculationExecutor();
+        BigDecimal[] numbers = {BigDecimal.ONE, BigDecimal.TEN};
+
+        expectIllegalArgument(() -> executor.calculateAll(null, ADD, numbers, new BigDecimal[2]));
+        expectIllegalArgument(() -> executor.calculateAll(numbers, ADD, null, new BigDecimal[2]));
+        expectIllegalArgument(() -> executor.calculateAll(numbers, ADD, numbers, null));
+        expectIllegalArgument(() -> executor.calculateAll(numbers, ADD, numbers, new BigDecimal[1]));
+        expectIllegalArgument(() -> executor.calculateAll(numbers, ADD, new BigDecimal[]{BigDecimal.ONE}, new BigDecimal[2]));
+        expectIllegalArgument(() -> executor.calculateAll(numbers, NEGATE, numbers, new BigDecimal[2]));
+        expectIllegalArgument(() -> executor.calculateAll(numbers, ADD, new BigDecimal[]{BigDecimal.ONE, null}, new BigDecimal[2]));
+        expectIllegalArgument(() -> executor.calculateAll(numbers, NEGATE, null, new BigDecimal[2], null));
+
+        try {
+            executor.calculateAll(numbers, null, numbers, new BigDecimal[2]);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    private void expectIllegalArgument(BatchAction action) throws CalculationException {
+        try {
+            action.run();
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private interface BatchAction {
+        void run() throws CalculationException;
+    }
+}
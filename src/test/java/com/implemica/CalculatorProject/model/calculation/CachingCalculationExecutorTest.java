@@ -0,0 +1,183 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import com.implemica.CalculatorProject.model.exception.ErrorMessage;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class CachingCalculationExecutorTest {
+
+    private static final int THREADS_COUNT = 8;
+
+    @Test
+    public void testHitsAndMisses() throws CalculationException {
+        CountingExecutor counting = new CountingExecutor();
+        CachingCalculationExecutor executor = new CachingCalculationExecutor(counting);
+
+        BigDecimal root = executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        assertSame(root, executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null));
+        assertEquals(root, new StandardCalculationExecutor().calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null));
+
+        executor.calculate(BigDecimal.valueOf(3), REVERSE, null);
+        executor.calculate(BigDecimal.valueOf(3), REVERSE, null);
+        executor.calculate(BigDecimal.valueOf(3), SQUARE, null);
+
+        // the scale of the number changes the result of square, so it is the other key
+        assertEquals(new BigDecimal("9.00"), executor.calculate(new BigDecimal("3.0"), SQUARE, null));
+        assertEquals(new BigDecimal("9"), executor.calculate(new BigDecimal("3"), SQUARE, null));
+
+        // binary operations are not cached
+        executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3));
+        executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3));
+
+        assertEquals(3, executor.getHitCount());
+        assertEquals(4, executor.getMissCount());
+        assertEquals(4, executor.getSize());
+        assertEquals(6, counting.count.get());
+
+        executor.clear();
+        assertEquals(0, executor.getSize());
+        assertEquals(0, executor.getWeight());
+    }
+
+    @Test
+    public void testErrorsAreNotCached() {
+        CachingCalculationExecutor executor = new CachingCalculationExecutor(new StandardCalculationExecutor());
+
+        for (int i = 0; i < 2; i++) {
+            expectError(executor, BigDecimal.ZERO, REVERSE, DIVISION_BY_ZERO);
+            expectError(executor, BigDecimal.valueOf(-4), SQUARE_ROOT, INVALID_INPUT);
+        }
+
+        assertEquals(0, executor.getSize());
+        assertEquals(0, executor.getHitCount());
+    }
+
+    private void expectError(CalculationExecutor executor, BigDecimal number, MathOperation operation,
+                             ErrorMessage expected) {
+        try {
+            executor.calculate(number, operation, null);
+            fail("Expected error " + expected);
+        } catch (CalculationException e) {
+            assertEquals(expected, e.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void testEntriesLimit() throws CalculationException {
+        CachingCalculationExecutor executor = new CachingCalculationExecutor(new StandardCalculationExecutor(), 2, 1000);
+
+        executor.calculate(BigDecimal.valueOf(2), SQUARE, null);
+        executor.calculate(BigDecimal.valueOf(3), SQUARE, null);
+        executor.calculate(BigDecimal.valueOf(2), SQUARE, null); // 3 is the least recently used now
+        executor.calculate(BigDecimal.valueOf(4), SQUARE, null);
+        assertEquals(2, executor.getSize());
+
+        executor.calculate(BigDecimal.valueOf(2), SQUARE, null);
+        assertEquals(2, executor.getHitCount());
+        executor.calculate(BigDecimal.valueOf(3), SQUARE, null);
+        assertEquals(2, executor.getHitCount());
+        assertEquals(4, executor.getMissCount());
+    }
+
+    @Test
+    public void testWeightLimit() throws CalculationException {
+        // the reference root has more than 10100 digits
+        CachingCalculationExecutor executor = new CachingCalculationExecutor(new StandardCalculationExecutor(), 100, 25000);
+
+        executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        executor.calculate(BigDecimal.valueOf(3), SQUARE_ROOT, null);
+        assertEquals(2, executor.getSize());
+
+        executor.calculate(BigDecimal.valueOf(5), SQUARE_ROOT, null);
+        assertEquals(2, executor.getSize());
+        assertEquals(true, executor.getWeight() <= 25000);
+
+        // too heavy results are not cached at all
+        CachingCalculationExecutor small = new CachingCalculationExecutor(new StandardCalculationExecutor(), 100, 1000);
+        small.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        assertEquals(0, small.getSize());
+        small.calculate(BigDecimal.valueOf(2), SQUARE, null);
+        assertEquals(1, small.getSize());
+        assertEquals(2, small.getWeight());
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        CachingCalculationExecutor executor = new CachingCalculationExecutor(
+                new StandardCalculationExecutor(PrecisionProfile.DECIMAL128), 16, 10000);
+        StandardCalculationExecutor reference = new StandardCalculationExecutor(PrecisionProfile.DECIMAL128);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS_COUNT);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS_COUNT; thread++) {
+                Callable<Boolean> task = () -> {
+                    for (int i = 0; i < 2000; i++) {
+                        BigDecimal number = BigDecimal.valueOf(1 + i % 40);
+                        MathOperation operation = (i % 3 == 0) ? SQUARE_ROOT : (i % 3 == 1) ? REVERSE : SQUARE;
+                        if (!reference.calculate(number, operation, null).equals(executor.calculate(number, operation, null))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+                futures.add(pool.submit(task));
+            }
+
+            for (Future<Boolean> future : futures) {
+                assertEquals(true, future.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(THREADS_COUNT * 2000, executor.getHitCount() + executor.getMissCount());
+        assertEquals(true, executor.getSize() <= 16);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        try {
+            new CachingCalculationExecutor(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        try {
+            new CachingCalculationExecutor(new StandardCalculationExecutor(), 0, 10);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static class CountingExecutor implements CalculationExecutor {
+
+        private final CalculationExecutor executor = new StandardCalculationExecutor();
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public BigDecimal calculate(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+            count.incrementAndGet();
+            return executor.calculate(firstNumber, operation, secondNumber);
+        }
+    }
+}
@@ -22,7 +22,7 @@ import static com.implemica.CalculatorProject.model.calculation.EditOperation.CL
 import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
 import static com.implemica.CalculatorProject.model.calculation.MemoryOperation.*;
 import static com.implemica.CalculatorProject.view.formatting.OutputFormatter.MINUS;
-import static com.implemica.CalculatorProject.controller.CalculatorController.POINT;
+import static com.implemica.CalculatorProject.model.Calculator.POINT;
 import static com.implemica.CalculatorProject.model.validation.DataValidator.isNumber;
 import static java.lang.String.format;
 import static javafx.scene.input.KeyCode.ESCAPE;
@@ -0,0 +1,197 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor.DECIMAL64;
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class Decimal64Test {
+
+    private static final int RANDOM_CASES_COUNT = 200000;
+
+    private static final String[] EDGE_NUMBERS = {"0", "1", "-1", "0.5", "-0.5", "5", "9999999999999999",
+            "-9999999999999999", "0.9999999999999999", "1234567890123456", "5000000000000000", "4999999999999999",
+            "0.0000000000000001", "1e-398", "9999999999999999e369", "1e16", "3", "7", "0.3333333333333333"};
+
+    @Test
+    public void testConversions() {
+        testConversion("0");
+        testConversion("-123.456");
+        testConversion("9999999999999999");
+        testConversion("1E+369");
+        testConversion("1E-398");
+
+        assertNull(Decimal64.valueOf(new BigDecimal("12345678901234567")));
+        assertNull(Decimal64.valueOf(new BigDecimal("1E+370")));
+        assertNull(Decimal64.valueOf(new BigDecimal("1E-399")));
+
+        expectArithmeticException(() -> Decimal64.valueOf(10000000000000000L, 0));
+        expectArithmeticException(() -> Decimal64.valueOf(1, 370));
+        expectArithmeticException(() -> Decimal64.valueOf(1, -399));
+    }
+
+    private void testConversion(String number) {
+        BigDecimal value = new BigDecimal(number);
+        assertEquals(value, Decimal64.valueOf(value).toBigDecimal());
+    }
+
+    @Test
+    public void testEdgeCases() {
+        for (String first : EDGE_NUMBERS) {
+            for (String second : EDGE_NUMBERS) {
+                testOperations(new BigDecimal(first), new BigDecimal(second));
+            }
+        }
+
+        // HALF_UP ties
+        testOperations(new BigDecimal("1234567890123456"), new BigDecimal("0.5"));
+        testOperations(new BigDecimal("1234567890123456"), new BigDecimal("-0.5"));
+        testOperations(new BigDecimal("9999999999999999"), new BigDecimal("0.5"));
+        testOperations(new BigDecimal("1.000000000000001"), new BigDecimal("-1E-17"));
+        testOperations(new BigDecimal("2"), new BigDecimal("0.0000000000000005"));
+        testOperations(new BigDecimal("1000000000000000"), new BigDecimal("-0.5"));
+        testOperations(new BigDecimal("1000000000000000"), new BigDecimal("-0.49"));
+    }
+
+    @Test
+    public void testRandomNumbers() {
+        Random random = new Random(64);
+
+        for (int i = 0; i < RANDOM_CASES_COUNT; i++) {
+            testOperations(getRandomNumber(random), getRandomNumber(random));
+        }
+    }
+
+    private BigDecimal getRandomNumber(Random random) {
+        int digits = 1 + random.nextInt(Decimal64.MAX_PRECISION);
+        BigInteger coefficient = new BigInteger(digits * 4, random).mod(BigInteger.TEN.pow(digits));
+        if (random.nextBoolean()) {
+            coefficient = coefficient.negate();
+        }
+        int scale = random.nextInt(40) - 20;
+
+        return new BigDecimal(coefficient, scale);
+    }
+
+    private void testOperations(BigDecimal first, BigDecimal second) {
+        Decimal64 firstValue = Decimal64.valueOf(first);
+        Decimal64 secondValue = Decimal64.valueOf(second);
+
+        testResult(first.add(second, DECIMAL64), () -> firstValue.add(secondValue));
+        testResult(first.subtract(second, DECIMAL64), () -> firstValue.subtract(secondValue));
+        testResult(first.multiply(second, DECIMAL64), () -> firstValue.multiply(secondValue));
+        if (second.signum() != 0) {
+            testResult(first.divide(second, DECIMAL64), () -> firstValue.divide(secondValue));
+        }
+    }
+
+    private void testResult(BigDecimal expected, Operation operation) {
+        Decimal64 result;
+        try {
+            result = operation.calculate();
+        } catch (ArithmeticException e) {
+            // the result is out of decimal64 range
+            int exponent = -expected.scale();
+            if (exponent >= Decimal64.MIN_EXPONENT && exponent <= Decimal64.MAX_EXPONENT) {
+                fail("Unexpected exception for result " + expected + ": " + e.getMessage());
+            }
+            return;
+        }
+
+        assertEquals(expected, result.toBigDecimal());
+    }
+
+    @Test
+    public void testExecutorFallback() throws CalculationException {
+        Decimal64CalculationExecutor executor = new Decimal64CalculationExecutor();
+
+        // long numbers
+        assertEquals(0, new BigDecimal("12345678901234570").compareTo(
+                executor.calculate(new BigDecimal("12345678901234567.8"), ADD, BigDecimal.ZERO)));
+
+        // out of exponent range
+        assertEquals(0, new BigDecimal("1E+400").compareTo(
+                executor.calculate(new BigDecimal("1E+200"), MULTIPLY, new BigDecimal("1E+200"))));
+        assertEquals(0, new BigDecimal("1E-400").compareTo(
+                executor.calculate(new BigDecimal("1E-200"), DIVIDE, new BigDecimal("1E+200"))));
+
+        // square root
+        assertEquals(0, new BigDecimal("1.414213562373095").compareTo(
+                executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null)));
+        assertEquals(0, new BigDecimal("3").compareTo(executor.calculate(BigDecimal.valueOf(9), SQUARE_ROOT, null)));
+    }
+
+    @Test
+    public void testExecutorIsSameAsFallback() throws CalculationException {
+        Random random = new Random(8);
+        Decimal64CalculationExecutor executor = new Decimal64CalculationExecutor();
+        CalculationExecutor reference = new StandardCalculationExecutor(PrecisionProfile.of(DECIMAL64));
+
+        for (int i = 0; i < RANDOM_CASES_COUNT / 10; i++) {
+            BigDecimal first = getRandomNumber(random);
+            BigDecimal second = getRandomNumber(random);
+
+            for (MathOperation operation : MathOperation.values()) {
+                BigDecimal secondNumber = operation.isBinary() ? second : null;
+                BigDecimal expected;
+                try {
+                    expected = reference.calculate(first, operation, secondNumber).round(DECIMAL64);
+                } catch (CalculationException e) {
+                    expectError(executor, first, operation, secondNumber, e);
+                    continue;
+                }
+
+                if (operation != SQUARE_ROOT) { // the reference root is truncated
+                    assertEquals(first + " " + operation + " " + second, 0,
+                            expected.compareTo(executor.calculate(first, operation, secondNumber)));
+                }
+            }
+        }
+    }
+
+    private void expectError(CalculationExecutor executor, BigDecimal first, MathOperation operation,
+                             BigDecimal second, CalculationException expected) {
+        try {
+            executor.calculate(first, operation, second);
+            fail("Expected error " + expected.getErrorMessage());
+        } catch (CalculationException e) {
+            assertEquals(expected.getErrorMessage(), e.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void testExecutorErrors() {
+        Decimal64CalculationExecutor executor = new Decimal64CalculationExecutor();
+
+        expectError(executor, BigDecimal.ZERO, DIVIDE, BigDecimal.ZERO, new CalculationException(RESULT_IS_UNDEFINED));
+        expectError(executor, BigDecimal.ONE, DIVIDE, BigDecimal.ZERO, new CalculationException(DIVISION_BY_ZERO));
+        expectError(executor, BigDecimal.ZERO, REVERSE, null, new CalculationException(DIVISION_BY_ZERO));
+        expectError(executor, BigDecimal.ONE.negate(), SQUARE_ROOT, null, new CalculationException(INVALID_INPUT));
+        expectError(executor, new BigDecimal("12345678901234567.8"), DIVIDE, BigDecimal.ZERO,
+                new CalculationException(DIVISION_BY_ZERO));
+    }
+
+    private void expectArithmeticException(Runnable action) {
+        try {
+            action.run();
+            fail("Expected ArithmeticException");
+        } catch (ArithmeticException e) {
+            // expected
+        }
+    }
+
+    private interface Operation {
+        Decimal64 calculate();
+    }
+}
@@ -0,0 +1,113 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static java.lang.String.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class HybridCalculationExecutorTest {
+
+    private static final MathOperation[] FAST_OPERATIONS = {ADD, SUBTRACT, MULTIPLY, NEGATE, SQUARE};
+
+    private static final int RANDOM_CASES_COUNT = 20000;
+
+    private final CalculationExecutor standardExecutor = new StandardCalculationExecutor();
+
+    private final CalculationExecutor hybridExecutor = new HybridCalculationExecutor();
+
+    @Test
+    public void testSmallOperands() throws CalculationException {
+        testSameResult("5", ADD, "10.2");
+        testSameResult("12", MULTIPLY, "7");
+        testSameResult("0.5", SUBTRACT, "0.5");
+        testSameResult("-0.0001", MULTIPLY, "3.30");
+        testSameResult("1.50", NEGATE, null);
+        testSameResult("0", NEGATE, null);
+        testSameResult("-0.25", SQUARE, null);
+        testSameResult("1E+3", ADD, "0.001");
+    }
+
+    @Test
+    public void testOverflowFallback() throws CalculationException {
+        testSameResult("9223372036854775807", ADD, "1");
+        testSameResult("-999999999999999999", SUBTRACT, "999999999999999999");
+        testSameResult("9999999999999999", MULTIPLY, "9999999999999999");
+        testSameResult("0.0000000000000001", ADD, "9999999999999999");
+        testSameResult("3037000500", SQUARE, null);
+        testSameResult("123456789012345678901234567890", NEGATE, null);
+        testSameResult("1E-30", ADD, "1E+30");
+    }
+
+    @Test
+    public void testOtherOperations() throws CalculationException {
+        testSameResult("1", DIVIDE, "3");
+        testSameResult("200", PERCENT, "15");
+        testSameResult("2", SQUARE_ROOT, null);
+        testSameResult("7", REVERSE, null);
+        testForException("1", DIVIDE, "0");
+        testForException("-4", SQUARE_ROOT, null);
+    }
+
+    @Test
+    public void testExactValuesOfFallback() throws CalculationException {
+        // the short quotient carries its exact value, so it is multiplied by the fallback executor
+        PrecisionProfile profile = PrecisionProfile.of(new MathContext(10, RoundingMode.HALF_UP));
+        CalculationExecutor executor = new HybridCalculationExecutor(new RationalCalculationExecutor(profile));
+
+        BigDecimal third = executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3));
+        assertEquals(new BigDecimal("0.3333333333"), third);
+        assertEquals(BigDecimal.ONE, executor.calculate(third, MULTIPLY, BigDecimal.valueOf(3)));
+    }
+
+    @Test
+    public void testRandomOperands() throws CalculationException {
+        Random random = new Random(42);
+
+        for (int i = 0; i < RANDOM_CASES_COUNT; i++) {
+            MathOperation operation = FAST_OPERATIONS[random.nextInt(FAST_OPERATIONS.length)];
+            BigDecimal firstNumber = getRandomNumber(random);
+            BigDecimal secondNumber = operation.isBinary() ? getRandomNumber(random) : null;
+
+            testSameResult(firstNumber, operation, secondNumber);
+        }
+    }
+
+    private BigDecimal getRandomNumber(Random random) {
+        BigInteger unscaledValue = new BigInteger(1 + random.nextInt(70), random);
+        if (random.nextBoolean()) {
+            unscaledValue = unscaledValue.negate();
+        }
+
+        return new BigDecimal(unscaledValue, random.nextInt(20) - 2);
+    }
+
+    private void testSameResult(String firstNumber, MathOperation operation, String secondNumber) throws CalculationException {
+        testSameResult(new BigDecimal(firstNumber), operation, secondNumber == null ? null : new BigDecimal(secondNumber));
+    }
+
+    private void testSameResult(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+        BigDecimal expected = standardExecutor.calculate(firstNumber, operation, secondNumber);
+        BigDecimal result = hybridExecutor.calculate(firstNumber, operation, secondNumber);
+
+        assertEquals(format("%s %s %s", firstNumber, operation, secondNumber), expected, result);
+    }
+
+    private void testForException(String firstNumber, MathOperation operation, String secondNumber) {
+        try {
+            hybridExecutor.calculate(new BigDecimal(firstNumber), operation,
+                    secondNumber == null ? null : new BigDecimal(secondNumber));
+            fail(format("Expected CalculationException for %s %s %s", firstNumber, operation, secondNumber));
+        } catch (CalculationException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import com.implemica.CalculatorProject.model.exception.ErrorMessage;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isResultOverflow;
+import static com.implemica.CalculatorProject.view.formatting.OutputFormatter.formatWithGroupDelimiters;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LazyCalculationExecutorTest {
+
+    private static final int SESSIONS_COUNT = 100;
+
+    private static final int OPERATIONS_PER_SESSION = 6;
+
+    private static final BigDecimal MAX_SESSION_VALUE = new BigDecimal("1e12");
+
+    private static final MathContext FORMAT_CONTEXT = new MathContext(40, RoundingMode.HALF_UP);
+
+    @Test
+    public void testApproximations() throws CalculationException {
+        StandardCalculationExecutor reference = new StandardCalculationExecutor();
+        LazyCalculationExecutor executor = new LazyCalculationExecutor();
+
+        ConstructiveReal two = ConstructiveReal.valueOf(BigDecimal.valueOf(2));
+        ConstructiveReal three = ConstructiveReal.valueOf(BigDecimal.valueOf(3));
+        ConstructiveReal root = executor.calculate(two, SQUARE_ROOT, null);
+        ConstructiveReal third = executor.calculate(three, REVERSE, null);
+        ConstructiveReal sum = executor.calculate(root, ADD, third);
+
+        BigDecimal expectedRoot = reference.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        BigDecimal expectedThird = reference.calculate(BigDecimal.valueOf(3), REVERSE, null);
+        BigDecimal expectedSum = expectedRoot.add(expectedThird);
+
+        for (int scale : new int[]{0, 1, 5, 16, 100, 1000, 5000, 3, 20}) {
+            testApproximation(expectedRoot, root, scale);
+            testApproximation(expectedThird, third, scale);
+            testApproximation(expectedSum, sum, scale);
+        }
+        testApproximation(new BigDecimal("1E+5"), ConstructiveReal.valueOf(BigDecimal.valueOf(100000)), -3);
+    }
+
+    private void testApproximation(BigDecimal expected, ConstructiveReal value, int scale) {
+        BigDecimal approximation = value.approximate(scale);
+        assertEquals(scale, approximation.scale());
+        assertTrue(expected.subtract(approximation).abs().compareTo(BigDecimal.ONE.scaleByPowerOfTen(-scale)) <= 0);
+    }
+
+    @Test
+    public void testExactChains() throws CalculationException {
+        LazyCalculationExecutor executor = new LazyCalculationExecutor();
+
+        BigDecimal third = executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3));
+        assertTrue(third.precision() >= LazyCalculationExecutor.DEFAULT_PRECISION);
+        assertEquals("1", formatWithGroupDelimiters(executor.calculate(third, MULTIPLY, BigDecimal.valueOf(3))));
+
+        BigDecimal root = executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        BigDecimal square = executor.calculate(root, SQUARE, null);
+        assertEquals("2", formatWithGroupDelimiters(square));
+
+        // exact operations return exact results
+        assertEquals(new BigDecimal("5.5"), executor.calculate(new BigDecimal("2.5"), ADD, BigDecimal.valueOf(3)));
+        assertEquals(new BigDecimal("0.75"), executor.calculate(new BigDecimal("25"), PERCENT, BigDecimal.valueOf(3)));
+    }
+
+    @Test
+    public void testLazyValueKeptByResult() throws Exception {
+        LazyCalculationExecutor executor = new LazyCalculationExecutor();
+        BigDecimal root = executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+
+        // the lazy value is kept however many calculations are performed meanwhile
+        for (int i = 0; i < 20; i++) {
+            executor.calculate(BigDecimal.valueOf(3 + i), SQUARE_ROOT, null);
+        }
+        assertEquals("2", formatWithGroupDelimiters(executor.calculate(root, SQUARE, null)));
+
+        // and in another thread
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+        try {
+            Future<BigDecimal> square = thread.submit(() -> executor.calculate(root, SQUARE, null));
+            assertEquals("2", formatWithGroupDelimiters(square.get()));
+        } finally {
+            thread.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSameAsReference() throws CalculationException {
+        Random random = new Random(10);
+        StandardCalculationExecutor reference = new StandardCalculationExecutor();
+        LazyCalculationExecutor executor = new LazyCalculationExecutor();
+
+        for (int session = 0; session < SESSIONS_COUNT; session++) {
+            BigDecimal expected = BigDecimal.valueOf(random.nextInt(1000) + 1);
+            ConstructiveReal value = ConstructiveReal.valueOf(expected);
+
+            for (int i = 0; i < OPERATIONS_PER_SESSION; i++) {
+                MathOperation operation = MathOperation.values()[random.nextInt(MathOperation.values().length)];
+                BigDecimal argument = operation.isBinary() ? BigDecimal.valueOf(random.nextInt(100) + 1) : null;
+                if (operation == SQUARE_ROOT && expected.signum() < 0) {
+                    operation = NEGATE;
+                }
+
+                expected = reference.calculate(expected, operation, argument);
+                if (expected.scale() > PrecisionProfile.REFERENCE_SCALE) { // keep the chain of squares short
+                    expected = expected.setScale(PrecisionProfile.REFERENCE_SCALE, RoundingMode.HALF_UP);
+                }
+                if (expected.abs().compareTo(MAX_SESSION_VALUE) > 0) {
+                    break;
+                }
+                value = executor.calculate(value, operation, argument == null ? null : ConstructiveReal.valueOf(argument));
+
+                // formatting of the reference result with all its digits is too slow
+                assertEquals(formatWithGroupDelimiters(expected.round(FORMAT_CONTEXT)), formatWithGroupDelimiters(value));
+                assertEquals(isResultOverflow(expected), isResultOverflow(value));
+            }
+        }
+    }
+
+    @Test
+    public void testOnlyNeededDigitsAreComputed() throws CalculationException {
+        CountingReal number = new CountingReal(ConstructiveReal.valueOf(BigDecimal.valueOf(7)));
+        LazyCalculationExecutor executor = new LazyCalculationExecutor();
+
+        ConstructiveReal result = executor.calculate(executor.calculate(number, SQUARE_ROOT, null), REVERSE, null);
+        assertEquals("0.3779644730092272", formatWithGroupDelimiters(result));
+        assertFalse(isResultOverflow(result));
+        assertTrue(number.maxScale < 100);
+
+        // more digits are computed only when they are requested
+        result.approximate(500);
+        assertTrue(number.maxScale > 1000);
+    }
+
+    @Test
+    public void testOverflowOfSmallNumbers() {
+        // the magnitude of a small number is found with a few hundred digits, not all of them
+        CountingReal small = new CountingReal(ConstructiveReal.valueOf(new BigDecimal("3e-200")));
+        assertFalse(isResultOverflow(small));
+        assertTrue(small.maxScale < 1000);
+
+        CountingReal negative = new CountingReal(ConstructiveReal.valueOf(new BigDecimal("-7.5e-3000")));
+        assertFalse(isResultOverflow(negative));
+        assertTrue(negative.maxScale < 10000);
+
+        // the numbers close to the bounds or indistinguishable from zero are checked with all the digits
+        CountingReal lowerBound = new CountingReal(ConstructiveReal.valueOf(new BigDecimal("1e-9995")));
+        assertFalse(isResultOverflow(lowerBound));
+        assertEquals(ConstructiveReal.ZERO_CHECK_SCALE, lowerBound.maxScale);
+
+        assertTrue(isResultOverflow(new CountingReal(ConstructiveReal.valueOf(new BigDecimal("5e-10001")))));
+        assertFalse(isResultOverflow(new CountingReal(ConstructiveReal.valueOf(new BigDecimal("1e-10200")))));
+    }
+
+    @Test
+    public void testPrecisionBudget() throws CalculationException {
+        // the result rounded by the budget keeps its lazy value: 1 ÷ 3 × 3 − 1 = 0
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new LazyCalculationExecutor());
+        calculator.setPrecisionBudget(PrecisionProfile.DISPLAY_BUDGET);
+
+        BigDecimal result = RationalCalculationExecutorTest.calculateOneThirdTimesThreeMinusOne(calculator);
+        assertEquals(0, result.signum());
+    }
+
+    @Test
+    public void testErrors() throws CalculationException {
+        LazyCalculationExecutor executor = new LazyCalculationExecutor();
+
+        expectError(executor, BigDecimal.ZERO, DIVIDE, BigDecimal.ZERO, RESULT_IS_UNDEFINED);
+        expectError(executor, BigDecimal.ONE, DIVIDE, BigDecimal.ZERO, DIVISION_BY_ZERO);
+        expectError(executor, BigDecimal.ZERO, REVERSE, null, DIVISION_BY_ZERO);
+        expectError(executor, BigDecimal.ONE.negate(), SQUARE_ROOT, null, INVALID_INPUT);
+        assertEquals(BigDecimal.ZERO, executor.calculate(BigDecimal.ZERO, SQUARE_ROOT, null));
+
+        // the lazy value is zero if it can not be distinguished from zero
+        BigDecimal root = executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        BigDecimal square = executor.calculate(root, MULTIPLY, root);
+        BigDecimal zero = executor.calculate(square, SUBTRACT, BigDecimal.valueOf(2));
+        expectError(executor, zero, REVERSE, null, DIVISION_BY_ZERO);
+    }
+
+    private void expectError(CalculationExecutor executor, BigDecimal first, MathOperation operation,
+                             BigDecimal second, ErrorMessage expected) {
+        try {
+            executor.calculate(first, operation, second);
+            fail("Expected error " + expected);
+        } catch (CalculationException e) {
+            assertEquals(expected, e.getErrorMessage());
+        }
+    }
+
+    private static class CountingReal extends ConstructiveReal {
+
+        private final ConstructiveReal number;
+
+        private int maxScale;
+
+        CountingReal(ConstructiveReal number) {
+            this.number = number;
+        }
+
+        @Override
+        protected BigDecimal compute(int scale) {
+            maxScale = Math.max(maxScale, scale);
+            return number.approximate(scale);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.DECIMAL128;
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.REFERENCE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OperationRegistryTest {
+
+    @Test
+    public void testStandardRegistry() {
+        OperationRegistry registry = OperationRegistry.standard(DECIMAL128);
+        assertEquals(DECIMAL128, registry.getPrecisionProfile());
+
+        for (MathOperation operation : MathOperation.values()) {
+            OperationDefinition definition = registry.get(operation);
+            assertNotNull(definition);
+            assertEquals(operation, definition.getOperation());
+            assertEquals(operation.isBinary(), definition.isBinary());
+        }
+
+        assertNull(registry.get(ADD).getDisplayPattern());
+        assertNull(registry.get(PERCENT).getDisplayPattern());
+        assertEquals("√(%s)", registry.get(SQUARE_ROOT).getDisplayPattern());
+        assertEquals("sqr(%s)", registry.get(SQUARE).getDisplayPattern());
+        assertEquals("1/(%s)", registry.get(REVERSE).getDisplayPattern());
+        assertEquals("negate(%s)", registry.get(NEGATE).getDisplayPattern());
+    }
+
+    @Test
+    public void testCustomOperation() throws CalculationException {
+        OperationRegistry registry = OperationRegistry.standard(REFERENCE);
+        registry.register(SQUARE, (number, none) -> number.multiply(number).multiply(number), "cube(%s)");
+
+        CalculationExecutor executor = new StandardCalculationExecutor(registry);
+        assertEquals(BigDecimal.valueOf(8), executor.calculate(BigDecimal.valueOf(2), SQUARE, null));
+        assertEquals("cube(%s)", registry.get(SQUARE).getDisplayPattern());
+
+        // the executor is not affected by the later changes of the registry
+        registry.register(ADD, (first, second) -> first.subtract(second));
+        assertEquals(BigDecimal.valueOf(5), executor.calculate(BigDecimal.valueOf(2), ADD, BigDecimal.valueOf(3)));
+    }
+
+    @Test
+    public void testMissingOperation() throws CalculationException {
+        OperationRegistry registry = new OperationRegistry(REFERENCE);
+        registry.register(ADD, BigDecimal::add);
+        CalculationExecutor executor = new StandardCalculationExecutor(registry);
+
+        assertEquals(BigDecimal.valueOf(5), executor.calculate(BigDecimal.valueOf(2), ADD, BigDecimal.valueOf(3)));
+        try {
+            executor.calculate(BigDecimal.valueOf(2), MULTIPLY, BigDecimal.valueOf(3));
+            fail("Expected UnsupportedOperationException for not registered operation");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCopy() {
+        OperationRegistry registry = new OperationRegistry(REFERENCE);
+        registry.register(ADD, BigDecimal::add);
+
+        OperationRegistry copy = registry.copy();
+        copy.register(SUBTRACT, BigDecimal::subtract);
+
+        assertTrue(copy.get(ADD) != null);
+        assertFalse(registry.get(SUBTRACT) != null);
+        assertEquals(REFERENCE, copy.getPrecisionProfile());
+    }
+
+    @Test
+    public void testInvalidDefinitions() {
+        expectIllegalArgument(() -> new OperationRegistry(null));
+        expectIllegalArgument(() -> new OperationRegistry(REFERENCE).register(null, BigDecimal::add));
+        expectIllegalArgument(() -> new OperationRegistry(REFERENCE).register(ADD, null));
+        expectIllegalArgument(() -> new StandardCalculationExecutor((OperationRegistry) null));
+    }
+
+    private void expectIllegalArgument(Runnable action) {
+        try {
+            action.run();
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import com.implemica.CalculatorProject.model.exception.ErrorMessage;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.DIVISION_BY_ZERO;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.INVALID_INPUT;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.RESULT_IS_UNDEFINED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RationalCalculationExecutorTest {
+
+    private static final MathContext DISPLAY_CONTEXT = new MathContext(16, RoundingMode.HALF_UP);
+
+    private static final int THREADS_COUNT = 8;
+
+    private static final int BATCH_SIZE = 5000;
+
+    private static final MathOperation[] OPERATIONS = {ADD, SUBTRACT, MULTIPLY, DIVIDE, PERCENT, NEGATE, SQUARE, REVERSE};
+
+    @Test
+    public void testPrecisionBudget() throws CalculationException {
+        // the result rounded by the budget keeps its exact value: 1 ÷ 3 × 3 − 1 = 0
+        PrecisionProfile[] budgets = {PrecisionProfile.DISPLAY_BUDGET, PrecisionProfile.REFERENCE};
+        for (PrecisionProfile budget : budgets) {
+            Calculator calculator = new Calculator();
+            calculator.setCalculationExecutor(new RationalCalculationExecutor());
+            calculator.setPrecisionBudget(budget);
+
+            assertEquals(0, calculateOneThirdTimesThreeMinusOne(calculator).signum());
+        }
+
+        // so does the result rounded by the budget of a caching executor
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new CachingCalculationExecutor(new RationalCalculationExecutor()));
+        calculator.setPrecisionBudget(PrecisionProfile.DISPLAY_BUDGET);
+        assertEquals(0, calculateOneThirdTimesThreeMinusOne(calculator).signum());
+    }
+
+    static BigDecimal calculateOneThirdTimesThreeMinusOne(Calculator calculator) throws CalculationException {
+        calculator.enterDigit(1);
+        calculator.executeMathOperation(DIVIDE);
+        calculator.enterDigit(3);
+        calculator.executeMathOperation(MULTIPLY);
+        calculator.enterDigit(3);
+        calculator.executeMathOperation(SUBTRACT);
+        calculator.enterDigit(1);
+
+        return calculator.calculateResult();
+    }
+
+    @Test
+    public void testDeferredDivision() throws CalculationException {
+        CalculationExecutor executor = new RationalCalculationExecutor();
+
+        BigDecimal third = executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3));
+        assertEquals(BigDecimal.ONE, executor.calculate(third, MULTIPLY, BigDecimal.valueOf(3)));
+
+        BigDecimal reversed = executor.calculate(BigDecimal.valueOf(7), REVERSE, null);
+        assertEquals(BigDecimal.valueOf(7), executor.calculate(reversed, REVERSE, null));
+
+        BigDecimal quotient = BigDecimal.ONE;
+        for (int i = 0; i < 50; i++) {
+            quotient = executor.calculate(quotient, DIVIDE, BigDecimal.valueOf(3));
+        }
+        for (int i = 0; i < 50; i++) {
+            quotient = executor.calculate(quotient, MULTIPLY, BigDecimal.valueOf(3));
+        }
+        assertEquals(BigDecimal.ONE, quotient);
+
+        BigDecimal ninth = executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(9));
+        assertEquals(0, executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3))
+                .compareTo(executor.calculate(ninth, SQUARE_ROOT, null)));
+    }
+
+    @Test
+    public void testExactResults() throws CalculationException {
+        CalculationExecutor executor = new RationalCalculationExecutor();
+        CalculationExecutor standardExecutor = new StandardCalculationExecutor();
+
+        assertEquals(new BigDecimal("0.25"), executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(4)));
+        assertEquals(new BigDecimal("30"), executor.calculate(BigDecimal.valueOf(200), PERCENT, BigDecimal.valueOf(15)));
+        assertEquals(new BigDecimal("1.2"), executor.calculate(new BigDecimal("1.44"), SQUARE_ROOT, null));
+
+        // the same scale as BigDecimal arithmetic gives for exact arguments
+        BigDecimal firstNumber = new BigDecimal("1.50");
+        BigDecimal secondNumber = new BigDecimal("0.250");
+        for (MathOperation operation : new MathOperation[]{ADD, SUBTRACT, MULTIPLY}) {
+            assertEquals(standardExecutor.calculate(firstNumber, operation, secondNumber),
+                    executor.calculate(firstNumber, operation, secondNumber));
+        }
+        assertEquals(new BigDecimal("-1.50"), executor.calculate(firstNumber, NEGATE, null));
+    }
+
+    @Test
+    public void testErrors() {
+        testForException(BigDecimal.ONE, DIVIDE, BigDecimal.ZERO, DIVISION_BY_ZERO);
+        testForException(BigDecimal.ZERO, DIVIDE, BigDecimal.ZERO, RESULT_IS_UNDEFINED);
+        testForException(BigDecimal.ZERO, REVERSE, null, DIVISION_BY_ZERO);
+        testForException(BigDecimal.valueOf(-4), SQUARE_ROOT, null, INVALID_INPUT);
+    }
+
+    private void testForException(BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber,
+                                  ErrorMessage expectedError) {
+        try {
+            new RationalCalculationExecutor().calculate(firstNumber, operation, secondNumber);
+            fail("Expected CalculationException " + expectedError);
+        } catch (CalculationException e) {
+            assertEquals(expectedError, e.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void testSameDisplayResultsAsStandard() throws CalculationException {
+        Random random = new Random(3);
+
+        for (int session = 0; session < 300; session++) {
+            Calculator calculator = new Calculator();
+            calculator.setCalculationExecutor(new RationalCalculationExecutor());
+            Calculator standardCalculator = new Calculator();
+            standardCalculator.setCalculationExecutor(new StandardCalculationExecutor(PrecisionProfile.DECIMAL128));
+
+            try {
+                for (int i = 0; i < 8; i++) {
+                    BigDecimal digit = BigDecimal.valueOf(1 + random.nextInt(9));
+                    MathOperation operation = OPERATIONS[random.nextInt(OPERATIONS.length)];
+
+                    calculator.enterDigit(digit);
+                    standardCalculator.enterDigit(digit);
+                    assertEquals(standardCalculator.executeMathOperation(operation).round(DISPLAY_CONTEXT).stripTrailingZeros(),
+                            calculator.executeMathOperation(operation).round(DISPLAY_CONTEXT).stripTrailingZeros());
+                }
+            } catch (CalculationException e) {
+                // the same exception is expected from both calculators
+            }
+        }
+    }
+
+    @Test
+    public void testExactValuesAcrossThreads() throws Exception {
+        CalculationExecutor executor = new RationalCalculationExecutor();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS_COUNT);
+        List<Future<BigDecimal>> futures = new ArrayList<>();
+
+        try {
+            // the quotients calculated in other threads keep their exact values in this thread
+            for (int thread = 0; thread < THREADS_COUNT; thread++) {
+                BigDecimal divisor = BigDecimal.valueOf(3 + 4 * thread);
+                Callable<BigDecimal> task = () -> executor.calculate(BigDecimal.ONE, DIVIDE, divisor);
+                futures.add(pool.submit(task));
+            }
+
+            for (int thread = 0; thread < THREADS_COUNT; thread++) {
+                BigDecimal divisor = BigDecimal.valueOf(3 + 4 * thread);
+                assertEquals(BigDecimal.ONE, executor.calculate(futures.get(thread).get(), MULTIPLY, divisor));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // so do the quotients calculated in the tasks of a fork join pool
+        BigDecimal[] ones = new BigDecimal[BATCH_SIZE];
+        BigDecimal[] divisors = new BigDecimal[BATCH_SIZE];
+        BigDecimal[] quotients = new BigDecimal[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ones[i] = BigDecimal.ONE;
+            divisors[i] = BigDecimal.valueOf(3 + i);
+        }
+        executor.calculateAll(ones, DIVIDE, divisors, quotients, ForkJoinPool.commonPool());
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            assertEquals(0, BigDecimal.ONE.compareTo(executor.calculate(quotients[i], MULTIPLY, divisors[i])));
+        }
+    }
+
+    @Test
+    public void testExactValueInMemory() throws CalculationException {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new RationalCalculationExecutor());
+
+        calculator.enterDigit(1);
+        calculator.executeMathOperation(DIVIDE);
+        calculator.enterDigit(3);
+        calculator.calculateResult();
+        calculator.executeMemoryOperation(MemoryOperation.MEMORY_STORE);
+
+        // the memorized number keeps its exact value however many calculations are performed meanwhile
+        for (int i = 0; i < 20; i++) {
+            calculator.enterDigit(1 + i % 9);
+            calculator.executeMathOperation(DIVIDE);
+            calculator.enterDigit(7);
+            calculator.calculateResult();
+        }
+
+        calculator.executeMemoryOperation(MemoryOperation.MEMORY_RECALL);
+        calculator.executeMathOperation(MULTIPLY);
+        calculator.enterDigit(3);
+        assertEquals(BigDecimal.ONE, calculator.calculateResult());
+    }
+}
@@ -0,0 +1,55 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.DECIMAL128;
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.REFERENCE_SCALE;
+import static com.implemica.CalculatorProject.model.calculation.SquareRootTest.legacySqrt;
+
+/**
+ * Compares the legacy square root algorithm with {@link SquareRoot} across operand magnitudes.
+ */
+public class SquareRootBenchmark {
+
+    private static final String[] OPERANDS = {"2", "0.0000000000000001", "9999999999999999", "1.e+100", "1.e-100",
+            "1.e+5000", "3.e-9999"};
+
+    private static final MathContext DISPLAY_CONTEXT = new MathContext(16, RoundingMode.HALF_UP);
+
+    private static final int WARM_UP_ITERATIONS = 3;
+
+    private static final int MEASURED_ITERATIONS = 10;
+
+    public static void main(String[] args) {
+        System.out.printf("%-20s %14s %14s %14s %8s%n", "operand", "legacy, ms", "engine, ms", "34 digits, ms", "same");
+
+        for (String operand : OPERANDS) {
+            BigDecimal number = new BigDecimal(operand);
+            int decimal128Scale = DECIMAL128.getSquareRootScale(number);
+
+            double legacyTime = measure(() -> legacySqrt(number, REFERENCE_SCALE));
+            double engineTime = measure(() -> SquareRoot.sqrt(number, REFERENCE_SCALE));
+            double decimal128Time = measure(() -> SquareRoot.sqrt(number, decimal128Scale));
+
+            boolean isSameDisplay = legacySqrt(number, REFERENCE_SCALE).round(DISPLAY_CONTEXT)
+                    .equals(SquareRoot.sqrt(number, REFERENCE_SCALE).round(DISPLAY_CONTEXT));
+
+            System.out.printf("%-20s %14.3f %14.3f %14.3f %8s%n", operand, legacyTime, engineTime, decimal128Time, isSameDisplay);
+        }
+    }
+
+    private static double measure(Runnable calculation) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            calculation.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            calculation.run();
+        }
+
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ITERATIONS;
+    }
+}
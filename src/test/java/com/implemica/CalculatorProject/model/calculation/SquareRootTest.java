@@ -0,0 +1,90 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.REFERENCE_SCALE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SquareRootTest {
+
+    private static final MathContext DISPLAY_CONTEXT = new MathContext(16, RoundingMode.HALF_UP);
+
+    private static final int RANDOM_CASES_COUNT = 2000;
+
+    @Test
+    public void testIntegerSquareRoot() {
+        for (long i = 0; i < 10000; i++) {
+            testIntegerSquareRoot(BigInteger.valueOf(i));
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < RANDOM_CASES_COUNT; i++) {
+            BigInteger root = new BigInteger(1 + random.nextInt(3000), random);
+            BigInteger square = root.multiply(root);
+
+            assertEquals(root, SquareRoot.sqrt(square));
+            assertEquals(root, SquareRoot.sqrt(square.add(root.shiftLeft(1))));
+            testIntegerSquareRoot(square.subtract(BigInteger.ONE).max(BigInteger.ZERO));
+            testIntegerSquareRoot(new BigInteger(1 + random.nextInt(6000), random));
+        }
+    }
+
+    private void testIntegerSquareRoot(BigInteger n) {
+        BigInteger root = SquareRoot.sqrt(n);
+        BigInteger nextRoot = root.add(BigInteger.ONE);
+
+        assertTrue(root.multiply(root).compareTo(n) <= 0);
+        assertTrue(nextRoot.multiply(nextRoot).compareTo(n) > 0);
+    }
+
+    @Test
+    public void testSameAsLegacyAlgorithm() {
+        String[] numbers = {"2", "3", "0.5", "0.0000000000000001", "25", "1.44", "99999999.99999999",
+                "9999999999999999", "1.e+100", "1.e-100", "12345678901234567890.123", "1.e+9999"};
+
+        for (String number : numbers) {
+            BigDecimal value = new BigDecimal(number);
+            assertEquals(legacySqrt(value, 200), SquareRoot.sqrt(value, 200));
+            assertEquals(legacySqrt(value, REFERENCE_SCALE).round(DISPLAY_CONTEXT),
+                    SquareRoot.sqrt(value, REFERENCE_SCALE).round(DISPLAY_CONTEXT));
+        }
+
+        BigDecimal tinyValue = new BigDecimal("7.e-9999");
+        assertEquals(legacySqrt(tinyValue, REFERENCE_SCALE).round(DISPLAY_CONTEXT),
+                SquareRoot.sqrt(tinyValue, REFERENCE_SCALE).round(DISPLAY_CONTEXT));
+    }
+
+    @Test
+    public void testExactRoots() {
+        assertEquals(0, BigDecimal.valueOf(5).compareTo(SquareRoot.sqrt(BigDecimal.valueOf(25), 50)));
+        assertEquals(0, new BigDecimal("1.2").compareTo(SquareRoot.sqrt(new BigDecimal("1.44"), 50)));
+        assertEquals(0, new BigDecimal("0.01").compareTo(SquareRoot.sqrt(new BigDecimal("0.0001"), 50)));
+        assertEquals(0, BigDecimal.ZERO.compareTo(SquareRoot.sqrt(BigDecimal.ZERO, 50)));
+    }
+
+    /**
+     * The square root algorithm used by {@link StandardCalculationExecutor} before {@link SquareRoot}.
+     */
+    static BigDecimal legacySqrt(BigDecimal number, int scale) {
+        BigInteger n = number.movePointRight(scale << 1).toBigInteger();
+
+        int bits = (n.bitLength() + 1) >> 1;
+        BigInteger ix = n.shiftRight(bits);
+        BigInteger ixPrev;
+
+        do {
+            ixPrev = ix;
+            ix = ix.add(n.divide(ix)).shiftRight(1);
+            Thread.yield();
+        } while (ix.compareTo(ixPrev) != 0);
+
+        return new BigDecimal(ix, scale);
+    }
+}
@@ -0,0 +1,230 @@
+package com.implemica.CalculatorProject.model.calculation;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.DECIMAL128;
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.REFERENCE;
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.REFERENCE_SCALE;
+import static com.implemica.CalculatorProject.model.exception.ErrorMessage.OVERFLOW;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isProductOverflow;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isQuotientOverflow;
+import static com.implemica.CalculatorProject.model.validation.DataValidator.isResultOverflow;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StandardCalculationExecutorTest {
+
+    private static final MathContext DISPLAY_CONTEXT = new MathContext(16, RoundingMode.HALF_UP);
+
+    private static final int THREADS_COUNT = 8;
+
+    private static final int SESSIONS_PER_THREAD = 200;
+
+    private static final int OPERATIONS_PER_SESSION = 20;
+
+    private static final int OVERFLOW_CHECKS_COUNT = 20000;
+
+    private static final MathContext QUOTIENT_CONTEXT = new MathContext(20, RoundingMode.DOWN);
+
+    @Test
+    public void testReferenceProfile() throws CalculationException {
+        StandardCalculationExecutor executor = new StandardCalculationExecutor();
+        assertEquals(REFERENCE, executor.getPrecisionProfile());
+
+        BigDecimal result = executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3));
+        assertEquals(REFERENCE_SCALE, result.scale());
+
+        result = executor.calculate(BigDecimal.valueOf(3), REVERSE, null);
+        assertEquals(REFERENCE_SCALE, result.scale());
+
+        result = executor.calculate(BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        assertEquals(REFERENCE_SCALE, result.scale());
+    }
+
+    @Test
+    public void testDecimal128Profile() throws CalculationException {
+        testPrecisionProfile(DECIMAL128, 34);
+        testPrecisionProfile(PrecisionProfile.forDisplay(4), 20);
+        testPrecisionProfile(PrecisionProfile.of(new MathContext(50, RoundingMode.HALF_UP)), 50);
+    }
+
+    private void testPrecisionProfile(PrecisionProfile profile, int expectedPrecision) throws CalculationException {
+        StandardCalculationExecutor reference = new StandardCalculationExecutor();
+        StandardCalculationExecutor executor = new StandardCalculationExecutor(profile);
+
+        testProfileResult(reference, executor, expectedPrecision, BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(3));
+        testProfileResult(reference, executor, expectedPrecision, BigDecimal.valueOf(2), DIVIDE, BigDecimal.valueOf(7));
+        testProfileResult(reference, executor, expectedPrecision, BigDecimal.valueOf(7), REVERSE, null);
+        testProfileResult(reference, executor, expectedPrecision, new BigDecimal("0.0003"), REVERSE, null);
+        testProfileResult(reference, executor, expectedPrecision, BigDecimal.valueOf(2), SQUARE_ROOT, null);
+        testProfileResult(reference, executor, expectedPrecision, new BigDecimal("12345678901234567890"), SQUARE_ROOT, null);
+        testProfileResult(reference, executor, expectedPrecision, new BigDecimal("0.000005"), SQUARE_ROOT, null);
+
+        // exact results are the same for any profile
+        assertEquals(0, BigDecimal.valueOf(66.6).compareTo(
+                executor.calculate(BigDecimal.valueOf(200), PERCENT, new BigDecimal("33.3"))));
+        assertEquals(0, BigDecimal.valueOf(5).compareTo(
+                executor.calculate(BigDecimal.valueOf(25), SQUARE_ROOT, null)));
+        assertEquals(0, new BigDecimal("0.25").compareTo(
+                executor.calculate(BigDecimal.ONE, DIVIDE, BigDecimal.valueOf(4))));
+    }
+
+    private void testProfileResult(CalculationExecutor reference, CalculationExecutor executor, int expectedPrecision,
+                                   BigDecimal firstNumber, MathOperation operation, BigDecimal secondNumber) throws CalculationException {
+        BigDecimal expected = reference.calculate(firstNumber, operation, secondNumber);
+        BigDecimal result = executor.calculate(firstNumber, operation, secondNumber);
+
+        assertTrue(result.precision() <= expectedPrecision + 1);
+        assertEquals(expected.round(DISPLAY_CONTEXT), result.round(DISPLAY_CONTEXT));
+    }
+
+    @Test
+    public void testOverflowPreflight() throws CalculationException {
+        StandardCalculationExecutor executor = new StandardCalculationExecutor();
+
+        // the results are rejected before their digits are computed
+        checkOverflow(executor, new BigDecimal("1e9999"), MULTIPLY, new BigDecimal("1e9999"));
+        checkOverflow(executor, new BigDecimal("-1e9999"), SQUARE, null);
+        checkOverflow(executor, new BigDecimal("1e-9999"), SQUARE, null);
+        checkOverflow(executor, new BigDecimal("1e9999"), DIVIDE, new BigDecimal("1e-9999"));
+        checkOverflow(executor, new BigDecimal("5e5000"), MULTIPLY, new BigDecimal("2e5000"));
+
+        // the results near the bounds are computed
+        assertEquals(new BigDecimal("9.801e9999"),
+                executor.calculate(new BigDecimal("9.9e4999"), SQUARE, null));
+        assertEquals(new BigDecimal("1e-10000"),
+                executor.calculate(new BigDecimal("1e-5000"), MULTIPLY, new BigDecimal("1e-5000")));
+        assertEquals(0, new BigDecimal("1e9999").compareTo(
+                executor.calculate(new BigDecimal("1e5000"), DIVIDE, new BigDecimal("1e-4999"))));
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                executor.calculate(BigDecimal.ZERO, MULTIPLY, new BigDecimal("1e9999"))));
+
+        // the quotient under the lower bound is rounded to zero with the reference scale as before the preflight
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                executor.calculate(new BigDecimal("1e-8192"), DIVIDE, new BigDecimal("1e3000"))));
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                executor.calculate(new BigDecimal("1e-9999"), DIVIDE, new BigDecimal("1e9999"))));
+    }
+
+    @Test
+    public void testOverflowPrediction() {
+        Random random = new Random(OVERFLOW_CHECKS_COUNT);
+
+        for (int i = 0; i < OVERFLOW_CHECKS_COUNT; i++) {
+            BigDecimal first = boundaryNumber(random);
+            BigDecimal second = boundaryNumber(random);
+
+            // the prediction is never wrong, and it is made for all products except the ones of the tie exponent
+            boolean isOverflow = isResultOverflow(first.multiply(second));
+            assertTrue(!isProductOverflow(first, second) || isOverflow);
+            long exponent = exponent(first) + exponent(second);
+            if (isOverflow && exponent != 9999 && exponent != -10001 && exponent != -10000) {
+                assertTrue(first + " * " + second, isProductOverflow(first, second));
+            }
+
+            if (isQuotientOverflow(first, second)) {
+                BigDecimal quotient = first.divide(second, QUOTIENT_CONTEXT);
+                assertTrue(first + " / " + second, isResultOverflow(quotient) && quotient.abs().compareTo(BigDecimal.ONE) > 0);
+            }
+        }
+
+        assertFalse(isProductOverflow(BigDecimal.ZERO, new BigDecimal("1e9999")));
+        assertFalse(isQuotientOverflow(BigDecimal.ZERO, new BigDecimal("1e-9999")));
+    }
+
+    private static void checkOverflow(CalculationExecutor executor, BigDecimal firstNumber, MathOperation operation,
+                                      BigDecimal secondNumber) {
+        try {
+            executor.calculate(firstNumber, operation, secondNumber);
+            fail("Expected an overflow for " + firstNumber + " " + operation + " " + secondNumber);
+        } catch (CalculationException e) {
+            assertEquals(OVERFLOW, e.getErrorMessage());
+        }
+    }
+
+    private static BigDecimal boundaryNumber(Random random) {
+        BigDecimal mantissa = BigDecimal.valueOf(1 + random.nextInt(9999), 3);
+        int exponent = 4995 + random.nextInt(10);
+        BigDecimal number = mantissa.scaleByPowerOfTen(random.nextBoolean() ? exponent : -exponent);
+
+        return random.nextBoolean() ? number : number.negate();
+    }
+
+    private static long exponent(BigDecimal number) {
+        return number.precision() - number.scale() - 1;
+    }
+
+    @Test
+    public void testSharedExecutorUnderContention() throws Exception {
+        CalculationExecutor sharedExecutor = new StandardCalculationExecutor(DECIMAL128);
+        List<List<BigDecimal>> expectedResults = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS_COUNT; thread++) {
+            expectedResults.add(runSessions(new StandardCalculationExecutor(DECIMAL128), thread));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<BigDecimal>>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS_COUNT; thread++) {
+                int seed = thread;
+                Callable<List<BigDecimal>> task = () -> {
+                    start.await();
+                    return runSessions(sharedExecutor, seed);
+                };
+                futures.add(pool.submit(task));
+            }
+            start.countDown();
+
+            for (int thread = 0; thread < THREADS_COUNT; thread++) {
+                assertEquals(expectedResults.get(thread), futures.get(thread).get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<BigDecimal> runSessions(CalculationExecutor executor, long seed) {
+        Random random = new Random(seed);
+        List<BigDecimal> results = new ArrayList<>();
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(executor);
+
+        for (int session = 0; session < SESSIONS_PER_THREAD; session++) {
+            calculator.cleanAll();
+
+            try {
+                for (int i = 0; i < OPERATIONS_PER_SESSION; i++) {
+                    calculator.enterDigit(BigDecimal.valueOf(random.nextInt(10)));
+                    calculator.enterDigit(BigDecimal.valueOf(random.nextInt(10)));
+                    MathOperation operation = MathOperation.values()[random.nextInt(MathOperation.values().length)];
+                    results.add(calculator.executeMathOperation(operation));
+                }
+                results.add(calculator.calculateResult());
+            } catch (CalculationException e) {
+                results.add(null);
+            }
+        }
+
+        return results;
+    }
+}
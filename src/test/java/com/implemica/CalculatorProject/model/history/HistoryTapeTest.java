@@ -0,0 +1,231 @@
+package com.implemica.CalculatorProject.model.history;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import com.implemica.CalculatorProject.model.calculation.PrecisionProfile;
+import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.implemica.CalculatorProject.model.calculation.MathOperation.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HistoryTapeTest {
+
+    private static final int APPENDS_COUNT = 20000;
+
+    private static final int CAPACITY = 50;
+
+    private static final int DATA_CAPACITY = 1000;
+
+    private static final long SEED = 17L;
+
+    private Path folder;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("history");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Test
+    public void testAppendAndGet() {
+        HistoryTape tape = new HistoryTape(3, DATA_CAPACITY);
+        assertEquals(0, tape.size());
+
+        tape.append("1 + 2", BigDecimal.valueOf(3));
+        tape.append("√(0.25)", new BigDecimal("0.5"));
+        assertEquals(2, tape.size());
+        assertEquals(new HistoryEntry("1 + 2", BigDecimal.valueOf(3)), tape.get(0));
+        assertEquals(new HistoryEntry("√(0.25)", new BigDecimal("0.5")), tape.get(1));
+
+        // the oldest entry is dropped by the count of entries
+        tape.append("5 × 5", BigDecimal.valueOf(25));
+        tape.append("-1E+20 ÷ 3", new BigDecimal("-3.333333333333333E+19"));
+        assertEquals(3, tape.size());
+        assertEquals(4, tape.getAppendedCount());
+        assertEquals(Arrays.asList(new HistoryEntry("√(0.25)", new BigDecimal("0.5")),
+                new HistoryEntry("5 × 5", BigDecimal.valueOf(25)),
+                new HistoryEntry("-1E+20 ÷ 3", new BigDecimal("-3.333333333333333E+19"))), tape.getPage(0, 10));
+        assertEquals(Collections.singletonList(new HistoryEntry("5 × 5", BigDecimal.valueOf(25))),
+                tape.getPage(1, 1));
+        assertEquals(Collections.emptyList(), tape.getPage(3, 1));
+
+        // the entry larger than the ring of bytes is not appended
+        char[] longText = new char[DATA_CAPACITY];
+        Arrays.fill(longText, '1');
+        assertFalse(tape.append(new String(longText), BigDecimal.ONE));
+        assertEquals(3, tape.size());
+
+        tape.clear();
+        assertEquals(0, tape.size());
+        try {
+            tape.get(0);
+            fail("Expected an IndexOutOfBoundsException for the empty tape");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            new HistoryTape(0, DATA_CAPACITY);
+            fail("Expected an IllegalArgumentException for zero capacity");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRingWrapping() {
+        Random random = new Random(SEED);
+        HistoryTape tape = new HistoryTape(CAPACITY, DATA_CAPACITY);
+        Deque<HistoryEntry> expected = new ArrayDeque<>();
+        int expectedBytes = 0;
+
+        for (int i = 0; i < APPENDS_COUNT; i++) {
+            char[] text = new char[random.nextInt(100)];
+            Arrays.fill(text, (char) ('a' + random.nextInt(26)));
+            HistoryEntry entry = new HistoryEntry(new String(text), BigDecimal.valueOf(random.nextLong(), i % 20));
+            assertTrue(tape.append(entry.getExpression(), entry.getResult()));
+
+            expected.addLast(entry);
+            expectedBytes += getSize(entry);
+            while (expected.size() > CAPACITY || expectedBytes > DATA_CAPACITY) {
+                expectedBytes -= getSize(expected.removeFirst());
+            }
+
+            assertEquals(expected.size(), tape.size());
+            assertEquals(expected.getFirst(), tape.get(0));
+            assertEquals(entry, tape.get(tape.size() - 1));
+        }
+
+        assertEquals(new ArrayList<>(expected), tape.getPage(0, tape.size()));
+        assertEquals(APPENDS_COUNT, tape.getAppendedCount());
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        Path file = folder.resolve("history.bin");
+        List<HistoryEntry> entries = new ArrayList<>();
+
+        try (HistoryTape tape = new HistoryTape(file, CAPACITY, DATA_CAPACITY)) {
+            for (int i = 0; i < CAPACITY * 2; i++) {
+                tape.append(i + " + 1", BigDecimal.valueOf(i + 1));
+                entries.add(new HistoryEntry(i + " + 1", BigDecimal.valueOf(i + 1)));
+            }
+            entries = entries.subList(entries.size() - tape.size(), entries.size());
+        }
+
+        // the entries are kept between sessions
+        try (HistoryTape tape = new HistoryTape(file, CAPACITY, DATA_CAPACITY)) {
+            assertEquals(entries, tape.getPage(0, CAPACITY));
+            tape.append("2 + 2", BigDecimal.valueOf(4));
+            assertEquals(new HistoryEntry("2 + 2", BigDecimal.valueOf(4)), tape.get(tape.size() - 1));
+        }
+
+        try {
+            new HistoryTape(file, CAPACITY + 1, DATA_CAPACITY);
+            fail("Expected an IOException for the file of other capacity");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCalculatorResults() throws CalculationException {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new Decimal64CalculationExecutor());
+        HistoryTape tape = new HistoryTape();
+        calculator.setHistoryTape(tape);
+
+        // 12 + sqr(3) =
+        calculator.enterDigit(1);
+        calculator.enterDigit(2);
+        calculator.executeMathOperation(ADD);
+        calculator.enterDigit(3);
+        calculator.executeMathOperation(SQUARE);
+        calculator.calculateResult();
+        // the last operation is repeated
+        calculator.calculateResult();
+        // 5 × =
+        calculator.enterDigit(5);
+        calculator.executeMathOperation(MULTIPLY);
+        calculator.calculateResult();
+        // the last binary operation is applied to √(√(16))
+        calculator.enterDigit(1);
+        calculator.enterDigit(6);
+        calculator.executeMathOperation(SQUARE_ROOT);
+        calculator.executeMathOperation(SQUARE_ROOT);
+        calculator.calculateResult();
+
+        assertEquals(Arrays.asList(new HistoryEntry("12 + sqr(3)", BigDecimal.valueOf(21)),
+                new HistoryEntry("21 + 9", BigDecimal.valueOf(30)),
+                new HistoryEntry("5 × 5", BigDecimal.valueOf(25)),
+                new HistoryEntry("5 × √(√(16))", new BigDecimal("10.00000000000000"))), tape.getPage(0, tape.size()));
+    }
+
+    @Test
+    public void testCalculatorResultsAreValidatedAndShort() throws CalculationException {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new StandardCalculationExecutor());
+        HistoryTape tape = new HistoryTape();
+        calculator.setHistoryTape(tape);
+
+        // 1 ÷ 3 = is calculated with thousands of digits, but appended with the digits of the display budget
+        calculator.enterDigit(1);
+        calculator.executeMathOperation(DIVIDE);
+        calculator.enterDigit(3);
+        calculator.calculateResult();
+        // the repeated division has the long quotient as an argument
+        calculator.calculateResult();
+        // the residue of 1 ÷ 3 × 3 − 1 = is under the valid bounds, so it is not appended
+        calculator.enterDigit(1);
+        calculator.executeMathOperation(DIVIDE);
+        calculator.enterDigit(3);
+        calculator.executeMathOperation(MULTIPLY);
+        calculator.enterDigit(3);
+        calculator.executeMathOperation(SUBTRACT);
+        calculator.enterDigit(1);
+        calculator.calculateResult();
+
+        assertEquals(2, tape.size());
+        HistoryEntry first = tape.get(0);
+        HistoryEntry second = tape.get(1);
+        assertEquals("1 ÷ 3", first.getExpression());
+        assertEquals(PrecisionProfile.DISPLAY_BUDGET.round(BigDecimal.ONE.divide(BigDecimal.valueOf(3),
+                PrecisionProfile.REFERENCE_SCALE, RoundingMode.HALF_UP)), first.getResult());
+        assertEquals(first.getResult() + " ÷ 3", second.getExpression());
+        assertTrue(getSize(first) < 100);
+        assertTrue(getSize(second) < 100);
+    }
+
+    private static int getSize(HistoryEntry entry) {
+        return 8 + entry.getResult().unscaledValue().toByteArray().length + entry.getExpression().length();
+    }
+}
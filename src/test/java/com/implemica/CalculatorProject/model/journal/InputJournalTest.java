@@ -0,0 +1,340 @@
+package com.implemica.CalculatorProject.model.journal;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.CalculatorState;
+import com.implemica.CalculatorProject.model.CalculatorStateCodec;
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import com.implemica.CalculatorProject.model.calculation.EditOperation;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.MemoryOperation;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.implemica.CalculatorProject.model.journal.InputJournal.LOG_FILE_NAME;
+import static com.implemica.CalculatorProject.model.journal.InputJournal.LOG_HEADER_SIZE;
+import static com.implemica.CalculatorProject.model.journal.InputJournal.RECORD_SIZE;
+import static com.implemica.CalculatorProject.model.journal.InputJournal.SNAPSHOT_FILE_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InputJournalTest {
+
+    private static final int SNAPSHOT_INTERVAL = 100;
+
+    private static final int SESSION_LENGTH = 5000;
+
+    private static final long SEED = 20161017L;
+
+    private static final MathOperation[] MATH_OPERATIONS = MathOperation.values();
+
+    private static final MemoryOperation[] MEMORY_OPERATIONS = MemoryOperation.values();
+
+    private static final EditOperation[] EDIT_OPERATIONS = EditOperation.values();
+
+    private Path folder;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("journal");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Test
+    public void testRestoreLongSession() throws IOException {
+        Random random = new Random(SEED);
+        Calculator calculator = createCalculator();
+
+        try (InputJournal journal = new InputJournal(folder, SNAPSHOT_INTERVAL)) {
+            for (int i = 0; i < SESSION_LENGTH; i++) {
+                record(journal, calculator, randomEvent(random, calculator));
+
+                if (i % 997 == 0) {
+                    checkRestore(journal, calculator);
+                }
+            }
+            assertEquals(SESSION_LENGTH, journal.getEventsCount());
+            checkRestore(journal, calculator);
+        }
+
+        // continue the session after reopening
+        try (InputJournal journal = new InputJournal(folder, SNAPSHOT_INTERVAL)) {
+            assertEquals(SESSION_LENGTH, journal.getEventsCount());
+            checkRestore(journal, calculator);
+
+            for (int i = 0; i < SNAPSHOT_INTERVAL + 1; i++) {
+                record(journal, calculator, randomEvent(random, calculator));
+            }
+            checkRestore(journal, calculator);
+        }
+    }
+
+    @Test
+    public void testRestoreWithoutSnapshot() throws IOException {
+        Calculator calculator = createCalculator();
+
+        try (InputJournal journal = new InputJournal(folder)) {
+            Calculator restored = createCalculator();
+            assertEquals(0, journal.restore(restored));
+            assertEquals(CalculatorState.INITIAL, restored.getState());
+
+            // 1 ÷ 0 = C 25 ± + 5 . 5 =
+            record(journal, calculator, InputEvent.digit(1));
+            record(journal, calculator, InputEvent.mathOperation(MathOperation.DIVIDE));
+            record(journal, calculator, InputEvent.digit(0));
+            record(journal, calculator, InputEvent.result());
+            record(journal, calculator, InputEvent.editOperation(EditOperation.CLEAN));
+            record(journal, calculator, InputEvent.digit(2));
+            record(journal, calculator, InputEvent.digit(5));
+            record(journal, calculator, InputEvent.mathOperation(MathOperation.NEGATE));
+            record(journal, calculator, InputEvent.mathOperation(MathOperation.ADD));
+            record(journal, calculator, InputEvent.digit(5));
+            record(journal, calculator, InputEvent.point());
+            record(journal, calculator, InputEvent.digit(5));
+            record(journal, calculator, InputEvent.result());
+
+            assertFalse(Files.exists(folder.resolve(SNAPSHOT_FILE_NAME)));
+            assertEquals(13, journal.getEventsCount());
+            assertEquals(13, journal.restore(restored));
+            assertEquals(calculator.getState(), restored.getState());
+            assertEquals("-19.5", restored.getLastNumber().toPlainString());
+        }
+    }
+
+    @Test
+    public void testRestoreMemoryRegisters() throws IOException {
+        Calculator calculator = createCalculator();
+
+        try (InputJournal journal = new InputJournal(folder)) {
+            // 1 MS 2 MS 3 MS, select the oldest register, 5 M+, recall the middle one, remove the newest one
+            for (int digit = 1; digit <= 3; digit++) {
+                record(journal, calculator, InputEvent.digit(digit));
+                record(journal, calculator, InputEvent.memoryOperation(MemoryOperation.MEMORY_STORE));
+            }
+            record(journal, calculator, InputEvent.selectMemoryRegister(2));
+            record(journal, calculator, InputEvent.digit(5));
+            record(journal, calculator, InputEvent.memoryOperation(MemoryOperation.MEMORY_ADD));
+            record(journal, calculator, InputEvent.recallMemoryRegister(1));
+            record(journal, calculator, InputEvent.cleanMemoryRegister(0));
+
+            Calculator restored = createCalculator();
+            assertEquals(11, journal.restore(restored));
+            assertEquals(calculator.getState(), restored.getState());
+            assertEquals("[2, 6]", restored.getMemory().toList().toString());
+            assertEquals("2", restored.getLastNumber().toPlainString());
+        }
+    }
+
+    @Test
+    public void testIncompleteRecordDiscarded() throws IOException {
+        Calculator calculator = createCalculator();
+
+        try (InputJournal journal = new InputJournal(folder)) {
+            record(journal, calculator, InputEvent.digit(7));
+            record(journal, calculator, InputEvent.digit(8));
+        }
+
+        // a crash while writing the third record
+        Path log = folder.resolve(LOG_FILE_NAME);
+        try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+            file.seek(file.length());
+            file.write(InputEvent.digit(9).getEncodedType());
+        }
+
+        try (InputJournal journal = new InputJournal(folder)) {
+            assertEquals(2, journal.getEventsCount());
+            assertEquals(LOG_HEADER_SIZE + 2 * RECORD_SIZE, Files.size(log));
+
+            record(journal, calculator, InputEvent.digit(9));
+            checkRestore(journal, calculator);
+            assertEquals("789", calculator.getLastNumber().toPlainString());
+        }
+    }
+
+    @Test
+    public void testCorruptedJournal() throws IOException {
+        Calculator calculator = createCalculator();
+
+        try (InputJournal journal = new InputJournal(folder)) {
+            record(journal, calculator, InputEvent.digit(1));
+            record(journal, calculator, InputEvent.digit(2));
+        }
+
+        Path log = folder.resolve(LOG_FILE_NAME);
+        try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+            file.seek(LOG_HEADER_SIZE + RECORD_SIZE);
+            file.write(Byte.MAX_VALUE);
+        }
+        try (InputJournal journal = new InputJournal(folder)) {
+            journal.restore(createCalculator());
+            fail("Expected an IOException for the invalid record");
+        } catch (IOException e) {
+            // expected
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+            file.seek(0);
+            file.write(0);
+        }
+        try (InputJournal journal = new InputJournal(folder)) {
+            fail("Expected an IOException for the unknown format, but opened " + journal);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testInputEventEncoding() {
+        List<InputEvent> events = new ArrayList<>();
+        for (int digit = 0; digit < 10; digit++) {
+            events.add(InputEvent.digit(digit));
+        }
+        for (MathOperation operation : MATH_OPERATIONS) {
+            events.add(InputEvent.mathOperation(operation));
+        }
+        for (MemoryOperation operation : MEMORY_OPERATIONS) {
+            events.add(InputEvent.memoryOperation(operation));
+        }
+        for (EditOperation operation : EDIT_OPERATIONS) {
+            events.add(InputEvent.editOperation(operation));
+        }
+        events.add(InputEvent.point());
+        events.add(InputEvent.result());
+        events.add(InputEvent.resetAfterError());
+
+        for (InputEvent event : events) {
+            assertSame(event, InputEvent.decode(event.getEncodedType(), event.getEncodedArgument()));
+        }
+
+        InputEvent[] registerEvents = {InputEvent.selectMemoryRegister(0), InputEvent.recallMemoryRegister(300),
+                InputEvent.cleanMemoryRegister(Integer.MAX_VALUE)};
+        for (InputEvent event : registerEvents) {
+            InputEvent decoded = InputEvent.decode(event.getEncodedType(), event.getEncodedArgument());
+            assertEquals(event.getType(), decoded.getType());
+            assertEquals(event.getEncodedArgument(), decoded.getEncodedArgument());
+        }
+
+        checkInvalidEncoding(InputEventType.DIGIT.ordinal(), 10);
+        checkInvalidEncoding(InputEventType.MATH_OPERATION.ordinal(), MATH_OPERATIONS.length);
+        checkInvalidEncoding(InputEventType.MEMORY_OPERATION.ordinal(), -1);
+        checkInvalidEncoding(InputEventType.POINT.ordinal(), 1);
+        checkInvalidEncoding(InputEventType.RECALL_MEMORY_REGISTER.ordinal(), -1);
+        checkInvalidEncoding(InputEventType.RESET_AFTER_ERROR.ordinal(), 1);
+        checkInvalidEncoding(InputEventType.values().length, 0);
+    }
+
+    @Test
+    public void testStateFormat() throws IOException, CalculationException {
+        Calculator calculator = createCalculator();
+        checkStateFormat(calculator.getState());
+
+        // 0.5 MS + 3 √ × 2 ±
+        calculator.addPoint();
+        calculator.enterDigit(BigDecimal.valueOf(5));
+        calculator.executeMemoryOperation(MemoryOperation.MEMORY_STORE);
+        calculator.executeMathOperation(MathOperation.ADD);
+        calculator.enterDigit(BigDecimal.valueOf(3));
+        calculator.executeMathOperation(MathOperation.SQUARE_ROOT);
+        calculator.executeMathOperation(MathOperation.MULTIPLY);
+        calculator.enterDigit(BigDecimal.valueOf(2));
+        calculator.executeMathOperation(MathOperation.NEGATE);
+        checkStateFormat(calculator.getState());
+    }
+
+    private static void checkStateFormat(CalculatorState state) throws IOException {
+        assertEquals(state, CalculatorStateCodec.decode(CalculatorStateCodec.encode(state)));
+    }
+
+    private static void checkInvalidEncoding(int type, int argument) {
+        try {
+            InputEvent.decode((byte) type, argument);
+            fail(String.format("Expected an IllegalArgumentException for type %s, argument %s", type, argument));
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static void checkRestore(InputJournal journal, Calculator calculator) throws IOException {
+        Calculator restored = createCalculator();
+        long replayedCount = journal.restore(restored);
+
+        assertEquals(calculator.getState(), restored.getState());
+        assertTrue("Replayed " + replayedCount + " events", replayedCount < SNAPSHOT_INTERVAL);
+    }
+
+    private static void record(InputJournal journal, Calculator calculator, InputEvent event) throws IOException {
+        try {
+            event.applyTo(calculator);
+        } catch (CalculationException e) {
+            // the error is a part of the session
+        }
+        journal.append(event, calculator);
+    }
+
+    private static InputEvent randomEvent(Random random, Calculator calculator) {
+        int kind = random.nextInt(20);
+        int registersCount = calculator.getMemory().size();
+        InputEvent event;
+
+        if (kind < 10) {
+            event = InputEvent.digit(random.nextInt(10));
+        } else if (kind < 15) {
+            event = InputEvent.mathOperation(MATH_OPERATIONS[random.nextInt(MATH_OPERATIONS.length)]);
+        } else if (kind < 16) {
+            event = InputEvent.memoryOperation(MEMORY_OPERATIONS[random.nextInt(MEMORY_OPERATIONS.length)]);
+        } else if (kind < 17 && registersCount > 0) {
+            event = randomRegisterEvent(random.nextInt(3), random.nextInt(registersCount));
+        } else if (kind < 17) {
+            event = InputEvent.editOperation(EDIT_OPERATIONS[random.nextInt(EDIT_OPERATIONS.length)]);
+        } else if (kind < 18) {
+            event = InputEvent.point();
+        } else {
+            event = InputEvent.result();
+        }
+
+        return event;
+    }
+
+    private static InputEvent randomRegisterEvent(int kind, int index) {
+        InputEvent event;
+
+        if (kind == 0) {
+            event = InputEvent.selectMemoryRegister(index);
+        } else if (kind == 1) {
+            event = InputEvent.recallMemoryRegister(index);
+        } else {
+            event = InputEvent.cleanMemoryRegister(index);
+        }
+
+        return event;
+    }
+
+    private static Calculator createCalculator() {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new Decimal64CalculationExecutor());
+        return calculator;
+    }
+}
@@ -0,0 +1,68 @@
+package com.implemica.CalculatorProject.model.journal;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.calculation.EditOperation;
+import com.implemica.CalculatorProject.model.calculation.MathOperation;
+import com.implemica.CalculatorProject.model.calculation.StandardCalculationExecutor;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * The class records the sessions of growing length to the {@link InputJournal} and prints the time of restoring
+ * each session. Thanks to the snapshots the time does not depend on the length of the session.
+ */
+public class ReplayBenchmark {
+
+    private static final int[] SESSION_LENGTHS = {1_000, 10_000, 100_000, 1_000_000};
+
+    private static final int RESTORES_COUNT = 100;
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    // 12 + 34 = C
+    private static final InputEvent[] SESSION_PATTERN = {InputEvent.digit(1), InputEvent.digit(2),
+            InputEvent.mathOperation(MathOperation.ADD), InputEvent.digit(3), InputEvent.digit(4),
+            InputEvent.result(), InputEvent.editOperation(EditOperation.CLEAN)};
+
+    public static void main(String[] args) throws IOException, CalculationException {
+        for (int length : SESSION_LENGTHS) {
+            Path directory = Files.createTempDirectory("journal");
+
+            try (InputJournal journal = new InputJournal(directory)) {
+                Calculator calculator = createCalculator();
+                for (int i = 0; i < length; i++) {
+                    InputEvent event = SESSION_PATTERN[i % SESSION_PATTERN.length];
+                    event.applyTo(calculator);
+                    journal.append(event, calculator);
+                }
+
+                long replayedCount = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < RESTORES_COUNT; i++) {
+                    replayedCount = journal.restore(createCalculator());
+                }
+                double restoreMicros = (System.nanoTime() - start) / NANOS_PER_MICRO / RESTORES_COUNT;
+
+                System.out.printf("%,10d events: restore %,10.1f us, %,5d events replayed%n",
+                        length, restoreMicros, replayedCount);
+            } finally {
+                try (Stream<Path> files = Files.list(directory)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        Files.delete(file);
+                    }
+                }
+                Files.delete(directory);
+            }
+        }
+    }
+
+    private static Calculator createCalculator() {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new StandardCalculationExecutor());
+        return calculator;
+    }
+}
@@ -0,0 +1,235 @@
+package com.implemica.CalculatorProject.model.memory;
+
+import com.implemica.CalculatorProject.model.Calculator;
+import com.implemica.CalculatorProject.model.calculation.Decimal64CalculationExecutor;
+import com.implemica.CalculatorProject.model.exception.CalculationException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.implemica.CalculatorProject.model.calculation.MemoryOperation.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MemoryBankTest {
+
+    private static final int REGISTERS_COUNT = 1000;
+
+    private Path folder;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("memory");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Test
+    public void testRegisters() {
+        MemoryBank bank = MemoryBank.EMPTY.push(number(1)).push(number(2)).push(number(3));
+        assertEquals(Arrays.asList(number(3), number(2), number(1)), bank.toList());
+        assertEquals(number(3), bank.getSelected());
+
+        MemoryBank selected = bank.select(2);
+        assertEquals(number(1), selected.getSelected());
+        assertEquals(number(3), bank.getSelected());
+        assertSame(selected, selected.select(2));
+
+        MemoryBank changed = selected.set(1, number(5));
+        assertEquals(Arrays.asList(number(3), number(5), number(1)), changed.toList());
+        assertEquals(Arrays.asList(number(3), number(2), number(1)), selected.toList());
+
+        // the last selected register is removed, the new last one is selected
+        MemoryBank removed = changed.remove(2);
+        assertEquals(Arrays.asList(number(3), number(5)), removed.toList());
+        assertEquals(1, removed.getSelectedIndex());
+        // the register above the selected one is removed, the selection stays on the same register
+        assertEquals(number(5), removed.remove(0).getSelected());
+        assertSame(MemoryBank.EMPTY, MemoryBank.EMPTY.push(number(1)).remove(0));
+        assertEquals(BigDecimal.ZERO, MemoryBank.EMPTY.getSelected());
+
+        try {
+            bank.select(3);
+            fail("Expected an IndexOutOfBoundsException for the index out of the bank");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            new MemoryBank(Arrays.asList(number(1), null), 0);
+            fail("Expected an IllegalArgumentException for the null register");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCalculatorMemory() throws CalculationException {
+        Calculator calculator = new Calculator();
+        calculator.setCalculationExecutor(new Decimal64CalculationExecutor());
+
+        // M+ with no registers stores the number
+        calculator.enterDigit(4);
+        calculator.executeMemoryOperation(MEMORY_ADD);
+        // MS pushes, M+ and M- change the selected register
+        calculator.enterDigit(7);
+        calculator.executeMemoryOperation(MEMORY_STORE);
+        calculator.enterDigit(2);
+        calculator.executeMemoryOperation(MEMORY_ADD);
+        assertEquals(Arrays.asList(number(9), number(4)), calculator.getMemory().toList());
+
+        calculator.selectMemoryRegister(1);
+        calculator.enterDigit(1);
+        calculator.executeMemoryOperation(MEMORY_SUBTRACT);
+        assertEquals(Arrays.asList(number(9), number(3)), calculator.getMemory().toList());
+
+        calculator.executeMemoryOperation(MEMORY_RECALL);
+        assertEquals(number(3), calculator.getLastNumber());
+        calculator.recallMemoryRegister(0);
+        assertEquals(number(9), calculator.getLastNumber());
+        assertEquals(number(9), calculator.getState().getMemorizedNumber());
+
+        calculator.cleanMemoryRegister(0);
+        assertEquals(Arrays.asList(number(3)), calculator.getMemory().toList());
+        calculator.executeMemoryOperation(MEMORY_CLEAN);
+        assertTrue(calculator.getMemory().isEmpty());
+        calculator.executeMemoryOperation(MEMORY_RECALL);
+        assertEquals(BigDecimal.ZERO, calculator.getLastNumber());
+    }
+
+    @Test
+    public void testMemoryFile() throws IOException {
+        Path file = folder.resolve("memory.bin");
+        List<BigDecimal> registers = new ArrayList<>();
+        for (int i = 0; i < REGISTERS_COUNT; i++) {
+            registers.add(new BigDecimal(BigDecimal.TEN.pow(i).negate().toBigInteger(), i % 40));
+        }
+        MemoryBank bank = new MemoryBank(registers, REGISTERS_COUNT / 2);
+
+        try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+            assertEquals(MemoryBank.EMPTY, memoryFile.load());
+            // the bank is larger than the initial region
+            memoryFile.save(bank);
+            assertEquals(bank, memoryFile.load());
+        }
+        try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+            assertEquals(bank, memoryFile.load());
+            memoryFile.save(MemoryBank.EMPTY.push(number(8)));
+        }
+        try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+            assertEquals(MemoryBank.EMPTY.push(number(8)), memoryFile.load());
+        }
+
+        try (RandomAccessFile corrupted = new RandomAccessFile(file.toFile(), "rw")) {
+            corrupted.seek(MemoryBankFile.SELECTED_INDEX_POSITION);
+            corrupted.writeInt(5);
+        }
+        try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+            memoryFile.load();
+            fail("Expected an IOException for the selected index out of the bank");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testInterruptedSave() throws IOException {
+        Path file = folder.resolve("memory.bin");
+        MemoryBank bank = MemoryBank.EMPTY.push(number(1)).push(number(2));
+        MemoryBank largerBank = bank.push(number(3)).push(new BigDecimal("-123456789012345678901234567890.5"));
+
+        try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+            memoryFile.save(bank);
+        }
+        byte[] header = readHeader(file);
+
+        // the application stops after the registers of the new bank are written, but before the header is
+        for (MemoryBank newBank : Arrays.asList(largerBank, MemoryBank.EMPTY.push(number(4)))) {
+            try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+                memoryFile.save(newBank);
+                assertEquals(newBank, memoryFile.load());
+            }
+            try (RandomAccessFile interrupted = new RandomAccessFile(file.toFile(), "rw")) {
+                interrupted.write(header);
+            }
+            try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+                assertEquals(bank, memoryFile.load());
+            }
+        }
+
+        // the next saves do not overwrite the registers the header points to
+        for (int i = 0; i < 100; i++) {
+            MemoryBank newBank = bank.push(number(i));
+            try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+                header = readHeader(file);
+                memoryFile.save(newBank);
+            }
+            try (RandomAccessFile interrupted = new RandomAccessFile(file.toFile(), "rw")) {
+                interrupted.write(header);
+            }
+            try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+                assertEquals(bank, memoryFile.load());
+                memoryFile.save(newBank);
+            }
+            bank = newBank;
+        }
+        assertTrue(Files.size(file) <= MemoryBankFile.INITIAL_SIZE);
+    }
+
+    @Test
+    public void testLegacyMemoryFile() throws IOException {
+        Path file = folder.resolve("memory.bin");
+        try (RandomAccessFile legacy = new RandomAccessFile(file.toFile(), "rw")) {
+            legacy.writeInt(0x43414C4D);
+            legacy.writeInt(1);
+            legacy.writeInt(2);
+            legacy.writeInt(1);
+            for (BigDecimal register : Arrays.asList(new BigDecimal("-2.5"), number(300))) {
+                byte[] unscaled = register.unscaledValue().toByteArray();
+                legacy.writeInt(register.scale());
+                legacy.writeInt(unscaled.length);
+                legacy.write(unscaled);
+            }
+        }
+        MemoryBank bank = new MemoryBank(Arrays.asList(new BigDecimal("-2.5"), number(300)), 1);
+
+        try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+            assertEquals(bank, memoryFile.load());
+            memoryFile.save(bank.push(number(7)));
+        }
+        try (MemoryBankFile memoryFile = new MemoryBankFile(file)) {
+            assertEquals(bank.push(number(7)), memoryFile.load());
+        }
+    }
+
+    private static byte[] readHeader(Path file) throws IOException {
+        byte[] header = new byte[MemoryBankFile.HEADER_SIZE];
+        try (RandomAccessFile memoryFile = new RandomAccessFile(file.toFile(), "r")) {
+            memoryFile.readFully(header);
+        }
+        return header;
+    }
+
+    private static BigDecimal number(int value) {
+        return BigDecimal.valueOf(value);
+    }
+}
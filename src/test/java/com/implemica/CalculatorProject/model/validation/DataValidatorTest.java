@@ -4,14 +4,27 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.util.Random;
+import java.util.regex.Pattern;
 
 import static com.implemica.CalculatorProject.model.validation.DataValidator.*;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class DataValidatorTest {
 
+    private static final String PATTERN_FOR_NUMBERS = "[-]?\\d+[.]?[\\d]*[Ee]?([-+]?\\d+)?";
+
+    private static final String NUMBER_ALPHABET = "0123456789-+.eEx";
+
+    private static final long SEED = 21L;
+
+    private static final int SCANNED_STRINGS_COUNT = 200000;
+
+    private static final int MAX_SCANNED_LENGTH = 8;
+
     @Test
     public void testEmptyStringValidation() {
         assertTrue(isEmptyString(null));
@@ -108,6 +121,68 @@ public class DataValidatorTest {
         assertEquals(expected, validationResult);
     }
 
+    @Test
+    public void testNumberScanningMatchesPattern() {
+        Pattern pattern = Pattern.compile(PATTERN_FOR_NUMBERS);
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < SCANNED_STRINGS_COUNT; i++) {
+            char[] symbols = new char[random.nextInt(MAX_SCANNED_LENGTH)];
+            for (int j = 0; j < symbols.length; j++) {
+                symbols[j] = NUMBER_ALPHABET.charAt(random.nextInt(NUMBER_ALPHABET.length()));
+            }
+            String value = new String(symbols);
+            boolean expected = pattern.matcher(value).matches();
+
+            assertEquals(value, expected, isNumber(value));
+            // the same characters inside larger text
+            String text = "x," + value + ",x";
+            assertEquals(value, expected, isNumber(text, 2, text.length() - 2));
+            assertEquals(value, expected, isNumber(text.toCharArray(), 2, text.length() - 2));
+        }
+
+        assertFalse(isNumber("\u0661"));
+        assertFalse(isDigit("\u0661"));
+        assertTrue(isDigit('7'));
+        assertFalse(isDigit('a'));
+    }
+
+    @Test
+    public void testBulkNumberValidation() {
+        String numbers = "12,-0.5,1.e-25,7";
+        int[] offsets = new int[8];
+
+        assertEquals(4, validateNumbers(numbers, 0, numbers.length(), ',', offsets));
+        assertArrayEquals(new int[]{0, 2, 3, 7, 8, 14, 15, 16}, offsets);
+        assertEquals(4, validateNumbers(numbers.toCharArray(), 0, numbers.length(), ',', offsets));
+        assertArrayEquals(new int[]{0, 2, 3, 7, 8, 14, 15, 16}, offsets);
+
+        // the third number is the first invalid one, its offsets are written
+        String invalid = "1 2 3.3.3 x";
+        assertEquals(-3, validateNumbers(invalid, 0, invalid.length(), ' ', offsets));
+        assertEquals(4, offsets[4]);
+        assertEquals(9, offsets[5]);
+        assertEquals(-2, validateNumbers("1,,2", 0, 4, ',', offsets));
+        assertEquals(-3, validateNumbers("1,2,".toCharArray(), 0, 4, ',', offsets));
+
+        // a range of the buffer
+        assertEquals(2, validateNumbers("x;5;6e2;x", 2, 7, ';', offsets));
+        assertEquals(0, validateNumbers("", 0, 0, ',', offsets));
+
+        try {
+            validateNumbers(numbers, 0, numbers.length(), ',', new int[7]);
+            fail("Expected an IllegalArgumentException for the array too small for the offsets");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            isNumber("123", 2, 4);
+            fail("Expected an IndexOutOfBoundsException for the range out of the string");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testNumberLengthValidation() {
         // Valid number length
@@ -0,0 +1,111 @@
+package com.implemica.CalculatorProject.model.validation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NumberClassTest {
+
+    private static final long SEED = 22L;
+
+    private static final int NUMBERS_COUNT = 100000;
+
+    private static final BigDecimal MIN_VALUE = new BigDecimal("0.0000000000000001");
+
+    private static final BigDecimal MAX_VALUE = new BigDecimal("9999999999999999.5");
+
+    private static final BigDecimal MAX_NUMBER = new BigDecimal("1.e+10000");
+
+    private static final BigDecimal MIN_NUMBER = new BigDecimal("1.e-10000");
+
+    @Test
+    public void testMagnitude() {
+        checkMagnitude("123.4", 1, 2, 3, true);
+        checkMagnitude("-0.005", -1, -3, 0, true);
+        checkMagnitude("1.000", 1, 0, 1, false);
+        checkMagnitude("5E+3", 1, 3, 4, false);
+        checkMagnitude("0", 0, 0, 0, false);
+        checkMagnitude("0.000", 0, 0, 0, false);
+        assertTrue(NumberClass.of(new BigDecimal("0E-10100")).isZero());
+
+        // the number with all the digits of reference division
+        BigDecimal quotient = BigDecimal.ONE.divide(BigDecimal.valueOf(3), 10100, RoundingMode.HALF_UP);
+        checkMagnitude(quotient.toPlainString(), 1, -1, 0, true);
+        checkMagnitude(BigDecimal.valueOf(2).setScale(10100).toPlainString(), 1, 0, 1, false);
+    }
+
+    @Test
+    public void testBounds() {
+        assertTrue(NumberClass.of(new BigDecimal("1.e+10000")).isOverflow());
+        assertFalse(NumberClass.of(new BigDecimal("9.99e+9999")).isOverflow());
+        assertTrue(NumberClass.of(new BigDecimal("-1.000e-10000")).isOverflow());
+        assertFalse(NumberClass.of(new BigDecimal("1.0001e-10000")).isOverflow());
+        assertFalse(NumberClass.of(BigDecimal.ZERO).isOverflow());
+
+        assertTrue(NumberClass.of(new BigDecimal("9999999999999999.5")).isExponentFormattingNeed());
+        assertFalse(NumberClass.of(new BigDecimal("9999999999999999.4999")).isExponentFormattingNeed());
+        assertFalse(NumberClass.of(new BigDecimal("0.0000000000000001")).isExponentFormattingNeed());
+        assertTrue(NumberClass.of(new BigDecimal("0.00000000000000009")).isExponentFormattingNeed());
+        assertTrue(NumberClass.of(new BigDecimal("0.0001000000000000000005")).isExponentFormattingNeed());
+        assertFalse(NumberClass.of(new BigDecimal("0.0001000000000000000004")).isExponentFormattingNeed());
+        assertFalse(NumberClass.of(new BigDecimal("0.0010000000000000000005")).isExponentFormattingNeed());
+    }
+
+    @Test
+    public void testSameAsArithmeticChecks() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < NUMBERS_COUNT; i++) {
+            BigDecimal number = new BigDecimal(new BigInteger(1 + random.nextInt(200), random),
+                    random.nextInt(240) - 40);
+            if (random.nextBoolean()) {
+                number = number.negate();
+            }
+            if (random.nextInt(10) == 0) {
+                number = number.movePointLeft(10000 - random.nextInt(200));
+            }
+
+            NumberClass numberClass = NumberClass.of(number);
+            assertEquals(number.toString(), isOverflow(number), numberClass.isOverflow());
+            assertEquals(number.toString(), isExponentFormattingNeed(number), numberClass.isExponentFormattingNeed());
+            assertEquals(number.toString(), number.remainder(BigDecimal.ONE).signum() != 0,
+                    numberClass.hasFractionalPart());
+        }
+    }
+
+    private static void checkMagnitude(String number, int signum, long exponent, long integerDigitsCount,
+                                       boolean hasFractionalPart) {
+        NumberClass numberClass = NumberClass.of(new BigDecimal(number));
+
+        assertEquals(signum, numberClass.getSignum());
+        assertEquals(signum == 0, numberClass.isZero());
+        assertEquals(exponent, numberClass.getExponent());
+        assertEquals(integerDigitsCount, numberClass.getIntegerDigitsCount());
+        assertEquals(hasFractionalPart, numberClass.hasFractionalPart());
+    }
+
+    private static boolean isOverflow(BigDecimal number) {
+        BigDecimal abs = number.abs();
+
+        return MAX_NUMBER.compareTo(abs) <= 0 || abs.signum() != 0 && MIN_NUMBER.compareTo(abs) >= 0;
+    }
+
+    private static boolean isExponentFormattingNeed(BigDecimal number) {
+        BigDecimal abs = number.abs();
+        boolean isExponentNeed = abs.compareTo(MIN_VALUE) < 0 || abs.compareTo(MAX_VALUE) >= 0;
+
+        BigDecimal tail = abs.remainder(MIN_VALUE).setScale(21, RoundingMode.HALF_UP);
+        if (abs.compareTo(new BigDecimal("0.001")) < 0 && tail.compareTo(new BigDecimal("1e-21")) >= 0) {
+            isExponentNeed = true;
+        }
+
+        return isExponentNeed && abs.signum() != 0;
+    }
+}
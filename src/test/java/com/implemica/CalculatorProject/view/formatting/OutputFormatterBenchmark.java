@@ -0,0 +1,161 @@
+package com.implemica.CalculatorProject.view.formatting;
+
+import com.implemica.CalculatorProject.model.validation.NumberClass;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static com.implemica.CalculatorProject.model.calculation.PrecisionProfile.REFERENCE_SCALE;
+import static java.math.BigDecimal.ONE;
+import static java.math.RoundingMode.HALF_UP;
+import static java.math.RoundingMode.UP;
+
+/**
+ * Compares the throughput of {@link OutputFormatter} with the legacy formatter, which passes the numbers to
+ * {@link DecimalFormat}s shared between the threads and so formats one number at a time.
+ */
+public class OutputFormatterBenchmark {
+
+    private static final int NUMBERS_COUNT = 20000;
+
+    private static final int REFERENCE_NUMBERS_COUNT = 20;
+
+    private static final int[] THREADS_COUNTS = {1, 2, 4, 8};
+
+    private static final int WARM_UP_ITERATIONS = 3;
+
+    private static final int MEASURED_ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Random random = new Random(NUMBERS_COUNT);
+        List<BigDecimal> numbers = new ArrayList<>();
+        for (int i = 0; i < NUMBERS_COUNT; i++) {
+            numbers.add(new BigDecimal(new BigInteger(1 + random.nextInt(120), random), random.nextInt(80) - 40));
+        }
+        // the results of the reference precision have thousands of digits
+        List<BigDecimal> referenceNumbers = new ArrayList<>();
+        for (int i = 0; i < REFERENCE_NUMBERS_COUNT; i++) {
+            BigDecimal divisor = BigDecimal.valueOf(1 + random.nextInt(1000));
+            BigDecimal number = BigDecimal.valueOf(random.nextInt(), random.nextInt(40) - 20);
+            referenceNumbers.add(number.divide(divisor, REFERENCE_SCALE, HALF_UP));
+        }
+
+        benchmark("display", numbers);
+        benchmark("reference", referenceNumbers);
+    }
+
+    private static void benchmark(String name, List<BigDecimal> numbers) throws Exception {
+        boolean isSameOutput = true;
+        for (BigDecimal number : numbers) {
+            isSameOutput &= LegacyFormatter.format(number).equals(OutputFormatter.formatWithGroupDelimiters(number));
+        }
+        System.out.println(name + " numbers, same output: " + isSameOutput);
+
+        System.out.printf("%-8s %18s %18s%n", "threads", "legacy, numbers/s", "formatter, numbers/s");
+        for (int threadsCount : THREADS_COUNTS) {
+            double legacyThroughput = measure(numbers, threadsCount, LegacyFormatter::format);
+            double throughput = measure(numbers, threadsCount, OutputFormatter::formatWithGroupDelimiters);
+
+            System.out.printf("%-8d %18.0f %18.0f%n", threadsCount, legacyThroughput, throughput);
+        }
+    }
+
+    private static double measure(List<BigDecimal> numbers, int threadsCount, Function<BigDecimal, String> formatter)
+            throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threadsCount);
+
+        try {
+            for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+                run(pool, numbers, threadsCount, formatter);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                run(pool, numbers, threadsCount, formatter);
+            }
+
+            return (double) numbers.size() * threadsCount * MEASURED_ITERATIONS / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void run(ExecutorService pool, List<BigDecimal> numbers, int threadsCount,
+                            Function<BigDecimal, String> formatter) throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < threadsCount; thread++) {
+            futures.add(pool.submit(() -> {
+                int length = 0;
+                for (BigDecimal number : numbers) {
+                    length += formatter.apply(number).length();
+                }
+                return length;
+            }));
+        }
+        for (Future<Integer> future : futures) {
+            future.get();
+        }
+    }
+
+    /**
+     * The number formatting with group delimiters of {@link OutputFormatter} before it rendered the rounded digits
+     * itself. The {@link DecimalFormat}s are changed for every number, so the threads take turns.
+     */
+    private static class LegacyFormatter {
+
+        private static final DecimalFormat exponentialFormat = new DecimalFormat("0.###############E0");
+
+        private static final DecimalFormat roundingFormat = new DecimalFormat();
+
+        static {
+            exponentialFormat.setRoundingMode(HALF_UP);
+            exponentialFormat.setDecimalFormatSymbols(getDelimiters());
+            exponentialFormat.setDecimalSeparatorAlwaysShown(true);
+            roundingFormat.setRoundingMode(HALF_UP);
+            roundingFormat.setDecimalFormatSymbols(getDelimiters());
+        }
+
+        private static synchronized String format(BigDecimal number) {
+            NumberClass numberClass = NumberClass.of(number);
+            String formattedNumber;
+
+            if (numberClass.isExponentFormattingNeed()) {
+                DecimalFormatSymbols symbols = exponentialFormat.getDecimalFormatSymbols();
+                symbols.setExponentSeparator(numberClass.getExponent() > 0 ? "e+" : "e");
+                exponentialFormat.setDecimalFormatSymbols(symbols);
+                formattedNumber = exponentialFormat.format(number);
+            } else {
+                RoundingMode roundingMode = HALF_UP;
+                if (number.scale() > 16 && numberClass.hasFractionalPart() &&
+                        number.remainder(ONE).abs().compareTo(BigDecimal.valueOf(0.99)) > 0) {
+                    roundingMode = UP;
+                }
+                roundingFormat.setRoundingMode(roundingMode);
+                roundingFormat.setMaximumFractionDigits(numberClass.hasFractionalPart() ?
+                        16 - (int) numberClass.getIntegerDigitsCount() : 0);
+                formattedNumber = roundingFormat.format(number);
+            }
+
+            return formattedNumber;
+        }
+
+        private static DecimalFormatSymbols getDelimiters() {
+            DecimalFormatSymbols delimiters = new DecimalFormatSymbols();
+            delimiters.setDecimalSeparator('.');
+            delimiters.setGroupingSeparator(',');
+
+            return delimiters;
+        }
+    }
+}
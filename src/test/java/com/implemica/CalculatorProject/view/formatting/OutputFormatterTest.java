@@ -5,15 +5,32 @@ import com.implemica.CalculatorProject.model.exception.CalculationException;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.implemica.CalculatorProject.model.calculation.CalculatorTest.extractOperation;
 import static com.implemica.CalculatorProject.view.formatting.OutputFormatter.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class OutputFormatterTest {
 
     private static final String ARGUMENT_DELIMITERS = "\\s+[=>\\s]*";
 
+    private static final int THREADS_COUNT = 8;
+
+    private static final int NUMBERS_COUNT = 5000;
+
+    private static final int ROUNDS_COUNT = 10;
+
     @Test
     public void testUnaryOperationFormat() {
 
@@ -141,4 +158,105 @@ public class OutputFormatterTest {
     private void testFormatForDisplaying(String expected, String inputNumber) throws CalculationException {
         assertEquals(expected, formatWithGroupDelimiters(new BigDecimal(inputNumber)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFormatEnteredNumber() {
+        testFormatEnteredNumber("0", "0", false);
+        testFormatEnteredNumber("0.", "0", true);
+        testFormatEnteredNumber("0.000", "0.000", false);
+        testFormatEnteredNumber("-0.05", "-0.05", true);
+        testFormatEnteredNumber("1,234.500", "1234.500", false);
+        testFormatEnteredNumber("-9,999,999,999,999,999.", "-9999999999999999", true);
+        testFormatEnteredNumber("123", "123", false);
+        testFormatEnteredNumber("1,000", "1E+3", false);
+        testFormatEnteredNumber("1,000.", "1E+3", true);
+        testFormatEnteredNumber("0", "0E+3", false);
+        testFormatEnteredNumber("0.0000000000000001", "0.0000000000000001", false);
+    }
+
+    private void testFormatEnteredNumber(String expected, String inputNumber, boolean isAppendPointNeed) {
+        assertEquals(expected, formatEnteredNumber(new BigDecimal(inputNumber), isAppendPointNeed));
+    }
+
+    @Test
+    public void testConcurrentFormatting() throws Exception {
+        Random random = new Random(NUMBERS_COUNT);
+        List<BigDecimal> numbers = new ArrayList<>();
+        for (int i = 0; i < NUMBERS_COUNT; i++) {
+            numbers.add(randomNumber(random));
+        }
+        List<String> expected = formatAll(numbers);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS_COUNT; thread++) {
+                long seed = thread;
+                Callable<Boolean> task = () -> {
+                    start.await();
+                    return checkShuffledFormatting(numbers, expected, new Random(seed));
+                };
+                futures.add(pool.submit(task));
+            }
+            start.countDown();
+
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static boolean checkShuffledFormatting(List<BigDecimal> numbers, List<String> expected, Random random) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < numbers.size(); i++) {
+            order.add(i);
+        }
+
+        for (int round = 0; round < ROUNDS_COUNT; round++) {
+            // the threads format the numbers in different orders, so the formats are configured differently at once
+            Collections.shuffle(order, random);
+            for (int index : order) {
+                List<String> formatted = formatAll(Collections.singletonList(numbers.get(index)));
+                assertEquals(expected.subList(index * 4, index * 4 + 4), formatted);
+            }
+        }
+
+        return true;
+    }
+
+    private static List<String> formatAll(List<BigDecimal> numbers) {
+        List<String> formatted = new ArrayList<>();
+
+        for (BigDecimal number : numbers) {
+            formatted.add(formatToMathView(number));
+            formatted.add(formatWithGroupDelimiters(number));
+            formatted.add(formatEnteredNumber(number, false));
+            formatted.add(formatEnteredNumber(number.stripTrailingZeros(), true));
+        }
+
+        return formatted;
+    }
+
+    private static BigDecimal randomNumber(Random random) {
+        BigDecimal number;
+
+        switch (random.nextInt(3)) {
+            case 0: // entered numbers
+                number = BigDecimal.valueOf(random.nextLong() % 10000000000000000L, random.nextInt(17));
+                break;
+            case 1: // results with nine in period
+                number = new BigDecimal(BigInteger.TEN.pow(30).subtract(BigInteger.valueOf(random.nextInt(1000))),
+                        random.nextInt(50));
+                break;
+            default: // results of any magnitude
+                number = new BigDecimal(new BigInteger(1 + random.nextInt(120), random), random.nextInt(80) - 40);
+                break;
+        }
+
+        return random.nextBoolean() ? number : number.negate();
+    }
+}